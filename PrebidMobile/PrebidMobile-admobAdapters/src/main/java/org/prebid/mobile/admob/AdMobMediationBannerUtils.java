@@ -15,7 +15,7 @@ import org.prebid.mobile.rendering.models.ntv.NativeEventTracker;
 import org.prebid.mobile.rendering.utils.helpers.VisibilityChecker;
 
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Banner mediation delegate.
@@ -64,7 +64,7 @@ public class AdMobMediationBannerUtils implements PrebidMediationDelegate {
     }
 
     @Override
-    public void handleKeywordsUpdate(@Nullable HashMap<String, String> keywords) {
+    public void handleKeywordsUpdate(@Nullable Map<String, String> keywords) {
 
     }
 
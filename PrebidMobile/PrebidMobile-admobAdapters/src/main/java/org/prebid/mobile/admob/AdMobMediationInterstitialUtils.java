@@ -7,7 +7,7 @@ import androidx.annotation.Nullable;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.bidding.display.PrebidMediationDelegate;
 
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Internal mediation delegate.
@@ -28,7 +28,7 @@ public class AdMobMediationInterstitialUtils implements PrebidMediationDelegate
     }
 
     @Override
-    public void handleKeywordsUpdate(@Nullable HashMap<String, String> keywords) {
+    public void handleKeywordsUpdate(@Nullable Map<String, String> keywords) {
 
     }
 
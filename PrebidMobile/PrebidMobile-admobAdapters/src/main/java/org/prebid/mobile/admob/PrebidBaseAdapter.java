@@ -17,8 +17,8 @@ import org.prebid.mobile.ParametersMatcher;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.rendering.bidding.display.BidResponseCache;
 
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base Prebid adapter for all ad types.
@@ -68,7 +68,7 @@ public abstract class PrebidBaseAdapter extends Adapter {
             return null;
         }
 
-        HashMap<String, String> prebidParameters = BidResponseCache.getInstance().getKeywords(responseId);
+        Map<String, String> prebidParameters = BidResponseCache.getInstance().getKeywords(responseId);
         if (prebidParameters == null) {
             onLoadFailure.run(AdErrors.emptyPrebidKeywords());
             return null;
@@ -41,11 +41,12 @@ import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.bidding.loader.BidLoader;
+import org.prebid.mobile.rendering.bidding.loader.PrebidAuctionBatch;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
 
 import java.lang.ref.WeakReference;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -65,6 +66,8 @@ public abstract class AdUnit {
     protected Object adObject;
     @Nullable
     protected BidResponse bidResponse;
+    @Nullable
+    private PrebidAuctionBatch auctionBatch;
 
     protected final VisibilityMonitor visibilityMonitor = new VisibilityMonitor();
     protected WeakReference<View> adViewReference = new WeakReference<>(null);
@@ -75,6 +78,7 @@ public abstract class AdUnit {
     public AdUnit(@NotNull String configId) {
         configuration.setConfigId(configId);
         configuration.setIsOriginalAdUnit(true);
+        AppInfoManager.prefetchUserAgent();
     }
 
     AdUnit(@NonNull String configId, @NonNull EnumSet<AdFormat> adTypes) {
@@ -178,6 +182,8 @@ public abstract class AdUnit {
                     configuration,
                     createBidListener(listener)
             );
+            bidLoader.setAuctionBatch(auctionBatch);
+            auctionBatch = null;
 
             if (configuration.getAutoRefreshDelay() > 0) {
                 BidLoader.BidRefreshListener bidRefreshListener = () -> true;
@@ -256,13 +262,20 @@ public abstract class AdUnit {
         configuration.setImpOrtbConfig(ortbConfig);
     }
 
+    /**
+     * Joins the next bid request of the ad unit to the batch, see {@link PrebidAuctionBatch}.
+     */
+    public void setAuctionBatch(@Nullable PrebidAuctionBatch auctionBatch) {
+        this.auctionBatch = auctionBatch;
+    }
+
     protected BidRequesterListener createBidListener(OnCompleteListener originalListener) {
         return new BidRequesterListener() {
             @Override
             public void onFetchCompleted(BidResponse response) {
                 bidResponse = response;
 
-                HashMap<String, String> keywords = response.getTargeting();
+                Map<String, String> keywords = response.getReadOnlyTargeting();
                 Util.apply(keywords, adObject);
                 originalListener.onComplete(ResultCode.SUCCESS);
 
@@ -323,7 +336,7 @@ public abstract class AdUnit {
 
         String burl = response.getWinningBid().getBurl();
 
-        String cacheId = response.getTargeting().get("hb_cache_id");
+        String cacheId = response.getTargetingValue("hb_cache_id");
         if (cacheId == null) {
             LogUtil.warning(TAG, "Can't register visibility tracker. There is no hb_cache_id keyword.");
             return;
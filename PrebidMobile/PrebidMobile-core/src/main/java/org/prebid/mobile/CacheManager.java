@@ -18,54 +18,92 @@ package org.prebid.mobile;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Original API cache manager. Manages saving and receiving cached ad.
  * It is also responsible for native ad expiration.
+ * <p>
+ * The cache is thread-safe and bounded by entry count and size, the least recently used entries are evicted first.
+ * All expirations are served by one delayed task on the main thread scheduled for the nearest expiration time.
  */
 public class CacheManager {
+
+    private static final String TAG = CacheManager.class.getSimpleName();
+
     private static final int NATIVE_AD_EXPIRY_TIMEOUT = 300000;
-    private static HashMap<String, String> savedValues = new HashMap<>();
-    private static HashMap<String, Long> expiryIntervalMap = new HashMap<>();
-    private static HashMap<String, CacheExpiryListener> cacheExpiryListenerMap = new HashMap<>();
-    private static Handler handler = new Handler(Looper.getMainLooper());
+    private static final int DEFAULT_MAX_ENTRIES = 100;
+    private static final long DEFAULT_MAX_BYTES = 5 * 1024 * 1024;
+
+    private static final Object lock = new Object();
+    private static final LinkedHashMap<String, String> savedValues = new LinkedHashMap<>(16, 0.75f, true);
+    private static final HashMap<String, Long> expiryTimeMap = new HashMap<>();
+    private static final HashMap<String, CacheExpiryListener> cacheExpiryListenerMap = new HashMap<>();
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+    private static final Runnable expiryTask = CacheManager::removeExpired;
+
+    private static int maxEntries = DEFAULT_MAX_ENTRIES;
+    private static long maxBytes = DEFAULT_MAX_BYTES;
+    private static long scheduledExpiryTime = Long.MAX_VALUE;
+
+    private static long bytes;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long expirations;
 
     public static String save(String content) {
         if (!TextUtils.isEmpty(content)) {
             final String cacheId = "Prebid_" + UUID.randomUUID().toString();
-            savedValues.put(cacheId, content);
-            handler.postDelayed(() -> {
-                if (cacheExpiryListenerMap.containsKey(cacheId)) {
-                    cacheExpiryListenerMap.remove(cacheId).onCacheExpired();
-                }
-                savedValues.remove(cacheId);
-            }, getExpiryInterval(cacheId));
+            synchronized (lock) {
+                savedValues.put(cacheId, content);
+                bytes += sizeOf(content);
+                expiryTimeMap.put(cacheId, SystemClock.uptimeMillis() + NATIVE_AD_EXPIRY_TIMEOUT);
+                trimToLimits();
+                scheduleExpiry();
+            }
             return cacheId;
         } else {
             return null;
         }
     }
 
-    private static long getExpiryInterval(String cacheId) {
-        return expiryIntervalMap.containsKey(cacheId) ? expiryIntervalMap.get(cacheId) : NATIVE_AD_EXPIRY_TIMEOUT;
-    }
-
     public static boolean isValid(String cacheId) {
-        return savedValues.keySet().contains(cacheId);
+        synchronized (lock) {
+            // Marks the entry as recently used
+            return savedValues.get(cacheId) != null;
+        }
     }
 
     @VisibleForTesting
     public static void clear() {
-        savedValues.clear();
-        cacheExpiryListenerMap.clear();
-        expiryIntervalMap.clear();
+        synchronized (lock) {
+            savedValues.clear();
+            cacheExpiryListenerMap.clear();
+            expiryTimeMap.clear();
+            bytes = 0;
+            hits = 0;
+            misses = 0;
+            evictions = 0;
+            expirations = 0;
+            maxEntries = DEFAULT_MAX_ENTRIES;
+            maxBytes = DEFAULT_MAX_BYTES;
+            handler.removeCallbacks(expiryTask);
+            scheduledExpiryTime = Long.MAX_VALUE;
+        }
     }
 
     /**
@@ -73,18 +111,187 @@ public class CacheManager {
      */
     @Nullable
     protected static String get(String cacheId) {
-        return savedValues.remove(cacheId);
+        synchronized (lock) {
+            String content = savedValues.remove(cacheId);
+            if (content != null) {
+                hits++;
+                bytes -= sizeOf(content);
+            } else {
+                misses++;
+            }
+            return content;
+        }
     }
 
     protected static void registerCacheExpiryListener(String cacheId, CacheExpiryListener expiryListener) {
-        cacheExpiryListenerMap.put(cacheId, expiryListener);
+        synchronized (lock) {
+            if (expiryTimeMap.containsKey(cacheId)) {
+                cacheExpiryListenerMap.put(cacheId, expiryListener);
+            }
+        }
     }
 
+    /**
+     * Changes expiration time of the saved entry.
+     *
+     * @param exp seconds from now
+     */
     public static void setExpiry(String cacheId, long exp) {
-        expiryIntervalMap.put(cacheId, exp * 1000); //converting seconds into ms
+        synchronized (lock) {
+            if (expiryTimeMap.containsKey(cacheId)) {
+                expiryTimeMap.put(cacheId, SystemClock.uptimeMillis() + exp * 1000); //converting seconds into ms
+                scheduleExpiry();
+            }
+        }
+    }
+
+    @NonNull
+    public static Stats getStats() {
+        synchronized (lock) {
+            return new Stats(hits, misses, evictions, expirations, savedValues.size(), bytes);
+        }
+    }
+
+    @VisibleForTesting
+    static void setLimits(int maxEntries, long maxBytes) {
+        synchronized (lock) {
+            CacheManager.maxEntries = maxEntries;
+            CacheManager.maxBytes = maxBytes;
+            trimToLimits();
+        }
+    }
+
+    private static void trimToLimits() {
+        Iterator<Map.Entry<String, String>> iterator = savedValues.entrySet().iterator();
+        while ((savedValues.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+            Map.Entry<String, String> eldest = iterator.next();
+            iterator.remove();
+            bytes -= sizeOf(eldest.getValue());
+            evictions++;
+            if (!cacheExpiryListenerMap.containsKey(eldest.getKey())) {
+                expiryTimeMap.remove(eldest.getKey());
+            }
+            LogUtil.debug(TAG, "Evicted cached ad: " + eldest.getKey());
+        }
+    }
+
+    private static void scheduleExpiry() {
+        long nearestExpiryTime = Long.MAX_VALUE;
+        for (Long expiryTime : expiryTimeMap.values()) {
+            nearestExpiryTime = Math.min(nearestExpiryTime, expiryTime);
+        }
+        if (nearestExpiryTime == scheduledExpiryTime) {
+            return;
+        }
+
+        handler.removeCallbacks(expiryTask);
+        scheduledExpiryTime = nearestExpiryTime;
+        if (nearestExpiryTime != Long.MAX_VALUE) {
+            handler.postAtTime(expiryTask, nearestExpiryTime);
+        }
+    }
+
+    private static void removeExpired() {
+        List<CacheExpiryListener> expiredListeners = new ArrayList<>();
+        synchronized (lock) {
+            scheduledExpiryTime = Long.MAX_VALUE;
+            long now = SystemClock.uptimeMillis();
+            Iterator<Map.Entry<String, Long>> iterator = expiryTimeMap.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                if (entry.getValue() > now) {
+                    continue;
+                }
+
+                String cacheId = entry.getKey();
+                iterator.remove();
+                String content = savedValues.remove(cacheId);
+                if (content != null) {
+                    bytes -= sizeOf(content);
+                    expirations++;
+                }
+                CacheExpiryListener listener = cacheExpiryListenerMap.remove(cacheId);
+                if (listener != null) {
+                    expiredListeners.add(listener);
+                }
+            }
+            scheduleExpiry();
+        }
+
+        for (CacheExpiryListener listener : expiredListeners) {
+            listener.onCacheExpired();
+        }
+    }
+
+    private static long sizeOf(String content) {
+        return content.length() * 2L;
     }
 
     interface CacheExpiryListener {
         void onCacheExpired();
     }
+
+    /**
+     * Snapshot of cache counters since the last {@link #clear()}.
+     */
+    public static class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final int entries;
+        private final long bytes;
+
+        private Stats(
+                long hits,
+                long misses,
+                long evictions,
+                long expirations,
+                int entries,
+                long bytes
+        ) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.entries = entries;
+            this.bytes = bytes;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Returns count of entries removed because of size limits.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Returns count of entries removed by expiration before they were read.
+         */
+        public long getExpirations() {
+            return expirations;
+        }
+
+        public int getEntries() {
+            return entries;
+        }
+
+        /**
+         * Returns estimated memory size of cached content.
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+    }
+
 }
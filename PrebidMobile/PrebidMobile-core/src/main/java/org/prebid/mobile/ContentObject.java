@@ -159,6 +159,39 @@ public class ContentObject {
     @Nullable
     private ProducerObject producerObject;
 
+    public ContentObject() {
+    }
+
+    /**
+     * Deep copy, the copy doesn't change when the original is changed.
+     */
+    public ContentObject(@NonNull ContentObject other) {
+        id = other.id;
+        episode = other.episode;
+        title = other.title;
+        series = other.series;
+        season = other.season;
+        artist = other.artist;
+        genre = other.genre;
+        album = other.album;
+        isrc = other.isrc;
+        url = other.url;
+        categories = new ArrayList<>(other.categories);
+        productionQuality = other.productionQuality;
+        context = other.context;
+        contentRating = other.contentRating;
+        userRating = other.userRating;
+        qaMediaRating = other.qaMediaRating;
+        keywords = other.keywords;
+        liveStream = other.liveStream;
+        sourceRelationship = other.sourceRelationship;
+        length = other.length;
+        language = other.language;
+        embeddable = other.embeddable;
+        dataObjects = DataObject.copyList(other.dataObjects);
+        producerObject = other.producerObject != null ? new ProducerObject(other.producerObject) : null;
+    }
+
     /**
      * @return JSONObject if at least one parameter was set; otherwise null.
      */
@@ -475,6 +508,19 @@ public class ContentObject {
         @Nullable
         private String domain;
 
+        public ProducerObject() {
+        }
+
+        /**
+         * Deep copy, the copy doesn't change when the original is changed.
+         */
+        public ProducerObject(@NonNull ProducerObject other) {
+            id = other.id;
+            name = other.name;
+            categories = new ArrayList<>(other.categories);
+            domain = other.domain;
+        }
+
         @Nullable
         public JSONObject getJsonObject() {
             JSONObject result = new JSONObject();
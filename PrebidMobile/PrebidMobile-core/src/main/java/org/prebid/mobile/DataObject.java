@@ -9,6 +9,7 @@ import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.Ext;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Data content object for additional targeting.
@@ -36,6 +37,34 @@ public class DataObject {
     @Nullable
     private Ext ext;
 
+    public DataObject() {
+    }
+
+    /**
+     * Deep copy, the copy doesn't change when the original is changed.
+     */
+    public DataObject(@NonNull DataObject other) {
+        id = other.id;
+        name = other.name;
+        segments = new ArrayList<>(other.segments.size());
+        for (SegmentObject segment : other.segments) {
+            segments.add(segment != null ? new SegmentObject(segment) : null);
+        }
+        ext = other.ext != null ? new Ext(other.ext) : null;
+    }
+
+    /**
+     * Returns deep copies of the data objects.
+     */
+    @NonNull
+    static ArrayList<DataObject> copyList(@NonNull List<DataObject> dataObjects) {
+        ArrayList<DataObject> result = new ArrayList<>(dataObjects.size());
+        for (DataObject dataObject : dataObjects) {
+            result.add(dataObject != null ? new DataObject(dataObject) : null);
+        }
+        return result;
+    }
+
     public JSONObject getJsonObject() {
         JSONObject result = new JSONObject();
 
@@ -139,6 +168,18 @@ public class DataObject {
         @Nullable
         private String value;
 
+        public SegmentObject() {
+        }
+
+        /**
+         * Copy, the copy doesn't change when the original is changed.
+         */
+        public SegmentObject(@NonNull SegmentObject other) {
+            id = other.id;
+            name = other.name;
+            value = other.value;
+        }
+
         @Nullable
         public JSONObject getJsonObject() {
             JSONObject result = new JSONObject();
@@ -14,7 +14,7 @@ import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.networking.tracking.ServerConnection;
 
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Original API native ad unit.
@@ -45,7 +45,7 @@ public class NativeAdUnit extends AdUnit {
             public void onFetchCompleted(BidResponse response) {
                 bidResponse = response;
 
-                HashMap<String, String> keywords = response.getTargeting();
+                Map<String, String> keywords = response.getReadOnlyTargeting();
                 Util.apply(keywords, adObject);
 
                 String cacheId = CacheManager.save(response.getWinningBidJson());
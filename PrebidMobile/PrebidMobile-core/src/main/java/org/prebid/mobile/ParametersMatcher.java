@@ -9,6 +9,7 @@ import org.json.JSONObject;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Internal class for comparing parameters in adapters.
@@ -19,7 +20,7 @@ public class ParametersMatcher {
 
     public static boolean doParametersMatch(
             @Nullable String serverParametersJsonString,
-            @Nullable HashMap<String, String> prebidParameters
+            @Nullable Map<String, String> prebidParameters
     ) {
         HashMap<String, String> serverParameters = jsonStringToHashMap(serverParametersJsonString);
         return doParametersMatch(serverParameters, prebidParameters);
@@ -27,15 +28,15 @@ public class ParametersMatcher {
 
     public static boolean doParametersMatch(
             @Nullable Bundle serverParametersBundle,
-            @Nullable HashMap<String, String> prebidParameters
+            @Nullable Map<String, String> prebidParameters
     ) {
         HashMap<String, String> serverParameters = bundleToHashMap(serverParametersBundle);
         return doParametersMatch(serverParameters, prebidParameters);
     }
 
     public static boolean doParametersMatch(
-            @Nullable HashMap<String, String> serverParameters,
-            @Nullable HashMap<String, String> prebidParameters
+            @Nullable Map<String, String> serverParameters,
+            @Nullable Map<String, String> prebidParameters
     ) {
         if (serverParameters == null || prebidParameters == null) {
             return false;
@@ -33,14 +33,21 @@ import org.prebid.mobile.configuration.PBSConfig;
 import org.prebid.mobile.core.BuildConfig;
 import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
 import org.prebid.mobile.rendering.mraid.MraidEnv;
+import org.prebid.mobile.rendering.networking.HttpTransport;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
+import org.prebid.mobile.rendering.networking.parameters.RequestFragmentCache;
 import org.prebid.mobile.rendering.sdk.InitializationNotifier;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.sdk.SdkInitializer;
+import org.prebid.mobile.rendering.video.VideoCache;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
 import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Main class for managing Prebid SDK. It allows to initialize, set log level
@@ -133,6 +140,10 @@ public class PrebidMobile {
     @NonNull
     private static WeakReference<PrebidEventDelegate> eventDelegateReference = new WeakReference<>(null);
     private static boolean disableStatusCheck = false;
+    private static boolean useRequestCompression = false;
+    private static long videoCacheSize = VideoCache.DEFAULT_MAX_BYTES;
+    @Nullable
+    private static VideoDownloadListener videoDownloadListener;
 
     private PrebidMobile() {
     }
@@ -175,6 +186,7 @@ public class PrebidMobile {
 
     public static void setPrebidServerAccountId(String accountId) {
         PrebidMobile.accountId = accountId;
+        RequestFragmentCache.invalidateApp();
     }
 
     public static String getPrebidServerAccountId() {
@@ -227,6 +239,87 @@ public class PrebidMobile {
         return PrebidMobile.customHeaders;
     }
 
+    /**
+     * Sets the transport used for auction, tracking, status and VAST requests.
+     * It allows to reuse the app's own pooled HTTP client.
+     * Requests are executed on the SDK network threads, so the transport may block.
+     *
+     * @param transport custom transport, null resets it to the default one
+     */
+    public static void setHttpTransport(@Nullable HttpTransport transport) {
+        NetworkEngine.setTransport(transport);
+    }
+
+    /**
+     * {@link #setHttpTransport(HttpTransport)}
+     */
+    @NonNull
+    public static HttpTransport getHttpTransport() {
+        return NetworkEngine.getTransport();
+    }
+
+    /**
+     * Enables gzip compression of the bid request body with <code>Content-Encoding: gzip</code> header.
+     * Enable it only if your Prebid Server (or a proxy in front of it) supports compressed requests.
+     * Custom {@link HttpTransport} must compress the body itself, see {@link org.prebid.mobile.rendering.networking.NetworkRequest#isGzipBody()}.
+     */
+    public static void setUseRequestCompression(boolean useRequestCompression) {
+        PrebidMobile.useRequestCompression = useRequestCompression;
+    }
+
+    /**
+     * {@link #setUseRequestCompression(boolean)}
+     */
+    public static boolean isUseRequestCompression() {
+        return useRequestCompression;
+    }
+
+    /**
+     * Sets the disk budget in bytes for downloaded video creatives. The least recently used videos are removed
+     * when the budget is exceeded. Default value is 50 MiB.
+     */
+    public static void setVideoCacheSize(long videoCacheSize) {
+        if (videoCacheSize <= 0) {
+            LogUtil.error(TAG, "Video cache size must be positive.");
+            return;
+        }
+        PrebidMobile.videoCacheSize = videoCacheSize;
+    }
+
+    /**
+     * {@link #setVideoCacheSize(long)}
+     */
+    public static long getVideoCacheSize() {
+        return videoCacheSize;
+    }
+
+    /**
+     * Sets the listener of video creative download metrics, null removes it.
+     */
+    public static void setVideoDownloadListener(@Nullable VideoDownloadListener listener) {
+        videoDownloadListener = listener;
+    }
+
+    /**
+     * {@link #setVideoDownloadListener(VideoDownloadListener)}
+     */
+    @Nullable
+    public static VideoDownloadListener getVideoDownloadListener() {
+        return videoDownloadListener;
+    }
+
+    /**
+     * Runs SDK background tasks of the lane on the app executor, null restores the SDK workers.
+     * The SDK still limits count of the lane tasks passed to the executor at the same time,
+     * see {@link TasksManager#getLane(TaskLane)}.
+     */
+    public static void setTaskExecutor(
+            @NonNull TaskLane lane,
+            @Nullable Executor executor
+    ) {
+        TasksManager.getInstance().getLane(lane).setExecutor(executor);
+    }
+
     /**
      * Initializes the main SDK classes and makes request to Prebid server to check its status.
      * If you use custom /status endpoint set it with ({@link PrebidMobile#setCustomStatusEndpoint(String)}) before starting initialization.
@@ -25,6 +25,7 @@ import androidx.annotation.Nullable;
 import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.Ext;
+import org.prebid.mobile.rendering.networking.parameters.RequestFragmentCache;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.sdk.UserConsentUtils;
 
@@ -244,6 +245,7 @@ public class TargetingParams {
      */
     public static void setPublisherName(String publisherName) {
         TargetingParams.publisherName = publisherName;
+        RequestFragmentCache.invalidateApp();
     }
 
     public static String getPublisherName() {
@@ -258,6 +260,7 @@ public class TargetingParams {
      */
     public static synchronized void setDomain(String domain) {
         TargetingParams.domain = domain;
+        RequestFragmentCache.invalidateApp();
     }
 
     /**
@@ -276,6 +279,7 @@ public class TargetingParams {
      */
     public static synchronized void setStoreUrl(String storeUrl) {
         TargetingParams.storeUrl = storeUrl;
+        RequestFragmentCache.invalidateApp();
     }
 
     /**
@@ -306,6 +310,7 @@ public class TargetingParams {
      */
     public static synchronized void setBundleName(String bundleName) {
         TargetingParams.bundleName = bundleName;
+        RequestFragmentCache.invalidateApp();
     }
 
     /**
@@ -318,6 +323,7 @@ public class TargetingParams {
         String value
     ) {
         Util.addValue(extDataDictionary, key, value);
+        RequestFragmentCache.invalidateApp();
     }
 
     /**
@@ -329,6 +335,7 @@ public class TargetingParams {
         Set<String> value
     ) {
         extDataDictionary.put(key, value);
+        RequestFragmentCache.invalidateApp();
     }
 
     /**
@@ -336,6 +343,7 @@ public class TargetingParams {
      */
     public static void removeExtData(String key) {
         extDataDictionary.remove(key);
+        RequestFragmentCache.invalidateApp();
     }
 
     /**
@@ -343,6 +351,7 @@ public class TargetingParams {
      */
     public static void clearExtData() {
         extDataDictionary.clear();
+        RequestFragmentCache.invalidateApp();
     }
 
     public static Map<String, Set<String>> getExtDataDictionary() {
@@ -332,7 +332,7 @@ public class Util {
         return false;
     }
 
-    public static void apply(HashMap<String, String> bids, Object adObj) {
+    public static void apply(Map<String, String> bids, Object adObj) {
         if (adObj == null) return;
         if (adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS) || adObj.getClass() == getClassFromString(AD_MANAGER_REQUEST_CLASS_V20)) {
             handleAdManagerCustomTargeting(bids, adObj);
@@ -392,9 +392,11 @@ public class Util {
 
     private static void handleApplovinMaxCustomTargeting(
         Object adObject,
-            HashMap<String, String> bids
+            Map<String, String> bids
     ) {
-        setLocalParamsToMax(adObject, APPLOVIN_MAX_KEYWORDS_KEY, bids);
+        // The adapter expects its own HashMap in the local parameters
+        HashMap<String, String> keywords = bids != null ? new HashMap<>(bids) : null;
+        setLocalParamsToMax(adObject, APPLOVIN_MAX_KEYWORDS_KEY, keywords);
     }
 
     private static void setLocalParamsToMax(
@@ -416,7 +418,7 @@ public class Util {
     }
 
     static void handleAndroidBundleCustomTargeting(
-            @Nullable HashMap<String, String> bids,
+            @Nullable Map<String, String> bids,
             Object adObject
     ) {
         Bundle adBundle = (Bundle) adObject;
@@ -428,7 +430,7 @@ public class Util {
     }
 
 
-    private static void handleAdManagerCustomTargeting(HashMap<String, String> bids, Object publisherAdRequest) {
+    private static void handleAdManagerCustomTargeting(Map<String, String> bids, Object publisherAdRequest) {
         removeUsedCustomTargetingForDFP(publisherAdRequest);
         if (bids != null && !bids.isEmpty()) {
             Bundle bundle = (Bundle) Util.callMethodOnObject(publisherAdRequest, "getCustomTargeting");
@@ -441,7 +443,7 @@ public class Util {
         }
     }
 
-    private static void handleAdManagerBuilderCustomTargeting(HashMap<String, String> bids, Object publisherAdRequestBuilder) {
+    private static void handleAdManagerBuilderCustomTargeting(Map<String, String> bids, Object publisherAdRequestBuilder) {
         Object publisherAdRequest = Util.callMethodOnObject(publisherAdRequestBuilder, "build");
         removeUsedCustomTargetingForDFP(publisherAdRequest);
 
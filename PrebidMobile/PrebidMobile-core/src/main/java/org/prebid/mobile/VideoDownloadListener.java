@@ -0,0 +1,28 @@
+package org.prebid.mobile;
+
+/**
+ * Receives metrics of video creative downloads, e.g. to monitor network quality.
+ * Set it with {@link PrebidMobile#setVideoDownloadListener(VideoDownloadListener)}.
+ */
+public interface VideoDownloadListener {
+
+    /**
+     * Called on a background thread when a download attempt has finished, failed or was cancelled.
+     *
+     * @param url            media url
+     * @param bytes          bytes received in this attempt
+     * @param durationMillis duration of the attempt
+     * @param bytesPerSecond average download speed of the attempt
+     * @param resumed        true if the attempt continued a partially downloaded file
+     * @param completed      true if the file has been fully downloaded
+     */
+    void onVideoDownload(
+            String url,
+            long bytes,
+            long durationMillis,
+            long bytesPerSecond,
+            boolean resumed,
+            boolean completed
+    );
+
+}
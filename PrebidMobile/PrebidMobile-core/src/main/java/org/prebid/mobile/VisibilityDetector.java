@@ -23,9 +23,6 @@ import android.view.View;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 class VisibilityDetector {
     static final long VISIBILITY_THROTTLE_MILLIS = 250;
@@ -33,7 +30,8 @@ class VisibilityDetector {
     private WeakReference<View> viewReference;
     private ArrayList<VisibilityListener> listeners;
     private Runnable visibilityCheck;
-    private ScheduledExecutorService tasker;
+    private Runnable periodicCheck;
+    private final Handler handler = new Handler(Looper.getMainLooper());
     private static final String TAG = "VisibilityDetector";
     private final int MIN_PERCENTAGE_VIEWED = 50;
 
@@ -87,20 +85,17 @@ class VisibilityDetector {
                 }
             }
         };
-        tasker = Executors.newSingleThreadScheduledExecutor();
-        tasker.scheduleAtFixedRate(() -> {
-            View view = viewReference.get();
-            if (view == null) {
-                // Run last visibility check
-                new Handler(Looper.getMainLooper()).post(visibilityCheck);
-
-                tasker.shutdownNow();
-                return;
+        // The check reads the view, so it's scheduled on the main thread directly without a background thread
+        this.periodicCheck = new Runnable() {
+            @Override
+            public void run() {
+                visibilityCheck.run();
+                if (viewReference.get() != null) {
+                    handler.postDelayed(this, VISIBILITY_THROTTLE_MILLIS);
+                }
             }
-
-            view.post(visibilityCheck);
-
-        }, 0, VISIBILITY_THROTTLE_MILLIS, TimeUnit.MILLISECONDS);
+        };
+        handler.post(periodicCheck);
     }
 
     boolean isVisible() {
@@ -126,13 +121,7 @@ class VisibilityDetector {
     }
 
     void destroy() {
-        if (tasker != null && !tasker.isTerminated()) {
-            tasker.shutdownNow();
-        }
-        View view = viewReference.get();
-        if (view != null) {
-            view.removeCallbacks(visibilityCheck);
-        }
+        handler.removeCallbacks(periodicCheck);
         listeners = null;
     }
 
@@ -2,14 +2,15 @@ package org.prebid.mobile;
 
 import android.app.Application;
 import android.content.Context;
-import android.os.CountDownTimer;
 import android.os.Handler;
 import android.os.Looper;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.webkit.WebView;
 
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import org.jetbrains.annotations.NotNull;
 import org.prebid.mobile.addendum.AdViewUtils;
@@ -21,16 +22,17 @@ import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 
 import java.lang.ref.WeakReference;
 
+/**
+ * Finds the WebView of the GAM ad in the container and fires the billing url when it becomes visible.
+ * The container is checked after layout changes of its window, so a refreshed ad with a new WebView
+ * is found without polling.
+ */
 public class VisibilityMonitor {
 
-    private boolean stopAfterFirstFinding = false;
-
-    private VisibilityTimer visibilityTimer;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final WebViewWatcher webViewWatcher = new WebViewWatcher();
 
-    public VisibilityMonitor() {
-        Handler mainHandler = new Handler(Looper.getMainLooper());
-        mainHandler.post(() -> visibilityTimer = new VisibilityTimer());
-    }
+    private boolean stopAfterFirstFinding = false;
 
     @Nullable
     private VisibilityActivityListener activityListener;
@@ -38,9 +40,8 @@ public class VisibilityMonitor {
     public void trackView(@NotNull View adViewContainer, @NotNull String burl, @NotNull String cacheId) {
         stopTracking();
 
-        if (visibilityTimer != null) {
-            visibilityTimer.start(adViewContainer, burl, cacheId, stopAfterFirstFinding);
-        }
+        boolean stopAfterFirstFinding = this.stopAfterFirstFinding;
+        runOnMainThread(() -> webViewWatcher.start(adViewContainer, burl, cacheId, stopAfterFirstFinding));
     }
 
     public void trackInterstitial(String burl, String cacheId) {
@@ -52,9 +53,7 @@ public class VisibilityMonitor {
     }
 
     public void stopTracking() {
-        if (visibilityTimer != null) {
-            visibilityTimer.destroy();
-        }
+        runOnMainThread(webViewWatcher::destroy);
 
         if (activityListener != null) {
             getApplication().unregisterActivityLifecycleCallbacks(activityListener);
@@ -66,25 +65,39 @@ public class VisibilityMonitor {
         return (Application) context;
     }
 
-    private static class VisibilityTimer extends CountDownTimer {
+    private void runOnMainThread(Runnable task) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            task.run();
+        } else {
+            mainHandler.post(task);
+        }
+    }
+
+    /**
+     * Checks the container for a new WebView after layout changes. Must be used on the main thread.
+     */
+    @VisibleForTesting
+    static class WebViewWatcher {
+
+        private static final String TAG = "WebViewWatcher";
 
-        private static final int LONGEVITY = Integer.MAX_VALUE;
-        private static final int INTERVAL = 500;
-        private static final String TAG = "VisibilityTimer";
+        private final Handler handler = new Handler(Looper.getMainLooper());
+        private final Runnable checkRunnable = this::checkContainer;
+        private final ViewTreeObserver.OnGlobalLayoutListener onGlobalLayoutListener = this::scheduleCheck;
 
         private int lastWebViewHash;
         private boolean stopAfterFirstFinding;
+        private boolean isCheckScheduled;
         private String burl;
         private String responseCacheId;
 
+        @Nullable
         private WeakReference<View> containerViewReference;
         @Nullable
+        private WeakReference<ViewTreeObserver> viewTreeObserverReference;
+        @Nullable
         private CreativeVisibilityTracker visibilityTracker;
 
-        public VisibilityTimer() {
-            super(LONGEVITY, INTERVAL);
-        }
-
         public void start(View containerView, String burl, String cacheId, boolean stopAfterFirstFinding) {
             this.burl = burl;
             this.responseCacheId = cacheId;
@@ -92,11 +105,33 @@ public class VisibilityMonitor {
             this.stopAfterFirstFinding = stopAfterFirstFinding;
 
             LogUtil.debug(TAG, "Start of monitoring...");
-            start();
+            // GAM keeps its own OnHierarchyChangeListener on the ad view, so the window layout is observed instead
+            ViewTreeObserver viewTreeObserver = containerView.getViewTreeObserver();
+            viewTreeObserver.addOnGlobalLayoutListener(onGlobalLayoutListener);
+            viewTreeObserverReference = new WeakReference<>(viewTreeObserver);
+
+            checkContainer();
+        }
+
+        /**
+         * Merges the layout changes of one frame into one check of the container.
+         */
+        private void scheduleCheck() {
+            if (isCheckScheduled) {
+                return;
+            }
+
+            isCheckScheduled = true;
+            handler.post(checkRunnable);
         }
 
-        @Override
-        public void onTick(long millisUntilFinished) {
+        @VisibleForTesting
+        void checkContainer() {
+            isCheckScheduled = false;
+            if (containerViewReference == null) {
+                return;
+            }
+
             View containerView = containerViewReference.get();
             if (containerView == null) {
                 LogUtil.debug(TAG, "Cancelled due to ad view is null");
@@ -141,17 +176,34 @@ public class VisibilityMonitor {
             visibilityTracker.startVisibilityCheck(PrebidContextHolder.getContext());
         }
 
-        @Override
-        public void onFinish() {
-        }
-
         public void destroy() {
             if (visibilityTracker != null) {
                 LogUtil.debug(TAG, "Destroying");
                 visibilityTracker.stopVisibilityCheck();
                 visibilityTracker = null;
             }
-            cancel();
+            removeLayoutListener();
+            handler.removeCallbacks(checkRunnable);
+            isCheckScheduled = false;
+            containerViewReference = null;
+        }
+
+        private void removeLayoutListener() {
+            // The observer of a detached container is replaced by the window observer after attaching
+            View containerView = containerViewReference != null ? containerViewReference.get() : null;
+            if (containerView != null) {
+                removeLayoutListener(containerView.getViewTreeObserver());
+            }
+            if (viewTreeObserverReference != null) {
+                removeLayoutListener(viewTreeObserverReference.get());
+                viewTreeObserverReference = null;
+            }
+        }
+
+        private void removeLayoutListener(@Nullable ViewTreeObserver viewTreeObserver) {
+            if (viewTreeObserver != null && viewTreeObserver.isAlive()) {
+                viewTreeObserver.removeOnGlobalLayoutListener(onGlobalLayoutListener);
+            }
         }
 
         public static WebView findIn(View root) {
@@ -183,7 +235,7 @@ public class VisibilityMonitor {
             return null;
         }
 
-        private static AdViewUtils.CacheIdResult createCacheIdFoundTask(WeakReference<WebView> webViewReference, VisibilityTimer visibilityTimer, String responseCacheId, int lastWebViewHash) {
+        private static AdViewUtils.CacheIdResult createCacheIdFoundTask(WeakReference<WebView> webViewReference, WebViewWatcher webViewWatcher, String responseCacheId, int lastWebViewHash) {
             return cacheId -> {
                 if (cacheId == null || cacheId.isEmpty()) {
                     return;
@@ -199,7 +251,7 @@ public class VisibilityMonitor {
                     return;
                 }
 
-                visibilityTimer.attachVisibilityTracker(webView);
+                webViewWatcher.attachVisibilityTracker(webView);
                 LogUtil.debug(TAG, "Registering the new WebView: " + lastWebViewHash);
             };
         }
@@ -28,6 +28,8 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.Size;
 
+import org.json.JSONException;
+import org.json.JSONTokener;
 import org.prebid.mobile.CacheManager;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidMobile.LogLevel;
@@ -46,16 +48,20 @@ import java.util.regex.Pattern;
 
 public final class AdViewUtils {
 
-    /**
-     * Escaped double quotes.
-     */
-    private static final String EDQ = "\\\\\"";
-
     private static final String INNER_HTML_SCRIPT = "document.body.innerHTML";
     private static final String SIZE_VALUE_REGEX_EXPRESSION = "[0-9]+x[0-9]+";
     private static final String SIZE_OBJECT_REGEX_EXPRESSION = "hb_size\\W+" + SIZE_VALUE_REGEX_EXPRESSION; //"hb_size\\W+[0-9]+x[0-9]+"
 
-    private static final String CACHE_ID_REGEX = EDQ + "hb_cache_id" + EDQ + ":\\[" + EDQ + "(.*?)" + EDQ + "\\]";
+    /**
+     * Searches the cache id in the page and returns only the match, so the whole HTML isn't passed
+     * through the JavaScript bridge.
+     */
+    private static final String CACHE_ID_SCRIPT = "(function() {"
+            + "var body = document.body;"
+            + "if (!body) { return null; }"
+            + "var match = body.innerHTML.match(/\"hb_cache_id\":\\[\"(.*?)\"\\]/);"
+            + "return match ? match[1] : null;"
+            + "})()";
 
 
     private static final String GAM_VIEW_CLASS = "com.google.android.gms.ads.doubleclick.PublisherAdView";
@@ -379,21 +385,28 @@ public final class AdViewUtils {
             return;
         }
 
-        webView.evaluateJavascript(INNER_HTML_SCRIPT, value -> {
-            String result = findCacheId(value);
+        webView.evaluateJavascript(CACHE_ID_SCRIPT, value -> {
+            String result = parseCacheIdScriptResult(value);
             onResult.run(result);
         });
     }
 
+    /**
+     * Converts the JSON encoded result of the cache id script to the cache id.
+     */
     @Nullable
-    static String findCacheId(String html) {
-        Pattern pattern = Pattern.compile(CACHE_ID_REGEX);
-        Matcher matcher = pattern.matcher(html);
+    static String parseCacheIdScriptResult(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
 
-        if (!matcher.find() || matcher.groupCount() == 0) {
+        try {
+            Object result = new JSONTokener(value).nextValue();
+            return result instanceof String ? (String) result : null;
+        } catch (JSONException exception) {
+            LogUtil.warning("Can't parse cache id: " + exception.getMessage());
             return null;
         }
-        return matcher.group(1);
     }
 
     @Nullable
@@ -46,6 +46,9 @@ public class BidInfo {
         return resultCode;
     }
 
+    /**
+     * Returns read-only targeting keywords of the bid response.
+     */
     @Nullable
     public Map<String, String> getTargetingKeywords() {
         return targetingKeywords;
@@ -78,7 +81,7 @@ public class BidInfo {
             return bidInfo;
         }
 
-        bidInfo.targetingKeywords = bidResponse.getTargeting();
+        bidInfo.targetingKeywords = bidResponse.getReadOnlyTargeting();
 
         bidInfo.exp = bidResponse.getExpirationTimeSeconds();
 
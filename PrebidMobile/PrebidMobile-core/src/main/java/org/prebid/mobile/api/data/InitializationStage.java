@@ -0,0 +1,45 @@
+package org.prebid.mobile.api.data;
+
+import android.content.Context;
+
+import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
+
+/**
+ * Stages of {@link org.prebid.mobile.PrebidMobile#initializeSdk(Context, SdkInitializationListener)} reported to
+ * {@link SdkInitializationListener#onInitializationStageCompleted(InitializationStage, long)}.
+ * <p>
+ * OMSDK activation and user agent fetching aren't initialization stages, they run when an ad needs them.
+ */
+public enum InitializationStage {
+
+    /**
+     * Package info and security provider patching.
+     */
+    APP_INFO,
+
+    /**
+     * Device, location, connection and consent managers.
+     */
+    MANAGERS,
+
+    /**
+     * Check of the stored JS libraries, starts their reading or downloading.
+     */
+    JS_SCRIPTS,
+
+    /**
+     * Prebid Server /status request.
+     */
+    STATUS_REQUEST,
+
+    /**
+     * Reading of the consent values, starts after {@link #MANAGERS}.
+     */
+    USER_CONSENT,
+
+    /**
+     * Fetching of the Google advertising id.
+     */
+    ADVERTISING_ID
+
+}
@@ -35,6 +35,7 @@ import org.prebid.mobile.rendering.bidding.display.BidResponseCache;
 import org.prebid.mobile.rendering.bidding.display.PrebidMediationDelegate;
 import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.bidding.loader.BidLoader;
+import org.prebid.mobile.rendering.bidding.loader.PrebidAuctionBatch;
 
 import java.lang.ref.WeakReference;
 import java.util.Map;
@@ -134,7 +135,7 @@ public abstract class MediationBaseAdUnit {
             return;
         }
         BidResponseCache.getInstance().putBidResponse(response);
-        mediationDelegate.handleKeywordsUpdate(response.getTargeting());
+        mediationDelegate.handleKeywordsUpdate(response.getReadOnlyTargeting());
         mediationDelegate.setResponseToLocalExtras(response);
         onFetchCompleteListener.onComplete(FetchDemandResult.SUCCESS);
     }
@@ -174,4 +175,13 @@ public abstract class MediationBaseAdUnit {
         adUnitConfig.setImpOrtbConfig(ortbConfig);
     }
 
+    /**
+     * Joins the next bid request of the ad unit to the batch, see {@link PrebidAuctionBatch}.
+     */
+    public void setAuctionBatch(@Nullable PrebidAuctionBatch auctionBatch) {
+        if (bidLoader != null) {
+            bidLoader.setAuctionBatch(auctionBatch);
+        }
+    }
+
 }
@@ -74,7 +74,7 @@ public class MediationRewardedVideoAdUnit extends MediationBaseFullScreenAdUnit
             LogUtil.debug(TAG, "On response received");
             BidResponseCache.getInstance().putBidResponse(response.getId(), response);
             mediationDelegate.setResponseToLocalExtras(response);
-            mediationDelegate.handleKeywordsUpdate(response.getTargeting());
+            mediationDelegate.handleKeywordsUpdate(response.getReadOnlyTargeting());
             onFetchCompleteListener.onComplete(FetchDemandResult.SUCCESS);
         }
     }
@@ -23,7 +23,7 @@ import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.models.AdPosition;
 import org.prebid.mobile.rendering.models.PlacementType;
 
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Internal AdUnit implementation that is used for PrebidAdUnit
@@ -54,7 +54,7 @@ class MultiformatAdUnitFacade extends AdUnit {
             public void onFetchCompleted(BidResponse response) {
                 bidResponse = response;
 
-                HashMap<String, String> keywords = response.getTargeting();
+                Map<String, String> keywords = response.getReadOnlyTargeting();
                 Util.apply(keywords, adObject);
 
                 originalListener.onComplete(ResultCode.SUCCESS);
@@ -50,6 +50,7 @@ import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.bidding.listeners.DisplayVideoListener;
 import org.prebid.mobile.rendering.bidding.listeners.DisplayViewListener;
 import org.prebid.mobile.rendering.bidding.loader.BidLoader;
+import org.prebid.mobile.rendering.bidding.loader.PrebidAuctionBatch;
 import org.prebid.mobile.rendering.models.AdPosition;
 import org.prebid.mobile.rendering.models.PlacementType;
 import org.prebid.mobile.rendering.models.internal.VisibilityTrackerOption;
@@ -544,6 +545,15 @@ public class BannerView extends FrameLayout {
         adUnitConfig.setImpOrtbConfig(ortbConfig);
     }
 
+    /**
+     * Joins the next bid request of the ad unit to the batch, see {@link PrebidAuctionBatch}.
+     */
+    public void setAuctionBatch(@Nullable PrebidAuctionBatch auctionBatch) {
+        if (bidLoader != null) {
+            bidLoader.setAuctionBatch(auctionBatch);
+        }
+    }
+
     //region ==================== HelperMethods for Unit Tests. Should be used only in tests
     @VisibleForTesting
     final void setBidResponse(BidResponse response) {
@@ -37,10 +37,14 @@ import org.prebid.mobile.api.rendering.pluginrenderer.PrebidMobilePluginRenderer
 import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.bidding.data.bid.Bid;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.bidding.display.PersistentBidCache;
 import org.prebid.mobile.rendering.bidding.interfaces.InterstitialControllerListener;
 import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.bidding.loader.BidLoader;
 import org.prebid.mobile.rendering.models.AdPosition;
+import org.prebid.mobile.rendering.video.VideoPreCacheScheduler;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
 import java.lang.ref.WeakReference;
 import java.util.Map;
@@ -114,6 +118,7 @@ public abstract class BaseInterstitialAdUnit {
             LogUtil.debug(TAG, "show(): Ad is not yet ready for display!");
             return;
         }
+        removeStoredBid();
 
         switch (interstitialAdUnitState) {
             case READY_TO_DISPLAY_GAM:
@@ -188,6 +193,19 @@ public abstract class BaseInterstitialAdUnit {
         config.setMaxVideoDuration(seconds);
     }
 
+    /**
+     * Keeps the loaded but not shown bid on disk until its expiration. The next {@link #loadAd()},
+     * also after the app restart, shows it without waiting for the auction. Useful for app open and splash ads.
+     * Disabled by default.
+     */
+    public void setUsePersistentBidCache(boolean usePersistentBidCache) {
+        config.setUsePersistentBidCache(usePersistentBidCache);
+    }
+
+    public boolean isUsePersistentBidCache() {
+        return config.isUsePersistentBidCache();
+    }
+
     /**
      * Sets close button percentage size in range from 0.05 to 1.
      * If value less than 0.05, size will be default.
@@ -259,6 +277,27 @@ public abstract class BaseInterstitialAdUnit {
         }
     }
 
+    private void removeStoredBid() {
+        if (config.isUsePersistentBidCache()) {
+            String configId = config.getConfigId();
+            PersistentBidCache.getInstance().markConsumed(configId, bidResponse);
+            TasksManager.getInstance().execute(TaskLane.DISK_IO, () -> PersistentBidCache.getInstance().remove(configId));
+        }
+    }
+
+    /**
+     * Starts the video download while the ad server is requested, so the video is ready when the creative is loaded.
+     */
+    private void preCacheVideo() {
+        Bid winnerBid = getWinnerBid();
+        if (winnerBid == null || !bidResponse.isVideo()) {
+            return;
+        }
+        Context context = getContext();
+        BidResponse response = bidResponse;
+        TasksManager.getInstance().execute(TaskLane.RENDERING, () -> VideoPreCacheScheduler.getInstance().preCacheVast(context, response));
+    }
+
     private void initBidLoader() {
         bidLoader = new BidLoader(config, bidRequesterListener);
     }
@@ -289,6 +328,7 @@ public abstract class BaseInterstitialAdUnit {
             @Override
             public void onFetchCompleted(BidResponse response) {
                 bidResponse = response;
+                preCacheVideo();
 
                 changeInterstitialAdUnitState(LOADING);
                 requestAdWithBid(getWinnerBid());
@@ -317,6 +357,7 @@ public abstract class BaseInterstitialAdUnit {
 
             @Override
             public void onInterstitialFailedToLoad(AdException exception) {
+                removeStoredBid();
                 changeInterstitialAdUnitState(READY_FOR_LOAD);
                 notifyErrorListener(exception);
             }
@@ -37,6 +37,7 @@ public class AdUnitConfiguration {
     private boolean isSoundButtonVisible = false;
     private boolean isOriginalAdUnit = false;
     private boolean hasEndCard = false;
+    private boolean usePersistentBidCache = false;
 
     private int videoSkipOffset = SKIP_OFFSET_NOT_ASSIGNED;
     private int autoRefreshDelayInMillis = 0;
@@ -182,6 +183,14 @@ public class AdUnitConfiguration {
         return isMuted;
     }
 
+    public void setUsePersistentBidCache(boolean usePersistentBidCache) {
+        this.usePersistentBidCache = usePersistentBidCache;
+    }
+
+    public boolean isUsePersistentBidCache() {
+        return usePersistentBidCache;
+    }
+
     public void setIsSoundButtonVisible(boolean isSoundButtonVisible) {
         this.isSoundButtonVisible = isSoundButtonVisible;
     }
@@ -19,12 +19,11 @@ package org.prebid.mobile.http;
 import android.os.Looper;
 
 import org.prebid.mobile.Util;
+import org.prebid.mobile.rendering.networking.ResponseReader;
+import org.prebid.mobile.tasksmanager.TaskLane;
 import org.prebid.mobile.tasksmanager.TasksManager;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
@@ -40,7 +39,7 @@ public abstract class HTTPGet {
 
     public void execute() {
         if (Looper.myLooper() == Looper.getMainLooper()) {
-            TasksManager.getInstance().executeOnBackgroundThread(new Runnable() {
+            TasksManager.getInstance().execute(TaskLane.TRACKING, new Runnable() {
                 @Override
                 public void run() {
                     HTTPResponse response = makeHttpRequest();
@@ -61,6 +60,7 @@ public abstract class HTTPGet {
         connection.setDoInput(true);
         connection.setUseCaches(false);
         connection.setRequestMethod("GET");
+        connection.setRequestProperty(ResponseReader.ACCEPT_ENCODING_HEADER, ResponseReader.ENCODING_GZIP);
         return connection;
     }
 
@@ -85,16 +85,7 @@ public abstract class HTTPGet {
 
 
             //Response parsing
-            StringBuilder builder = new StringBuilder();
-            InputStream is = connection.getInputStream();
-            BufferedReader reader = new BufferedReader(new InputStreamReader(is, "utf-8"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                builder.append(line);
-            }
-            reader.close();
-            is.close();
-            String responseString = builder.toString();
+            String responseString = ResponseReader.readString(connection, connection.getInputStream());
 
 
             out.setHeaders(connection.getHeaderFields());
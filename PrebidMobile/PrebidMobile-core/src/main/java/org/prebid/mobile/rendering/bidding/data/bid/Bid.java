@@ -18,11 +18,14 @@ package org.prebid.mobile.rendering.bidding.data.bid;
 
 
 import android.util.Base64;
+import android.util.JsonReader;
+import android.util.JsonToken;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.api.data.BidInfo;
 import org.prebid.mobile.rendering.interstitial.rewarded.RewardedExt;
@@ -31,6 +34,7 @@ import org.prebid.mobile.rendering.models.internal.MacrosModel;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.MobileSdkPassThrough;
 import org.prebid.mobile.rendering.utils.helpers.MacrosResolutionHelper;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -95,6 +99,12 @@ public class Bid {
     // Bid json string. Used only for CacheManager.
     private String jsonString;
 
+    // Response the bid is read from by JsonReader and position of the bid in it.
+    // The string is taken from the response on demand.
+    private BidResponse jsonSource;
+    private int seatbidIndex;
+    private int bidIndex;
+
     // Tactic ID to enable buyers to label bids for reporting to the
     // exchange the tactic through which their bid was submitted
     private String tactic;
@@ -133,6 +143,10 @@ public class Bid {
     // wait between the auction and the actual impression
     private int exp;
 
+    // Media file of the VAST chosen for pre-caching, the creative plays the same file
+    @Nullable
+    private volatile String preCachedMediaUrl;
+
     /**
      * Bid type determined by a bidder. JSON field: {@code [bid].ext.prebid.type}.
      */
@@ -262,6 +276,10 @@ public class Bid {
     }
 
     public String getJsonString() {
+        if (jsonString == null && jsonSource != null) {
+            jsonString = jsonSource.getBidJson(seatbidIndex, bidIndex);
+            jsonSource = null;
+        }
         return jsonString;
     }
 
@@ -315,13 +333,7 @@ public class Bid {
 
         JSONObject ext = jsonObject.optJSONObject("ext");
         if (ext != null) {
-            JSONObject prebidJson = ext.optJSONObject("prebid");
-            Prebid prebidObject = Prebid.fromJSONObject(prebidJson);
-            setEvents(bid, prebidObject);
-            bid.prebid = prebidObject;
-            bid.mobileSdkPassThrough = MobileSdkPassThrough.create(ext);
-            bid.rewardedExt = RewardedExtParser.parse(ext);
-            bid.type = prebidObject.getType();
+            setExt(bid, ext);
         }
 
         substituteMacros(bid);
@@ -329,10 +341,159 @@ public class Bid {
         return bid;
     }
 
+    /**
+     * Reads the bid in one pass. Unused fields are skipped, bid json string is taken
+     * from the response on {@link #getJsonString()}, see {@link #setJsonSource}.
+     */
+    static Bid fromJsonReader(JsonReader reader) throws IOException, JSONException {
+        Bid bid = new Bid();
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return bid;
+        }
+
+        bid.adomain = new String[0];
+        bid.cat = new String[0];
+        bid.attr = new int[0];
+        bid.api = -1;
+        bid.protocol = -1;
+        bid.qagmediarating = -1;
+        bid.exp = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    bid.id = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "impid":
+                    bid.impId = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "price":
+                    bid.price = JsonReaderHelper.nextDouble(reader, 0);
+                    break;
+                case "adm":
+                    bid.adm = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "crid":
+                    bid.crid = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "w":
+                    bid.width = JsonReaderHelper.nextInt(reader, 0);
+                    break;
+                case "h":
+                    bid.height = JsonReaderHelper.nextInt(reader, 0);
+                    break;
+                case "nurl":
+                    bid.nurl = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "burl":
+                    bid.burl = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "lurl":
+                    bid.lurl = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "adid":
+                    bid.adid = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "adomain":
+                    bid.adomain = JsonReaderHelper.nextStringArray(reader);
+                    break;
+                case "bundle":
+                    bid.bundle = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "iurl":
+                    bid.iurl = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "cid":
+                    bid.cid = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "tactic":
+                    bid.tactic = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "cat":
+                    bid.cat = JsonReaderHelper.nextStringArray(reader);
+                    break;
+                case "attr":
+                    bid.attr = JsonReaderHelper.nextIntArray(reader);
+                    break;
+                case "api":
+                    bid.api = JsonReaderHelper.nextInt(reader, -1);
+                    break;
+                case "protocol":
+                    bid.protocol = JsonReaderHelper.nextInt(reader, -1);
+                    break;
+                case "qagmediarating":
+                    bid.qagmediarating = JsonReaderHelper.nextInt(reader, -1);
+                    break;
+                case "language":
+                    bid.language = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "dealid":
+                    bid.dealId = JsonReaderHelper.nextString(reader, null);
+                    break;
+                case "wratio":
+                    bid.WRatio = JsonReaderHelper.nextInt(reader, 0);
+                    break;
+                case "hratio":
+                    bid.HRatio = JsonReaderHelper.nextInt(reader, 0);
+                    break;
+                case "exp":
+                    bid.exp = JsonReaderHelper.nextInt(reader, -1);
+                    break;
+                case "ext":
+                    JSONObject ext = JsonReaderHelper.nextJSONObject(reader);
+                    if (ext != null) {
+                        setExt(bid, ext);
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        substituteMacros(bid);
+
+        return bid;
+    }
+
+    /**
+     * Sets the response the bid is read from to take the bid json string from it on demand.
+     */
+    void setJsonSource(
+            BidResponse response,
+            int seatbidIndex,
+            int bidIndex
+    ) {
+        jsonSource = response;
+        this.seatbidIndex = seatbidIndex;
+        this.bidIndex = bidIndex;
+    }
+
     public void setAdm(String adm) {
         this.adm = adm;
     }
 
+    @Nullable
+    public String getPreCachedMediaUrl() {
+        return preCachedMediaUrl;
+    }
+
+    public void setPreCachedMediaUrl(@Nullable String preCachedMediaUrl) {
+        this.preCachedMediaUrl = preCachedMediaUrl;
+    }
+
+    private static void setExt(Bid bid, JSONObject ext) {
+        JSONObject prebidJson = ext.optJSONObject("prebid");
+        Prebid prebidObject = Prebid.fromJSONObject(prebidJson);
+        setEvents(bid, prebidObject);
+        bid.prebid = prebidObject;
+        bid.mobileSdkPassThrough = MobileSdkPassThrough.create(ext);
+        bid.rewardedExt = RewardedExtParser.parse(ext);
+        bid.type = prebidObject.getType();
+    }
+
     private static String[] getStringArrayFromJson(JSONObject jsonObject, String key) {
         if (jsonObject.has(key)) {
             JSONArray jsonArray = jsonObject.optJSONArray(key);
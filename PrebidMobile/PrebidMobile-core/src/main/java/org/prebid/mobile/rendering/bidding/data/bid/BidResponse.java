@@ -17,6 +17,8 @@
 package org.prebid.mobile.rendering.bidding.data.bid;
 
 import android.content.Context;
+import android.util.JsonReader;
+import android.util.JsonToken;
 import android.util.Pair;
 
 import androidx.annotation.NonNull;
@@ -33,9 +35,13 @@ import org.prebid.mobile.rendering.models.openrtb.bidRequests.MobileSdkPassThrou
 import org.prebid.mobile.rendering.utils.helpers.Dips;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 public class BidResponse {
 
@@ -68,13 +74,23 @@ public class BidResponse {
     private boolean hasParseError = false;
     private boolean usesCache;
     private String parseError;
-    private String winningBidJson;
+    @NonNull
+    private WinningBidIndex winningBidIndex = WinningBidIndex.EMPTY;
     private AdUnitConfiguration adUnitConfiguration;
     @Nullable
+    private String responseString;
+    @Nullable
     private JSONObject responseJson;
+    // Response of several imps this response is split from, see forImp()
+    @Nullable
+    private BidResponse sourceResponse;
+    @Nullable
+    private String sourceImpId;
 
     private long creationTime;
 
+    @Nullable
+    private MobileSdkPassThrough rootMobileSdkPassThrough;
     private MobileSdkPassThrough mobileSdkPassThrough;
 
     public BidResponse(
@@ -88,6 +104,44 @@ public class BidResponse {
         parseJson(json);
     }
 
+    private BidResponse(
+            @NonNull BidResponse source,
+            @NonNull String impId,
+            @NonNull AdUnitConfiguration adUnitConfiguration
+    ) {
+        seatbids = new ArrayList<>(source.winningBidIndex.getSeatbids(impId));
+        usesCache = adUnitConfiguration.isOriginalAdUnit() || PrebidMobile.isUseCacheForReportingWithRenderingApi();
+        this.adUnitConfiguration = adUnitConfiguration;
+        sourceResponse = source;
+        sourceImpId = impId;
+
+        id = source.id;
+        cur = source.cur;
+        bidId = source.bidId;
+        customData = source.customData;
+        nbr = source.nbr;
+        ext = source.ext;
+        hasParseError = source.hasParseError;
+        parseError = source.parseError;
+        creationTime = source.creationTime;
+        rootMobileSdkPassThrough = source.rootMobileSdkPassThrough;
+
+        winningBidIndex = WinningBidIndex.build(seatbids, usesCache);
+        combineMobileSdkPassThrough();
+    }
+
+    /**
+     * Returns the part of the response for one imp of a multi-imp request. Seat bids keep only the bids
+     * of the imp, the other fields are shared. The response isn't parsed again.
+     */
+    @NonNull
+    public BidResponse forImp(
+            @NonNull String impId,
+            @NonNull AdUnitConfiguration adUnitConfiguration
+    ) {
+        return new BidResponse(this, impId, adUnitConfiguration);
+    }
+
     public String getId() {
         return id;
     }
@@ -127,95 +181,269 @@ public class BidResponse {
         return nbr;
     }
 
+    /**
+     * Returns JSON of the winning bid or the whole response if there is no winning bid.
+     */
     @Nullable
     public String getWinningBidJson() {
-        return winningBidJson;
+        Bid winningBid = winningBidIndex.getWinningBid();
+        return winningBid != null ? winningBid.getJsonString() : getResponseString();
+    }
+
+    /**
+     * Returns the response JSON. The JSON of a response split by {@link #forImp} is built on the first call.
+     */
+    @Nullable
+    public String getResponseString() {
+        if (responseString == null && sourceResponse != null) {
+            responseString = getResponseJson().toString();
+        }
+        return responseString;
     }
 
+    /**
+     * Returns the response as JSON tree. The tree is built from the response string on the first call.
+     */
     @NonNull
     public JSONObject getResponseJson() {
+        if (responseJson == null && sourceResponse != null && sourceImpId != null) {
+            try {
+                responseJson = filterResponse(sourceResponse.getResponseJson(), sourceImpId);
+            } catch (JSONException e) {
+                LogUtil.error(TAG, "Failed to split JSON: " + e.getMessage());
+            }
+        } else if (responseJson == null && responseString != null && !hasParseError) {
+            try {
+                responseJson = new JSONObject(responseString);
+            } catch (JSONException e) {
+                LogUtil.error(TAG, "Failed to parse JSON String: " + e.getMessage());
+            }
+        }
         return responseJson == null ? new JSONObject() : responseJson;
     }
 
+    /**
+     * Reads the response in one pass with {@link JsonReader}. The JSON tree isn't built,
+     * unused fields are skipped, bid JSON strings are taken from the response tree on demand.
+     */
     private void parseJson(String json) {
-        winningBidJson = json;
+        responseString = json;
 
         try {
-            responseJson = new JSONObject(json);
-            id = responseJson.optString("id");
-            cur = responseJson.optString("cur");
-            bidId = responseJson.optString("bidid");
-            customData = responseJson.optString("customdata");
-            nbr = responseJson.optInt("nbr", -1);
-
-            MobileSdkPassThrough rootMobilePassThrough = null;
-            if (responseJson.has("ext")) {
-                ext = new Ext();
-                JSONObject extJsonObject = responseJson.optJSONObject("ext");
-                ext.put(extJsonObject);
-                if (extJsonObject != null) {
-                    rootMobilePassThrough = MobileSdkPassThrough.create(extJsonObject);
+            id = "";
+            cur = "";
+            bidId = "";
+            customData = "";
+            nbr = -1;
+
+            JsonReader reader = new JsonReader(new StringReader(json));
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        id = JsonReaderHelper.nextString(reader, "");
+                        break;
+                    case "cur":
+                        cur = JsonReaderHelper.nextString(reader, "");
+                        break;
+                    case "bidid":
+                        bidId = JsonReaderHelper.nextString(reader, "");
+                        break;
+                    case "customdata":
+                        customData = JsonReaderHelper.nextString(reader, "");
+                        break;
+                    case "nbr":
+                        nbr = JsonReaderHelper.nextInt(reader, -1);
+                        break;
+                    case "ext":
+                        ext = new Ext();
+                        JSONObject extJsonObject = JsonReaderHelper.nextJSONObject(reader);
+                        ext.put(extJsonObject);
+                        if (extJsonObject != null) {
+                            rootMobileSdkPassThrough = MobileSdkPassThrough.create(extJsonObject);
+                        }
+                        break;
+                    case "seatbid":
+                        readSeatbids(reader);
+                        break;
+                    default:
+                        reader.skipValue();
                 }
             }
+            reader.endObject();
+            setBidJsonSources();
+
+            winningBidIndex = WinningBidIndex.build(seatbids, usesCache);
+            combineMobileSdkPassThrough();
+            creationTime = System.currentTimeMillis();
+        }
+        catch (IOException | IllegalStateException | JSONException e) {
+            seatbids.clear();
+            hasParseError = true;
+            parseError = "Failed to parse JSON String: " + e.getMessage();
+            LogUtil.error(TAG, parseError);
+        }
+    }
+
+    private void combineMobileSdkPassThrough() {
+        MobileSdkPassThrough bidMobilePassThrough = null;
+        Bid winningBid = getWinningBid();
+        if (winningBid != null) {
+            bidMobilePassThrough = winningBid.getMobileSdkPassThrough();
+        }
+
+        mobileSdkPassThrough = MobileSdkPassThrough.combine(bidMobilePassThrough, rootMobileSdkPassThrough);
+    }
+
+    /**
+     * Returns the response with seat bids only for the given imp. Seat bids without bids are removed.
+     */
+    private static JSONObject filterResponse(
+            @NonNull JSONObject response,
+            @NonNull String impId
+    ) throws JSONException {
+        JSONObject result = new JSONObject();
+        Iterator<String> keys = response.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            if (!"seatbid".equals(key)) {
+                result.put(key, response.get(key));
+            }
+        }
+
+        JSONArray seatBids = response.optJSONArray("seatbid");
+        if (seatBids == null) {
+            return result;
+        }
+
+        JSONArray filteredSeatBids = new JSONArray();
+        for (int i = 0; i < seatBids.length(); i++) {
+            JSONObject seatBid = seatBids.optJSONObject(i);
+            if (seatBid == null) {
+                continue;
+            }
 
-            JSONArray jsonSeatbids = responseJson.optJSONArray("seatbid");
-            if (jsonSeatbids != null) {
-                for (int i = 0; i < jsonSeatbids.length(); i++) {
-                    Seatbid seatbid = Seatbid.fromJSONObject(jsonSeatbids.optJSONObject(i));
-                    seatbids.add(seatbid);
+            JSONArray bids = seatBid.optJSONArray("bid");
+            JSONArray filteredBids = new JSONArray();
+            if (bids != null) {
+                for (int j = 0; j < bids.length(); j++) {
+                    JSONObject bid = bids.optJSONObject(j);
+                    if (bid != null && impId.equals(bid.optString("impid"))) {
+                        filteredBids.put(bid);
+                    }
                 }
             }
+            if (filteredBids.length() == 0) {
+                continue;
+            }
 
-            MobileSdkPassThrough bidMobilePassThrough = null;
-            Bid winningBid = getWinningBid();
-            if (winningBid != null) {
-                bidMobilePassThrough = winningBid.getMobileSdkPassThrough();
+            JSONObject filteredSeatBid = new JSONObject();
+            Iterator<String> seatBidKeys = seatBid.keys();
+            while (seatBidKeys.hasNext()) {
+                String key = seatBidKeys.next();
+                if (!"bid".equals(key)) {
+                    filteredSeatBid.put(key, seatBid.get(key));
+                }
             }
+            filteredSeatBid.put("bid", filteredBids);
+            filteredSeatBids.put(filteredSeatBid);
+        }
+        result.put("seatbid", filteredSeatBids);
+        return result;
+    }
 
-            mobileSdkPassThrough = MobileSdkPassThrough.combine(bidMobilePassThrough, rootMobilePassThrough);
-            creationTime = System.currentTimeMillis();
+    private void readSeatbids(JsonReader reader) throws IOException, JSONException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return;
         }
-        catch (JSONException e) {
-            hasParseError = true;
-            parseError = "Failed to parse JSON String: " + e.getMessage();
-            LogUtil.error(TAG, parseError);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            seatbids.add(Seatbid.fromJsonReader(reader));
         }
+        reader.endArray();
+    }
+
+    private void setBidJsonSources() {
+        for (int i = 0; i < seatbids.size(); i++) {
+            List<Bid> bids = seatbids.get(i).getBids();
+            for (int j = 0; j < bids.size(); j++) {
+                bids.get(j).setJsonSource(this, i, j);
+            }
+        }
+    }
+
+    /**
+     * Returns JSON of the bid at the given position of the response. The response tree is built on the first call.
+     */
+    @Nullable
+    String getBidJson(
+            int seatbidIndex,
+            int bidIndex
+    ) {
+        JSONArray seatbidsJson = getResponseJson().optJSONArray("seatbid");
+        JSONObject seatbidJson = seatbidsJson != null ? seatbidsJson.optJSONObject(seatbidIndex) : null;
+        JSONArray bidsJson = seatbidJson != null ? seatbidJson.optJSONArray("bid") : null;
+        JSONObject bidJson = bidsJson != null ? bidsJson.optJSONObject(bidIndex) : null;
+        return bidJson != null ? bidJson.toString() : null;
     }
 
     public long getCreationTime() {
         return creationTime;
     }
 
+    /**
+     * Sets the time of the original auction for the response restored from disk,
+     * so the bid expiration counts from the auction and not from parsing.
+     */
+    public void restoreCreationTime(long creationTime) {
+        this.creationTime = creationTime;
+    }
+
+    /**
+     * Returns the first bid with winning keywords. The winner is found once after parsing.
+     */
     @Nullable
     public Bid getWinningBid() {
-        if (seatbids == null) {
-            return null;
-        }
+        return winningBidIndex.getWinningBid();
+    }
 
-        for (Seatbid seatbid : seatbids) {
-            for (Bid bid : seatbid.getBids()) {
-                if (hasWinningKeywords(bid.getPrebid())) {
-                    winningBidJson = bid.getJsonString();
-                    return bid;
-                }
-            }
-        }
+    /**
+     * Returns the first bid with winning keywords for the imp.
+     */
+    @Nullable
+    public Bid getWinningBid(String impId) {
+        return winningBidIndex.getWinningBid(impId);
+    }
 
-        return null;
+    /**
+     * Returns bids of the bidder (seat) in the response order.
+     */
+    @NonNull
+    public List<Bid> getBidsOfBidder(String bidder) {
+        return winningBidIndex.getBids(bidder);
     }
 
+    /**
+     * Returns a copy of targeting keywords of all bids.
+     * Use {@link #getReadOnlyTargeting()} or {@link #getTargetingValue(String)} to avoid copying.
+     */
     @NonNull
     public HashMap<String, String> getTargeting() {
-        HashMap<String, String> keywords = new HashMap<>();
-        for (Seatbid seatbid : seatbids) {
-            for (Bid bid : seatbid.getBids()) {
-                if (bid.getPrebid() != null) {
-                    keywords.putAll(bid.getPrebid().getTargeting());
-                }
-            }
-        }
+        return new HashMap<>(winningBidIndex.getTargeting());
+    }
 
-        return keywords;
+    /**
+     * Returns read-only targeting keywords of all bids, the map is built once after parsing.
+     */
+    @NonNull
+    public Map<String, String> getReadOnlyTargeting() {
+        return winningBidIndex.getTargeting();
+    }
+
+    @Nullable
+    public String getTargetingValue(String key) {
+        return winningBidIndex.getTargeting().get(key);
     }
 
     @NonNull
@@ -258,18 +486,6 @@ public class BidResponse {
         return adUnitConfiguration;
     }
 
-    private boolean hasWinningKeywords(Prebid prebid) {
-        if (prebid == null || prebid.getTargeting().isEmpty()) {
-            return false;
-        }
-        HashMap<String, String> targeting = prebid.getTargeting();
-        boolean result = targeting.containsKey("hb_pb") && targeting.containsKey("hb_bidder");
-        if (usesCache) {
-            result = result && targeting.containsKey("hb_cache_id");
-        }
-        return result;
-    }
-
     @NonNull
     public Pair<Integer, Integer> getWinningBidWidthHeightPairDips(Context context) {
         final Bid winningBid = getWinningBid();
@@ -0,0 +1,192 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.bidding.data.bid;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads values of the bid response with {@link JsonReader} the same way as optXXX() methods of {@link JSONObject}:
+ * values of unexpected type are skipped and the fallback is returned.
+ */
+final class JsonReaderHelper {
+
+    private JsonReaderHelper() {
+    }
+
+    /**
+     * Returns string value. Numbers and booleans are returned as written in JSON.
+     */
+    @Nullable
+    static String nextString(
+            JsonReader reader,
+            @Nullable String fallback
+    ) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            default:
+                reader.skipValue();
+                return fallback;
+        }
+    }
+
+    /**
+     * Returns number value. Strings are parsed as numbers.
+     */
+    static double nextDouble(
+            JsonReader reader,
+            double fallback
+    ) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            reader.skipValue();
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(reader.nextString());
+        } catch (NumberFormatException exception) {
+            return fallback;
+        }
+    }
+
+    static int nextInt(
+            JsonReader reader,
+            int fallback
+    ) throws IOException {
+        double value = nextDouble(reader, Double.NaN);
+        return Double.isNaN(value) ? fallback : (int) value;
+    }
+
+    /**
+     * Returns the next object as {@link JSONObject}. Other values are skipped and null is returned.
+     */
+    @Nullable
+    static JSONObject nextJSONObject(JsonReader reader) throws IOException, JSONException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return null;
+        }
+        return readObject(reader);
+    }
+
+    /**
+     * Returns string array, null elements become empty strings. Not array value is skipped.
+     */
+    @NonNull
+    static String[] nextStringArray(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return new String[0];
+        }
+        List<String> result = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            result.add(nextString(reader, ""));
+        }
+        reader.endArray();
+        return result.toArray(new String[0]);
+    }
+
+    @NonNull
+    static int[] nextIntArray(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return new int[0];
+        }
+        List<Integer> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(nextInt(reader, 0));
+        }
+        reader.endArray();
+
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    private static JSONObject readObject(JsonReader reader) throws IOException, JSONException {
+        JSONObject result = new JSONObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            result.put(name, readValue(reader));
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private static JSONArray readArray(JsonReader reader) throws IOException, JSONException {
+        JSONArray result = new JSONArray();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            result.put(readValue(reader));
+        }
+        reader.endArray();
+        return result;
+    }
+
+    private static Object readValue(JsonReader reader) throws IOException, JSONException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                return readObject(reader);
+            case BEGIN_ARRAY:
+                return readArray(reader);
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NUMBER:
+                return readNumber(reader.nextString());
+            case NULL:
+                reader.nextNull();
+                return JSONObject.NULL;
+            default:
+                return reader.nextString();
+        }
+    }
+
+    /**
+     * Returns the narrowest of Integer, Long and Double, as {@link org.json.JSONTokener} does.
+     */
+    private static Object readNumber(String value) {
+        try {
+            long longValue = Long.parseLong(value);
+            if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                return (int) longValue;
+            }
+            return longValue;
+        } catch (NumberFormatException exception) {
+            return Double.parseDouble(value);
+        }
+    }
+}
@@ -16,10 +16,15 @@
 
 package org.prebid.mobile.rendering.bidding.data.bid;
 
+import android.util.JsonReader;
+import android.util.JsonToken;
+
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.Ext;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -42,6 +47,19 @@ public class Seatbid {
     protected Seatbid() {
     }
 
+    /**
+     * Copies the seat bid with other bids, e.g. bids of one imp.
+     */
+    Seatbid(
+            Seatbid source,
+            List<Bid> bids
+    ) {
+        this.bids = new ArrayList<>(bids);
+        seat = source.seat;
+        group = source.group;
+        ext = source.ext;
+    }
+
     public List<Bid> getBids() {
         return bids;
     }
@@ -85,4 +103,54 @@ public class Seatbid {
 
         return seatbid;
     }
+
+    static Seatbid fromJsonReader(JsonReader reader) throws IOException, JSONException {
+        Seatbid seatbid = new Seatbid();
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return seatbid;
+        }
+
+        seatbid.seat = "";
+        seatbid.group = -1;
+        seatbid.ext = new Ext();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "bid":
+                    readBids(reader, seatbid.bids);
+                    break;
+                case "seat":
+                    seatbid.seat = JsonReaderHelper.nextString(reader, "");
+                    break;
+                case "group":
+                    seatbid.group = JsonReaderHelper.nextInt(reader, -1);
+                    break;
+                case "ext":
+                    seatbid.ext.put(JsonReaderHelper.nextJSONObject(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return seatbid;
+    }
+
+    private static void readBids(
+            JsonReader reader,
+            List<Bid> bids
+    ) throws IOException, JSONException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            bids.add(Bid.fromJsonReader(reader));
+        }
+        reader.endArray();
+    }
 }
@@ -0,0 +1,183 @@
+package org.prebid.mobile.rendering.bidding.data.bid;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable lookups over bids of {@link BidResponse}, built once after parsing.
+ * A bid wins if its targeting contains winning keywords, the first winning bid is the winner of the response.
+ */
+class WinningBidIndex {
+
+    static final WinningBidIndex EMPTY = new WinningBidIndex(
+            null,
+            Collections.<String, Bid>emptyMap(),
+            Collections.<String, List<Seatbid>>emptyMap(),
+            Collections.<String, List<Bid>>emptyMap(),
+            Collections.<String, String>emptyMap()
+    );
+
+    @Nullable
+    private final Bid winningBid;
+    private final Map<String, Bid> winningBidsByImpId;
+    private final Map<String, List<Seatbid>> seatbidsByImpId;
+    private final Map<String, List<Bid>> bidsByBidder;
+    private final Map<String, String> targeting;
+
+    private WinningBidIndex(
+            @Nullable Bid winningBid,
+            Map<String, Bid> winningBidsByImpId,
+            Map<String, List<Seatbid>> seatbidsByImpId,
+            Map<String, List<Bid>> bidsByBidder,
+            Map<String, String> targeting
+    ) {
+        this.winningBid = winningBid;
+        this.winningBidsByImpId = winningBidsByImpId;
+        this.seatbidsByImpId = seatbidsByImpId;
+        this.bidsByBidder = bidsByBidder;
+        this.targeting = targeting;
+    }
+
+    static WinningBidIndex build(
+            @NonNull List<Seatbid> seatbids,
+            boolean usesCache
+    ) {
+        Bid winningBid = null;
+        Map<String, Bid> winningBidsByImpId = new HashMap<>();
+        Map<String, List<Seatbid>> seatbidsByImpId = new HashMap<>();
+        Map<String, List<Bid>> bidsByBidder = new HashMap<>();
+        Map<String, String> targeting = new LinkedHashMap<>();
+
+        for (Seatbid seatbid : seatbids) {
+            addSeatbidByImpId(seatbid, seatbidsByImpId);
+            for (Bid bid : seatbid.getBids()) {
+                String seat = seatbid.getSeat();
+                if (seat != null && !seat.isEmpty()) {
+                    List<Bid> bidderBids = bidsByBidder.get(seat);
+                    if (bidderBids == null) {
+                        bidderBids = new ArrayList<>();
+                        bidsByBidder.put(seat, bidderBids);
+                    }
+                    bidderBids.add(bid);
+                }
+
+                Prebid prebid = bid.getPrebid();
+                targeting.putAll(prebid.getTargeting());
+
+                if (hasWinningKeywords(prebid, usesCache)) {
+                    if (winningBid == null) {
+                        winningBid = bid;
+                    }
+                    String impId = bid.getImpId();
+                    if (impId != null && !winningBidsByImpId.containsKey(impId)) {
+                        winningBidsByImpId.put(impId, bid);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<String, List<Bid>> entry : bidsByBidder.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        for (Map.Entry<String, List<Seatbid>> entry : seatbidsByImpId.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+
+        return new WinningBidIndex(
+                winningBid,
+                Collections.unmodifiableMap(winningBidsByImpId),
+                Collections.unmodifiableMap(seatbidsByImpId),
+                Collections.unmodifiableMap(bidsByBidder),
+                Collections.unmodifiableMap(targeting)
+        );
+    }
+
+    @Nullable
+    Bid getWinningBid() {
+        return winningBid;
+    }
+
+    @Nullable
+    Bid getWinningBid(String impId) {
+        return winningBidsByImpId.get(impId);
+    }
+
+    /**
+     * Returns seat bids with only the bids of the imp. Seat bids without bids of the imp are omitted.
+     */
+    @NonNull
+    List<Seatbid> getSeatbids(String impId) {
+        List<Seatbid> result = seatbidsByImpId.get(impId);
+        return result != null ? result : Collections.<Seatbid>emptyList();
+    }
+
+    @NonNull
+    List<Bid> getBids(String bidder) {
+        List<Bid> bids = bidsByBidder.get(bidder);
+        return bids != null ? bids : Collections.<Bid>emptyList();
+    }
+
+    /**
+     * Returns targeting keywords of all bids. Later bids override keywords of earlier ones.
+     */
+    @NonNull
+    Map<String, String> getTargeting() {
+        return targeting;
+    }
+
+    /**
+     * Seat bids whose bids belong to one imp are shared, the others are split into copies per imp.
+     */
+    private static void addSeatbidByImpId(
+            Seatbid seatbid,
+            Map<String, List<Seatbid>> seatbidsByImpId
+    ) {
+        Map<String, List<Bid>> bidsByImpId = new LinkedHashMap<>();
+        for (Bid bid : seatbid.getBids()) {
+            String impId = bid.getImpId();
+            if (impId == null) {
+                continue;
+            }
+            List<Bid> impBids = bidsByImpId.get(impId);
+            if (impBids == null) {
+                impBids = new ArrayList<>();
+                bidsByImpId.put(impId, impBids);
+            }
+            impBids.add(bid);
+        }
+
+        boolean shared = bidsByImpId.size() == 1
+                && bidsByImpId.values().iterator().next().size() == seatbid.getBids().size();
+        for (Map.Entry<String, List<Bid>> entry : bidsByImpId.entrySet()) {
+            List<Seatbid> impSeatbids = seatbidsByImpId.get(entry.getKey());
+            if (impSeatbids == null) {
+                impSeatbids = new ArrayList<>();
+                seatbidsByImpId.put(entry.getKey(), impSeatbids);
+            }
+            impSeatbids.add(shared ? seatbid : new Seatbid(seatbid, entry.getValue()));
+        }
+    }
+
+    private static boolean hasWinningKeywords(
+            Prebid prebid,
+            boolean usesCache
+    ) {
+        if (prebid == null || prebid.getTargeting().isEmpty()) {
+            return false;
+        }
+        HashMap<String, String> targeting = prebid.getTargeting();
+        boolean result = targeting.containsKey("hb_pb") && targeting.containsKey("hb_bidder");
+        if (usesCache) {
+            result = result && targeting.containsKey("hb_cache_id");
+        }
+        return result;
+    }
+
+}
@@ -25,27 +25,48 @@ import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Holds BidResponses in memory until they are used
+ * Holds BidResponses in memory until they are used.
+ * <p>
+ * Each response lives until the expiration time of its winning bid (<code>exp</code>),
+ * or {@link #DEFAULT_BID_RESPONSE_LIFE_TIME} if the bid doesn't have it.
+ * When the cache is full the least recently used response is evicted.
+ * Reads don't take locks; expired and evicted responses are trimmed on the next store
+ * from the heads of the expiration and access queues, without scanning the whole cache.
  */
 public class BidResponseCache {
     private static final String TAG = BidResponseCache.class.getSimpleName();
 
     /**
-     * Maximum number of responses that are cached. This limit is intended to be very
-     * conservative; it is not recommended to cache more than a few BidResponses.
+     * Maximum number of responses that are cached. When the limit is reached, the least recently
+     * used response is evicted.
      */
     @VisibleForTesting
-    static final int MAX_SIZE = 20;
+    static final int MAX_SIZE = 50;
 
-    private static final long BID_RESPONSE_LIFE_TIME_IN_CACHE = 60 * 1000;//1 minute
+    @VisibleForTesting
+    static final long DEFAULT_BID_RESPONSE_LIFE_TIME = 60 * 1000;//1 minute
 
     @NonNull
-    private static Map<String, BidResponse> sCachedBidResponses =
-        Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, Entry> sCachedBidResponses = new ConcurrentHashMap<>();
+    private static final PriorityQueue<Entry> sExpirationQueue = new PriorityQueue<>(
+            MAX_SIZE,
+            (first, second) -> Long.compare(first.expirationTime, second.expirationTime)
+    );
+    private static final ConcurrentLinkedQueue<Access> sAccessQueue = new ConcurrentLinkedQueue<>();
+    private static final Object sTrimLock = new Object();
+    private static final AtomicLong sAccessCounter = new AtomicLong();
+
+    private static final AtomicLong sHits = new AtomicLong();
+    private static final AtomicLong sMisses = new AtomicLong();
+    private static final AtomicLong sEvictions = new AtomicLong();
+    private static final AtomicLong sExpirations = new AtomicLong();
 
     private static BidResponseCache sInstance;
 
@@ -61,7 +82,7 @@ public class BidResponseCache {
 
     /**
      * Stores the { BidResponse} in the cache. This BidResponse will live until it is retrieved via
-     * { #popBidResponse(String)}
+     * { #popBidResponse(String)}, expires or is evicted.
      *
      * @param response Parsed bid response
      */
@@ -72,7 +93,7 @@ public class BidResponseCache {
 
     /**
      * Stores the { BidResponse} in the cache. This BidResponse will live until it is retrieved via
-     * { #popBidResponse(String)}
+     * { #popBidResponse(String)}, expires or is evicted.
      *
      * @param key      Custom key to store response
      * @param response Parsed bid response
@@ -81,15 +102,6 @@ public class BidResponseCache {
         String key,
         BidResponse response
     ) {
-        trimCache();
-        // Ignore request when max size is reached.
-        if (sCachedBidResponses.size() >= MAX_SIZE) {
-            LogUtil.error(
-                TAG,
-                "Unable to cache BidResponse. Please destroy some via #destroy() and try again."
-            );
-            return;
-        }
         if (TextUtils.isEmpty(key)) {
             LogUtil.error(
                 TAG,
@@ -97,8 +109,18 @@ public class BidResponseCache {
             );
             return;
         }
+        if (response == null) {
+            LogUtil.error(TAG, "Unable to cache BidResponse. Response is null.");
+            return;
+        }
 
-        sCachedBidResponses.put(key, response);
+        Entry entry = new Entry(key, response, getExpirationTime(response));
+        synchronized (sTrimLock) {
+            sCachedBidResponses.put(key, entry);
+            sExpirationQueue.add(entry);
+            recordAccess(entry);
+            trimCache();
+        }
         LogUtil.debug(TAG, "Cached ad count after storing: " + getCachedResponsesCount());
     }
 
@@ -110,11 +132,15 @@ public class BidResponseCache {
 
         BidResponse bidResponse = null;
 
-        if (sCachedBidResponses.containsKey(responseId)) {
-            //check if the available BidResponse is not stale
-
-            bidResponse = sCachedBidResponses.remove(responseId);
+        Entry entry = responseId != null ? sCachedBidResponses.remove(responseId) : null;
+        if (entry != null && !entry.isExpired(System.currentTimeMillis())) {
+            bidResponse = entry.response;
+            sHits.incrementAndGet();
         } else {
+            if (entry != null) {
+                sExpirations.incrementAndGet();
+            }
+            sMisses.incrementAndGet();
             LogUtil.warning(TAG, "No cached ad to retrieve in the final map");
         }
         LogUtil.debug(TAG, "Cached ad count after popping: " + getCachedResponsesCount());
@@ -122,49 +148,84 @@ public class BidResponseCache {
     }
 
     @Nullable
-    public HashMap<String, String> getKeywords(String responseId) {
-        if (sCachedBidResponses.containsKey(responseId)) {
-            BidResponse bidResponse = sCachedBidResponses.get(responseId);
-            if (bidResponse != null) {
-                return bidResponse.getTargeting();
-            }
+    public Map<String, String> getKeywords(String responseId) {
+        Entry entry = responseId != null ? sCachedBidResponses.get(responseId) : null;
+        if (entry != null && !entry.isExpired(System.currentTimeMillis())) {
+            recordAccess(entry);
+            return entry.response.getReadOnlyTargeting();
         }
         return null;
     }
 
+    @NonNull
+    public Stats getStats() {
+        return new Stats(
+                sHits.get(),
+                sMisses.get(),
+                sEvictions.get(),
+                sExpirations.get(),
+                getCachedResponsesCount()
+        );
+    }
+
+    /**
+     * Removes expired responses and evicts least recently used ones while the cache is over the limit.
+     * Only heads of the queues are visited, stale queue records are dropped on the way.
+     */
     @VisibleForTesting
-    static synchronized void trimCache() {
-        final Iterator<Map.Entry<String, BidResponse>> iterator = sCachedBidResponses.entrySet().iterator();
-        while (iterator.hasNext()) {
-            final Map.Entry<String, BidResponse> entry = iterator.next();
-
-            // If the response was removed from memory,
-            // discard the entire associated Config.
-            if (entry.getValue() == null) {
-                iterator.remove();
+    static void trimCache() {
+        synchronized (sTrimLock) {
+            long now = System.currentTimeMillis();
+            Entry expiring = sExpirationQueue.peek();
+            while (expiring != null && (expiring.isExpired(now) || !isCached(expiring))) {
+                sExpirationQueue.poll();
+                if (sCachedBidResponses.remove(expiring.key, expiring)) {
+                    sExpirations.incrementAndGet();
+                }
+                expiring = sExpirationQueue.peek();
+            }
+
+            while (sCachedBidResponses.size() > MAX_SIZE) {
+                Access access = sAccessQueue.poll();
+                if (access == null) {
+                    break;
+                }
+                if (access.isLatest() && sCachedBidResponses.remove(access.entry.key, access.entry)) {
+                    sEvictions.incrementAndGet();
+                    LogUtil.debug(TAG, "Evicted least recently used BidResponse: " + access.entry.key);
+                }
+            }
+
+            // Records of popped and re-accessed entries are dropped when queues grow too much
+            if (sExpirationQueue.size() > MAX_SIZE * 2) {
+                sExpirationQueue.removeIf(entry -> !isCached(entry));
+            }
+            if (sAccessQueue.size() > MAX_SIZE * 4) {
+                sAccessQueue.removeIf(access -> !access.isLatest() || !isCached(access.entry));
             }
-        }
-        if (!sCachedBidResponses.isEmpty()) {
-            removeStaleBidResponses(sCachedBidResponses);
         }
     }
 
-    private static void removeStaleBidResponses(Map<String, BidResponse> bidResponseMap) {
-        final Iterator<Map.Entry<String, BidResponse>> iterator = bidResponseMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            final Map.Entry<String, BidResponse> entry = iterator.next();
+    private static long getExpirationTime(BidResponse response) {
+        Integer expirationTimeSeconds = response.getExpirationTimeSeconds();
+        long lifeTime = expirationTimeSeconds != null && expirationTimeSeconds > 0
+                ? expirationTimeSeconds * 1000L
+                : DEFAULT_BID_RESPONSE_LIFE_TIME;
+        long creationTime = response.getCreationTime();
+        if (creationTime <= 0) {
+            creationTime = System.currentTimeMillis();
+        }
+        return creationTime + lifeTime;
+    }
 
-            // If the response was removed from memory,
-            // discard the entire associated Config.
-            if (entry.getValue() != null) {
-                long saveTimeInMillis = entry.getValue().getCreationTime();
+    private static void recordAccess(Entry entry) {
+        long order = sAccessCounter.incrementAndGet();
+        entry.lastAccess = order;
+        sAccessQueue.add(new Access(entry, order));
+    }
 
-                // Checking if the current time is past the expiration time
-                if (System.currentTimeMillis() > (saveTimeInMillis + BID_RESPONSE_LIFE_TIME_IN_CACHE)) {
-                    iterator.remove();
-                }
-            }
-        }
+    private static boolean isCached(Entry entry) {
+        return sCachedBidResponses.get(entry.key) == entry;
     }
 
     private static int getCachedResponsesCount() {
@@ -173,11 +234,118 @@ public class BidResponseCache {
 
     @VisibleForTesting
     static void clearAll() {
-        sCachedBidResponses.clear();
+        synchronized (sTrimLock) {
+            sCachedBidResponses.clear();
+            sExpirationQueue.clear();
+            sAccessQueue.clear();
+            sHits.set(0);
+            sMisses.set(0);
+            sEvictions.set(0);
+            sExpirations.set(0);
+        }
     }
 
     @VisibleForTesting
     static Map<String, BidResponse> getCachedBidResponses() {
-        return sCachedBidResponses;
+        Map<String, BidResponse> result = new HashMap<>();
+        for (Map.Entry<String, Entry> entry : sCachedBidResponses.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().response);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static class Entry {
+
+        private final String key;
+        private final BidResponse response;
+        private final long expirationTime;
+        private volatile long lastAccess;
+
+        private Entry(
+                String key,
+                BidResponse response,
+                long expirationTime
+        ) {
+            this.key = key;
+            this.response = response;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+
+    }
+
+    private static class Access {
+
+        private final Entry entry;
+        private final long order;
+
+        private Access(
+                Entry entry,
+                long order
+        ) {
+            this.entry = entry;
+            this.order = order;
+        }
+
+        private boolean isLatest() {
+            return entry.lastAccess == order;
+        }
+
+    }
+
+    /**
+     * Snapshot of cache counters since the last clear.
+     */
+    public static class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final int entries;
+
+        private Stats(
+                long hits,
+                long misses,
+                long evictions,
+                long expirations,
+                int entries
+        ) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.entries = entries;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Returns count of responses evicted because the cache was full.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Returns count of responses removed because their bids expired.
+         */
+        public long getExpirations() {
+            return expirations;
+        }
+
+        public int getEntries() {
+            return entries;
+        }
+
     }
-}
\ No newline at end of file
+}
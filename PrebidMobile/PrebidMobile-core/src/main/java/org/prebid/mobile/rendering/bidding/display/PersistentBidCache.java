@@ -0,0 +1,405 @@
+package org.prebid.mobile.rendering.bidding.display;
+
+import android.content.Context;
+
+import androidx.annotation.AnyThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the last unused bid response of each ad unit on disk, so it can be shown right after a cold start
+ * without waiting for an auction.
+ * <p>
+ * A record is written per config id in a binary format: magic, version, expiration time, creation time,
+ * config id and gzipped response. The creation time is restored on the parsed response, so its bid expiration
+ * counts from the original auction. Responses without bid expiration (<code>exp</code>) are not stored, the lifetime is capped
+ * with {@link #MAX_LIFE_TIME_SECONDS}. The directory is bounded by {@link #MAX_ENTRIES} and {@link #MAX_BYTES},
+ * the oldest records are removed first. A record is removed when it's read, so a bid is never served twice.
+ * <p>
+ * Methods except {@link #markConsumed} make disk operations and must be called on a background thread.
+ */
+public class PersistentBidCache {
+
+    private static final String TAG = PersistentBidCache.class.getSimpleName();
+
+    private static final String DIRECTORY_NAME = "prebid_bid_cache";
+    private static final String FILE_PREFIX = "bid_";
+    private static final String FILE_EXTENSION = ".bin";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private static final int MAGIC = 0x50424331; // PBC1
+    private static final int VERSION = 2;
+
+    @VisibleForTesting
+    static final int MAX_ENTRIES = 10;
+    @VisibleForTesting
+    static final long MAX_BYTES = 512 * 1024;
+    @VisibleForTesting
+    static final long MAX_LIFE_TIME_SECONDS = 30 * 60;
+
+    private static PersistentBidCache instance;
+
+    @Nullable
+    private File directory;
+    // Shown responses by config id. The record on disk may be removed or even written after the show,
+    // so these responses aren't stored or taken until another response replaces them.
+    private final Map<String, BidResponse> consumedResponses = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    PersistentBidCache(@Nullable File directory) {
+        this.directory = directory;
+    }
+
+    public static synchronized PersistentBidCache getInstance() {
+        if (instance == null) {
+            instance = new PersistentBidCache(null);
+        }
+        return instance;
+    }
+
+    /**
+     * Stores the response for the config id, replacing the previous one.
+     *
+     * @param responseString raw response, must be the source of the parsed response
+     */
+    @WorkerThread
+    public synchronized void save(
+            @Nullable String configId,
+            @NonNull String responseString,
+            @NonNull BidResponse response
+    ) {
+        File directory = getDirectory();
+        if (directory == null || configId == null || configId.isEmpty()) {
+            return;
+        }
+
+        BidResponse consumedResponse = consumedResponses.get(configId);
+        if (consumedResponse == response) {
+            LogUtil.debug(TAG, "Shown bid response isn't stored on disk.");
+            return;
+        }
+
+        Integer expirationTimeSeconds = response.getExpirationTimeSeconds();
+        if (expirationTimeSeconds == null || expirationTimeSeconds <= 0) {
+            LogUtil.debug(TAG, "Bid response without expiration isn't stored on disk.");
+            return;
+        }
+        long lifeTimeSeconds = Math.min(expirationTimeSeconds, MAX_LIFE_TIME_SECONDS);
+        long creationTime = response.getCreationTime() > 0 ? response.getCreationTime() : System.currentTimeMillis();
+        long expirationTime = creationTime + lifeTimeSeconds * 1000;
+
+        File file = getFile(directory, configId);
+        File tempFile = new File(directory, file.getName() + TEMP_EXTENSION);
+        try {
+            writeRecord(tempFile, configId, expirationTime, creationTime, responseString);
+            if (!tempFile.renameTo(file)) {
+                throw new IOException("Can't rename " + tempFile.getName());
+            }
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "Can't store bid response: " + exception.getMessage());
+            delete(tempFile);
+            return;
+        }
+        if (consumedResponse != null) {
+            consumedResponses.remove(configId, consumedResponse);
+        }
+        trim(directory);
+    }
+
+    /**
+     * Returns the stored response for the config id and removes it.
+     *
+     * @return null if there is no response or it has expired
+     */
+    @Nullable
+    @WorkerThread
+    public synchronized StoredResponse take(@Nullable String configId) {
+        File directory = getDirectory();
+        if (directory == null || configId == null || configId.isEmpty()) {
+            return null;
+        }
+
+        File file = getFile(directory, configId);
+        if (!file.exists()) {
+            return null;
+        }
+
+        Record record = null;
+        try {
+            record = readRecord(file);
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "Can't read bid response: " + exception.getMessage());
+        }
+        delete(file);
+
+        if (record == null || !configId.equals(record.configId)) {
+            return null;
+        }
+        BidResponse consumedResponse = consumedResponses.get(configId);
+        if (consumedResponse != null && record.responseString.equals(consumedResponse.getResponseString())) {
+            LogUtil.debug(TAG, "Stored bid response has been shown.");
+            consumedResponses.remove(configId, consumedResponse);
+            return null;
+        }
+        if (record.isExpired(System.currentTimeMillis())) {
+            LogUtil.debug(TAG, "Stored bid response has expired.");
+            return null;
+        }
+        return new StoredResponse(record.responseString, record.creationTime);
+    }
+
+    /**
+     * Marks the response as shown without disk operations, so {@link #take} doesn't return it
+     * even if {@link #remove} hasn't run yet.
+     */
+    @AnyThread
+    public void markConsumed(
+            @Nullable String configId,
+            @Nullable BidResponse response
+    ) {
+        if (configId != null && !configId.isEmpty() && response != null) {
+            consumedResponses.put(configId, response);
+        }
+    }
+
+    /**
+     * Removes the stored response for the config id, e.g. when its bid has been shown.
+     */
+    @WorkerThread
+    public synchronized void remove(@Nullable String configId) {
+        File directory = getDirectory();
+        if (directory != null && configId != null && !configId.isEmpty()) {
+            delete(getFile(directory, configId));
+        }
+    }
+
+    @WorkerThread
+    public synchronized void clear() {
+        File directory = getDirectory();
+        if (directory == null) {
+            return;
+        }
+        consumedResponses.clear();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                delete(file);
+            }
+        }
+    }
+
+    @Nullable
+    private File getDirectory() {
+        if (directory == null) {
+            Context context = PrebidContextHolder.getContext();
+            if (context == null) {
+                LogUtil.warning(TAG, "Context is null. Bid cache is not available.");
+                return null;
+            }
+            directory = new File(context.getFilesDir(), DIRECTORY_NAME);
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            LogUtil.error(TAG, "Can't create bid cache directory.");
+            return null;
+        }
+        return directory;
+    }
+
+    /**
+     * Removes expired and unreadable records, then the oldest ones while the limits are exceeded.
+     */
+    private void trim(File directory) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_EXTENSION));
+        if (files == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<File> validFiles = new ArrayList<>(files.length);
+        for (File file : files) {
+            long expirationTime;
+            try {
+                expirationTime = readExpirationTime(file);
+            } catch (IOException exception) {
+                expirationTime = 0;
+            }
+            if (now > expirationTime) {
+                delete(file);
+            } else {
+                validFiles.add(file);
+            }
+        }
+
+        Collections.sort(validFiles, (first, second) -> Long.compare(first.lastModified(), second.lastModified()));
+        long bytes = 0;
+        for (File file : validFiles) {
+            bytes += file.length();
+        }
+        int index = 0;
+        while (index < validFiles.size() && (validFiles.size() - index > MAX_ENTRIES || bytes > MAX_BYTES)) {
+            File oldest = validFiles.get(index++);
+            bytes -= oldest.length();
+            delete(oldest);
+        }
+    }
+
+    private static File getFile(
+            File directory,
+            String configId
+    ) {
+        // Collisions are resolved by the config id stored in the record
+        return new File(directory, FILE_PREFIX + Integer.toHexString(configId.hashCode()) + FILE_EXTENSION);
+    }
+
+    private static void writeRecord(
+            File file,
+            String configId,
+            long expirationTime,
+            long creationTime,
+            String responseString
+    ) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(responseString.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeLong(expirationTime);
+            output.writeLong(creationTime);
+            output.writeUTF(configId);
+            output.writeInt(compressed.size());
+            compressed.writeTo(output);
+        }
+    }
+
+    private static long readExpirationTime(File file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            readHeader(input);
+            return input.readLong();
+        }
+    }
+
+    private static Record readRecord(File file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            readHeader(input);
+            long expirationTime = input.readLong();
+            long creationTime = input.readLong();
+            String configId = input.readUTF();
+            int length = input.readInt();
+            if (length < 0 || length > MAX_BYTES) {
+                throw new IOException("Invalid record length: " + length);
+            }
+            byte[] compressed = new byte[length];
+            input.readFully(compressed);
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream(length * 4);
+            try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = gzip.read(buffer)) != -1) {
+                    result.write(buffer, 0, read);
+                }
+            }
+            return new Record(configId, expirationTime, creationTime, new String(result.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void readHeader(DataInputStream input) throws IOException {
+        int magic = input.readInt();
+        int version = input.readByte();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException("Unsupported record format.");
+        }
+    }
+
+    private static void delete(File file) {
+        if (file.exists() && !file.delete()) {
+            LogUtil.warning(TAG, "Can't delete " + file.getName());
+        }
+    }
+
+    /**
+     * Response read from disk with the time of its auction.
+     */
+    public static class StoredResponse {
+
+        private final String responseString;
+        private final long creationTime;
+
+        private StoredResponse(
+                String responseString,
+                long creationTime
+        ) {
+            this.responseString = responseString;
+            this.creationTime = creationTime;
+        }
+
+        @NonNull
+        public String getResponseString() {
+            return responseString;
+        }
+
+        /**
+         * Returns the time of the original auction in milliseconds since epoch.
+         */
+        public long getCreationTime() {
+            return creationTime;
+        }
+
+    }
+
+    private static class Record {
+
+        private final String configId;
+        private final long expirationTime;
+        private final long creationTime;
+        private final String responseString;
+
+        private Record(
+                String configId,
+                long expirationTime,
+                long creationTime,
+                String responseString
+        ) {
+            this.configId = configId;
+            this.expirationTime = expirationTime;
+            this.creationTime = creationTime;
+            this.responseString = responseString;
+        }
+
+        private boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+
+    }
+
+}
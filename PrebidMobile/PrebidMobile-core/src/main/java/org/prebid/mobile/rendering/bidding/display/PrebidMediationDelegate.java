@@ -3,7 +3,7 @@ package org.prebid.mobile.rendering.bidding.display;
 import androidx.annotation.Nullable;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * PrebidMediationDelegate is a delegate of custom mediation platform.
@@ -13,7 +13,7 @@ public interface PrebidMediationDelegate {
     /**
      * Sets keywords into a given mediation ad object
      */
-    public void handleKeywordsUpdate(@Nullable HashMap<String, String> keywords);
+    public void handleKeywordsUpdate(@Nullable Map<String, String> keywords);
 
     /**
      * Sets response into a given mediation ad object
@@ -19,7 +19,10 @@ package org.prebid.mobile.rendering.bidding.loader;
 import static java.lang.Math.max;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import org.json.JSONException;
+import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidEventDelegate;
 import org.prebid.mobile.PrebidMobile;
@@ -27,15 +30,17 @@ import org.prebid.mobile.api.data.AdFormat;
 import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.bidding.display.PersistentBidCache;
 import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.MobileSdkPassThrough;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
-import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.networking.modelcontrollers.BidRequester;
 import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
+import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
 import org.prebid.mobile.rendering.utils.helpers.RefreshTimerTask;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BidLoader {
@@ -52,24 +57,30 @@ public class BidLoader {
     private BidRequesterListener requestListener;
     private BidRefreshListener bidRefreshListener;
 
-    private final ResponseHandler responseHandler = new ResponseHandler() {
+    @Nullable
+    private PrebidAuctionBatch auctionBatch;
+    @Nullable
+    private PrebidAuctionBatch sentAuctionBatch;
+    private boolean loadedFromDisk = false;
+    // Rendering controls of the configuration copied on the main thread for the current load
+    private volatile MobileSdkPassThrough renderingControls;
+
+    private final PrebidAuctionBatch.AdUnitResponseHandler responseHandler = new PrebidAuctionBatch.AdUnitResponseHandler() {
         @Override
         public void onResponse(BaseNetworkTask.GetUrlResult response) {
-            currentlyLoading.set(false);
-            BidResponse bidResponse = new BidResponse(response.responseString, adConfiguration);
-            if (bidResponse.hasParseError()) {
-                failedToLoadBid(bidResponse.getParseError());
-                return;
-            }
-            checkTmax(response, bidResponse);
-            updateAdUnitConfiguration(bidResponse);
-            if (requestListener != null) {
-                setupRefreshTimer();
-                requestListener.onFetchCompleted(bidResponse);
-            } else {
-                cancelRefresh();
-            }
-            callEventDelegate(bidResponse);
+            AdUnitConfiguration configuration = adConfiguration;
+            MobileSdkPassThrough controls = renderingControls != null
+                    ? renderingControls
+                    : MobileSdkPassThrough.fromConfiguration(configuration);
+            TasksManager.getInstance().execute(TaskLane.AUCTION, () -> processResponse(response, configuration, controls));
+        }
+
+        @Override
+        public void onBidResponse(
+                @NonNull BidResponse bidResponse,
+                @NonNull BaseNetworkTask.GetUrlResult batchResult
+        ) {
+            processBidResponse(batchResult, bidResponse, bidResponse.getAdUnitConfiguration(), renderingControls);
         }
 
         @Override
@@ -114,12 +125,21 @@ public class BidLoader {
         this.adConfiguration = adConfiguration;
         this.requestListener = requestListener;
         currentlyLoading = new AtomicBoolean();
+        // The first request sends the WebView user agent if it's fetched by then
+        AppInfoManager.prefetchUserAgent();
     }
 
     public void setBidRefreshListener(BidRefreshListener bidRefreshListener) {
         this.bidRefreshListener = bidRefreshListener;
     }
 
+    /**
+     * Sets the batch for the next load. Only one load goes through the batch, refreshes make their own requests.
+     */
+    public void setAuctionBatch(@Nullable PrebidAuctionBatch auctionBatch) {
+        this.auctionBatch = auctionBatch;
+    }
+
     public void load() {
         if (requestListener == null) {
             LogUtil.error(TAG, "Listener is null");
@@ -187,12 +207,127 @@ public class BidLoader {
 
     private void sendBidRequest(AdUnitConfiguration config) {
         currentlyLoading.set(true);
+        loadedFromDisk = false;
+        renderingControls = MobileSdkPassThrough.fromConfiguration(config);
+
+        PrebidAuctionBatch batch = auctionBatch;
+        auctionBatch = null;
+        if (batch != null && batch.add(config, responseHandler)) {
+            sentAuctionBatch = batch;
+            return;
+        }
+        sentAuctionBatch = null;
+
+        if (config.isUsePersistentBidCache()) {
+            MobileSdkPassThrough controls = renderingControls;
+            TasksManager.getInstance().execute(TaskLane.DISK_IO, () -> loadStoredResponse(config, controls));
+            return;
+        }
+        startBidRequest(config);
+    }
+
+    private void startBidRequest(AdUnitConfiguration config) {
         if (bidRequester == null) {
             bidRequester = new BidRequester(config, new AdRequestInput(), responseHandler);
         }
         bidRequester.startAdRequest();
     }
 
+    /**
+     * Reads the unused response stored on disk by previous loads, otherwise starts the auction.
+     */
+    private void loadStoredResponse(
+            AdUnitConfiguration configuration,
+            MobileSdkPassThrough renderingControls
+    ) {
+        PersistentBidCache.StoredResponse storedResponse = PersistentBidCache.getInstance().take(configuration.getConfigId());
+        if (storedResponse != null) {
+            TasksManager.getInstance().execute(
+                    TaskLane.AUCTION,
+                    () -> processStoredResponse(storedResponse, configuration, renderingControls)
+            );
+            return;
+        }
+        TasksManager.getInstance().executeOnMainThread(() -> startBidRequest(configuration));
+    }
+
+    /**
+     * Delivers the stored response if it's still valid, otherwise starts the auction.
+     */
+    private void processStoredResponse(
+            PersistentBidCache.StoredResponse storedResponse,
+            AdUnitConfiguration configuration,
+            MobileSdkPassThrough renderingControls
+    ) {
+        BidResponse bidResponse = new BidResponse(storedResponse.getResponseString(), configuration);
+        if (!bidResponse.hasParseError() && bidResponse.getWinningBid() != null) {
+            bidResponse.restoreCreationTime(storedResponse.getCreationTime());
+            LogUtil.debug(TAG, "Bid response is loaded from disk.");
+            MobileSdkPassThrough combinedParameters = combinePassThrough(bidResponse, renderingControls);
+            TasksManager.getInstance().executeOnMainThread(() -> {
+                loadedFromDisk = true;
+                deliverBidResponse(bidResponse, combinedParameters);
+            });
+            return;
+        }
+        TasksManager.getInstance().executeOnMainThread(() -> startBidRequest(configuration));
+    }
+
+    /**
+     * Parses the response and combines pass through parameters on the background thread,
+     * then delivers the result on the main thread.
+     */
+    private void processResponse(
+            BaseNetworkTask.GetUrlResult response,
+            AdUnitConfiguration configuration,
+            MobileSdkPassThrough renderingControls
+    ) {
+        BidResponse bidResponse = new BidResponse(response.responseString, configuration);
+        if (bidResponse.hasParseError()) {
+            TasksManager.getInstance().executeOnMainThread(() -> failedToLoadBid(bidResponse.getParseError()));
+            return;
+        }
+        processBidResponse(response, bidResponse, configuration, renderingControls);
+    }
+
+    /**
+     * Same as {@link #processResponse}, but for the response already parsed, e.g. by {@link PrebidAuctionBatch}.
+     */
+    private void processBidResponse(
+            BaseNetworkTask.GetUrlResult response,
+            BidResponse bidResponse,
+            AdUnitConfiguration configuration,
+            MobileSdkPassThrough renderingControls
+    ) {
+        checkTmax(response, bidResponse);
+        if (configuration.isUsePersistentBidCache() && bidResponse.getWinningBid() != null) {
+            String configId = configuration.getConfigId();
+            TasksManager.getInstance().execute(
+                    TaskLane.DISK_IO,
+                    () -> PersistentBidCache.getInstance().save(configId, bidResponse.getResponseString(), bidResponse)
+            );
+        }
+        MobileSdkPassThrough combinedParameters = combinePassThrough(bidResponse, renderingControls);
+        TasksManager.getInstance().executeOnMainThread(() -> deliverBidResponse(bidResponse, combinedParameters));
+    }
+
+    private void deliverBidResponse(
+            BidResponse bidResponse,
+            MobileSdkPassThrough combinedParameters
+    ) {
+        currentlyLoading.set(false);
+        if (adConfiguration != null) {
+            combinedParameters.modifyAdUnitConfiguration(adConfiguration);
+        }
+        if (requestListener != null) {
+            setupRefreshTimer();
+            requestListener.onFetchCompleted(bidResponse);
+        } else {
+            cancelRefresh();
+        }
+        callEventDelegate(bidResponse);
+    }
+
     private void failedToLoadBid(String msg) {
         LogUtil.error(TAG, "Invalid bid response: " + msg);
         currentlyLoading.set(false);
@@ -211,9 +346,9 @@ public class BidLoader {
             BaseNetworkTask.GetUrlResult response,
             BidResponse parsedResponse
     ) {
-        Map<String, Object> extMap = parsedResponse.getExt().getMap();
-        if (!sTimeoutHasChanged && extMap.containsKey(TMAX_REQUEST_KEY)) {
-            int tmaxRequest = (int) extMap.get(TMAX_REQUEST_KEY);
+        Object tmaxValue = parsedResponse.getExt().getMap().get(TMAX_REQUEST_KEY);
+        if (!sTimeoutHasChanged && tmaxValue instanceof Number) {
+            int tmaxRequest = ((Number) tmaxValue).intValue();
             // adding 200ms as safe time
             int timeout = (int) Math.min(response.responseTime + tmaxRequest + 200, BaseNetworkTask.TIMEOUT_DEFAULT);
             PrebidMobile.setTimeoutMillis(timeout);
@@ -223,21 +358,51 @@ public class BidLoader {
 
     /**
      * Gets mobile sdk pass through object, combines it with user's ad unit
-     * rendering controls settings in configuration, modifies ad unit
-     * configuration, sets combined parameters to bid response.
+     * rendering controls copied from configuration, sets combined parameters to bid response.
+     * Combined parameters must be applied to ad unit configuration on the main thread.
      */
-    private void updateAdUnitConfiguration(@NonNull BidResponse bidResponse) {
+    @NonNull
+    private static MobileSdkPassThrough combinePassThrough(
+            @NonNull BidResponse bidResponse,
+            @NonNull MobileSdkPassThrough renderingControls
+    ) {
         MobileSdkPassThrough serverParameters = bidResponse.getMobileSdkPassThrough();
-        MobileSdkPassThrough combinedParameters = MobileSdkPassThrough.combine(serverParameters, adConfiguration);
-        combinedParameters.modifyAdUnitConfiguration(adConfiguration);
+        MobileSdkPassThrough combinedParameters = MobileSdkPassThrough.combine(serverParameters, renderingControls);
         bidResponse.setMobileSdkPassThrough(combinedParameters);
+        return combinedParameters;
     }
 
     private void callEventDelegate(BidResponse response) {
         PrebidEventDelegate eventDelegate = PrebidMobile.getEventDelegate();
         if (eventDelegate == null) return;
 
-        new Thread(() -> eventDelegate.onBidResponse(bidRequester.getBuiltRequest(), response.getResponseJson())).start();
+        // Only the string is taken on the main thread, it's parsed on the background lane
+        String requestString;
+        if (loadedFromDisk) {
+            requestString = null;
+        } else if (sentAuctionBatch != null) {
+            requestString = sentAuctionBatch.getBuiltRequestString();
+        } else {
+            requestString = bidRequester.getBuiltRequestString();
+        }
+        TasksManager.getInstance().execute(
+                TaskLane.TRACKING,
+                () -> eventDelegate.onBidResponse(parseRequest(requestString), response.getResponseJson())
+        );
+    }
+
+    @NonNull
+    private static JSONObject parseRequest(@Nullable String requestString) {
+        if (requestString == null || requestString.isEmpty()) {
+            return new JSONObject();
+        }
+
+        try {
+            return new JSONObject(requestString);
+        } catch (JSONException exception) {
+            LogUtil.error(TAG, "Can't parse built request: " + exception.getMessage());
+            return new JSONObject();
+        }
     }
 
     public interface BidRefreshListener {
@@ -0,0 +1,205 @@
+package org.prebid.mobile.rendering.bidding.loader;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.ResponseHandler;
+import org.prebid.mobile.rendering.networking.modelcontrollers.BatchBidRequester;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects several ad units into one multi-imp auction.
+ * <p>
+ * Ad units join the batch via <code>setAuctionBatch()</code> and their first <code>fetchDemand()</code> / <code>loadAd()</code>.
+ * {@link #send()} makes one request for all collected ad units, parses the response once and splits seat bids
+ * back to each ad unit by <code>impid</code>.
+ * Request level fields (app, device, user, regs) are taken from the first ad unit.
+ * The batch is single-use, ad units which join after {@link #send()} and refreshes make their own requests.
+ */
+public class PrebidAuctionBatch {
+
+    private static final String TAG = PrebidAuctionBatch.class.getSimpleName();
+
+    private final List<Entry> entries = new ArrayList<>();
+    private boolean sent = false;
+
+    @Nullable
+    private BatchBidRequester bidRequester;
+
+    /**
+     * Adds the ad unit to the batch.
+     *
+     * @return false if the batch has already been sent
+     */
+    public synchronized boolean add(
+            @NonNull AdUnitConfiguration configuration,
+            @NonNull AdUnitResponseHandler responseHandler
+    ) {
+        if (sent) {
+            return false;
+        }
+        entries.add(new Entry(configuration, responseHandler));
+        return true;
+    }
+
+    /**
+     * Sends one request for all collected ad units. Next calls are ignored.
+     */
+    public void send() {
+        List<Entry> validEntries = new ArrayList<>();
+        List<Entry> invalidEntries = new ArrayList<>();
+        synchronized (this) {
+            if (sent) {
+                LogUtil.warning(TAG, "Batch has already been sent.");
+                return;
+            }
+            sent = true;
+
+            for (Entry entry : entries) {
+                if (TextUtils.isEmpty(entry.configuration.getConfigId())) {
+                    invalidEntries.add(entry);
+                } else {
+                    validEntries.add(entry);
+                }
+            }
+            entries.clear();
+        }
+
+        // Listeners are notified without the lock, they may call back into the batch
+        for (Entry entry : invalidEntries) {
+            entry.responseHandler.onError("No configuration id specified.", 0);
+        }
+
+        if (validEntries.isEmpty()) {
+            LogUtil.debug(TAG, "Batch is empty. Nothing to send.");
+            return;
+        }
+
+        List<AdUnitConfiguration> configurations = new ArrayList<>(validEntries.size());
+        for (Entry entry : validEntries) {
+            configurations.add(entry.configuration);
+        }
+
+        BatchBidRequester requester = new BatchBidRequester(configurations, new ResponseSplitter(validEntries));
+        synchronized (this) {
+            bidRequester = requester;
+        }
+        requester.startAdRequest();
+    }
+
+    public synchronized boolean isSent() {
+        return sent;
+    }
+
+    /**
+     * Returns the sent request or null if the batch hasn't been sent yet.
+     */
+    @Nullable
+    public synchronized String getBuiltRequestString() {
+        return bidRequester != null ? bidRequester.getBuiltRequestString() : null;
+    }
+
+    public synchronized void destroy() {
+        sent = true;
+        entries.clear();
+        if (bidRequester != null) {
+            bidRequester.destroy();
+        }
+    }
+
+    /**
+     * Receives the part of the batch response for one ad unit.
+     */
+    public interface AdUnitResponseHandler extends ResponseHandler {
+
+        /**
+         * Called on the background thread with the response already split for the ad unit.
+         *
+         * @param batchResult network result of the whole batch
+         */
+        void onBidResponse(
+                @NonNull BidResponse bidResponse,
+                @NonNull BaseNetworkTask.GetUrlResult batchResult
+        );
+
+    }
+
+    private static class Entry {
+
+        private final AdUnitConfiguration configuration;
+        private final AdUnitResponseHandler responseHandler;
+
+        private Entry(
+                AdUnitConfiguration configuration,
+                AdUnitResponseHandler responseHandler
+        ) {
+            this.configuration = configuration;
+            this.responseHandler = responseHandler;
+        }
+
+    }
+
+    private class ResponseSplitter implements ResponseHandler {
+
+        private final List<Entry> entries;
+
+        private ResponseSplitter(List<Entry> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public void onResponse(BaseNetworkTask.GetUrlResult response) {
+            TasksManager.getInstance().execute(TaskLane.AUCTION, () -> splitResponse(response));
+        }
+
+        private void splitResponse(BaseNetworkTask.GetUrlResult response) {
+            List<String> impIds;
+            synchronized (PrebidAuctionBatch.this) {
+                impIds = bidRequester != null ? bidRequester.getImpIds() : new ArrayList<>();
+            }
+
+            BidResponse batchResponse = new BidResponse(response.responseString, entries.get(0).configuration);
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                if (batchResponse.hasParseError() || i >= impIds.size()) {
+                    // The response can't be split, the ad unit handles it as its own
+                    entry.responseHandler.onResponse(response);
+                } else {
+                    entry.responseHandler.onBidResponse(batchResponse.forImp(impIds.get(i), entry.configuration), response);
+                }
+            }
+        }
+
+        @Override
+        public void onError(
+                String msg,
+                long responseTime
+        ) {
+            for (Entry entry : entries) {
+                entry.responseHandler.onError(msg, responseTime);
+            }
+        }
+
+        @Override
+        public void onErrorWithException(
+                Exception e,
+                long responseTime
+        ) {
+            for (Entry entry : entries) {
+                entry.responseHandler.onErrorWithException(e, responseTime);
+            }
+        }
+
+    }
+
+}
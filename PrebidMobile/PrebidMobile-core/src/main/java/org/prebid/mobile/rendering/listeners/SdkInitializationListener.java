@@ -1,10 +1,21 @@
 package org.prebid.mobile.rendering.listeners;
 
 import org.jetbrains.annotations.NotNull;
+import org.prebid.mobile.api.data.InitializationStage;
 import org.prebid.mobile.api.data.InitializationStatus;
 
 public interface SdkInitializationListener {
 
     void onInitializationComplete(@NotNull InitializationStatus status);
 
+    /**
+     * Called on the main thread when an initialization stage is completed, it can be used for startup tracing.
+     *
+     * @param durationMillis time of the stage work, without waiting for its dependencies
+     */
+    default void onInitializationStageCompleted(
+            @NotNull InitializationStage stage,
+            long durationMillis
+    ) {}
+
 }
@@ -74,6 +74,11 @@ public class FileDownloadTask extends BaseNetworkTask {
         return 25 * 1024 * 1024; // 25 MiB
     }
 
+    @Override
+    protected boolean requiresUrlConnection() {
+        return true;
+    }
+
     @Override
     public GetUrlResult customParser(int code, URLConnection urlConnection) {
         GetUrlResult result = new GetUrlResult();
@@ -32,6 +32,7 @@ import org.prebid.mobile.rendering.loading.VastParserExtractor;
 import org.prebid.mobile.rendering.models.internal.VastExtractorResult;
 import org.prebid.mobile.rendering.networking.tracking.TrackingManager;
 import org.prebid.mobile.rendering.sdk.JSLibraryManager;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptsReadiness;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.video.OmEventTracker;
 
@@ -41,6 +42,8 @@ public class CreativeModelMakerBids {
 
     private static final String TAG = CreativeModelMakerBids.class.getSimpleName();
 
+    private static final long SCRIPTS_TIMEOUT_MILLIS = 3000;
+
     @Nullable
     private String viewableUrl;
 
@@ -48,6 +51,8 @@ public class CreativeModelMakerBids {
     private final VastParserExtractor parserExtractor = new VastParserExtractor(this::handleExtractorResult);
 
     private AdUnitConfiguration adConfiguration;
+    @Nullable private JsScriptsReadiness.Listener scriptsListener;
+    @Nullable private String preCachedMediaUrl;
 
     public CreativeModelMakerBids(
             @NonNull AdLoadListener listener
@@ -78,15 +83,39 @@ public class CreativeModelMakerBids {
         Context context = PrebidContextHolder.getContext();
         JSLibraryManager jsScriptsManager = JSLibraryManager.getInstance(context);
         if (!jsScriptsManager.checkIfScriptsDownloadedAndStartDownloadingIfNot()) {
-            notifyErrorListener("JS libraries has not been downloaded yet. Starting downloading...");
+            // Scripts are downloaded or read after a cold start, the creative waits for them instead of failing
+            scriptsListener = new JsScriptsReadiness.Listener() {
+                @Override
+                public void onReady(boolean ready) {
+                    if (scriptsListener != this) {
+                        return;
+                    }
+                    scriptsListener = null;
+                    if (ready) {
+                        makeModelsWithScripts(adConfiguration, bidResponse, winningBid);
+                    } else {
+                        notifyErrorListener("JS libraries has not been downloaded yet. Starting downloading...");
+                    }
+                }
+            };
+            jsScriptsManager.getReadiness().whenReady(SCRIPTS_TIMEOUT_MILLIS, scriptsListener);
             return;
         }
 
+        makeModelsWithScripts(adConfiguration, bidResponse, winningBid);
+    }
+
+    private void makeModelsWithScripts(
+            AdUnitConfiguration adConfiguration,
+            BidResponse bidResponse,
+            Bid winningBid
+    ) {
         if (adConfiguration.isRewarded()) {
             adConfiguration.getRewardManager().setRewardedExt(winningBid.getRewardedExt());
         }
 
         viewableUrl = winningBid.getBurl();
+        preCachedMediaUrl = winningBid.getPreCachedMediaUrl();
 
         if (bidResponse.isVideo()) {
             makeVideoModels(adConfiguration, winningBid.getAdm());
@@ -102,6 +131,7 @@ public class CreativeModelMakerBids {
     }
 
     public void cancel() {
+        scriptsListener = null;
         if (parserExtractor != null) {
             parserExtractor.cancel();
         }
@@ -156,6 +186,7 @@ public class CreativeModelMakerBids {
 
         CreativeModelsMakerVast vastModelMaker = new CreativeModelsMakerVast(loadIdentifier, listener);
         vastModelMaker.setViewableUrl(viewableUrl);
+        vastModelMaker.setPreCachedMediaUrl(preCachedMediaUrl);
         vastModelMaker.makeModels(adConfiguration, result.getVastResponseParserArray());
     }
 }
@@ -30,6 +30,7 @@ import org.prebid.mobile.rendering.utils.helpers.Utils;
 import org.prebid.mobile.rendering.video.OmEventTracker;
 import org.prebid.mobile.rendering.video.VideoAdEvent;
 import org.prebid.mobile.rendering.video.VideoCreativeModel;
+import org.prebid.mobile.rendering.video.VideoPreCacheScheduler;
 import org.prebid.mobile.rendering.video.vast.Tracking;
 import org.prebid.mobile.rendering.video.vast.*;
 
@@ -53,6 +54,7 @@ public class CreativeModelsMakerVast extends CreativeModelsMaker {
 
     private String adLoaderIdentifier;
     private String viewableUrl;
+    private String preCachedMediaUrl;
 
     public CreativeModelsMakerVast(
             String adLoaderIdentifier,
@@ -96,6 +98,13 @@ public class CreativeModelsMakerVast extends CreativeModelsMaker {
         this.viewableUrl = url;
     }
 
+    /**
+     * Sets the media file chosen when the video was pre-cached, so the same file is played.
+     */
+    public void setPreCachedMediaUrl(String url) {
+        this.preCachedMediaUrl = url;
+    }
+
     private void makeModelsContinued() {
         try {
             // TODO: If we want to support a VAST Buffet, we'll need to put the following in a
@@ -127,7 +136,12 @@ public class CreativeModelsMakerVast extends CreativeModelsMaker {
 
             videoModel.setName(VIDEO_CREATIVE_TAG);
 
-            videoModel.setMediaUrl(latestVastWrapperParser.getMediaFileUrl(latestVastWrapperParser, 0));
+            String mediaUrl = preCachedMediaUrl;
+            if (mediaUrl == null) {
+                int maxBitrate = VideoPreCacheScheduler.getInstance().getMaxBitrate();
+                mediaUrl = latestVastWrapperParser.getMediaFileUrl(latestVastWrapperParser, 0, maxBitrate);
+            }
+            videoModel.setMediaUrl(mediaUrl);
             videoModel.setMediaDuration(Utils.getMsFrom(videoDuration));
             videoModel.setSkipOffset(Utils.getMsFrom(skipOffset));
             videoModel.setAdVerifications(adVerifications);
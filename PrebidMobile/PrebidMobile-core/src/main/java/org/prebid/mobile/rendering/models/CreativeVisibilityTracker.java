@@ -42,17 +42,14 @@ public class CreativeVisibilityTracker {
 
     private static final String TAG = CreativeVisibilityTracker.class.getSimpleName();
 
-    // Time interval to use for throttling visibility checks.
-    private static final int VISIBILITY_THROTTLE_MILLIS = 200;
-
     public interface VisibilityTrackerListener {
 
         void onVisibilityChanged(VisibilityTrackerResult result);
 
     }
 
-    private ViewTreeObserver.OnPreDrawListener onPreDrawListener;
     private WeakReference<ViewTreeObserver> weakViewTreeObserver;
+    @Nullable private VisibilityScheduler visibilityScheduler;
 
     private WeakReference<View> trackedView;
     private final List<VisibilityChecker> visibilityCheckerList = new ArrayList<>();
@@ -63,6 +60,17 @@ public class CreativeVisibilityTracker {
     private boolean isVisibilityScheduled = false;
     private boolean visibilityTrackerStarted = false;
 
+    // Exposure of the last check, it's reused while the window isn't laid out, scrolled or drawn and the view position doesn't change
+    private final int[] location = new int[2];
+    @Nullable private ViewExposure lastViewExposure;
+    private boolean hasLastViewExposure = false;
+    private long lastLayoutGeneration;
+    private int lastX;
+    private int lastY;
+    private int lastWidth;
+    private int lastHeight;
+    private boolean lastShownWithFocus;
+
     public CreativeVisibilityTracker(
             @NonNull final View trackedView,
             final Set<VisibilityTrackerOption> visibilityTrackerOptionSet
@@ -82,11 +90,6 @@ public class CreativeVisibilityTracker {
         visibilityHandler = new Handler(Looper.getMainLooper());
         visibilityRunnable = createVisibilityRunnable();
 
-        onPreDrawListener = () -> {
-            scheduleVisibilityCheck();
-            return true;
-        };
-
         weakViewTreeObserver = new WeakReference<>(null);
         scheduleManualTracker();
     }
@@ -142,7 +145,14 @@ public class CreativeVisibilityTracker {
         }
 
         weakViewTreeObserver = new WeakReference<>(viewTreeObserver);
-        viewTreeObserver.addOnPreDrawListener(onPreDrawListener);
+        visibilityScheduler = VisibilityScheduler.forViewTreeObserver(viewTreeObserver);
+        visibilityScheduler.add(this);
+
+        // Checks scheduled before the tracker was added move to the window pass
+        visibilityHandler.removeCallbacks(visibilityRunnable);
+        if (isVisibilityScheduled) {
+            visibilityScheduler.scheduleCheck();
+        }
     }
 
     public void setVisibilityTrackerListener(
@@ -170,11 +180,13 @@ public class CreativeVisibilityTracker {
     public void stopVisibilityCheck() {
         visibilityHandler.removeCallbacksAndMessages(null);
         isVisibilityScheduled = false;
-        final ViewTreeObserver viewTreeObserver = weakViewTreeObserver.get();
-        if (viewTreeObserver != null && viewTreeObserver.isAlive()) {
-            viewTreeObserver.removeOnPreDrawListener(onPreDrawListener);
+        if (visibilityScheduler != null) {
+            visibilityScheduler.remove(this);
+            visibilityScheduler = null;
         }
         weakViewTreeObserver.clear();
+        hasLastViewExposure = false;
+        lastViewExposure = null;
     }
 
     void scheduleVisibilityCheck() {
@@ -185,7 +197,22 @@ public class CreativeVisibilityTracker {
         }
 
         isVisibilityScheduled = true;
-        visibilityHandler.postDelayed(visibilityRunnable, VISIBILITY_THROTTLE_MILLIS);
+        if (visibilityScheduler != null) {
+            visibilityScheduler.scheduleCheck();
+        } else {
+            visibilityHandler.postDelayed(visibilityRunnable, VisibilityScheduler.VISIBILITY_THROTTLE_MILLIS);
+        }
+    }
+
+    /**
+     * Marks the tracker for the next pass of its window scheduler.
+     */
+    void requestVisibilityCheck() {
+        isVisibilityScheduled = true;
+    }
+
+    boolean isVisibilityCheckRequested() {
+        return isVisibilityScheduled;
     }
 
     /**
@@ -196,7 +223,7 @@ public class CreativeVisibilityTracker {
     private void scheduleManualTracker() {
         Runnable runnable = () -> {
             if (!visibilityTrackerStarted) {
-                onPreDrawListener.onPreDraw();
+                scheduleVisibilityCheck();
             }
         };
         visibilityHandler.postDelayed(runnable, 200);
@@ -217,9 +244,15 @@ public class CreativeVisibilityTracker {
                 return;
             }
 
+            // All options check the same view, so the exposure is computed once per check
+            ViewExposure viewExposure = null;
+            boolean isExposureChecked = false;
             for (VisibilityChecker visibilityChecker : visibilityCheckerList) {
                 isVisibilityScheduled = false;
-                ViewExposure viewExposure = visibilityChecker.checkViewExposure(trackedView);
+                if (!isExposureChecked) {
+                    viewExposure = checkViewExposure(visibilityChecker, trackedView);
+                    isExposureChecked = true;
+                }
                 boolean shouldFireImpression = false;
                 boolean isVisible = visibilityChecker.isVisible(trackedView, viewExposure);
 
@@ -254,6 +287,42 @@ public class CreativeVisibilityTracker {
         };
     }
 
+    @Nullable
+    private ViewExposure checkViewExposure(
+            VisibilityChecker visibilityChecker,
+            View trackedView
+    ) {
+        if (visibilityScheduler == null) {
+            return visibilityChecker.checkViewExposure(trackedView);
+        }
+
+        long layoutGeneration = visibilityScheduler.getLayoutGeneration();
+        trackedView.getLocationOnScreen(location);
+        int width = trackedView.getWidth();
+        int height = trackedView.getHeight();
+        boolean shownWithFocus = trackedView.isShown() && trackedView.hasWindowFocus();
+        boolean isLayoutUnchanged = hasLastViewExposure
+                && layoutGeneration == lastLayoutGeneration
+                && location[0] == lastX
+                && location[1] == lastY
+                && width == lastWidth
+                && height == lastHeight
+                && shownWithFocus == lastShownWithFocus;
+        if (isLayoutUnchanged) {
+            return lastViewExposure;
+        }
+
+        lastViewExposure = visibilityChecker.checkViewExposure(trackedView);
+        hasLastViewExposure = true;
+        lastLayoutGeneration = layoutGeneration;
+        lastX = location[0];
+        lastY = location[1];
+        lastWidth = width;
+        lastHeight = height;
+        lastShownWithFocus = shownWithFocus;
+        return lastViewExposure;
+    }
+
     private void notifyListener(VisibilityTrackerResult visibilityTrackerResult) {
         if (visibilityTrackerListener != null) {
             visibilityTrackerListener.onVisibilityChanged(visibilityTrackerResult);
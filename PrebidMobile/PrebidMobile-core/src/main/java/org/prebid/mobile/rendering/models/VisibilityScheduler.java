@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.models;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import org.prebid.mobile.rendering.utils.exposure.ViewExposureChecker;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Schedules visibility checks of all {@link CreativeVisibilityTracker} in one window. The window root has
+ * one set of listeners, and all trackers are checked in one throttled pass instead of each tracker scheduling
+ * its own. Must be used on the main thread.
+ */
+class VisibilityScheduler {
+
+    // Time interval to use for throttling visibility checks.
+    static final int VISIBILITY_THROTTLE_MILLIS = 200;
+
+    private static final Map<ViewTreeObserver, VisibilityScheduler> schedulers = new WeakHashMap<>();
+
+    private final WeakReference<ViewTreeObserver> weakViewTreeObserver;
+    private final List<CreativeVisibilityTracker> trackers = new ArrayList<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable checkRunnable = this::checkTrackers;
+
+    private final ViewTreeObserver.OnPreDrawListener onPreDrawListener = () -> {
+        onPreDraw();
+        return true;
+    };
+    private final ViewTreeObserver.OnGlobalLayoutListener onGlobalLayoutListener = () -> layoutGeneration++;
+    private final ViewTreeObserver.OnScrollChangedListener onScrollChangedListener = () -> layoutGeneration++;
+
+    private boolean isCheckScheduled = false;
+    private long layoutGeneration = 0;
+
+    private VisibilityScheduler(@NonNull ViewTreeObserver viewTreeObserver) {
+        weakViewTreeObserver = new WeakReference<>(viewTreeObserver);
+    }
+
+    /**
+     * Returns the scheduler of the window, the observer must be alive.
+     */
+    @NonNull
+    static VisibilityScheduler forViewTreeObserver(@NonNull ViewTreeObserver viewTreeObserver) {
+        VisibilityScheduler scheduler = schedulers.get(viewTreeObserver);
+        if (scheduler == null) {
+            scheduler = new VisibilityScheduler(viewTreeObserver);
+            schedulers.put(viewTreeObserver, scheduler);
+        }
+        return scheduler;
+    }
+
+    void add(@NonNull CreativeVisibilityTracker tracker) {
+        if (trackers.contains(tracker)) {
+            return;
+        }
+
+        if (trackers.isEmpty()) {
+            ViewTreeObserver viewTreeObserver = weakViewTreeObserver.get();
+            if (viewTreeObserver != null && viewTreeObserver.isAlive()) {
+                viewTreeObserver.addOnPreDrawListener(onPreDrawListener);
+                viewTreeObserver.addOnGlobalLayoutListener(onGlobalLayoutListener);
+                viewTreeObserver.addOnScrollChangedListener(onScrollChangedListener);
+            }
+        }
+        trackers.add(tracker);
+    }
+
+    void remove(@NonNull CreativeVisibilityTracker tracker) {
+        if (!trackers.remove(tracker) || !trackers.isEmpty()) {
+            return;
+        }
+
+        handler.removeCallbacks(checkRunnable);
+        isCheckScheduled = false;
+        ViewTreeObserver viewTreeObserver = weakViewTreeObserver.get();
+        if (viewTreeObserver != null) {
+            if (viewTreeObserver.isAlive()) {
+                viewTreeObserver.removeOnPreDrawListener(onPreDrawListener);
+                viewTreeObserver.removeOnGlobalLayoutListener(onGlobalLayoutListener);
+                viewTreeObserver.removeOnScrollChangedListener(onScrollChangedListener);
+            }
+            schedulers.remove(viewTreeObserver);
+        }
+    }
+
+    /**
+     * Schedules the next pass, the calls before the pass starts are merged.
+     */
+    void scheduleCheck() {
+        if (isCheckScheduled) {
+            return;
+        }
+
+        isCheckScheduled = true;
+        handler.postDelayed(checkRunnable, VISIBILITY_THROTTLE_MILLIS);
+    }
+
+    /**
+     * Returns the counter of layout, scroll and draw passes in the window. The exposure of a tracked view
+     * can be reused while it isn't changed and the view keeps its position and size. Draw passes count too,
+     * because animations and translations of obstructing views change the exposure without a layout pass.
+     */
+    long getLayoutGeneration() {
+        return layoutGeneration;
+    }
+
+    @VisibleForTesting
+    void onPreDraw() {
+        layoutGeneration++;
+        for (CreativeVisibilityTracker tracker : trackers) {
+            tracker.requestVisibilityCheck();
+        }
+        scheduleCheck();
+    }
+
+    @VisibleForTesting
+    void checkTrackers() {
+        isCheckScheduled = false;
+        // Trackers can stop while they are checked
+        List<CreativeVisibilityTracker> snapshot = new ArrayList<>(trackers);
+        // Trackers of the pass share the obstructions of their common parents
+        ViewExposureChecker.startCheckPass();
+        try {
+            for (CreativeVisibilityTracker tracker : snapshot) {
+                if (tracker.isVisibilityCheckRequested()) {
+                    tracker.visibilityRunnable.run();
+                }
+            }
+        } finally {
+            ViewExposureChecker.finishCheckPass();
+        }
+    }
+
+}
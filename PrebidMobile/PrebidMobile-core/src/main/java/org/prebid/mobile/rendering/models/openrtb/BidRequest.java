@@ -17,6 +17,7 @@
 package org.prebid.mobile.rendering.models.openrtb;
 
 import android.text.TextUtils;
+import android.util.JsonWriter;
 
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
@@ -36,6 +37,7 @@ import org.prebid.mobile.rendering.models.openrtb.bidRequests.Regs;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.User;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.source.Source;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 public class BidRequest extends BaseBid {
@@ -51,6 +53,31 @@ public class BidRequest extends BaseBid {
     private String impOrtbConfig;
     private Ext ext = null;
 
+    public BidRequest() {
+    }
+
+    /**
+     * Creates a deep copy of the request without serialization.
+     */
+    public BidRequest(BidRequest other) {
+        id = other.id;
+        app = other.app != null ? new App(other.app) : null;
+        device = other.device != null ? new Device(other.device) : null;
+        if (other.imps != null) {
+            imps = new ArrayList<>(other.imps.size());
+            for (Imp imp : other.imps) {
+                imps.add(new Imp(imp));
+            }
+        } else {
+            imps = null;
+        }
+        regs = other.regs != null ? new Regs(other.regs) : null;
+        user = other.user != null ? new User(other.user) : null;
+        source = other.source != null ? new Source(other.source) : null;
+        impOrtbConfig = other.impOrtbConfig;
+        ext = other.ext != null ? new Ext(other.ext) : null;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
         if (imps != null && imps.size() > 0) {
@@ -60,7 +87,9 @@ public class BidRequest extends BaseBid {
             for (int i = 0; i < imps.size(); i++) {
                 Imp imp = imps.get(i);
                 JSONObject impJson = imp.getJsonObject();
-                if (i == 0) {
+                if (imp.getOrtbConfig() != null) {
+                    impJson = OpenRtbMerger.globalMerge(impJson, imp.getOrtbConfig());
+                } else if (i == 0) {
                     impJson = OpenRtbMerger.globalMerge(impJson, impOrtbConfig);
                 }
                 jsonArray.put(impJson);
@@ -81,6 +110,50 @@ public class BidRequest extends BaseBid {
         return jsonObject;
     }
 
+    /**
+     * Writes the same JSON as {@link #getJsonObject()} without building intermediate
+     * {@link JSONObject} trees. OpenRTB configs are not merged, see {@link OpenRtbWriter}.
+     */
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        if (imps != null && imps.size() > 0) {
+            writer.name("imp");
+            writer.beginArray();
+            for (Imp imp : imps) {
+                imp.writeJson(writer);
+            }
+            writer.endArray();
+        }
+
+        toJSON(writer, "id", !TextUtils.isEmpty(id) ? id : null);
+        if (app != null) {
+            writer.name("app");
+            app.writeJson(writer);
+        }
+        if (device != null) {
+            writer.name("device");
+            device.writeJson(writer);
+        }
+        if (regs != null) {
+            writer.name("regs");
+            regs.writeJson(writer);
+        }
+        if (user != null) {
+            writer.name("user");
+            user.writeJson(writer);
+        }
+        if (source != null) {
+            writer.name("source");
+            source.writeJson(writer);
+        }
+        if (ext != null) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        toJSON(writer, "test", PrebidMobile.getPbsDebug() ? 1 : null);
+        writer.endObject();
+    }
+
     // App
     public App getApp() {
         if (app == null) {
@@ -0,0 +1,86 @@
+package org.prebid.mobile.rendering.models.openrtb;
+
+import android.util.JsonWriter;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.prebid.mobile.TargetingParams;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Imp;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Serializes {@link BidRequest} directly to the output without building
+ * the intermediate {@link JSONObject} tree.
+ * <p>
+ * When the request or global OpenRTB config must be merged, the tree is required,
+ * so the writer falls back to {@link BidRequest#getJsonObject()}.
+ */
+public class OpenRtbWriter {
+
+    private static final String EMPTY_OBJECT = "{}";
+
+    private OpenRtbWriter() {
+    }
+
+    /**
+     * Returns JSON string of the request or empty string if the request has no fields.
+     */
+    @NonNull
+    public static String toJsonString(@NonNull BidRequest bidRequest) throws IOException, JSONException {
+        String result;
+        if (requiresMerge(bidRequest)) {
+            result = bidRequest.getJsonObject().toString();
+        } else {
+            StringWriter stringWriter = new StringWriter();
+            write(bidRequest, stringWriter);
+            result = stringWriter.toString();
+        }
+        return EMPTY_OBJECT.equals(result) ? "" : result;
+    }
+
+    /**
+     * Writes JSON of the request to the output. The output is not closed.
+     */
+    public static void write(
+            @NonNull BidRequest bidRequest,
+            @NonNull Writer output
+    ) throws IOException, JSONException {
+        if (requiresMerge(bidRequest)) {
+            output.write(bidRequest.getJsonObject().toString());
+            output.flush();
+            return;
+        }
+
+        JsonWriter writer = new JsonWriter(output);
+        bidRequest.writeJson(writer);
+        writer.flush();
+    }
+
+    private static boolean requiresMerge(BidRequest bidRequest) {
+        String impOrtbConfig = bidRequest.getImpOrtbConfig();
+        String globalOrtbConfig = TargetingParams.getGlobalOrtbConfig();
+        boolean hasImps = bidRequest.getImp() != null && !bidRequest.getImp().isEmpty();
+        return (hasImps && impOrtbConfig != null && !impOrtbConfig.isEmpty())
+                || (globalOrtbConfig != null && !globalOrtbConfig.isEmpty())
+                || hasImpOrtbConfig(bidRequest);
+    }
+
+    private static boolean hasImpOrtbConfig(BidRequest bidRequest) {
+        if (bidRequest.getImp() == null) {
+            return false;
+        }
+        for (Imp imp : bidRequest.getImp()) {
+            String ortbConfig = imp.getOrtbConfig();
+            if (ortbConfig != null && !ortbConfig.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
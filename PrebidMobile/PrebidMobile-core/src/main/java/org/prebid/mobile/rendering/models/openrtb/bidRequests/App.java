@@ -16,12 +16,16 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
+import android.util.JsonWriter;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.ContentObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.apps.Publisher;
 
+import java.io.IOException;
+
 public class App extends BaseBid {
 
     public String id = null;
@@ -41,6 +45,30 @@ public class App extends BaseBid {
     private Publisher publisher = null;
     private Ext ext = null;
 
+    public App() {
+    }
+
+    /**
+     * Deep copy.
+     */
+    public App(App other) {
+        id = other.id;
+        name = other.name;
+        bundle = other.bundle;
+        domain = other.domain;
+        storeurl = other.storeurl;
+        cat = other.cat != null ? other.cat.clone() : null;
+        sectioncat = other.sectioncat != null ? other.sectioncat.clone() : null;
+        pagecat = other.pagecat != null ? other.pagecat.clone() : null;
+        ver = other.ver;
+        privacypolicy = other.privacypolicy;
+        paid = other.paid;
+        keywords = other.keywords;
+        contentObject = other.contentObject != null ? new ContentObject(other.contentObject) : null;
+        publisher = other.publisher != null ? new Publisher(other.publisher) : null;
+        ext = other.ext != null ? new Ext(other.ext) : null;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
 
@@ -97,6 +125,34 @@ public class App extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "id", id);
+        toJSON(writer, "name", name);
+        toJSON(writer, "bundle", bundle);
+        toJSON(writer, "domain", domain);
+        toJSON(writer, "storeurl", storeurl);
+        toJSON(writer, "cat", cat);
+        toJSON(writer, "sectioncat", sectioncat);
+        toJSON(writer, "pagecat", pagecat);
+        if (contentObject != null) {
+            toJSON(writer, "content", contentObject.getJsonObject());
+        }
+        toJSON(writer, "ver", ver);
+        toJSON(writer, "privacypolicy", privacypolicy);
+        toJSON(writer, "paid", paid);
+        toJSON(writer, "keywords", keywords);
+        if (publisher != null) {
+            writer.name("publisher");
+            publisher.writeJson(writer);
+        }
+        if (ext != null) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        writer.endObject();
+    }
+
     public Publisher getPublisher() {
         if (publisher == null) {
             publisher = new Publisher();
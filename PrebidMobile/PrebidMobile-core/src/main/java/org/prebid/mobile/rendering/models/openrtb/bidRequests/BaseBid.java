@@ -16,10 +16,18 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
+import android.util.JsonWriter;
+
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Created by matthew.rolufs on 6/23/15.
@@ -29,4 +37,96 @@ public class BaseBid implements Serializable
     protected void toJSON(JSONObject jsonObject, String key, Object value) throws JSONException {
         jsonObject.putOpt(key, value);
     }
+
+    /**
+     * Streaming counterpart of {@link #toJSON(JSONObject, String, Object)}, skips null values.
+     */
+    protected void toJSON(JsonWriter writer, String key, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.name(key);
+        writeJsonValue(writer, value);
+    }
+
+    /**
+     * Writes JSON values, maps, collections and arrays the same way as {@link JSONObject#wrap(Object)} does.
+     */
+    public static void writeJsonValue(JsonWriter writer, Object value) throws IOException {
+        if (value == null || value == JSONObject.NULL) {
+            writer.nullValue();
+        } else if (value instanceof JSONObject) {
+            JSONObject jsonObject = (JSONObject) value;
+            writer.beginObject();
+            Iterator<String> keys = jsonObject.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                writer.name(key);
+                writeJsonValue(writer, jsonObject.opt(key));
+            }
+            writer.endObject();
+        } else if (value instanceof JSONArray) {
+            JSONArray jsonArray = (JSONArray) value;
+            writer.beginArray();
+            for (int i = 0; i < jsonArray.length(); i++) {
+                writeJsonValue(writer, jsonArray.opt(i));
+            }
+            writer.endArray();
+        } else if (value instanceof Map) {
+            writer.beginObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.name(String.valueOf(entry.getKey()));
+                writeJsonValue(writer, entry.getValue());
+            }
+            writer.endObject();
+        } else if (value instanceof Collection) {
+            writer.beginArray();
+            for (Object item : (Collection<?>) value) {
+                writeJsonValue(writer, item);
+            }
+            writer.endArray();
+        } else if (value.getClass().isArray()) {
+            writer.beginArray();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                writeJsonValue(writer, Array.get(value, i));
+            }
+            writer.endArray();
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else if (value instanceof Boolean) {
+            writer.value((Boolean) value);
+        } else {
+            writer.value(value.toString());
+        }
+    }
+
+    /**
+     * Returns deep copy of {@link JSONObject} and {@link JSONArray} values,
+     * other values are immutable and returned as is.
+     */
+    protected static Object copyJsonValue(Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject source = (JSONObject) value;
+            JSONObject copy = new JSONObject();
+            Iterator<String> keys = source.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                try {
+                    copy.putOpt(key, copyJsonValue(source.opt(key)));
+                } catch (JSONException ignored) {
+                    // Source values are already valid
+                }
+            }
+            return copy;
+        }
+        if (value instanceof JSONArray) {
+            JSONArray source = (JSONArray) value;
+            JSONArray copy = new JSONArray();
+            for (int i = 0; i < source.length(); i++) {
+                copy.put(copyJsonValue(source.opt(i)));
+            }
+            return copy;
+        }
+        return value;
+    }
 }
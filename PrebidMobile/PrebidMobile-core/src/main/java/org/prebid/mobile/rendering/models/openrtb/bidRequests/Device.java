@@ -17,6 +17,7 @@
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
 import android.os.Build;
+import android.util.JsonWriter;
 
 import androidx.annotation.Nullable;
 
@@ -25,6 +26,8 @@ import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.devices.Geo;
 
+import java.io.IOException;
+
 public class Device extends BaseBid {
 
     @Nullable
@@ -75,6 +78,40 @@ public class Device extends BaseBid {
 
     private Ext ext;
 
+    public Device() {
+    }
+
+    public Device(Device other) {
+        ua = other.ua;
+        dnt = other.dnt;
+        lmt = other.lmt;
+        ip = other.ip;
+        ipv6 = other.ipv6;
+        devicetype = other.devicetype;
+        make = other.make;
+        model = other.model;
+        os = other.os;
+        osv = other.osv;
+        hwv = other.hwv;
+        flashver = other.flashver;
+        language = other.language;
+        carrier = other.carrier;
+        mccmnc = other.mccmnc;
+        ifa = other.ifa;
+        didsha1 = other.didsha1;
+        didmd5 = other.didmd5;
+        dpidsha1 = other.dpidsha1;
+        dpidmd5 = other.dpidmd5;
+        h = other.h;
+        w = other.w;
+        ppi = other.ppi;
+        js = other.js;
+        connectiontype = other.connectiontype;
+        pxratio = other.pxratio;
+        geo = other.geo != null ? new Geo(other.geo) : null;
+        ext = other.ext != null ? new Ext(other.ext) : null;
+    }
+
     /**
      * When you add a new field to this list, don't forget to add it to the {@link org.prebid.mobile.OpenRtbMerger}.
      */
@@ -114,6 +151,45 @@ public class Device extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "ua", ua);
+        toJSON(writer, "dnt", dnt);
+        toJSON(writer, "lmt", lmt);
+        toJSON(writer, "ip", ip);
+        toJSON(writer, "ipv6", ipv6);
+        toJSON(writer, "devicetype", devicetype);
+        toJSON(writer, "make", make);
+        toJSON(writer, "model", model);
+        toJSON(writer, "os", os);
+        toJSON(writer, "osv", osv);
+        toJSON(writer, "hwv", hwv);
+        toJSON(writer, "flashver", flashver);
+        toJSON(writer, "language", language);
+        toJSON(writer, "carrier", carrier);
+        toJSON(writer, "mccmnc", mccmnc);
+        toJSON(writer, "ifa", ifa);
+        toJSON(writer, "didsha1", didsha1);
+        toJSON(writer, "didmd5", didmd5);
+        toJSON(writer, "dpidsha1", dpidsha1);
+        toJSON(writer, "dpidmd5", dpidmd5);
+        toJSON(writer, "h", h);
+        toJSON(writer, "w", w);
+        toJSON(writer, "ppi", ppi);
+        toJSON(writer, "js", js);
+        toJSON(writer, "connectiontype", connectiontype);
+        toJSON(writer, "pxratio", pxratio);
+        if (ext != null) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        if (geo != null) {
+            writer.name("geo");
+            geo.writeJson(writer);
+        }
+        writer.endObject();
+    }
+
     // Accessors to prevent NPE while maintaining null if object is not set
 
     // Geo
@@ -16,9 +16,12 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
+import android.util.JsonWriter;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -28,10 +31,24 @@ public class Ext implements Serializable {
 
     private Map<String, Object> extValuesHashMap = new HashMap<>();
 
+    public Ext() {
+    }
+
+    public Ext(Ext other) {
+        extValuesHashMap = new HashMap<>(other.extValuesHashMap.size());
+        for (Map.Entry<String, Object> entry : other.extValuesHashMap.entrySet()) {
+            extValuesHashMap.put(entry.getKey(), BaseBid.copyJsonValue(entry.getValue()));
+        }
+    }
+
     public JSONObject getJsonObject() {
         return new JSONObject(extValuesHashMap);
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        BaseBid.writeJsonValue(writer, extValuesHashMap);
+    }
+
     public void put(String key, String value) {
         extValuesHashMap.put(key, value);
     }
@@ -16,12 +16,18 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
+import android.util.JsonWriter;
+
+import androidx.annotation.Nullable;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.Banner;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.Pmp;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.Video;
 
+import java.io.IOException;
+
 public class Imp extends BaseBid {
     public String id = null;
     public String displaymanager = null;
@@ -38,8 +44,33 @@ public class Imp extends BaseBid {
 
     public Integer clickBrowser = null;
 
+    /**
+     * OpenRTB config of the ad unit, merged into this impression. Not serialized.
+     */
+    private String ortbConfig;
+
     JSONObject jsonObject;
 
+    public Imp() {
+    }
+
+    public Imp(Imp other) {
+        id = other.id;
+        displaymanager = other.displaymanager;
+        displaymanagerver = other.displaymanagerver;
+        instl = other.instl;
+        rewarded = other.rewarded;
+        tagid = other.tagid;
+        secure = other.secure;
+        banner = other.banner != null ? new Banner(other.banner) : null;
+        video = other.video != null ? new Video(other.video) : null;
+        pmp = other.pmp != null ? new Pmp(other.pmp) : null;
+        nativeObj = other.nativeObj != null ? new Native(other.nativeObj) : null;
+        ext = other.ext != null ? new Ext(other.ext) : null;
+        clickBrowser = other.clickBrowser;
+        ortbConfig = other.ortbConfig;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         this.jsonObject = new JSONObject();
         toJSON(jsonObject, "id", id);
@@ -61,6 +92,39 @@ public class Imp extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "id", id);
+        toJSON(writer, "displaymanager", displaymanager);
+        toJSON(writer, "displaymanagerver", displaymanagerver);
+        toJSON(writer, "instl", instl);
+        toJSON(writer, "tagid", tagid);
+        toJSON(writer, "rwdd", rewarded);
+        toJSON(writer, "clickbrowser", clickBrowser);
+        toJSON(writer, "secure", secure);
+        if (banner != null) {
+            writer.name("banner");
+            banner.writeJson(writer);
+        }
+        if (video != null) {
+            writer.name("video");
+            video.writeJson(writer);
+        }
+        if (nativeObj != null) {
+            writer.name("native");
+            nativeObj.writeJson(writer);
+        }
+        if (pmp != null) {
+            writer.name("pmp");
+            pmp.writeJson(writer);
+        }
+        if (ext != null) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        writer.endObject();
+    }
+
     public Ext getExt() {
         if (ext == null) {
             ext = new Ext();
@@ -69,6 +133,15 @@ public class Imp extends BaseBid {
         return ext;
     }
 
+    @Nullable
+    public String getOrtbConfig() {
+        return ortbConfig;
+    }
+
+    public void setOrtbConfig(@Nullable String ortbConfig) {
+        this.ortbConfig = ortbConfig;
+    }
+
     public Banner getBanner() {
         if (banner == null) {
             banner = new Banner();
@@ -132,6 +132,23 @@ public class MobileSdkPassThrough {
         return result;
     }
 
+    /**
+     * Copies rendering controls of the ad unit configuration, so they can be combined
+     * with the response off the main thread with {@link #combine(MobileSdkPassThrough, MobileSdkPassThrough)}.
+     */
+    @NonNull
+    public static MobileSdkPassThrough fromConfiguration(@NonNull AdUnitConfiguration configuration) {
+        MobileSdkPassThrough result = new MobileSdkPassThrough();
+        result.isMuted = configuration.isMuted();
+        result.maxVideoDuration = configuration.getMaxVideoDuration();
+        result.skipDelay = configuration.getSkipDelay();
+        result.skipButtonArea = configuration.getSkipButtonArea();
+        result.skipButtonPosition = configuration.getSkipButtonPosition();
+        result.closeButtonArea = configuration.getCloseButtonArea();
+        result.closeButtonPosition = configuration.getCloseButtonPosition();
+        return result;
+    }
+
 
     public Boolean isMuted;
 
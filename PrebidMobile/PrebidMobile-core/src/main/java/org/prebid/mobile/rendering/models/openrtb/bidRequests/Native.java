@@ -1,5 +1,7 @@
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
+import android.util.JsonWriter;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -8,6 +10,7 @@ import org.prebid.mobile.NativeEventTracker;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.configuration.NativeAdUnitConfiguration;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,6 +23,16 @@ public class Native extends BaseBid {
     private int[] api;
     private int[] battr;
 
+    public Native() {
+    }
+
+    public Native(Native other) {
+        request = (JSONObject) copyJsonValue(other.request);
+        ext = other.ext != null ? new Ext(other.ext) : null;
+        api = other.api != null ? other.api.clone() : null;
+        battr = other.battr != null ? other.battr.clone() : null;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
         jsonObject.put("request", request.toString());
@@ -28,6 +41,17 @@ public class Native extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "request", request != null ? request.toString() : null);
+        toJSON(writer, "ver", PrebidMobile.NATIVE_VERSION);
+        if (ext != null) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        writer.endObject();
+    }
+
     public void setRequestFrom(NativeAdUnitConfiguration config) {
         request = new JSONObject();
         try {
@@ -16,6 +16,8 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
+import android.util.JsonWriter;
+
 import androidx.annotation.Nullable;
 
 import org.json.JSONArray;
@@ -23,6 +25,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 public class Regs extends BaseBid {
@@ -34,6 +37,16 @@ public class Regs extends BaseBid {
     @Nullable
     private JSONArray gppSid;
 
+    public Regs() {
+    }
+
+    public Regs(Regs other) {
+        coppa = other.coppa;
+        ext = other.ext != null ? new Ext(other.ext) : null;
+        gppString = other.gppString;
+        gppSid = (JSONArray) copyJsonValue(other.gppSid);
+    }
+
     /**
      * When you add a new field to this list, don't forget to add it to the {@link org.prebid.mobile.OpenRtbMerger}.
      */
@@ -47,6 +60,18 @@ public class Regs extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "gpp", gppString);
+        toJSON(writer, "gpp_sid", gppSid);
+        toJSON(writer, "coppa", this.coppa);
+        if (ext != null) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        writer.endObject();
+    }
+
     public Ext getExt() {
         if (ext == null) {
             ext = new Ext();
@@ -16,6 +16,8 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests;
 
+import android.util.JsonWriter;
+
 import androidx.annotation.Nullable;
 
 import org.json.JSONArray;
@@ -24,6 +26,7 @@ import org.json.JSONObject;
 import org.prebid.mobile.DataObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.devices.Geo;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 public class User extends BaseBid {
@@ -36,6 +39,25 @@ public class User extends BaseBid {
     public String buyerUid = null;
     public ArrayList<DataObject> dataObjects = new ArrayList<>();
 
+    public User() {
+    }
+
+    /**
+     * Deep copy.
+     */
+    public User(User other) {
+        keywords = other.keywords;
+        geo = other.geo != null ? new Geo(other.geo) : null;
+        customData = other.customData;
+        id = other.id;
+        ext = other.ext != null ? new Ext(other.ext) : null;
+        buyerUid = other.buyerUid;
+        dataObjects = new ArrayList<>(other.dataObjects.size());
+        for (DataObject dataObject : other.dataObjects) {
+            dataObjects.add(dataObject != null ? new DataObject(dataObject) : null);
+        }
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
 
@@ -59,6 +81,31 @@ public class User extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "id", this.id);
+        toJSON(writer, "buyeruid", this.buyerUid);
+        toJSON(writer, "keywords", this.keywords);
+        toJSON(writer, "customdata", this.customData);
+        if (geo != null) {
+            writer.name("geo");
+            geo.writeJson(writer);
+        }
+        if (ext != null && !ext.getMap().isEmpty()) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        if (!dataObjects.isEmpty()) {
+            writer.name("data");
+            writer.beginArray();
+            for (DataObject dataObject : dataObjects) {
+                writeJsonValue(writer, dataObject.getJsonObject());
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
     // Accessors to prevent NPE while maintaining null if object is not set
 
     // Geo
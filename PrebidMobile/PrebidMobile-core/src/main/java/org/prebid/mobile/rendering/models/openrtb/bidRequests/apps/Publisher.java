@@ -16,11 +16,15 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.apps;
 
+import android.util.JsonWriter;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 
+import java.io.IOException;
+
 public class Publisher extends BaseBid {
 
     public String id = null;
@@ -29,6 +33,16 @@ public class Publisher extends BaseBid {
 
     public String domain = null;
 
+    public Publisher() {
+    }
+
+    public Publisher(Publisher other) {
+        id = other.id;
+        name = other.name;
+        cat = other.cat != null ? other.cat.clone() : null;
+        domain = other.domain;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
 
         JSONObject jsonObject = new JSONObject();
@@ -52,4 +66,13 @@ public class Publisher extends BaseBid {
 
         return jsonObject;
     }
+
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "id", id);
+        toJSON(writer, "name", name);
+        toJSON(writer, "cat", cat);
+        toJSON(writer, "domain", domain);
+        writer.endObject();
+    }
 }
@@ -19,4 +19,11 @@ package org.prebid.mobile.rendering.models.openrtb.bidRequests.devices;
 public class Geo extends org.prebid.mobile.rendering.models.openrtb.bidRequests.geo.Geo
 {
 
+    public Geo() {
+    }
+
+    public Geo(org.prebid.mobile.rendering.models.openrtb.bidRequests.geo.Geo other) {
+        super(other);
+    }
+
 }
@@ -16,10 +16,14 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.geo;
 
+import android.util.JsonWriter;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 
+import java.io.IOException;
+
 public class Geo extends BaseBid {
 
     public Float lat = null;
@@ -40,6 +44,24 @@ public class Geo extends BaseBid {
     public String zip = null;
     public Integer utcoffset = null;
 
+    public Geo() {
+    }
+
+    public Geo(Geo other) {
+        lat = other.lat;
+        lon = other.lon;
+        type = other.type;
+        accuracy = other.accuracy;
+        lastfix = other.lastfix;
+        country = other.country;
+        region = other.region;
+        regionfips104 = other.regionfips104;
+        metro = other.metro;
+        city = other.city;
+        zip = other.zip;
+        utcoffset = other.utcoffset;
+    }
+
     /**
      * When you add a new field to this list, don't forget to add it to the {@link org.prebid.mobile.OpenRtbMerger}.
      */
@@ -59,4 +81,21 @@ public class Geo extends BaseBid {
         toJSON(jsonObject, "utcoffset", this.utcoffset);
         return jsonObject;
     }
+
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "lat", this.lat);
+        toJSON(writer, "lon", this.lon);
+        toJSON(writer, "type", this.type);
+        toJSON(writer, "accuracy", this.accuracy);
+        toJSON(writer, "lastfix", this.lastfix);
+        toJSON(writer, "country", this.country);
+        toJSON(writer, "region", this.region);
+        toJSON(writer, "regionfips104", this.regionfips104);
+        toJSON(writer, "metro", this.metro);
+        toJSON(writer, "city", this.city);
+        toJSON(writer, "zip", this.zip);
+        toJSON(writer, "utcoffset", this.utcoffset);
+        writer.endObject();
+    }
 }
@@ -16,6 +16,8 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.imps;
 
+import android.util.JsonWriter;
+
 import androidx.annotation.VisibleForTesting;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -23,6 +25,7 @@ import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.pmps.Format;
 
+import java.io.IOException;
 import java.util.HashSet;
 
 public class Banner extends BaseBid {
@@ -32,6 +35,18 @@ public class Banner extends BaseBid {
 
     private HashSet<Format> formats = new HashSet<>();
 
+    public Banner() {
+    }
+
+    public Banner(Banner other) {
+        pos = other.pos;
+        api = other.api != null ? other.api.clone() : null;
+        formats = new HashSet<>(other.formats.size());
+        for (Format format : other.formats) {
+            formats.add(new Format(format));
+        }
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
 
@@ -56,6 +71,21 @@ public class Banner extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "pos", this.pos);
+        toJSON(writer, "api", api);
+        if (formats.size() > 0) {
+            writer.name("format");
+            writer.beginArray();
+            for (Format format : formats) {
+                format.writeJson(writer);
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
     public void addFormat(int w, int h) {
         formats.add(new Format(w, h));
     }
@@ -16,12 +16,15 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.imps;
 
+import android.util.JsonWriter;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.pmps.Deals;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +36,21 @@ public class Pmp extends BaseBid {
     //deals
     //ext
 
+    public Pmp() {
+    }
+
+    public Pmp(Pmp other) {
+        private_auction = other.private_auction;
+        if (other.deals != null) {
+            deals = new ArrayList<>(other.deals.size());
+            for (Deals deal : other.deals) {
+                deals.add(new Deals(deal));
+            }
+        } else {
+            deals = null;
+        }
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
         toJSON(jsonObject, "private_auction", this.private_auction);
@@ -50,4 +68,18 @@ public class Pmp extends BaseBid {
 
         return jsonObject;
     }
+
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "private_auction", this.private_auction);
+        if (deals != null && deals.size() > 0) {
+            writer.name("deals");
+            writer.beginArray();
+            for (Deals deal : deals) {
+                deal.writeJson(writer);
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+    }
 }
@@ -16,11 +16,15 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.imps;
 
+import android.util.JsonWriter;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 
+import java.io.IOException;
+
 public class Video extends BaseBid {
 
     public String[] mimes = null;
@@ -58,6 +62,31 @@ public class Video extends BaseBid {
 
     public Integer skippable = null;
 
+    public Video() {
+    }
+
+    public Video(Video other) {
+        mimes = other.mimes != null ? other.mimes.clone() : null;
+        minduration = other.minduration;
+        maxduration = other.maxduration;
+        protocols = other.protocols != null ? other.protocols.clone() : null;
+        api = other.api != null ? other.api.clone() : null;
+        w = other.w;
+        h = other.h;
+        linearity = other.linearity;
+        minbitrate = other.minbitrate;
+        maxbitrate = other.maxbitrate;
+        playbackmethod = other.playbackmethod != null ? other.playbackmethod.clone() : null;
+        delivery = other.delivery != null ? other.delivery.clone() : null;
+        pos = other.pos;
+        placement = other.placement;
+        plcmt = other.plcmt;
+        playbackend = other.playbackend;
+        startDelay = other.startDelay;
+        battr = other.battr != null ? other.battr.clone() : null;
+        skippable = other.skippable;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
 
@@ -149,4 +178,28 @@ public class Video extends BaseBid {
 
         return jsonObject;
     }
+
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "mimes", mimes);
+        toJSON(writer, "minduration", minduration);
+        toJSON(writer, "maxduration", maxduration);
+        toJSON(writer, "playbackend", playbackend);
+        toJSON(writer, "protocols", protocols);
+        toJSON(writer, "w", w);
+        toJSON(writer, "h", h);
+        toJSON(writer, "startdelay", startDelay);
+        toJSON(writer, "linearity", linearity);
+        toJSON(writer, "minbitrate", minbitrate);
+        toJSON(writer, "maxbitrate", maxbitrate);
+        toJSON(writer, "placement", placement);
+        toJSON(writer, "plcmt", plcmt);
+        toJSON(writer, "playbackmethod", playbackmethod);
+        toJSON(writer, "delivery", delivery);
+        toJSON(writer, "api", api);
+        toJSON(writer, "pos", pos);
+        toJSON(writer, "battr", battr);
+        toJSON(writer, "skip", skippable);
+        writer.endObject();
+    }
 }
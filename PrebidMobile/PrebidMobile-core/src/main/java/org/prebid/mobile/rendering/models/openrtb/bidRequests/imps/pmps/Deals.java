@@ -16,11 +16,15 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.pmps;
 
+import android.util.JsonWriter;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 
+import java.io.IOException;
+
 public class Deals extends BaseBid {
     public String id = null;
     public Float bidfloor;
@@ -33,6 +37,18 @@ public class Deals extends BaseBid {
     //ext
     JSONObject jsonObject;
 
+    public Deals() {
+    }
+
+    public Deals(Deals other) {
+        id = other.id;
+        bidfloor = other.bidfloor;
+        bidfloorcur = other.bidfloorcur;
+        at = other.at;
+        wseat = other.wseat != null ? other.wseat.clone() : null;
+        wadomain = other.wadomain != null ? other.wadomain.clone() : null;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         this.jsonObject = new JSONObject();
         toJSON(jsonObject, "id", this.id);
@@ -67,4 +83,15 @@ public class Deals extends BaseBid {
         return jsonObject;
 
     }
+
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "id", this.id);
+        toJSON(writer, "bidfloor", this.bidfloor);
+        toJSON(writer, "bidfloorcur", this.bidfloorcur);
+        toJSON(writer, "at", this.at);
+        toJSON(writer, "wseat", wseat);
+        toJSON(writer, "wadomain", wadomain);
+        writer.endObject();
+    }
 }
@@ -16,10 +16,14 @@
 
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.pmps;
 
+import android.util.JsonWriter;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 
+import java.io.IOException;
+
 public class Format extends BaseBid {
 
     public Integer w;
@@ -30,6 +34,11 @@ public class Format extends BaseBid {
         this.h = h;
     }
 
+    public Format(Format other) {
+        w = other.w;
+        h = other.h;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
 
@@ -39,6 +48,13 @@ public class Format extends BaseBid {
         return jsonObject;
     }
 
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "w", w);
+        toJSON(writer, "h", h);
+        writer.endObject();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -17,11 +17,14 @@
 package org.prebid.mobile.rendering.models.openrtb.bidRequests.source;
 
 import android.text.TextUtils;
+import android.util.JsonWriter;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.BaseBid;
 import org.prebid.mobile.rendering.models.openrtb.bidRequests.Ext;
 
+import java.io.IOException;
+
 public class Source extends BaseBid {
 
     private String tid;
@@ -46,6 +49,14 @@ public class Source extends BaseBid {
         return tid;
     }
 
+    public Source() {
+    }
+
+    public Source(Source other) {
+        tid = other.tid;
+        ext = other.ext != null ? new Ext(other.ext) : null;
+    }
+
     public JSONObject getJsonObject() throws JSONException {
         JSONObject jsonObject = new JSONObject();
 
@@ -54,4 +65,14 @@ public class Source extends BaseBid {
 
         return jsonObject;
     }
+
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        toJSON(writer, "tid", !TextUtils.isEmpty(tid) ? tid : null);
+        if (ext != null) {
+            writer.name("ext");
+            ext.writeJson(writer);
+        }
+        writer.endObject();
+    }
 }
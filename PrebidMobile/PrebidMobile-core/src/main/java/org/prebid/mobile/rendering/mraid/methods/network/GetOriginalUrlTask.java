@@ -52,6 +52,11 @@ public class GetOriginalUrlTask extends BaseNetworkTask {
         return index >= 0;
     }
 
+    @Override
+    protected boolean requiresUrlConnection() {
+        return true;
+    }
+
     @Override
     public GetUrlResult customParser(int code, URLConnection urlConnection) {
         String[] retVal = new String[3];
@@ -29,22 +29,20 @@ import org.prebid.mobile.rendering.loading.FileDownloadTask;
 import org.prebid.mobile.rendering.networking.exception.BaseExceptionHolder;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
 
-import java.io.BufferedReader;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
-import java.net.URL;
 import java.net.URLConnection;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 
 /**
  * Performs HTTP communication in the background, i.e. off the UI thread.
+ * Tasks should be started on {@link NetworkEngine#getExecutor(org.prebid.mobile.tasksmanager.TaskLane)} of their kind.
  */
 public class BaseNetworkTask
     extends AsyncTask<BaseNetworkTask.GetUrlParams, Integer, BaseNetworkTask.GetUrlResult> {
@@ -154,14 +152,19 @@ public class BaseNetworkTask
         LogUtil.debug(TAG, "url: " + param.url);
         LogUtil.debug(TAG, "queryParams: " + param.queryParams);
 
+        NetworkRequest request = buildNetworkRequest(param);
+        if (!requiresUrlConnection()) {
+            return sendTransportRequest(param, request);
+        }
+
         int responseCode = 0;
-        connection = setHttpURLConnectionProperty(param);
+        connection = DefaultHttpTransport.openConnection(request);
 
         if (connection instanceof HttpURLConnection) {
             responseCode = ((HttpURLConnection) connection).getResponseCode();
         }
 
-        if (Utils.isNotBlank(param.name) && !DOWNLOAD_TASK.equals(param.name) && !REDIRECT_TASK.equals(param.name) && !STATUS_TASK.equals(param.name)) {
+        if (shouldParseResponse(param)) {
             result = parseHttpURLResponse(responseCode);
         }
         result = customParser(responseCode, connection);
@@ -188,28 +191,22 @@ public class BaseNetworkTask
     protected String readResponse(
         @Nullable
             InputStream inputStream) throws IOException {
-        if (inputStream == null) {
-            return null;
-        }
+        return DefaultHttpTransport.readResponse(inputStream);
+    }
 
-        StringBuilder response = new StringBuilder();
-        boolean runAtLeastOnce = false;
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            final char[] buffer = new char[1024];
-            int charsRead;
-            while ((charsRead = reader.read(buffer, 0, buffer.length)) > 0) {
-                runAtLeastOnce = true;
-                response.append(buffer, 0, charsRead);
-            }
-        } catch (Exception exception) {
-            if (runAtLeastOnce) {
-                LogUtil.error(TAG, "Exception in readResponse(): " + exception.getMessage());
-            } else {
-                LogUtil.error(TAG, "Empty response: " + exception.getMessage());
-            }
-        }
+    /**
+     * Returns true if the task needs the raw {@link URLConnection} in {@link #customParser(int, URLConnection)}
+     * (e.g. for streaming a file or resolving redirects). Such tasks bypass the {@link HttpTransport}
+     * set in {@link NetworkEngine}.
+     */
+    protected boolean requiresUrlConnection() {
+        return false;
+    }
 
-        return response.toString();
+    /**
+     * Adds task specific headers to the request, e.g. conditional or range headers of file downloads.
+     */
+    protected void addRequestHeaders(Map<String, String> headers) {
     }
 
     private GetUrlResult processDoInBackground(GetUrlParams... params) {
@@ -258,129 +255,93 @@ public class BaseNetworkTask
         return result;
     }
 
-    private URLConnection setHttpURLConnectionProperty(GetUrlParams param) throws Exception {
-        String queryParams = "";
-        if (param.requestType.equals("GET") && param.queryParams != null) {
-            queryParams = "?" + param.queryParams;
-        }
-        URL url = new URL(param.url + queryParams);
-        connection = url.openConnection();
-        if (connection instanceof HttpURLConnection) {
-            ((HttpURLConnection) connection).setRequestMethod(param.requestType);
-            ((HttpURLConnection) connection).setInstanceFollowRedirects(false);
+    private GetUrlResult sendTransportRequest(
+            GetUrlParams param,
+            NetworkRequest request
+    ) throws Exception {
+        NetworkResponse response = NetworkEngine.getTransport().execute(request);
+        int responseCode = response.getStatusCode();
+        if (shouldParseResponse(param)) {
+            result = parseResponse(responseCode, response.getBody());
         }
+        result.contentType = response.getHeader(CONTENT_TYPE_HEADER);
+        result.statusCode = responseCode;
+        return result;
+    }
 
-        connection.setRequestProperty(USER_AGENT_HEADER, param.userAgent);
-        connection.setRequestProperty(ACCEPT_LANGUAGE_HEADER, Locale.getDefault().toString());
-        connection.setRequestProperty(ACCEPT_HEADER, ACCEPT_HEADER_VALUE);
-        connection.setRequestProperty(CONTENT_TYPE_HEADER, CONTENT_TYPE_HEADER_VALUE);
-        this.setCustomHeadersIfAvailable(connection);
+    private NetworkRequest buildNetworkRequest(GetUrlParams param) {
+        String url = param.url;
+        String body = null;
+        if (param.requestType.equals("GET") && param.queryParams != null) {
+            url += "?" + param.queryParams;
+        } else if ("POST".equals(param.requestType)) {
+            body = param.queryParams;
+        }
 
-        connection.setConnectTimeout(PrebidMobile.getTimeoutMillis());
-        if (!(this instanceof FileDownloadTask)) {
-            int timeout = PrebidMobile.getTimeoutModified() ? PrebidMobile.getTimeoutMillis() : SOCKET_TIMEOUT;
-            connection.setReadTimeout(timeout);
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (param.userAgent != null) {
+            headers.put(USER_AGENT_HEADER, param.userAgent);
         }
+        headers.put(ACCEPT_LANGUAGE_HEADER, Locale.getDefault().toString());
+        headers.put(ACCEPT_HEADER, ACCEPT_HEADER_VALUE);
+        headers.put(CONTENT_TYPE_HEADER, CONTENT_TYPE_HEADER_VALUE);
+        if (body != null && PrebidMobile.isUseRequestCompression()) {
+            headers.put(NetworkRequest.CONTENT_ENCODING_HEADER, NetworkRequest.ENCODING_GZIP);
+        }
+        headers.putAll(PrebidMobile.getCustomHeaders());
+        addRequestHeaders(headers);
 
-        if ("POST".equals(param.requestType)) {
-            // Send post request
-            connection.setDoOutput(true);
-            DataOutputStream wr = null;
-            try {
-                wr = new DataOutputStream(connection.getOutputStream());
-                if (param.queryParams != null) {
-                    sendRequest(param.queryParams, wr);
-                }
-            } finally {
-                if (wr != null) {
-                    wr.flush();
-                    wr.close();
-                }
-            }
+        int readTimeout = 0;
+        if (!(this instanceof FileDownloadTask)) {
+            readTimeout = PrebidMobile.getTimeoutModified() ? PrebidMobile.getTimeoutMillis() : SOCKET_TIMEOUT;
         }
 
-        connection = openConnectionCheckRedirects(connection);
-        return connection;
+        return new NetworkRequest(
+                url,
+                param.requestType,
+                body,
+                headers,
+                PrebidMobile.getTimeoutMillis(),
+                readTimeout
+        );
     }
 
     @VisibleForTesting
     protected static void sendRequest(@NotNull String requestBody, @NotNull OutputStream requestStream) throws IOException {
-        byte[] bytes = requestBody.getBytes();
-        for (byte b : bytes) {
-            requestStream.write(b);
-        }
+        DefaultHttpTransport.writeBody(requestBody, requestStream);
     }
 
-    private void setCustomHeadersIfAvailable(URLConnection connection) {
-        if (!PrebidMobile.getCustomHeaders().isEmpty()) {
-            for (Map.Entry<String, String> customHeader : PrebidMobile.getCustomHeaders().entrySet()) {
-                connection.setRequestProperty(customHeader.getKey(), customHeader.getValue());
-            }
-        }
+    private static boolean shouldParseResponse(GetUrlParams param) {
+        return Utils.isNotBlank(param.name) && !DOWNLOAD_TASK.equals(param.name) && !REDIRECT_TASK.equals(param.name) && !STATUS_TASK.equals(param.name);
     }
 
-    private URLConnection openConnectionCheckRedirects(URLConnection connection) throws Exception {
-        boolean redirected;
-        int redirects = 0;
-        do {
-            redirected = false;
-            int status = 0;
-
-            if (connection instanceof HttpURLConnection) {
-                status = ((HttpURLConnection) connection).getResponseCode();
-            }
-
-            if (status >= 300 && status <= 307 && status != 306 && status != HttpURLConnection.HTTP_NOT_MODIFIED) {
-                URL base = connection.getURL();
-                String location = connection.getHeaderField("Location");
-
-                LogUtil.debug(TAG, (location == null)
-                        ? "not found location"
-                        : "location = " + location);
-                URL target = null;
-                if (location != null) {
-                    target = new URL(base, location);
-                }
-
-                ((HttpURLConnection) connection).disconnect();
-
-                // Redirection should be allowed only for HTTP and HTTPS
-                // and should be limited to 5 redirections at most.
-                if (target == null || !(target.getProtocol().equals("http")
-                                        || target.getProtocol().equals("https"))
-                    || redirects >= MAX_REDIRECTS_COUNT) {
-                    String error = String.format("Bad server response - [HTTP Response code of %s]", status);
-                    LogUtil.error(TAG, error);
-                    throw new Exception(error);
-                }
-                redirected = true;
-                connection = target.openConnection();
-                redirects++;
-            }
+    private GetUrlResult parseHttpURLResponse(int httpURLResponseCode) throws Exception {
+        String response = null;
+        if (httpURLResponseCode == 200) {
+            response = readResponse(connection.getInputStream());
+        } else if (httpURLResponseCode >= 400 && httpURLResponseCode < 600) {
+            response = readResponse(((HttpURLConnection) connection).getErrorStream());
         }
-        while (redirected);
-        return connection;
+        return parseResponse(httpURLResponseCode, response);
     }
 
-    private GetUrlResult parseHttpURLResponse(int httpURLResponseCode) throws Exception {
+    private GetUrlResult parseResponse(
+            int httpURLResponseCode,
+            @Nullable String response
+    ) throws Exception {
 
         //Do all parsing in the caller class, because there is no generic way of processing this response
-        String response = "";
-
-        if (httpURLResponseCode == 200) {
-            response = readResponse(connection.getInputStream());
-        }
-        else if (httpURLResponseCode >= 400 && httpURLResponseCode < 600) {
+        if (httpURLResponseCode >= 400 && httpURLResponseCode < 600) {
             String status = String.format(
                     Locale.getDefault(),
                     "Code %d. %s",
                     httpURLResponseCode,
-                    readResponse(((HttpURLConnection) connection).getErrorStream())
+                    response
             );
             LogUtil.error(TAG, status);
             throw new Exception(status);
         }
-        else {
+        else if (httpURLResponseCode != 200) {
             String error = String.format("Bad server response - [HTTP Response code of %s]", httpURLResponseCode);
             if (httpURLResponseCode == 204) error = "Response code 204. No bids.";
             LogUtil.error(TAG, error);
@@ -0,0 +1,203 @@
+package org.prebid.mobile.rendering.networking;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.utils.helpers.Utils;
+import org.prebid.mobile.tasksmanager.TaskLane;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps HTTP connections of the {@link DefaultHttpTransport} alive between requests.
+ * <p>
+ * Connections whose response was fully read are returned to the platform keep-alive pool
+ * instead of being disconnected, so subsequent requests to the same host skip TCP and TLS setup.
+ * The manager also records the released connections per host to estimate pool hits and misses,
+ * and can pre-warm a connection to the Prebid Server during SDK initialization. The platform pool
+ * doesn't report socket reuse, so the counters are estimates, not measured reuse.
+ */
+public class ConnectionManager {
+
+    private static final String TAG = ConnectionManager.class.getSimpleName();
+
+    /**
+     * Default keep-alive duration of the platform connection pool.
+     */
+    static final long KEEP_ALIVE_MILLIS = 5 * 60 * 1000;
+
+    private static final String METHOD_HEAD = "HEAD";
+
+    /**
+     * Release times of the connections returned to the pool, the newest is last.
+     */
+    private static final Map<String, ArrayDeque<Long>> idleConnections = new HashMap<>();
+    private static final AtomicLong estimatedHitCount = new AtomicLong();
+    private static final AtomicLong estimatedMissCount = new AtomicLong();
+
+    private ConnectionManager() {
+    }
+
+    /**
+     * Opens and handshakes a connection to the host of the url in the background and returns
+     * it to the keep-alive pool. Does nothing if a custom {@link HttpTransport} is used.
+     */
+    public static void prewarm(@Nullable String url) {
+        if (Utils.isBlank(url) || !NetworkEngine.isDefaultTransport()) {
+            return;
+        }
+
+        NetworkEngine.getExecutor(TaskLane.AUCTION).execute(() -> {
+            HttpURLConnection connection = null;
+            boolean reusable = false;
+            try {
+                connection = (HttpURLConnection) new URL(url).openConnection();
+                connection.setRequestMethod(METHOD_HEAD);
+                connection.setInstanceFollowRedirects(false);
+                connection.setConnectTimeout(BaseNetworkTask.SOCKET_TIMEOUT);
+                connection.setReadTimeout(BaseNetworkTask.SOCKET_TIMEOUT);
+                onConnectionOpened(connection);
+
+                int code = connection.getResponseCode();
+                LogUtil.debug(TAG, "Connection to " + connection.getURL().getHost() + " is warmed up. Status: " + code);
+                reusable = consume(code >= 400 ? connection.getErrorStream() : connection.getInputStream());
+            } catch (Exception exception) {
+                LogUtil.debug(TAG, "Can't warm up connection: " + exception.getMessage());
+            } finally {
+                release(connection, reusable);
+            }
+        });
+    }
+
+    /**
+     * Must be called before the request is sent through the connection.
+     */
+    static void onConnectionOpened(@NonNull URLConnection connection) {
+        if (takeIdleConnection(getKey(connection.getURL()))) {
+            estimatedHitCount.incrementAndGet();
+        } else {
+            estimatedMissCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the connection to the keep-alive pool if its response was fully consumed,
+     * otherwise closes the socket.
+     */
+    static void release(
+            @Nullable URLConnection connection,
+            boolean reusable
+    ) {
+        if (!(connection instanceof HttpURLConnection)) {
+            return;
+        }
+
+        if (reusable) {
+            putIdleConnection(getKey(connection.getURL()));
+        } else {
+            ((HttpURLConnection) connection).disconnect();
+        }
+    }
+
+    /**
+     * Estimated number of requests that found an idle connection to the same host in the pool.
+     * The platform pool doesn't report socket reuse, the estimate assumes it keeps every
+     * released connection for {@link #KEEP_ALIVE_MILLIS}.
+     */
+    public static long getEstimatedPoolHitCount() {
+        return estimatedHitCount.get();
+    }
+
+    /**
+     * Estimated number of requests that had to open a new connection,
+     * see {@link #getEstimatedPoolHitCount()}.
+     */
+    public static long getEstimatedPoolMissCount() {
+        return estimatedMissCount.get();
+    }
+
+    @VisibleForTesting
+    static void reset() {
+        synchronized (idleConnections) {
+            idleConnections.clear();
+        }
+        estimatedHitCount.set(0);
+        estimatedMissCount.set(0);
+    }
+
+    private static boolean consume(@Nullable InputStream inputStream) {
+        if (inputStream == null) {
+            return true;
+        }
+
+        try (InputStream stream = inputStream) {
+            byte[] buffer = new byte[512];
+            while (stream.read(buffer) != -1) {
+                // Drain the body so the connection can be reused
+            }
+            return true;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    private static boolean takeIdleConnection(String key) {
+        long now = SystemClock.elapsedRealtime();
+        synchronized (idleConnections) {
+            ArrayDeque<Long> releaseTimes = idleConnections.get(key);
+            if (releaseTimes == null) {
+                return false;
+            }
+
+            // Release times are ascending, the platform pool has already evicted the old connections
+            Long oldest;
+            while ((oldest = releaseTimes.peekFirst()) != null && now - oldest >= KEEP_ALIVE_MILLIS) {
+                releaseTimes.pollFirst();
+            }
+            Long releasedAt = releaseTimes.pollLast();
+            if (releaseTimes.isEmpty()) {
+                idleConnections.remove(key);
+            }
+            return releasedAt != null;
+        }
+    }
+
+    @VisibleForTesting
+    static int getIdleConnectionCount() {
+        synchronized (idleConnections) {
+            int count = 0;
+            for (ArrayDeque<Long> releaseTimes : idleConnections.values()) {
+                count += releaseTimes.size();
+            }
+            return count;
+        }
+    }
+
+    private static void putIdleConnection(String key) {
+        synchronized (idleConnections) {
+            ArrayDeque<Long> releaseTimes = idleConnections.get(key);
+            if (releaseTimes == null) {
+                releaseTimes = new ArrayDeque<>();
+                idleConnections.put(key, releaseTimes);
+            }
+            releaseTimes.addLast(SystemClock.elapsedRealtime());
+        }
+    }
+
+    private static String getKey(URL url) {
+        return url.getProtocol() + "://" + url.getAuthority();
+    }
+
+}
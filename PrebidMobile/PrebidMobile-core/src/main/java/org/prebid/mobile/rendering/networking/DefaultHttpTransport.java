@@ -0,0 +1,259 @@
+package org.prebid.mobile.rendering.networking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Default {@link HttpTransport} based on {@link HttpURLConnection}.
+ */
+public class DefaultHttpTransport implements HttpTransport {
+
+    private static final String TAG = DefaultHttpTransport.class.getSimpleName();
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    @NonNull
+    @Override
+    public NetworkResponse execute(@NonNull NetworkRequest request) throws Exception {
+        URLConnection connection = openConnection(request, true);
+        boolean reusable = false;
+        try {
+            int statusCode = 0;
+            InputStream inputStream = null;
+            if (connection instanceof HttpURLConnection) {
+                HttpURLConnection httpConnection = (HttpURLConnection) connection;
+                statusCode = httpConnection.getResponseCode();
+                if (statusCode >= 400) {
+                    inputStream = httpConnection.getErrorStream();
+                } else if (statusCode >= 200 && statusCode < 300) {
+                    inputStream = httpConnection.getInputStream();
+                }
+            } else {
+                inputStream = connection.getInputStream();
+            }
+
+            String body = null;
+            if (inputStream != null) {
+                StringBuilder response = ResponseReader.createBuffer(
+                        connection.getContentEncoding(),
+                        connection.getContentLength()
+                );
+                // Only fully read connections go back to the keep-alive pool
+                reusable = readResponse(connection, inputStream, response);
+                body = response.toString();
+            }
+            return new NetworkResponse(statusCode, body, connection.getHeaderFields());
+        } finally {
+            ConnectionManager.release(connection, reusable);
+        }
+    }
+
+    /**
+     * Opens the connection, sends request body and follows redirects (HTTP and HTTPS only,
+     * at most {@link BaseNetworkTask#MAX_REDIRECTS_COUNT} times).
+     *
+     * @return connection with the final response
+     */
+    static URLConnection openConnection(@NonNull NetworkRequest request) throws Exception {
+        return openConnection(request, false);
+    }
+
+    /**
+     * @param acceptGzip if true, asks the server for a gzip-compressed response. The caller must read
+     *                   the response with {@link ResponseReader}.
+     */
+    static URLConnection openConnection(
+            @NonNull NetworkRequest request,
+            boolean acceptGzip
+    ) throws Exception {
+        URLConnection connection = new URL(request.getUrl()).openConnection();
+        ConnectionManager.onConnectionOpened(connection);
+        if (connection instanceof HttpURLConnection) {
+            ((HttpURLConnection) connection).setRequestMethod(request.getMethod());
+            ((HttpURLConnection) connection).setInstanceFollowRedirects(false);
+        }
+
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+        if (acceptGzip && connection.getRequestProperty(ResponseReader.ACCEPT_ENCODING_HEADER) == null) {
+            connection.setRequestProperty(ResponseReader.ACCEPT_ENCODING_HEADER, ResponseReader.ENCODING_GZIP);
+        }
+
+        connection.setConnectTimeout(request.getConnectTimeoutMillis());
+        connection.setReadTimeout(request.getReadTimeoutMillis());
+
+        if (request.isPost()) {
+            connection.setDoOutput(true);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                if (request.getBody() != null) {
+                    writeBody(request.getBody(), outputStream, request.isGzipBody());
+                }
+            }
+        }
+
+        return openConnectionCheckRedirects(connection);
+    }
+
+    static void writeBody(@NonNull String requestBody, @NonNull OutputStream requestStream) throws IOException {
+        writeBody(requestBody, requestStream, false);
+    }
+
+    /**
+     * Encodes the body in UTF-8 directly into the buffered (and optionally gzipped) stream
+     * without creating an intermediate byte array. Doesn't close the request stream.
+     */
+    static void writeBody(
+            @NonNull String requestBody,
+            @NonNull OutputStream requestStream,
+            boolean gzip
+    ) throws IOException {
+        OutputStream bodyStream = new BufferedOutputStream(new NonClosingOutputStream(requestStream), BUFFER_SIZE);
+        if (gzip) {
+            bodyStream = new GZIPOutputStream(bodyStream, BUFFER_SIZE);
+        }
+        try (Writer writer = new OutputStreamWriter(bodyStream, StandardCharsets.UTF_8)) {
+            writer.write(requestBody);
+        }
+    }
+
+    /**
+     * Reads server response from <code>InputStream<code/> and returns a string response.
+     * Handles stream closing properly.
+     *
+     * @param inputStream stream to read response from.
+     * @return A String containing server response or null if input stream is null.
+     */
+    @Nullable
+    static String readResponse(
+            @Nullable
+            InputStream inputStream
+    ) {
+        return readResponse(null, inputStream);
+    }
+
+    /**
+     * Same as {@link #readResponse(InputStream)}, but decompresses the body and presizes the buffer
+     * according to the connection response headers.
+     */
+    @Nullable
+    static String readResponse(
+            @Nullable URLConnection connection,
+            @Nullable InputStream inputStream
+    ) {
+        if (inputStream == null) {
+            return null;
+        }
+
+        StringBuilder response = connection != null
+                ? ResponseReader.createBuffer(connection.getContentEncoding(), connection.getContentLength())
+                : ResponseReader.createBuffer(null, -1);
+        readResponse(connection, inputStream, response);
+        return response.toString();
+    }
+
+    /**
+     * Appends the body to the response. If reading fails, the response keeps the part read before the failure.
+     *
+     * @return true if the stream was read to the end
+     */
+    private static boolean readResponse(
+            @Nullable URLConnection connection,
+            @NonNull InputStream inputStream,
+            @NonNull StringBuilder response
+    ) {
+        try {
+            ResponseReader.readTo(response, inputStream, connection != null ? connection.getContentEncoding() : null);
+            return true;
+        } catch (Exception exception) {
+            if (response.length() > 0) {
+                LogUtil.error(TAG, "Exception in readResponse(): " + exception.getMessage());
+            } else {
+                LogUtil.error(TAG, "Empty response: " + exception.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private static URLConnection openConnectionCheckRedirects(URLConnection connection) throws Exception {
+        boolean redirected;
+        int redirects = 0;
+        do {
+            redirected = false;
+            int status = 0;
+
+            if (connection instanceof HttpURLConnection) {
+                status = ((HttpURLConnection) connection).getResponseCode();
+            }
+
+            if (status >= 300 && status <= 307 && status != 306 && status != HttpURLConnection.HTTP_NOT_MODIFIED) {
+                URL base = connection.getURL();
+                String location = connection.getHeaderField("Location");
+
+                LogUtil.debug(TAG, (location == null)
+                        ? "not found location"
+                        : "location = " + location);
+                URL target = null;
+                if (location != null) {
+                    target = new URL(base, location);
+                }
+
+                ((HttpURLConnection) connection).disconnect();
+
+                // Redirection should be allowed only for HTTP and HTTPS
+                // and should be limited to 5 redirections at most.
+                if (target == null || !(target.getProtocol().equals("http")
+                                        || target.getProtocol().equals("https"))
+                    || redirects >= BaseNetworkTask.MAX_REDIRECTS_COUNT) {
+                    String error = String.format("Bad server response - [HTTP Response code of %s]", status);
+                    LogUtil.error(TAG, error);
+                    throw new Exception(error);
+                }
+                redirected = true;
+                connection = target.openConnection();
+                ConnectionManager.onConnectionOpened(connection);
+                redirects++;
+            }
+        }
+        while (redirected);
+        return connection;
+    }
+
+    /**
+     * Lets wrapping streams (gzip trailer, buffer) be closed without closing the connection stream.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(@NonNull byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+    }
+
+}
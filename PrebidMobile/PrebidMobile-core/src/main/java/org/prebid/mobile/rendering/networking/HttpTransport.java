@@ -0,0 +1,26 @@
+package org.prebid.mobile.rendering.networking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+/**
+ * Transport that performs HTTP requests on behalf of the SDK (auctions, tracking events,
+ * VAST wrappers, status requests).
+ * <p>
+ * The SDK always calls {@link #execute(NetworkRequest)} on one of the SDK worker threads,
+ * so implementations may block. Apps can set their own implementation with
+ * {@link org.prebid.mobile.PrebidMobile#setHttpTransport(HttpTransport)} to reuse a pooled client.
+ * If {@link NetworkRequest#isGzipBody()} returns true, the body must be sent gzip-compressed.
+ */
+public interface HttpTransport {
+
+    /**
+     * Performs the request and returns the server response. Any HTTP status must be returned
+     * as a response, exceptions are expected only for transport failures (timeouts, broken
+     * connections, invalid redirects).
+     */
+    @NonNull
+    @WorkerThread
+    NetworkResponse execute(@NonNull NetworkRequest request) throws Exception;
+
+}
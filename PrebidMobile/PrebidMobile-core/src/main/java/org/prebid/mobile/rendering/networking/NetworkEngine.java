@@ -0,0 +1,93 @@
+package org.prebid.mobile.rendering.networking;
+
+import android.os.AsyncTask;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs SDK network tasks in the {@link TaskLane} of their kind on the shared SDK workers, so that auctions don't
+ * compete with the host app tasks on {@link AsyncTask#THREAD_POOL_EXECUTOR} or with slow downloads, and holds
+ * the current {@link HttpTransport}.
+ */
+public class NetworkEngine {
+
+    private static final String TAG = NetworkEngine.class.getSimpleName();
+
+    private static final HttpTransport DEFAULT_TRANSPORT = new DefaultHttpTransport();
+
+    private static volatile HttpTransport transport = DEFAULT_TRANSPORT;
+    private static final Map<TaskLane, Executor> executors = new EnumMap<>(TaskLane.class);
+    @Nullable private static volatile Executor testExecutor;
+
+    private NetworkEngine() {
+    }
+
+    /**
+     * Executor for {@link BaseNetworkTask} of the lane. If the lane queue is full, tasks are passed to
+     * {@link AsyncTask#THREAD_POOL_EXECUTOR} instead of being dropped or run on the caller thread.
+     */
+    @NonNull
+    public static Executor getExecutor(@NonNull TaskLane lane) {
+        Executor result = testExecutor;
+        if (result != null) {
+            return result;
+        }
+        synchronized (executors) {
+            result = executors.get(lane);
+            if (result == null) {
+                result = createExecutor(lane);
+                executors.put(lane, result);
+            }
+        }
+        return result;
+    }
+
+    @NonNull
+    public static HttpTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets custom transport. Null resets it to the default {@link DefaultHttpTransport}.
+     */
+    public static void setTransport(@Nullable HttpTransport transport) {
+        NetworkEngine.transport = transport != null ? transport : DEFAULT_TRANSPORT;
+    }
+
+    public static boolean isDefaultTransport() {
+        return transport == DEFAULT_TRANSPORT;
+    }
+
+    /**
+     * Replaces executors of all lanes, null restores the lane executors.
+     */
+    @VisibleForTesting
+    static void setExecutor(@Nullable Executor executor) {
+        testExecutor = executor;
+    }
+
+    private static Executor createExecutor(TaskLane lane) {
+        ExecutorService laneExecutor = TasksManager.getInstance().createExecutorService(lane);
+        return runnable -> {
+            try {
+                laneExecutor.execute(runnable);
+            } catch (RejectedExecutionException exception) {
+                LogUtil.warning(TAG, "Queue of lane " + lane + " is full. Falling back to the AsyncTask executor.");
+                AsyncTask.THREAD_POOL_EXECUTOR.execute(runnable);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.prebid.mobile.rendering.networking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable HTTP request passed to {@link HttpTransport}.
+ */
+public class NetworkRequest {
+
+    public static final String METHOD_GET = "GET";
+    public static final String METHOD_POST = "POST";
+
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    public static final String ENCODING_GZIP = "gzip";
+
+    private final String url;
+    private final String method;
+    @Nullable
+    private final String body;
+    private final Map<String, String> headers;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    /**
+     * @param url                  full request url including query part
+     * @param method               {@link #METHOD_GET} or {@link #METHOD_POST}
+     * @param body                 request body, used only for POST requests
+     * @param headers              request headers
+     * @param connectTimeoutMillis connection timeout
+     * @param readTimeoutMillis    read timeout, 0 means infinite timeout
+     */
+    public NetworkRequest(
+            @NonNull String url,
+            @NonNull String method,
+            @Nullable String body,
+            @Nullable Map<String, String> headers,
+            int connectTimeoutMillis,
+            int readTimeoutMillis
+    ) {
+        this.url = url;
+        this.method = method;
+        this.body = body;
+        this.headers = headers != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(headers))
+                : Collections.emptyMap();
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    @NonNull
+    public String getUrl() {
+        return url;
+    }
+
+    @NonNull
+    public String getMethod() {
+        return method;
+    }
+
+    @Nullable
+    public String getBody() {
+        return body;
+    }
+
+    @NonNull
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public int getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    public boolean isPost() {
+        return METHOD_POST.equals(method);
+    }
+
+    /**
+     * Returns true if the body must be sent compressed, i.e. the request has
+     * <code>Content-Encoding: gzip</code> header. Transports are responsible for the compression.
+     */
+    public boolean isGzipBody() {
+        if (body == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (CONTENT_ENCODING_HEADER.equalsIgnoreCase(header.getKey())) {
+                return ENCODING_GZIP.equalsIgnoreCase(header.getValue());
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.prebid.mobile.rendering.networking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP response returned by {@link HttpTransport}.
+ */
+public class NetworkResponse {
+
+    private final int statusCode;
+    @Nullable
+    private final String body;
+    private final Map<String, List<String>> headers;
+
+    /**
+     * @param statusCode HTTP status code
+     * @param body       response body (or error body for 4xx/5xx responses)
+     * @param headers    response headers
+     */
+    public NetworkResponse(
+            int statusCode,
+            @Nullable String body,
+            @Nullable Map<String, List<String>> headers
+    ) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.headers = headers != null ? headers : Collections.emptyMap();
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Nullable
+    public String getBody() {
+        return body;
+    }
+
+    @NonNull
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the first value of the header. Header names are compared case insensitively.
+     */
+    @Nullable
+    public String getHeader(@NonNull String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                List<String> values = header.getValue();
+                return values == null || values.isEmpty() ? null : values.get(0);
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,138 @@
+package org.prebid.mobile.rendering.networking;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads HTTP response bodies: decompresses gzip encoded responses, decodes them as UTF-8
+ * and presizes buffers from <code>Content-Length</code>.
+ */
+public class ResponseReader {
+
+    public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    public static final String ENCODING_GZIP = "gzip";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Typical compression ratio of JSON and XML responses, used to estimate
+     * the decompressed size of gzip responses.
+     */
+    private static final int GZIP_RATIO = 4;
+    private static final int MAX_PRESIZED_CAPACITY = 1024 * 1024;
+
+    private ResponseReader() {
+    }
+
+    /**
+     * Reads the whole body of the connection response.
+     */
+    @NonNull
+    public static String readString(
+            @NonNull URLConnection connection,
+            @NonNull InputStream inputStream
+    ) throws IOException {
+        return readString(inputStream, connection.getContentEncoding(), connection.getContentLength());
+    }
+
+    /**
+     * Reads the whole stream and closes it.
+     *
+     * @param contentEncoding value of the <code>Content-Encoding</code> header
+     * @param contentLength   value of the <code>Content-Length</code> header, -1 if unknown
+     */
+    @NonNull
+    public static String readString(
+            @NonNull InputStream inputStream,
+            @Nullable String contentEncoding,
+            int contentLength
+    ) throws IOException {
+        StringBuilder response = createBuffer(contentEncoding, contentLength);
+        readTo(response, inputStream, contentEncoding);
+        return response.toString();
+    }
+
+    /**
+     * Returns the buffer presized for the body.
+     *
+     * @param contentEncoding value of the <code>Content-Encoding</code> header
+     * @param contentLength   value of the <code>Content-Length</code> header, -1 if unknown
+     */
+    @NonNull
+    public static StringBuilder createBuffer(
+            @Nullable String contentEncoding,
+            int contentLength
+    ) {
+        return new StringBuilder(getInitialCapacity(contentEncoding, contentLength));
+    }
+
+    /**
+     * Appends the whole stream to the response and closes it. If reading fails, the response keeps
+     * the part read before the failure.
+     *
+     * @param contentEncoding value of the <code>Content-Encoding</code> header
+     */
+    public static void readTo(
+            @NonNull StringBuilder response,
+            @NonNull InputStream inputStream,
+            @Nullable String contentEncoding
+    ) throws IOException {
+        try (Reader reader = openReader(inputStream, contentEncoding)) {
+            char[] buffer = new char[BUFFER_SIZE];
+            int charsRead;
+            while ((charsRead = reader.read(buffer, 0, buffer.length)) != -1) {
+                response.append(buffer, 0, charsRead);
+            }
+        }
+    }
+
+    /**
+     * Returns buffered UTF-8 reader of the decompressed stream. The caller must close it.
+     */
+    @NonNull
+    private static Reader openReader(
+            @NonNull InputStream inputStream,
+            @Nullable String contentEncoding
+    ) throws IOException {
+        return new BufferedReader(
+                new InputStreamReader(decode(inputStream, contentEncoding), StandardCharsets.UTF_8),
+                BUFFER_SIZE
+        );
+    }
+
+    @NonNull
+    private static InputStream decode(
+            @NonNull InputStream inputStream,
+            @Nullable String contentEncoding
+    ) throws IOException {
+        if (ENCODING_GZIP.equalsIgnoreCase(contentEncoding)) {
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+        return new BufferedInputStream(inputStream, BUFFER_SIZE);
+    }
+
+    static int getInitialCapacity(
+            @Nullable String contentEncoding,
+            int contentLength
+    ) {
+        if (contentLength <= 0) {
+            return BUFFER_SIZE;
+        }
+
+        long capacity = ENCODING_GZIP.equalsIgnoreCase(contentEncoding)
+                ? (long) contentLength * GZIP_RATIO
+                : contentLength;
+        return (int) Math.min(capacity, MAX_PRESIZED_CAPACITY);
+    }
+
+}
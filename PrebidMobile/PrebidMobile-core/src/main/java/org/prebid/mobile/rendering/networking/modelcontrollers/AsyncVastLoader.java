@@ -19,8 +19,10 @@ package org.prebid.mobile.rendering.networking.modelcontrollers;
 import android.os.AsyncTask;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
 import org.prebid.mobile.rendering.networking.BaseResponseHandler;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
+import org.prebid.mobile.tasksmanager.TaskLane;
 
 public class AsyncVastLoader {
 
@@ -38,7 +40,7 @@ public class AsyncVastLoader {
             params.name = "videorequest";
         }
 
-        videoRequestAsyncTask = videoRequestTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        videoRequestAsyncTask = videoRequestTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.RENDERING), params);
     }
 
     public void cancelTask() {
@@ -0,0 +1,132 @@
+package org.prebid.mobile.rendering.networking.modelcontrollers;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.models.openrtb.BidRequest;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Imp;
+import org.prebid.mobile.rendering.networking.ResponseHandler;
+import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
+import org.prebid.mobile.rendering.networking.urlBuilder.BidPathBuilder;
+import org.prebid.mobile.rendering.networking.urlBuilder.PathBuilderBase;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLBuilder;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLComponents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends one multi-imp request for several ad units.
+ * <p>
+ * Each ad unit is built with the regular parameter builders. Request level fields are taken
+ * from the first ad unit, imps of other ad units are appended to it and missing
+ * <code>ext.prebid</code> values are merged.
+ */
+public class BatchBidRequester extends Requester {
+
+    private static final String TAG = BatchBidRequester.class.getSimpleName();
+    private static final String REQUEST_NAME = "batchbidrequest";
+
+    private final List<AdUnitConfiguration> configurations;
+    private final List<String> impIds = new ArrayList<>();
+
+    public BatchBidRequester(
+            @NonNull List<AdUnitConfiguration> configurations,
+            ResponseHandler responseHandler
+    ) {
+        super(configurations.get(0), new AdRequestInput(), responseHandler);
+        this.configurations = new ArrayList<>(configurations);
+        requestName = REQUEST_NAME;
+    }
+
+    @Override
+    public void startAdRequest() {
+        getAdId();
+    }
+
+    /**
+     * Returns imp ids of the ad units in the order of configurations. Empty before the request is built.
+     */
+    @NonNull
+    public List<String> getImpIds() {
+        return Collections.unmodifiableList(impIds);
+    }
+
+    @Override
+    protected PathBuilderBase getPathBuilder() {
+        return new BidPathBuilder();
+    }
+
+    @Override
+    protected URLComponents buildUrlComponent() {
+        impIds.clear();
+
+        URLComponents result = null;
+        for (AdUnitConfiguration configuration : configurations) {
+            adConfiguration = configuration;
+            URLBuilder builder = new URLBuilder(
+                    getPathBuilder(),
+                    new ArrayList<>(getParameterBuilders()),
+                    new AdRequestInput()
+            );
+            URLComponents components = builder.buildUrl();
+
+            BidRequest bidRequest = components.getAdRequestInput().getBidRequest();
+            Imp imp = bidRequest.getImp().get(0);
+            imp.setOrtbConfig(bidRequest.getImpOrtbConfig());
+            impIds.add(imp.id);
+
+            if (result == null) {
+                result = components;
+            } else {
+                BidRequest batchRequest = result.getAdRequestInput().getBidRequest();
+                batchRequest.getImp().add(imp);
+                mergeMissingValues(batchRequest.getExt().getMap(), bidRequest.getExt().getMap());
+            }
+        }
+        adConfiguration = configurations.get(0);
+        return result;
+    }
+
+    private static void mergeMissingValues(
+            Map<String, Object> target,
+            Map<String, Object> source
+    ) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object targetValue = target.get(entry.getKey());
+            if (targetValue == null) {
+                target.put(entry.getKey(), entry.getValue());
+            } else if (targetValue instanceof JSONObject && entry.getValue() instanceof JSONObject) {
+                mergeMissingValues((JSONObject) targetValue, (JSONObject) entry.getValue());
+            }
+        }
+    }
+
+    private static void mergeMissingValues(
+            JSONObject target,
+            JSONObject source
+    ) {
+        Iterator<String> keys = source.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            Object targetValue = target.opt(key);
+            Object sourceValue = source.opt(key);
+            try {
+                if (targetValue == null) {
+                    target.put(key, sourceValue);
+                } else if (targetValue instanceof JSONObject && sourceValue instanceof JSONObject) {
+                    mergeMissingValues((JSONObject) targetValue, (JSONObject) sourceValue);
+                }
+            } catch (JSONException exception) {
+                LogUtil.error(TAG, "Can't merge request ext: " + exception.getMessage());
+            }
+        }
+    }
+
+}
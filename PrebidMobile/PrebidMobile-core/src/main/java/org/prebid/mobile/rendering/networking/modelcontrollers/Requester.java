@@ -18,16 +18,17 @@ package org.prebid.mobile.rendering.networking.modelcontrollers;
 
 import android.content.Context;
 import android.content.res.Resources;
-import android.os.AsyncTask;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
 import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
 import org.prebid.mobile.rendering.networking.parameters.AppInfoParameterBuilder;
@@ -48,6 +49,7 @@ import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
 import org.prebid.mobile.rendering.utils.helpers.AdvertisingIdManager;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
 import org.prebid.mobile.rendering.utils.helpers.ExternalViewerUtils;
+import org.prebid.mobile.tasksmanager.TaskLane;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -63,6 +65,8 @@ public abstract class Requester {
     protected BaseNetworkTask networkTask;
     @Nullable
     protected JSONObject builtRequest;
+    @Nullable
+    protected String builtRequestString;
 
     Requester(
             AdUnitConfiguration config,
@@ -84,11 +88,29 @@ public abstract class Requester {
 
     public abstract void startAdRequest();
 
+    /**
+     * Returns the sent request. The JSON tree is parsed from the sent string on the first call.
+     */
     @NonNull
     public JSONObject getBuiltRequest() {
+        if (builtRequest == null && builtRequestString != null && !builtRequestString.isEmpty()) {
+            try {
+                builtRequest = new JSONObject(builtRequestString);
+            } catch (JSONException exception) {
+                LogUtil.error(TAG, "Can't parse built request: " + exception.getMessage());
+            }
+        }
         return builtRequest == null ? new JSONObject() : builtRequest;
     }
 
+    /**
+     * Returns the sent request as it was sent, without parsing it.
+     */
+    @Nullable
+    public String getBuiltRequestString() {
+        return builtRequestString;
+    }
+
     public void destroy() {
         if (networkTask != null) {
             networkTask.cancel(true);
@@ -183,10 +205,11 @@ public abstract class Requester {
         params.userAgent = AppInfoManager.getUserAgent();
         params.name = requestName;
 
-        builtRequest = jsonUrlComponents.getRequestJsonObject();
+        builtRequest = null;
+        builtRequestString = queryArgString;
 
         networkTask = new BaseNetworkTask(adResponseCallBack);
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        networkTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.AUCTION), params);
     }
 
 }
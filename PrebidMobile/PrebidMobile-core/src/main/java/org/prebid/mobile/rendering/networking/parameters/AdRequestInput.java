@@ -16,41 +16,22 @@
 
 package org.prebid.mobile.rendering.networking.parameters;
 
-import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.models.openrtb.BidRequest;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-
 public class AdRequestInput {
 
-    private static final String TAG = AdRequestInput.class.getSimpleName();
-
     private BidRequest bidRequest;
 
     public AdRequestInput() {
         bidRequest = new BidRequest();
     }
 
+    private AdRequestInput(BidRequest bidRequest) {
+        this.bidRequest = bidRequest;
+    }
+
     public AdRequestInput getDeepCopy() {
-        AdRequestInput newAdRequestInput = new AdRequestInput();
-
-        try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            oos.writeObject(bidRequest);
-            ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
-            ObjectInputStream ois = new ObjectInputStream(bais);
-            newAdRequestInput.bidRequest = (BidRequest) ois.readObject();
-        }
-        catch (Exception e) {
-            LogUtil.error(TAG, "Failed to make deep copy of bid request");
-            return null;
-        }
-
-        return newAdRequestInput;
+        return new AdRequestInput(bidRequest != null ? new BidRequest(bidRequest) : null);
     }
 
     public BidRequest getBidRequest() {
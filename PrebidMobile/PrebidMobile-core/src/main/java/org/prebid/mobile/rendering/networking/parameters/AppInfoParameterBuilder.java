@@ -39,7 +39,17 @@ public class AppInfoParameterBuilder extends ParameterBuilder {
 
     @Override
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
-        App app = adRequestInput.getBidRequest().getApp();
+        App cachedApp = RequestFragmentCache.getApp();
+        if (cachedApp == null) {
+            int generation = RequestFragmentCache.getGeneration();
+            cachedApp = createApp();
+            RequestFragmentCache.putApp(cachedApp, generation);
+        }
+        adRequestInput.getBidRequest().setApp(new App(cachedApp));
+    }
+
+    private App createApp() {
+        App app = new App();
         app.getPublisher().id = PrebidMobile.getPrebidServerAccountId();
 
         String appName = AppInfoManager.getAppName();
@@ -79,5 +89,6 @@ public class AppInfoParameterBuilder extends ParameterBuilder {
         if (!extDataDictionary.isEmpty()) {
             app.getExt().put("data", Utils.toJson(extDataDictionary));
         }
+        return app;
     }
 }
@@ -43,45 +43,75 @@ public class DeviceInfoParameterBuilder extends ParameterBuilder {
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
         DeviceInfoManager deviceManager = ManagersResolver.getInstance().getDeviceManager();
         if (deviceManager != null) {
-
-            int screenWidth = deviceManager.getScreenWidth();
-            int screenHeight = deviceManager.getScreenHeight();
+            Device cachedDeviceInfo = RequestFragmentCache.getDeviceInfo();
+            if (cachedDeviceInfo == null) {
+                int generation = RequestFragmentCache.getGeneration();
+                cachedDeviceInfo = createDeviceInfo(deviceManager);
+                RequestFragmentCache.putDeviceInfo(cachedDeviceInfo, generation);
+            }
 
             Device device = adRequestInput.getBidRequest().getDevice();
+            copyDeviceInfo(cachedDeviceInfo, device);
 
-            device.pxratio = Utils.DENSITY;
-            if (screenWidth > 0 && screenHeight > 0) {
-                device.w = screenWidth;
-                device.h = screenHeight;
+            final AdSize minSizePercentage = adConfiguration.getMinSizePercentage();
+            if (minSizePercentage != null) {
+                device.getExt().put("prebid", Prebid.getJsonObjectForDeviceMinSizePerc(minSizePercentage));
             }
+        }
+    }
 
-            String advertisingId = AdvertisingIdManager.getAdvertisingId(ManagersResolver.getInstance().getUserConsentManager());
-            if (Utils.isNotBlank(advertisingId)) {
-                device.ifa = advertisingId;
-            }
+    private Device createDeviceInfo(DeviceInfoManager deviceManager) {
+        int screenWidth = deviceManager.getScreenWidth();
+        int screenHeight = deviceManager.getScreenHeight();
 
-            boolean tabletSize = deviceManager.isTablet();
-            if (tabletSize) {
-                device.devicetype = Device.DeviceType.TABLET.value;
-            } else {
-                device.devicetype = Device.DeviceType.SMARTPHONE.value;
-            }
+        Device device = new Device();
 
-            device.make = Build.MANUFACTURER;
-            device.model = Build.MODEL;
-            device.os = PLATFORM_VALUE;
-            device.osv = Build.VERSION.RELEASE;
-            device.language = Locale.getDefault().getLanguage();
-            device.ua = AppInfoManager.getUserAgent();
+        device.pxratio = Utils.DENSITY;
+        if (screenWidth > 0 && screenHeight > 0) {
+            device.w = screenWidth;
+            device.h = screenHeight;
+        }
 
-            // lmt and APP_ADVERTISING_ID_ENABLED are opposites
-            boolean lmt = AdvertisingIdManager.isLimitedAdTrackingEnabled();
-            device.lmt = lmt ? 1 : 0;
+        String advertisingId = AdvertisingIdManager.getAdvertisingId(ManagersResolver.getInstance().getUserConsentManager());
+        if (Utils.isNotBlank(advertisingId)) {
+            device.ifa = advertisingId;
+        }
 
-            final AdSize minSizePercentage = adConfiguration.getMinSizePercentage();
-            if (minSizePercentage != null) {
-                device.getExt().put("prebid", Prebid.getJsonObjectForDeviceMinSizePerc(minSizePercentage));
-            }
+        boolean tabletSize = deviceManager.isTablet();
+        if (tabletSize) {
+            device.devicetype = Device.DeviceType.TABLET.value;
+        } else {
+            device.devicetype = Device.DeviceType.SMARTPHONE.value;
         }
+
+        device.make = Build.MANUFACTURER;
+        device.model = Build.MODEL;
+        device.os = PLATFORM_VALUE;
+        device.osv = Build.VERSION.RELEASE;
+        device.language = Locale.getDefault().getLanguage();
+        device.ua = AppInfoManager.getUserAgent();
+
+        // lmt and APP_ADVERTISING_ID_ENABLED are opposites
+        boolean lmt = AdvertisingIdManager.isLimitedAdTrackingEnabled();
+        device.lmt = lmt ? 1 : 0;
+        return device;
+    }
+
+    private static void copyDeviceInfo(
+            Device from,
+            Device to
+    ) {
+        to.pxratio = from.pxratio;
+        to.w = from.w;
+        to.h = from.h;
+        to.ifa = from.ifa;
+        to.devicetype = from.devicetype;
+        to.make = from.make;
+        to.model = from.model;
+        to.os = from.os;
+        to.osv = from.osv;
+        to.language = from.language;
+        to.ua = from.ua;
+        to.lmt = from.lmt;
     }
 }
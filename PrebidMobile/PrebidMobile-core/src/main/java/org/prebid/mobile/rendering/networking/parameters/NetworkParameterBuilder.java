@@ -16,6 +16,7 @@
 
 package org.prebid.mobile.rendering.networking.parameters;
 
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Device;
 import org.prebid.mobile.rendering.sdk.ManagersResolver;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
@@ -28,34 +29,55 @@ public class NetworkParameterBuilder extends ParameterBuilder {
 
     @Override
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
+        Device cachedConnectionInfo = RequestFragmentCache.getConnectionInfo();
+        if (cachedConnectionInfo == null) {
+            int generation = RequestFragmentCache.getGeneration();
+            cachedConnectionInfo = createConnectionInfo();
+            RequestFragmentCache.putConnectionInfo(cachedConnectionInfo, generation);
+        }
+
+        if (cachedConnectionInfo.mccmnc != null) {
+            adRequestInput.getBidRequest().getDevice().mccmnc = cachedConnectionInfo.mccmnc;
+        }
+        if (cachedConnectionInfo.carrier != null) {
+            adRequestInput.getBidRequest().getDevice().carrier = cachedConnectionInfo.carrier;
+        }
+        if (cachedConnectionInfo.connectiontype != null) {
+            adRequestInput.getBidRequest().getDevice().connectiontype = cachedConnectionInfo.connectiontype;
+        }
+    }
+
+    private Device createConnectionInfo() {
+        Device device = new Device();
         DeviceInfoManager deviceManager = ManagersResolver.getInstance().getDeviceManager();
         if (deviceManager != null) {
             String detectedMccMnc = deviceManager.getMccMnc();
             if (Utils.isNotBlank(detectedMccMnc)) {
-                adRequestInput.getBidRequest().getDevice().mccmnc = detectedMccMnc;
+                device.mccmnc = detectedMccMnc;
             }
 
             String detectedCarrier = deviceManager.getCarrier();
             if (Utils.isNotBlank(detectedCarrier)) {
-                adRequestInput.getBidRequest().getDevice().carrier = detectedCarrier;
+                device.carrier = detectedCarrier;
             }
         }
 
         ConnectionInfoManager connectionInfoManager = ManagersResolver.getInstance().getNetworkManager();
         if (connectionInfoManager != null && deviceManager != null) {
-            setNetworkParams(adRequestInput, deviceManager, connectionInfoManager);
+            setNetworkParams(device, deviceManager, connectionInfoManager);
         }
+        return device;
     }
 
-    private void setNetworkParams(AdRequestInput adRequestInput, DeviceInfoManager deviceManager, ConnectionInfoManager connectionInfoManager) {
+    private void setNetworkParams(Device device, DeviceInfoManager deviceManager, ConnectionInfoManager connectionInfoManager) {
         if (deviceManager.isPermissionGranted("android.permission.ACCESS_NETWORK_STATE")) {
             UserParameters.ConnectionType autoDetectedValue = connectionInfoManager.getConnectionType();
             switch (autoDetectedValue) {
                 case WIFI:
-                    adRequestInput.getBidRequest().getDevice().connectiontype = CONNECTION_TYPE_WIFI;
+                    device.connectiontype = CONNECTION_TYPE_WIFI;
                     break;
                 case CELL:
-                    adRequestInput.getBidRequest().getDevice().connectiontype = CONNECTION_TYPE_CELL_UNKNOWN_G;
+                    device.connectiontype = CONNECTION_TYPE_CELL_UNKNOWN_G;
                     break;
             }
         }
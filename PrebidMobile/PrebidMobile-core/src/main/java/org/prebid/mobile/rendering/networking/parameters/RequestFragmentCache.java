@@ -0,0 +1,203 @@
+package org.prebid.mobile.rendering.networking.parameters;
+
+import android.content.BroadcastReceiver;
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.content.res.Configuration;
+import android.net.ConnectivityManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.App;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Device;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Regs;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps request fragments that rarely change between auctions: <code>app</code>,
+ * <code>device</code> (device info and connection) and <code>regs</code>.
+ * <p>
+ * Parameter builders fill the fragment once and copy it into each request. Fragments are dropped
+ * on change signals: {@link org.prebid.mobile.TargetingParams} and consent setters,
+ * consent preferences, connectivity and configuration changes.
+ * Cached fragments must not be modified, builders copy them into the request.
+ */
+public class RequestFragmentCache {
+
+    private static final String TAG = RequestFragmentCache.class.getSimpleName();
+
+    /**
+     * Cached when the request must not contain <code>regs</code>.
+     */
+    static final Regs NO_REGS = new Regs();
+
+    private static volatile App app;
+    private static volatile Device deviceInfo;
+    private static volatile Device connectionInfo;
+    private static volatile Regs regs;
+
+    /**
+     * Incremented on each invalidation, so a fragment built from outdated values is not stored.
+     */
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private static WeakReference<Context> subscribedContext = new WeakReference<>(null);
+
+    private RequestFragmentCache() {
+    }
+
+    /**
+     * Drops all fragments and subscribes to connectivity and configuration changes.
+     */
+    public static synchronized void init(@NonNull Context context) {
+        invalidateAll();
+
+        Context applicationContext = context.getApplicationContext();
+        if (applicationContext == null || applicationContext == subscribedContext.get()) {
+            return;
+        }
+
+        try {
+            applicationContext.registerComponentCallbacks(new ConfigurationCallbacks());
+            applicationContext.registerReceiver(
+                    new ConnectivityReceiver(),
+                    new IntentFilter(ConnectivityManager.CONNECTIVITY_ACTION)
+            );
+            subscribedContext = new WeakReference<>(applicationContext);
+        } catch (Exception exception) {
+            LogUtil.error(TAG, "Can't subscribe to device changes: " + exception.getMessage());
+        }
+    }
+
+    public static synchronized void invalidateApp() {
+        generation.incrementAndGet();
+        app = null;
+    }
+
+    /**
+     * Drops device info and connection fragments.
+     */
+    public static synchronized void invalidateDevice() {
+        generation.incrementAndGet();
+        deviceInfo = null;
+        connectionInfo = null;
+    }
+
+    public static synchronized void invalidateConnection() {
+        generation.incrementAndGet();
+        connectionInfo = null;
+    }
+
+    public static synchronized void invalidateRegs() {
+        generation.incrementAndGet();
+        regs = null;
+    }
+
+    /**
+     * Must be called when user consents are changed, they affect <code>regs</code>
+     * and advertising id in <code>device</code>.
+     */
+    public static void onConsentChanged() {
+        invalidateRegs();
+        invalidateDevice();
+    }
+
+    public static void invalidateAll() {
+        invalidateApp();
+        invalidateDevice();
+        invalidateRegs();
+    }
+
+    static int getGeneration() {
+        return generation.get();
+    }
+
+    @Nullable
+    static App getApp() {
+        return app;
+    }
+
+    static synchronized void putApp(
+            @NonNull App app,
+            int builtGeneration
+    ) {
+        if (builtGeneration == generation.get()) {
+            RequestFragmentCache.app = app;
+        }
+    }
+
+    @Nullable
+    static Device getDeviceInfo() {
+        return deviceInfo;
+    }
+
+    static synchronized void putDeviceInfo(
+            @NonNull Device deviceInfo,
+            int builtGeneration
+    ) {
+        if (builtGeneration == generation.get()) {
+            RequestFragmentCache.deviceInfo = deviceInfo;
+        }
+    }
+
+    @Nullable
+    static Device getConnectionInfo() {
+        return connectionInfo;
+    }
+
+    static synchronized void putConnectionInfo(
+            @NonNull Device connectionInfo,
+            int builtGeneration
+    ) {
+        if (builtGeneration == generation.get()) {
+            RequestFragmentCache.connectionInfo = connectionInfo;
+        }
+    }
+
+    @Nullable
+    static Regs getRegs() {
+        return regs;
+    }
+
+    static synchronized void putRegs(
+            @NonNull Regs regs,
+            int builtGeneration
+    ) {
+        if (builtGeneration == generation.get()) {
+            RequestFragmentCache.regs = regs;
+        }
+    }
+
+    private static class ConfigurationCallbacks implements ComponentCallbacks {
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {
+            // Screen size, orientation and locale are part of the device fragment
+            invalidateDevice();
+        }
+
+        @Override
+        public void onLowMemory() {
+        }
+
+    }
+
+    private static class ConnectivityReceiver extends BroadcastReceiver {
+
+        @Override
+        public void onReceive(
+                Context context,
+                Intent intent
+        ) {
+            invalidateConnection();
+        }
+
+    }
+
+}
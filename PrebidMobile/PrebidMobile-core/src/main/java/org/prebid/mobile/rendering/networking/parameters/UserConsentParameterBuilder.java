@@ -17,6 +17,7 @@
 package org.prebid.mobile.rendering.networking.parameters;
 
 import org.prebid.mobile.rendering.models.openrtb.BidRequest;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Regs;
 import org.prebid.mobile.rendering.sdk.ManagersResolver;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.UserConsentManager;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
@@ -38,19 +39,44 @@ public class UserConsentParameterBuilder extends ParameterBuilder {
     public void appendBuilderParameters(AdRequestInput adRequestInput) {
         BidRequest bidRequest = adRequestInput.getBidRequest();
 
-        appendGdprParameter(bidRequest);
-        appendCcpaParameter(bidRequest);
-        appendCoppaParameter(bidRequest);
-        appendGppParameter(bidRequest);
+        Regs cachedRegs = RequestFragmentCache.getRegs();
+        if (cachedRegs == null) {
+            int generation = RequestFragmentCache.getGeneration();
+            cachedRegs = createRegs();
+            RequestFragmentCache.putRegs(cachedRegs, generation);
+        }
+        if (cachedRegs != RequestFragmentCache.NO_REGS) {
+            bidRequest.setRegs(new Regs(cachedRegs));
+        }
+
+        appendGdprConsentParameter(bidRequest);
     }
 
-    private void appendGdprParameter(BidRequest bidRequest) {
+    /**
+     * Returns {@link RequestFragmentCache#NO_REGS} if there are no values for <code>regs</code>.
+     */
+    private Regs createRegs() {
+        Regs regs = new Regs();
+        boolean hasValues = appendGdprParameter(regs);
+        hasValues |= appendCcpaParameter(regs);
+        hasValues |= appendCoppaParameter(regs);
+        hasValues |= appendGppParameter(regs);
+        return hasValues ? regs : RequestFragmentCache.NO_REGS;
+    }
+
+    private boolean appendGdprParameter(Regs regs) {
         Boolean subjectToGdpr = userConsentManager.getSubjectToGdpr();
 
         if (subjectToGdpr != null) {
             int gdprValue = subjectToGdpr ? 1 : 0;
-            bidRequest.getRegs().getExt().put(GDPR, gdprValue);
+            regs.getExt().put(GDPR, gdprValue);
+            return true;
+        }
+        return false;
+    }
 
+    private void appendGdprConsentParameter(BidRequest bidRequest) {
+        if (userConsentManager.getSubjectToGdpr() != null) {
             String userConsentString = userConsentManager.getGdprConsent();
             if (!Utils.isBlank(userConsentString)) {
                 bidRequest.getUser().getExt().put(CONSENT, userConsentString);
@@ -58,31 +84,39 @@ public class UserConsentParameterBuilder extends ParameterBuilder {
         }
     }
 
-    private void appendCcpaParameter(BidRequest bidRequest) {
+    private boolean appendCcpaParameter(Regs regs) {
         String usPrivacyString = userConsentManager.getUsPrivacyString();
 
         if (!Utils.isBlank(usPrivacyString)) {
-            bidRequest.getRegs().getExt().put(US_PRIVACY, usPrivacyString);
+            regs.getExt().put(US_PRIVACY, usPrivacyString);
+            return true;
         }
+        return false;
     }
 
-    private void appendCoppaParameter(BidRequest bidRequest) {
+    private boolean appendCoppaParameter(Regs regs) {
         Boolean subjectToCoppa = userConsentManager.getSubjectToCoppa();
         if (subjectToCoppa != null) {
-            bidRequest.getRegs().getExt().put(COPPA_SUBJECT, subjectToCoppa ? 1 : 0);
+            regs.getExt().put(COPPA_SUBJECT, subjectToCoppa ? 1 : 0);
+            return true;
         }
+        return false;
     }
 
-    private void appendGppParameter(BidRequest bidRequest) {
+    private boolean appendGppParameter(Regs regs) {
+        boolean hasValues = false;
         String gppString = userConsentManager.getRealGppString();
         if (gppString != null) {
-            bidRequest.getRegs().setGppString(gppString);
+            regs.setGppString(gppString);
+            hasValues = true;
         }
 
         String gppSid = userConsentManager.getRealGppSid();
         if (gppSid != null) {
-            bidRequest.getRegs().setGppSid(gppSid);
+            regs.setGppSid(gppSid);
+            hasValues = true;
         }
+        return hasValues;
     }
 
 }
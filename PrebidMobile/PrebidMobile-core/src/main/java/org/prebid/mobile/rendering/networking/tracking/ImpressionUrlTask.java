@@ -35,6 +35,11 @@ class ImpressionUrlTask extends BaseNetworkTask {
         super(handler);
     }
 
+    @Override
+    protected boolean requiresUrlConnection() {
+        return true;
+    }
+
     @Override
     public GetUrlResult customParser(int code, URLConnection urlConnection) {
         GetUrlResult result;
@@ -16,11 +16,12 @@
 
 package org.prebid.mobile.rendering.networking.tracking;
 
-import android.os.AsyncTask;
 
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
 import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
+import org.prebid.mobile.tasksmanager.TaskLane;
 
 public class ServerConnection {
 
@@ -32,7 +33,7 @@ public class ServerConnection {
         params.userAgent = AppInfoManager.getUserAgent();
         params.name = "recordevents";
 
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        networkTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.TRACKING), params);
     }
 
     public static void fireStatusRequest(String url, ResponseHandler responseHandler) {
@@ -43,7 +44,7 @@ public class ServerConnection {
         params.userAgent = AppInfoManager.getUserAgent();
         params.name = BaseNetworkTask.STATUS_TASK;
 
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        networkTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.TRACKING), params);
     }
 
     public static void fireAndForget(String resourceURL) {
@@ -59,6 +60,6 @@ public class ServerConnection {
         params.name = BaseNetworkTask.REDIRECT_TASK;
 
         BaseNetworkTask networkTask = new ImpressionUrlTask(null);
-        networkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        networkTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.TRACKING), params);
     }
 }
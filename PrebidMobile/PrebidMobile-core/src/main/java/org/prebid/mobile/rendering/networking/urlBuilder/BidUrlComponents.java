@@ -16,8 +16,8 @@
 
 package org.prebid.mobile.rendering.networking.urlBuilder;
 
-import org.json.JSONObject;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.models.openrtb.OpenRtbWriter;
 import org.prebid.mobile.rendering.networking.parameters.AdRequestInput;
 
 public class BidUrlComponents extends URLComponents {
@@ -31,10 +31,7 @@ public class BidUrlComponents extends URLComponents {
     public String getQueryArgString() {
         String openrtb = "";
         try {
-            JSONObject bidRequestJson = adRequestInput.getBidRequest().getJsonObject();
-            if (bidRequestJson.length() > 0) {
-                openrtb = bidRequestJson.toString();
-            }
+            openrtb = OpenRtbWriter.toJsonString(adRequestInput.getBidRequest());
         }
         catch (Exception e) {
             LogUtil.error(TAG, "Failed to add OpenRTB query arg");
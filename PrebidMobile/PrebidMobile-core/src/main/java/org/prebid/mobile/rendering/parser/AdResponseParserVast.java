@@ -223,6 +223,16 @@ public class AdResponseParserVast extends AdResponseParserBase {
 
     //Returns the best media file fit for the device
     public String getMediaFileUrl(AdResponseParserVast parserVast, int index) {
+        return getMediaFileUrl(parserVast, index, 0);
+    }
+
+    /**
+     * Returns the media file with the highest resolution amongst the ones that fit the bitrate.
+     * If no media file fits, the one with the lowest bitrate is returned.
+     *
+     * @param maxBitrate bitrate limit in kbps, 0 if it's not limited
+     */
+    public String getMediaFileUrl(AdResponseParserVast parserVast, int index, int maxBitrate) {
         String myBestMediaFileURL = null;
         ArrayList<MediaFile> eligibleMediaFiles = new ArrayList<>();
         /**
@@ -232,7 +242,7 @@ public class AdResponseParserVast extends AdResponseParserBase {
          * as 0 for the first Ad node. So we have to figure out a solution for Ad pods.
          */
         if (wrappedVASTXml != null) {
-            wrappedVASTXml.getMediaFileUrl(wrappedVASTXml, index);
+            wrappedVASTXml.getMediaFileUrl(wrappedVASTXml, index, maxBitrate);
         }
         /**
          * Now that we have reached the last node, we can get its mediaFileUrl.
@@ -257,34 +267,64 @@ public class AdResponseParserVast extends AdResponseParserBase {
                         return myBestMediaFileURL;
                     }
 
-                    // choose the one with the highest resolution amongst all
-                    MediaFile best = eligibleMediaFiles.get(0);
-                    int bestValues = (Utils.isBlank(best.getWidth())
-                                      ? 0
-                                      : Integer.parseInt(best.getWidth())) * (Utils.isBlank(best.getHeight())
-                                                                              ? 0
-                                                                              : Integer.parseInt(best.getHeight()));
+                    MediaFile best = chooseMediaFile(eligibleMediaFiles, maxBitrate);
                     myBestMediaFileURL = best.getValue();
-
-                    for (int i = 0; i < eligibleMediaFiles.size(); i++) {
-                        MediaFile current = eligibleMediaFiles.get(i);
-                        int currentValues = (Utils.isBlank(current.getWidth())
-                                             ? 0
-                                             : Integer.parseInt(current.getWidth())) * (Utils.isBlank(current.getHeight())
-                                                                                        ? 0
-                                                                                        : Integer.parseInt(current.getHeight()));
-                        if (currentValues > bestValues) {
-                            bestValues = currentValues;
-                            best = current;
-                            myBestMediaFileURL = best.getValue();
-                        }
-                    }
                 }
             }
         }
         return myBestMediaFileURL;
     }
 
+    private static MediaFile chooseMediaFile(List<MediaFile> mediaFiles, int maxBitrate) {
+        ArrayList<MediaFile> fittingMediaFiles = new ArrayList<>();
+        MediaFile lowestBitrate = mediaFiles.get(0);
+        for (MediaFile mediaFile : mediaFiles) {
+            int bitrate = getBitrate(mediaFile);
+            if (maxBitrate <= 0 || bitrate <= maxBitrate) {
+                fittingMediaFiles.add(mediaFile);
+            }
+            if (bitrate < getBitrate(lowestBitrate)) {
+                lowestBitrate = mediaFile;
+            }
+        }
+        if (fittingMediaFiles.isEmpty()) {
+            return lowestBitrate;
+        }
+
+        // choose the one with the highest resolution amongst all
+        MediaFile best = fittingMediaFiles.get(0);
+        int bestValues = getResolution(best);
+        for (int i = 0; i < fittingMediaFiles.size(); i++) {
+            MediaFile current = fittingMediaFiles.get(i);
+            int currentValues = getResolution(current);
+            if (currentValues > bestValues) {
+                bestValues = currentValues;
+                best = current;
+            }
+        }
+        return best;
+    }
+
+    private static int getResolution(MediaFile mediaFile) {
+        return (Utils.isBlank(mediaFile.getWidth()) ? 0 : Integer.parseInt(mediaFile.getWidth()))
+               * (Utils.isBlank(mediaFile.getHeight()) ? 0 : Integer.parseInt(mediaFile.getHeight()));
+    }
+
+    /**
+     * Returns the bitrate in kbps, the max bitrate for adaptive media files. Unknown bitrate is 0.
+     */
+    private static int getBitrate(MediaFile mediaFile) {
+        String bitrate = !Utils.isBlank(mediaFile.getBitrate()) ? mediaFile.getBitrate() : mediaFile.getMaxBitrate();
+        if (Utils.isBlank(bitrate)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(bitrate.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     @VisibleForTesting
     static boolean supportedVideoFormat(String type) {
 
@@ -0,0 +1,208 @@
+package org.prebid.mobile.rendering.sdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.api.data.InitializationStage;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Initialization stages with their dependencies. A stage is submitted to the executor as soon as all its
+ * dependencies are completed, so independent stages run concurrently and no thread waits for another stage.
+ * If a stage fails, the stages depending on it are skipped.
+ */
+class InitializationGraph {
+
+    interface StageListener {
+
+        void onStageCompleted(
+                @NonNull InitializationStage stage,
+                long durationMillis
+        );
+
+    }
+
+    interface FinishListener {
+
+        /**
+         * @param completed false if the stages weren't completed in time
+         */
+        void onFinished(boolean completed);
+
+    }
+
+    private final Map<InitializationStage, Node> nodes = new EnumMap<>(InitializationStage.class);
+    private final StageListener listener;
+
+    private final Handler timeoutHandler = new Handler(Looper.getMainLooper());
+    private final Runnable timeoutTask = () -> finish(false);
+    private final AtomicInteger remainingStages = new AtomicInteger();
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    @Nullable private ExecutorService executor;
+    @Nullable private FinishListener finishListener;
+    @Nullable private volatile Throwable error;
+
+    InitializationGraph(@NonNull StageListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Adds the stage, its dependencies must be added before it.
+     */
+    void add(
+            @NonNull InitializationStage stage,
+            @NonNull Runnable task,
+            @NonNull InitializationStage... dependencies
+    ) {
+        Node node = new Node(stage, task, dependencies.length);
+        for (InitializationStage dependency : dependencies) {
+            Node dependencyNode = nodes.get(dependency);
+            if (dependencyNode == null) {
+                throw new IllegalArgumentException("Dependency " + dependency + " of " + stage + " isn't added");
+            }
+            dependencyNode.dependents.add(node);
+        }
+        nodes.put(stage, node);
+    }
+
+    /**
+     * Submits the stages to the executor and returns without waiting for them. The listener is called once,
+     * on the thread of the last stage or on the main thread by timeout. The executor is shut down then.
+     */
+    void run(
+            @NonNull ExecutorService executor,
+            long timeout,
+            @NonNull TimeUnit unit,
+            @NonNull FinishListener finishListener
+    ) {
+        this.executor = executor;
+        this.finishListener = finishListener;
+        remainingStages.set(nodes.size());
+        if (nodes.isEmpty()) {
+            finish(true);
+            return;
+        }
+
+        timeoutHandler.postDelayed(timeoutTask, unit.toMillis(timeout));
+        for (Node node : nodes.values()) {
+            if (node.remainingDependencies == 0) {
+                submit(node);
+            }
+        }
+    }
+
+    /**
+     * Returns the error of the first failed stage.
+     */
+    @Nullable
+    Throwable getError() {
+        return error;
+    }
+
+    private void submit(Node node) {
+        try {
+            executor.execute(() -> runStage(node));
+        } catch (RejectedExecutionException exception) {
+            onStageFailed(node, exception);
+        }
+    }
+
+    private void runStage(Node node) {
+        long start = SystemClock.elapsedRealtime();
+        try {
+            node.task.run();
+        } catch (Throwable throwable) {
+            onStageFailed(node, throwable);
+            return;
+        }
+        listener.onStageCompleted(node.stage, SystemClock.elapsedRealtime() - start);
+
+        List<Node> ready = new ArrayList<>();
+        synchronized (this) {
+            for (Node dependent : node.dependents) {
+                // A dependent of a failed stage is already finished as skipped
+                if (--dependent.remainingDependencies == 0 && !dependent.skipped) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        for (Node dependent : ready) {
+            submit(dependent);
+        }
+        onStageFinished();
+    }
+
+    private void onStageFailed(
+            Node node,
+            Throwable throwable
+    ) {
+        if (error == null) {
+            error = throwable;
+        }
+        skip(node);
+    }
+
+    private void skip(Node node) {
+        onStageFinished();
+        for (Node dependent : node.dependents) {
+            boolean skipped;
+            synchronized (this) {
+                skipped = dependent.skipped;
+                dependent.skipped = true;
+            }
+            if (!skipped) {
+                skip(dependent);
+            }
+        }
+    }
+
+    private void onStageFinished() {
+        if (remainingStages.decrementAndGet() == 0) {
+            finish(true);
+        }
+    }
+
+    private void finish(boolean completed) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        timeoutHandler.removeCallbacks(timeoutTask);
+        executor.shutdown();
+        finishListener.onFinished(completed);
+    }
+
+    private static class Node {
+
+        private final InitializationStage stage;
+        private final Runnable task;
+        private final List<Node> dependents = new ArrayList<>();
+        private int remainingDependencies;
+        private boolean skipped;
+
+        private Node(
+                InitializationStage stage,
+                Runnable task,
+                int dependencyCount
+        ) {
+            this.stage = stage;
+            this.task = task;
+            this.remainingDependencies = dependencyCount;
+        }
+
+    }
+
+}
@@ -8,6 +8,7 @@ import androidx.annotation.Nullable;
 import org.jetbrains.annotations.NotNull;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.api.data.InitializationStage;
 import org.prebid.mobile.api.data.InitializationStatus;
 import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
 
@@ -61,6 +62,18 @@ public class InitializationNotifier {
         });
     }
 
+    public void stageCompleted(
+            @NotNull InitializationStage stage,
+            long durationMillis
+    ) {
+        LogUtil.debug(TAG, "Initialization stage " + stage + " completed in " + durationMillis + " ms");
+        postOnMainThread(() -> {
+            if (listener != null) {
+                listener.onInitializationStageCompleted(stage, durationMillis);
+            }
+        });
+    }
+
     public void initializationFailed(@NotNull String error) {
         postOnMainThread(() -> {
             LogUtil.error(error);
@@ -18,20 +18,37 @@ package org.prebid.mobile.rendering.sdk;
 
 import android.content.Context;
 
+import androidx.annotation.NonNull;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.loading.FileDownloadListener;
+import org.prebid.mobile.rendering.sdk.scripts.DownloadListenerCreator;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptsReadiness;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Downloader and fetcher for JS scripts needed for the Prebid SDK (omsdk.js, mraid.js).
  * Top level class for working with JS scripts.
+ * <p>
+ * Scripts are read once on the SDK background thread and kept in memory as one shared instance.
+ * Use {@link #getReadiness()} to wait until they are available. Stored scripts are revalidated once per
+ * process with conditional requests, see {@link JsScriptsDownloader#revalidateScripts(DownloadListenerCreator)}.
  */
 public class JSLibraryManager {
 
+    private static final String TAG = JSLibraryManager.class.getSimpleName();
+
     private static JSLibraryManager sInstance;
 
-    private String MRAIDscript = "";
-    private String OMSDKscirpt = "";
+    private final JsScriptsReadiness readiness = new JsScriptsReadiness();
+    private final AtomicBoolean readingInProgress = new AtomicBoolean(false);
+    private final AtomicBoolean revalidationStarted = new AtomicBoolean(false);
+    private volatile Scripts scripts;
     private JsScriptsDownloader scriptsDownloader;
 
     private JSLibraryManager(Context context) {
@@ -50,65 +67,109 @@ public class JSLibraryManager {
     }
 
     public boolean checkIfScriptsDownloadedAndStartDownloadingIfNot() {
-        if (scriptsDownloader.areScriptsDownloadedAlready()) {
-            if (!OMSDKscirpt.isEmpty() && !MRAIDscript.isEmpty()) {
-                return true;
-            }
+        if (scripts != null) {
+            return true;
+        }
 
+        if (scriptsDownloader.areScriptsDownloadedAlready()) {
             startScriptReadingTask();
+            if (revalidationStarted.compareAndSet(false, true)) {
+                scriptsDownloader.revalidateScripts(this::createDownloadListener);
+            }
             return false;
         }
 
-        scriptsDownloader.downloadScripts(
-                (path) -> new JsScriptsDownloader.ScriptDownloadListener(path, scriptsDownloader.storage)
-        );
+        scriptsDownloader.downloadScripts(this::createDownloadListener);
         return false;
     }
 
     public void startScriptReadingTask() {
-        if (scriptsDownloader.areScriptsDownloadedAlready()) {
-            if (OMSDKscirpt.isEmpty() || MRAIDscript.isEmpty()) {
+        if (scripts != null || !scriptsDownloader.areScriptsDownloadedAlready()) {
+            return;
+        }
 
-                boolean isNotRunning = BackgroundScriptReader.alreadyRunning.compareAndSet(false, true);
-                if (isNotRunning) {
-                    Thread thread = new Thread(new BackgroundScriptReader(scriptsDownloader, this));
-                    thread.start();
-                }
-            }
+        boolean isNotRunning = readingInProgress.compareAndSet(false, true);
+        if (isNotRunning) {
+            TasksManager.getInstance().execute(TaskLane.DISK_IO, this::readScripts);
         }
     }
 
+    /**
+     * Returns the handle completed when the scripts are read to memory.
+     */
+    @NonNull
+    public JsScriptsReadiness getReadiness() {
+        return readiness;
+    }
+
+    /**
+     * @return MRAID script or empty string if it isn't ready
+     */
     public String getMRAIDScript() {
-        return MRAIDscript;
+        Scripts scripts = this.scripts;
+        return scripts != null ? scripts.mraid : "";
     }
 
-    public String getOMSDKScript() {
-        return OMSDKscirpt;
+    /**
+     * Returns UTF-8 bytes of the MRAID script, encoded once per loaded script.
+     *
+     * @param mraidScript script returned by {@link #getMRAIDScript()}
+     */
+    @NonNull
+    public byte[] getMRAIDScriptBytes(@NonNull String mraidScript) {
+        Scripts scripts = this.scripts;
+        if (scripts != null && scripts.mraid.equals(mraidScript)) {
+            return scripts.mraidBytes;
+        }
+        return mraidScript.getBytes(StandardCharsets.UTF_8);
     }
 
-    private static class BackgroundScriptReader implements Runnable {
+    /**
+     * @return OM SDK script or empty string if it isn't ready
+     */
+    public String getOMSDKScript() {
+        Scripts scripts = this.scripts;
+        return scripts != null ? scripts.openMeasurement : "";
+    }
 
-        private static final AtomicBoolean alreadyRunning = new AtomicBoolean(false);
+    private void readScripts() {
+        try {
+            if (scripts != null) {
+                return;
+            }
 
-        private final JsScriptsDownloader scriptsDownloader;
-        private final JSLibraryManager jsLibraryManager;
+            String openMeasurementScript = scriptsDownloader.readFile(JsScriptData.openMeasurementData);
+            String mraidScript = scriptsDownloader.readFile(JsScriptData.mraidData);
+            if (openMeasurementScript == null || openMeasurementScript.isEmpty() || mraidScript == null || mraidScript.isEmpty()) {
+                LogUtil.warning(TAG, "JS scripts can't be read. Downloading them again.");
+                scriptsDownloader.downloadScripts(this::createDownloadListener);
+                return;
+            }
 
-        public BackgroundScriptReader(
-                JsScriptsDownloader scriptsDownloader,
-                JSLibraryManager jsLibraryManager
-        ) {
-            this.scriptsDownloader = scriptsDownloader;
-            this.jsLibraryManager = jsLibraryManager;
+            scripts = new Scripts(mraidScript, openMeasurementScript);
+            readiness.complete();
+        } finally {
+            readingInProgress.set(false);
         }
+    }
 
-        @Override
-        public void run() {
-            String openMeasurementScript = scriptsDownloader.readFile(JsScriptData.openMeasurementData);
-            String mraidScript = scriptsDownloader.readFile(JsScriptData.mraidData);
+    private FileDownloadListener createDownloadListener(String path) {
+        return new JsScriptsDownloader.ScriptDownloadListener(path, scriptsDownloader.storage);
+    }
 
-            jsLibraryManager.OMSDKscirpt = openMeasurementScript;
-            jsLibraryManager.MRAIDscript = mraidScript;
-            alreadyRunning.set(false);
+    private static class Scripts {
+
+        private final String mraid;
+        private final byte[] mraidBytes;
+        private final String openMeasurement;
+
+        private Scripts(
+                String mraid,
+                String openMeasurement
+        ) {
+            this.mraid = mraid;
+            this.mraidBytes = mraid.getBytes(StandardCharsets.UTF_8);
+            this.openMeasurement = openMeasurement;
         }
 
     }
@@ -9,15 +9,19 @@ import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.loading.FileDownloadListener;
 import org.prebid.mobile.rendering.sdk.scripts.DownloadListenerCreator;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptDownloadTask;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptMetadata;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptRequester;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptRequesterImpl;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptStorage;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptStorageImpl;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.InputStreamReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -31,13 +35,16 @@ public class JsScriptsDownloader {
 
     public static JsScriptsDownloader createDownloader(Context context) {
         JsScriptStorageImpl storage = new JsScriptStorageImpl(context);
-        JsScriptRequesterImpl downloader = new JsScriptRequesterImpl();
+        JsScriptRequesterImpl downloader = new JsScriptRequesterImpl(storage);
 
         return new JsScriptsDownloader(storage, downloader);
     }
 
     private final static String TAG = "JsScriptsDownloader";
 
+    @VisibleForTesting
+    static final long REVALIDATION_INTERVAL_MILLIS = 24 * 60 * 60 * 1000;
+
     public final JsScriptStorage storage;
     private final JsScriptRequester downloader;
     private final static SortedSet<String> inProgressKeys = Collections.synchronizedSortedSet(new TreeSet<>());
@@ -64,11 +71,34 @@ public class JsScriptsDownloader {
         }
     }
 
+    /**
+     * Sends conditional requests for the stored scripts that haven't been checked for
+     * {@link #REVALIDATION_INTERVAL_MILLIS}. Updated scripts replace the stored ones, they are used after restart.
+     */
+    public void revalidateScripts(DownloadListenerCreator listener) {
+        try {
+            revalidateFile(JsScriptData.openMeasurementData, listener);
+            revalidateFile(JsScriptData.mraidData, listener);
+        } catch (Throwable throwable) {
+            LogUtil.error(TAG, "Can't revalidate scripts", throwable);
+        }
+    }
+
+    /**
+     * Reads the script and checks it against the stored hash. A corrupted script is removed,
+     * so it's downloaded again.
+     */
     @Nullable
     public String readFile(JsScriptData fileData) {
         try {
             File file = storage.getInnerFile(fileData.getPath());
-            return convertFileToString(file);
+            JsScriptMetadata metadata = storage.getMetadata(fileData.getPath());
+            String script = convertFileToString(file, metadata != null ? metadata.getSha256() : null);
+            if (script == null) {
+                LogUtil.error(TAG, "Script is corrupted: " + fileData.getPath());
+                storage.removeFile(fileData.getPath());
+            }
+            return script;
         } catch (Throwable throwable) {
             LogUtil.error(TAG, "Can't read file: " + fileData.getPath());
         }
@@ -76,16 +106,24 @@ public class JsScriptsDownloader {
     }
 
 
-    private static String convertFileToString(File file) throws Exception {
-        FileInputStream is = new FileInputStream(file);
-        BufferedReader reader = new BufferedReader(new InputStreamReader(is));
-        StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = reader.readLine()) != null) {
-            sb.append(line).append("\n");
+    /**
+     * @return null if the content doesn't match the hash
+     */
+    @Nullable
+    private static String convertFileToString(File file, @Nullable String sha256) throws Exception {
+        // The file is mapped instead of being copied through stream buffers, it's decoded to the string once
+        try (FileInputStream inputStream = new FileInputStream(file); FileChannel channel = inputStream.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (sha256 != null) {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(buffer);
+                if (!sha256.equals(JsScriptDownloadTask.toHex(digest.digest()))) {
+                    return null;
+                }
+                buffer.rewind();
+            }
+            return StandardCharsets.UTF_8.decode(buffer).toString();
         }
-        reader.close();
-        return sb.toString();
     }
 
     private void downloadFile(JsScriptData jsScriptData, DownloadListenerCreator listener) {
@@ -103,10 +141,30 @@ public class JsScriptsDownloader {
         downloader.download(file, jsScriptData, listener);
     }
 
+    private void revalidateFile(JsScriptData jsScriptData, DownloadListenerCreator listener) {
+        JsScriptMetadata metadata = storage.getMetadata(jsScriptData.getPath());
+        if (metadata == null || !metadata.hasValidators()) {
+            return;
+        }
+        if (System.currentTimeMillis() - metadata.getCheckedAt() < REVALIDATION_INTERVAL_MILLIS) {
+            return;
+        }
+        if (!inProgressKeys.add(jsScriptData.getPath())) {
+            return;
+        }
+
+        File file = storage.getInnerFile(jsScriptData.getPath());
+        downloader.download(file, jsScriptData, listener);
+    }
+
     private boolean isFileAlreadyDownloaded(JsScriptData fileData) {
         File file = storage.getInnerFile(fileData.getPath());
+        if (!storage.isFileAlreadyDownloaded(file, fileData.getPath())) {
+            return false;
+        }
 
-        return storage.isFileAlreadyDownloaded(file, fileData.getPath());
+        JsScriptMetadata metadata = storage.getMetadata(fileData.getPath());
+        return metadata != null && metadata.getVersion() == fileData.getVersion();
     }
 
     public static class ScriptDownloadListener implements FileDownloadListener {
@@ -122,7 +180,6 @@ public class JsScriptsDownloader {
         @Override
         public void onFileDownloaded(String string) {
             LogUtil.info(TAG, "JS scripts saved: " + path);
-            storage.markFileAsDownloadedCompletely(this.path);
 
             Context context = PrebidContextHolder.getContext();
             if (context != null) {
@@ -18,6 +18,7 @@ package org.prebid.mobile.rendering.sdk;
 
 import android.content.Context;
 
+import org.prebid.mobile.rendering.networking.parameters.RequestFragmentCache;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoImpl;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
@@ -33,10 +34,10 @@ import org.prebid.mobile.rendering.utils.helpers.Utils;
  */
 public class ManagersResolver {
 
-    private DeviceInfoManager deviceManager;
-    private LocationInfoManager locationManager;
-    private ConnectionInfoManager connectionManager;
-    private UserConsentManager userConsentManager;
+    private volatile DeviceInfoManager deviceManager;
+    private volatile LocationInfoManager locationManager;
+    private volatile ConnectionInfoManager connectionManager;
+    private volatile UserConsentManager userConsentManager;
 
 
     private ManagersResolver() {
@@ -55,12 +56,14 @@ public class ManagersResolver {
 
 
     /**
-     * Prepare managers.
+     * Prepare managers. It's called on a background thread during the SDK initialization, the getters prepare
+     * the managers on the calling thread if they are needed before.
      */
-    public void prepare(Context context) {
+    public synchronized void prepare(Context context) {
         //Try with application context or activity context
         //MOB-2205 [Research] on how we can eliminate activity context from Native ads.
         Utils.DENSITY = context.getResources().getDisplayMetrics().density;
+        RequestFragmentCache.init(context);
 
         if (deviceManager == null) {
             deviceManager = new DeviceInfoImpl(context);
@@ -79,10 +82,18 @@ public class ManagersResolver {
         }
     }
 
+    private void prepareIfNeeded(Object manager) {
+        Context context = PrebidContextHolder.getContext();
+        if (manager == null && context != null) {
+            prepare(context);
+        }
+    }
+
     /**
      * Obtains the device manager.
      */
     public DeviceInfoManager getDeviceManager() {
+        prepareIfNeeded(deviceManager);
         return deviceManager;
     }
 
@@ -90,6 +101,7 @@ public class ManagersResolver {
      * Obtains the location manager.
      */
     public LocationInfoManager getLocationManager() {
+        prepareIfNeeded(locationManager);
         return locationManager;
     }
 
@@ -97,6 +109,7 @@ public class ManagersResolver {
      * Obtains the network manager.
      */
     public ConnectionInfoManager getNetworkManager() {
+        prepareIfNeeded(connectionManager);
         return connectionManager;
     }
 
@@ -104,6 +117,7 @@ public class ManagersResolver {
      * Obtains the UserConsent manager.
      */
     public UserConsentManager getUserConsentManager() {
+        prepareIfNeeded(userConsentManager);
         return userConsentManager;
     }
 
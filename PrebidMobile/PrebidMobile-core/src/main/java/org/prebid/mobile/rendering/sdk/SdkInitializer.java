@@ -10,20 +10,23 @@ import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.LogUtil.PrebidLogger;
 import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.api.data.InitializationStage;
 import org.prebid.mobile.api.rendering.PrebidRenderer;
 import org.prebid.mobile.rendering.listeners.SdkInitializationListener;
-import org.prebid.mobile.rendering.session.manager.OmAdSessionManager;
+import org.prebid.mobile.rendering.networking.ConnectionManager;
 import org.prebid.mobile.rendering.utils.helpers.AdvertisingIdManager;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class SdkInitializer {
 
     private static final String TAG = SdkInitializer.class.getSimpleName();
+    private static final long TIMEOUT_SECONDS = 10;
 
     public static void init(
             @Nullable Context context,
@@ -55,53 +58,70 @@ public class SdkInitializer {
 
         try {
             PrebidMobile.registerPluginRenderer(new PrebidRenderer());
-
-            AppInfoManager.init(applicationContext);
-
-            OmAdSessionManager.activateOmSdk(applicationContext);
-
-            ManagersResolver.getInstance().prepare(applicationContext);
-
-            JSLibraryManager.getInstance(applicationContext).checkIfScriptsDownloadedAndStartDownloadingIfNot();
         } catch (Throwable throwable) {
-            initializationNotifier.initializationFailed("Exception during initialization: " + throwable.getMessage() + "\n" + Log.getStackTraceString(throwable));
+            initializationFailed(initializationNotifier, throwable);
             return;
         }
 
-        new Thread(() -> runBackgroundTasks(
-                initializationNotifier,
-                Executors.newFixedThreadPool(2))
-        ).start();
+        runBackgroundTasks(initializationNotifier, TasksManager.getInstance().createExecutorService(TaskLane.INIT));
     }
 
+    /**
+     * Starts the initialization stages and returns without waiting for them, the notifier is called when they
+     * are finished. OMSDK activation and user agent fetching aren't awaited: OMSDK is activated with the first
+     * ad session and the user agent is fetched after the initialization.
+     */
     @VisibleForTesting
     public static void runBackgroundTasks(
             InitializationNotifier initializationNotifier,
             ExecutorService executor
     ) {
-        try {
-            Future<String> statusRequesterResult = null;
-            if (!PrebidMobile.shouldDisableStatusCheck()) {
-                statusRequesterResult = executor.submit(new StatusRequester());
-            } else {
-                LogUtil.debug(TAG, "Prebid SDK initialization skipping status check");
-            }
-            executor.execute(new UserConsentFetcherTask());
-            executor.execute(new UserAgentFetcherTask());
-            executor.execute(AdvertisingIdManager::initAdvertisingId);
-            executor.shutdown();
+        Context context = PrebidContextHolder.getContext();
+        if (context == null) {
+            initializationNotifier.initializationFailed("Context must be not null!");
+            return;
+        }
+
+        AtomicReference<String> statusRequesterError = new AtomicReference<>();
+        InitializationGraph graph = new InitializationGraph(initializationNotifier::stageCompleted);
+        graph.add(InitializationStage.APP_INFO, () -> AppInfoManager.init(context));
+        graph.add(InitializationStage.MANAGERS, () -> ManagersResolver.getInstance().prepare(context));
+        graph.add(InitializationStage.JS_SCRIPTS, () -> JSLibraryManager.getInstance(context).checkIfScriptsDownloadedAndStartDownloadingIfNot());
+        if (!PrebidMobile.shouldDisableStatusCheck()) {
+            graph.add(InitializationStage.STATUS_REQUEST, () -> statusRequesterError.set(StatusRequester.makeRequest()));
+        } else {
+            LogUtil.debug(TAG, "Prebid SDK initialization skipping status check");
+        }
+        if (PrebidMobile.shouldDisableStatusCheck() || PrebidMobile.getCustomStatusEndpoint() != null) {
+            // Otherwise the status request warms up the connection to the Prebid Server
+            ConnectionManager.prewarm(PrebidMobile.getPrebidServerHost().getHostUrl());
+        }
+        graph.add(InitializationStage.USER_CONSENT, new UserConsentFetcherTask(), InitializationStage.MANAGERS);
+        graph.add(InitializationStage.ADVERTISING_ID, AdvertisingIdManager::initAdvertisingId);
 
-            boolean terminatedByTimeout = !executor.awaitTermination(10, TimeUnit.SECONDS);
-            if (terminatedByTimeout) {
+        graph.run(executor, TIMEOUT_SECONDS, TimeUnit.SECONDS, completed -> {
+            if (!completed) {
                 initializationNotifier.initializationFailed("Terminated by timeout.");
                 return;
             }
 
-            String statusRequesterError = statusRequesterResult != null ? statusRequesterResult.get() : null;
-            initializationNotifier.initializationCompleted(statusRequesterError);
-        } catch (Exception exception) {
-            initializationNotifier.initializationFailed("Exception during initialization: " + Log.getStackTraceString(exception));
-        }
+            Throwable error = graph.getError();
+            if (error != null) {
+                initializationFailed(initializationNotifier, error);
+                return;
+            }
+
+            initializationNotifier.initializationCompleted(statusRequesterError.get());
+            // Prefetches the user agent when the startup work is done, so the first auction doesn't wait for it
+            AppInfoManager.prefetchUserAgent();
+        });
+    }
+
+    private static void initializationFailed(
+            InitializationNotifier initializationNotifier,
+            Throwable throwable
+    ) {
+        initializationNotifier.initializationFailed("Exception during initialization: " + throwable.getMessage() + "\n" + Log.getStackTraceString(throwable));
     }
 
     @Nullable
@@ -23,7 +23,7 @@ public class UserAgentFetcherTask implements Runnable {
         }
 
         if (TextUtils.isEmpty(userAgent) || userAgent.contains("UNAVAILABLE")) {
-            userAgent = "Mozilla/5.0 (Linux; U; Android " + android.os.Build.VERSION.RELEASE + ";" + " " + AppInfoManager.getDeviceName() + ")";
+            userAgent = AppInfoManager.getFallbackUserAgent();
         }
 
         AppInfoManager.setUserAgent(userAgent);
@@ -32,4 +32,11 @@ public interface ConnectionInfoManager {
      * @return the active connection type
      */
     UserParameters.ConnectionType getConnectionType();
+
+    /**
+     * Checks if the active connection is metered, e.g. cellular or a mobile hotspot.
+     *
+     * @return true if data usage on the active connection may cost the user
+     */
+    boolean isConnectionMetered();
 }
@@ -27,9 +27,11 @@ import android.content.ContentResolver;
 import android.content.ContentValues;
 import android.content.Context;
 import android.content.Intent;
+import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.content.res.Configuration;
 import android.net.Uri;
+import android.os.BatteryManager;
 import android.os.Environment;
 import android.os.PowerManager;
 import android.provider.MediaStore;
@@ -62,6 +64,8 @@ import java.net.URLConnection;
 
 public class DeviceInfoImpl extends BaseManager implements DeviceInfoManager {
 
+    private static final int LOW_BATTERY_PERCENT = 15;
+
     private String TAG = DeviceInfoImpl.class.getSimpleName();
     private TelephonyManager telephonyManager;
     private WindowManager windowManager;
@@ -268,6 +272,25 @@ public class DeviceInfoImpl extends BaseManager implements DeviceInfoManager {
         return false;
     }
 
+    @Override
+    public boolean isBatteryLow() {
+        if (getContext() == null) {
+            return false;
+        }
+        // Battery state is a sticky broadcast, so it's returned without registering a receiver
+        Intent batteryStatus = getContext().registerReceiver(null, new IntentFilter(Intent.ACTION_BATTERY_CHANGED));
+        if (batteryStatus == null) {
+            return false;
+        }
+        int plugged = batteryStatus.getIntExtra(BatteryManager.EXTRA_PLUGGED, 0);
+        int level = batteryStatus.getIntExtra(BatteryManager.EXTRA_LEVEL, -1);
+        int scale = batteryStatus.getIntExtra(BatteryManager.EXTRA_SCALE, -1);
+        if (plugged != 0 || level < 0 || scale <= 0) {
+            return false;
+        }
+        return level * 100 / scale <= LOW_BATTERY_PERCENT;
+    }
+
     @VisibleForTesting
     OutputStream getOutputStream(String fileName) throws FileNotFoundException {
         if (Utils.atLeastQ()) {
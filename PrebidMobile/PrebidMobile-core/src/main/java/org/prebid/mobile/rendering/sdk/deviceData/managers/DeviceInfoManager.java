@@ -153,4 +153,11 @@ public interface DeviceInfoManager {
      * @return true if it is a tablet
      */
     boolean isTablet();
+
+    /**
+     * Checks if the battery is low and the device isn't charging
+     *
+     * @return true if the battery is low
+     */
+    boolean isBatteryLow();
 }
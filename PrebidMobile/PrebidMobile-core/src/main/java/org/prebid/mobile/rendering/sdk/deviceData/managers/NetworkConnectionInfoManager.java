@@ -60,4 +60,16 @@ public final class NetworkConnectionInfoManager extends BaseManager implements C
         }
         return result;
     }
+
+    @SuppressLint("MissingPermission")
+    @Override
+    public boolean isConnectionMetered() {
+        if (getContext() == null || connectivityManager == null) {
+            return false;
+        }
+        if (getContext().checkCallingOrSelfPermission(Manifest.permission.ACCESS_NETWORK_STATE) != PackageManager.PERMISSION_GRANTED) {
+            return false;
+        }
+        return connectivityManager.isActiveNetworkMetered();
+    }
 }
\ No newline at end of file
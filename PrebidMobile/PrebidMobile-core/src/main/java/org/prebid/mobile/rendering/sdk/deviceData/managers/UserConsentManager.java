@@ -24,6 +24,7 @@ import android.util.Log;
 import androidx.annotation.Nullable;
 
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.networking.parameters.RequestFragmentCache;
 import org.prebid.mobile.rendering.sdk.BaseManager;
 
 /**
@@ -136,6 +137,7 @@ public class UserConsentManager extends BaseManager {
                     realGppSid = preferences.getString(GPP_SID_KEY, null);
                     break;
             }
+            RequestFragmentCache.onConsentChanged();
         } catch (Exception e) {
             LogUtil.error(String.format("Failed to update %s %s", key, Log.getStackTraceString(e)));
         }
@@ -149,6 +151,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setSubjectToCoppa(@Nullable Boolean value) {
         prebidCoppaSubject = value;
+        RequestFragmentCache.onConsentChanged();
     }
 
     @Nullable
@@ -172,6 +175,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setSubjectToGdpr(@Nullable Boolean value) {
         prebidGdpr2Subject = value;
+        RequestFragmentCache.onConsentChanged();
     }
 
     @Nullable
@@ -185,6 +189,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setGdprConsent(@Nullable String consent) {
         prebidGdpr2Consent = consent;
+        RequestFragmentCache.onConsentChanged();
     }
 
     @Nullable
@@ -221,6 +226,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setGdprPurposeConsents(@Nullable String consent) {
         prebidGdpr2PurposeConsents = consent;
+        RequestFragmentCache.onConsentChanged();
     }
 
     @Nullable
@@ -234,6 +240,7 @@ public class UserConsentManager extends BaseManager {
 
     public void setUsPrivacyString(@Nullable String value) {
         prebidUsPrivacyString = value;
+        RequestFragmentCache.onConsentChanged();
     }
 
     @Nullable
@@ -4,19 +4,27 @@ public class JsScriptData {
 
     public static final JsScriptData openMeasurementData = new JsScriptData(
             "PBMJSLibraries/omsdk.js",
-            "https://cdn.jsdelivr.net/gh/prebid/prebid-mobile-android@master/scripts/js/omsdk_v1.js"
+            "https://cdn.jsdelivr.net/gh/prebid/prebid-mobile-android@master/scripts/js/omsdk_v1.js",
+            1
     );
     public static final JsScriptData mraidData = new JsScriptData(
             "PBMJSLibraries/mraid.js",
-            "https://cdn.jsdelivr.net/gh/prebid/prebid-mobile-android@master/scripts/js/mraid.js"
+            "https://cdn.jsdelivr.net/gh/prebid/prebid-mobile-android@master/scripts/js/mraid.js",
+            1
     );
 
     private String path;
     private String url;
+    private int version;
 
-    private JsScriptData(String path, String url) {
+    /**
+     * @param version must be increased when the script at the url becomes incompatible with the SDK,
+     *                stored scripts of other versions are downloaded again
+     */
+    private JsScriptData(String path, String url, int version) {
         this.path = path;
         this.url = url;
+        this.version = version;
     }
 
     public String getPath() {
@@ -27,4 +35,8 @@ public class JsScriptData {
         return url;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
 }
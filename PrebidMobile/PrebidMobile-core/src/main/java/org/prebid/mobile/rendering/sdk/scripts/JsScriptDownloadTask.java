@@ -0,0 +1,133 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.errors.ServerWrongStatusCode;
+import org.prebid.mobile.rendering.loading.FileDownloadListener;
+import org.prebid.mobile.rendering.loading.FileDownloadTask;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+/**
+ * Downloads a script to the temp file and replaces the stored script with it only when the download completes,
+ * so a half-written script is never served. If the stored script has validators, the request is conditional
+ * and the stored script is kept on <code>304 Not Modified</code>.
+ */
+public class JsScriptDownloadTask extends FileDownloadTask {
+
+    private static final String TAG = JsScriptDownloadTask.class.getSimpleName();
+
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+
+    private final File targetFile;
+    private final JsScriptData scriptData;
+    private final JsScriptStorage storage;
+    @Nullable private final JsScriptMetadata storedMetadata;
+
+    public JsScriptDownloadTask(
+            FileDownloadListener listener,
+            File targetFile,
+            JsScriptData scriptData,
+            JsScriptStorage storage
+    ) {
+        super(listener, storage.getTempFile(scriptData.getPath()));
+        this.targetFile = targetFile;
+        this.scriptData = scriptData;
+        this.storage = storage;
+
+        JsScriptMetadata metadata = storage.getMetadata(scriptData.getPath());
+        boolean canRevalidate = metadata != null && metadata.getVersion() == scriptData.getVersion() && targetFile.exists();
+        storedMetadata = canRevalidate ? metadata : null;
+        setIgnoreContentLength(true);
+    }
+
+    @Override
+    protected void addRequestHeaders(Map<String, String> headers) {
+        if (storedMetadata == null) {
+            return;
+        }
+        if (storedMetadata.getEtag() != null) {
+            headers.put(IF_NONE_MATCH_HEADER, storedMetadata.getEtag());
+        }
+        if (storedMetadata.getLastModified() != null) {
+            headers.put(IF_MODIFIED_SINCE_HEADER, storedMetadata.getLastModified());
+        }
+    }
+
+    @Override
+    public GetUrlResult customParser(int code, URLConnection urlConnection) {
+        if (code == HttpURLConnection.HTTP_NOT_MODIFIED && storedMetadata != null) {
+            LogUtil.debug(TAG, "Script is not modified: " + scriptData.getPath());
+            storage.saveMetadata(scriptData.getPath(), storedMetadata.withCheckedAt(System.currentTimeMillis()));
+            disconnect(urlConnection);
+            return new GetUrlResult();
+        }
+        if (code != HttpURLConnection.HTTP_OK) {
+            disconnect(urlConnection);
+            GetUrlResult result = new GetUrlResult();
+            result.setException(new ServerWrongStatusCode(code));
+            return result;
+        }
+        return super.customParser(code, urlConnection);
+    }
+
+    @Override
+    protected void processData(URLConnection connection, GetUrlResult result) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IOException(exception);
+        }
+
+        try (InputStream inputStream = connection.getInputStream(); FileOutputStream outputStream = new FileOutputStream(file)) {
+            byte[] data = new byte[16384];
+            int count;
+            while ((count = inputStream.read(data)) != -1) {
+                outputStream.write(data, 0, count);
+                digest.update(data, 0, count);
+            }
+            // The file must be on disk before it's renamed, otherwise a crash may leave an empty script
+            outputStream.getFD().sync();
+        }
+
+        if (!file.renameTo(targetFile)) {
+            throw new IOException("Can't replace script " + scriptData.getPath());
+        }
+        storage.saveMetadata(scriptData.getPath(), new JsScriptMetadata(
+                scriptData.getVersion(),
+                toHex(digest.digest()),
+                connection.getHeaderField(ETAG_HEADER),
+                connection.getHeaderField(LAST_MODIFIED_HEADER),
+                System.currentTimeMillis()
+        ));
+    }
+
+    public static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            builder.append(Character.forDigit((value >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(value & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static void disconnect(URLConnection connection) {
+        if (connection instanceof HttpURLConnection) {
+            ((HttpURLConnection) connection).disconnect();
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Stored information about a downloaded script: its version, content hash and HTTP validators.
+ */
+public class JsScriptMetadata {
+
+    private static final String KEY_VERSION = "version";
+    private static final String KEY_SHA256 = "sha256";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_CHECKED_AT = "checkedAt";
+
+    private final int version;
+    @NonNull private final String sha256;
+    @Nullable private final String etag;
+    @Nullable private final String lastModified;
+    private final long checkedAt;
+
+    public JsScriptMetadata(
+            int version,
+            @NonNull String sha256,
+            @Nullable String etag,
+            @Nullable String lastModified,
+            long checkedAt
+    ) {
+        this.version = version;
+        this.sha256 = sha256;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.checkedAt = checkedAt;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Hex SHA-256 of the stored file.
+     */
+    @NonNull
+    public String getSha256() {
+        return sha256;
+    }
+
+    @Nullable
+    public String getEtag() {
+        return etag;
+    }
+
+    @Nullable
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Time of the last successful download or revalidation.
+     */
+    public long getCheckedAt() {
+        return checkedAt;
+    }
+
+    public boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+
+    @NonNull
+    public JsScriptMetadata withCheckedAt(long checkedAt) {
+        return new JsScriptMetadata(version, sha256, etag, lastModified, checkedAt);
+    }
+
+    @NonNull
+    public String toJsonString() {
+        JSONObject json = new JSONObject();
+        try {
+            json.put(KEY_VERSION, version);
+            json.put(KEY_SHA256, sha256);
+            json.putOpt(KEY_ETAG, etag);
+            json.putOpt(KEY_LAST_MODIFIED, lastModified);
+            json.put(KEY_CHECKED_AT, checkedAt);
+        } catch (JSONException ignored) {
+        }
+        return json.toString();
+    }
+
+    /**
+     * @return null if the string isn't valid metadata
+     */
+    @Nullable
+    public static JsScriptMetadata fromJsonString(@Nullable String jsonString) {
+        if (jsonString == null) {
+            return null;
+        }
+        try {
+            JSONObject json = new JSONObject(jsonString);
+            return new JsScriptMetadata(
+                    json.getInt(KEY_VERSION),
+                    json.getString(KEY_SHA256),
+                    json.has(KEY_ETAG) ? json.getString(KEY_ETAG) : null,
+                    json.has(KEY_LAST_MODIFIED) ? json.getString(KEY_LAST_MODIFIED) : null,
+                    json.optLong(KEY_CHECKED_AT)
+            );
+        } catch (JSONException exception) {
+            return null;
+        }
+    }
+
+}
@@ -1,15 +1,21 @@
 package org.prebid.mobile.rendering.sdk.scripts;
 
-import android.os.AsyncTask;
 
-import org.prebid.mobile.rendering.loading.FileDownloadTask;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
 import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
+import org.prebid.mobile.tasksmanager.TaskLane;
 
 import java.io.File;
 
 public class JsScriptRequesterImpl implements JsScriptRequester {
 
+    private final JsScriptStorage storage;
+
+    public JsScriptRequesterImpl(JsScriptStorage storage) {
+        this.storage = storage;
+    }
+
     public void download(File saveToFile, JsScriptData script, DownloadListenerCreator listener) {
         BaseNetworkTask.GetUrlParams params = new BaseNetworkTask.GetUrlParams();
         params.url = script.getUrl();
@@ -17,9 +23,8 @@ public class JsScriptRequesterImpl implements JsScriptRequester {
         params.requestType = "GET";
         params.name = BaseNetworkTask.DOWNLOAD_TASK;
 
-        FileDownloadTask omSdkTask = new FileDownloadTask(listener.create(script.getPath()), saveToFile);
-        omSdkTask.setIgnoreContentLength(true);
-        omSdkTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        JsScriptDownloadTask scriptTask = new JsScriptDownloadTask(listener.create(script.getPath()), saveToFile, script, storage);
+        scriptTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.DOWNLOAD), params);
     }
 
 }
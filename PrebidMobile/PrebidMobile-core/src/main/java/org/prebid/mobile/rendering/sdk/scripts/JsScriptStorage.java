@@ -1,17 +1,38 @@
 package org.prebid.mobile.rendering.sdk.scripts;
 
+import androidx.annotation.Nullable;
+
 import java.io.File;
 
 public interface JsScriptStorage {
 
     public File getInnerFile(String path);
 
+    /**
+     * Returns the file that the script is downloaded to before it replaces the stored one.
+     */
+    public File getTempFile(String path);
+
     public boolean isFileAlreadyDownloaded(File file, String preferencesKey);
 
     public void createParentFolders(File file);
 
-    public void markFileAsDownloadedCompletely(String path);
+    @Nullable
+    public JsScriptMetadata getMetadata(String path);
 
+    /**
+     * Saves metadata of the downloaded or revalidated script.
+     */
+    public void saveMetadata(String path, JsScriptMetadata metadata);
+
+    /**
+     * Removes the temp file. The stored script is removed only if it hasn't been downloaded completely.
+     */
     public void fileDownloadingFailed(String path);
 
+    /**
+     * Removes the stored script and its metadata, e.g. if the content doesn't match the hash.
+     */
+    public void removeFile(String path);
+
 }
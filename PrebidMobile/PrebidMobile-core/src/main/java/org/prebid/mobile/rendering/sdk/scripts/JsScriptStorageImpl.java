@@ -4,14 +4,22 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.preference.PreferenceManager;
 
+import androidx.annotation.Nullable;
+
 import org.prebid.mobile.LogUtil;
 
 import java.io.File;
 
+/**
+ * Stores scripts in the app files dir and their metadata in the shared preferences.
+ * Scripts stored by older SDK versions don't have metadata, so they are downloaded again.
+ */
 public class JsScriptStorageImpl implements JsScriptStorage {
 
     private final static String TAG = "JsScriptsStorage";
 
+    private final static String TEMP_EXTENSION = ".tmp";
+
     private final SharedPreferences preferences;
     private final File innerFolder;
 
@@ -24,8 +32,12 @@ public class JsScriptStorageImpl implements JsScriptStorage {
         return new File(innerFolder, path);
     }
 
+    public File getTempFile(String path) {
+        return new File(innerFolder, path + TEMP_EXTENSION);
+    }
+
     public boolean isFileAlreadyDownloaded(File file, String preferencesKey) {
-        return file.exists() && preferences.contains(preferencesKey);
+        return file.exists() && getMetadata(preferencesKey) != null;
     }
 
     public void createParentFolders(File file) {
@@ -38,13 +50,32 @@ public class JsScriptStorageImpl implements JsScriptStorage {
         }
     }
 
-    public void markFileAsDownloadedCompletely(String path) {
-        preferences.edit().putBoolean(path, true).apply();
+    @Nullable
+    public JsScriptMetadata getMetadata(String path) {
+        String value;
+        try {
+            value = preferences.getString(path, null);
+        } catch (ClassCastException exception) {
+            // Flag of the older SDK versions
+            return null;
+        }
+        return JsScriptMetadata.fromJsonString(value);
+    }
+
+    public void saveMetadata(String path, JsScriptMetadata metadata) {
+        preferences.edit().putString(path, metadata.toJsonString()).apply();
     }
 
     public void fileDownloadingFailed(String path) {
+        removeFile(getTempFile(path));
+        if (getMetadata(path) == null) {
+            removeFile(getInnerFile(path));
+        }
+    }
+
+    public void removeFile(String path) {
         preferences.edit().remove(path).apply();
-        removeFile(new File(innerFolder, path));
+        removeFile(getInnerFile(path));
     }
 
     private void removeFile(File file) {
@@ -57,4 +88,4 @@ public class JsScriptStorageImpl implements JsScriptStorage {
         }
     }
 
-}
\ No newline at end of file
+}
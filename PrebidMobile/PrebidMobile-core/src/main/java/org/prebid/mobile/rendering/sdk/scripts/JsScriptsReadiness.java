@@ -0,0 +1,116 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readiness handle of JS scripts, completed once when the scripts are read to memory.
+ * <p>
+ * Background code can block with {@link #await(long, TimeUnit)}, main thread code must subscribe with
+ * {@link #whenReady(long, Listener)}.
+ */
+public class JsScriptsReadiness {
+
+    public interface Listener {
+
+        /**
+         * Called on the main thread exactly once.
+         *
+         * @param ready false if the timeout passed before the scripts were read
+         */
+        void onReady(boolean ready);
+
+    }
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    public boolean isReady() {
+        return latch.getCount() == 0;
+    }
+
+    /**
+     * Blocks until the scripts are ready or the timeout passes.
+     *
+     * @return true if the scripts are ready
+     */
+    @WorkerThread
+    public boolean await(
+            long timeout,
+            @NonNull TimeUnit unit
+    ) throws InterruptedException {
+        return latch.await(timeout, unit);
+    }
+
+    /**
+     * Notifies the listener when the scripts are ready or the timeout passes. If the scripts are ready already,
+     * the listener is called immediately.
+     */
+    @MainThread
+    public void whenReady(
+            long timeoutMillis,
+            @NonNull Listener listener
+    ) {
+        Subscription subscription;
+        synchronized (this) {
+            if (!isReady()) {
+                subscription = new Subscription(listener);
+                subscriptions.add(subscription);
+                handler.postDelayed(subscription, timeoutMillis);
+                return;
+            }
+        }
+        listener.onReady(true);
+    }
+
+    /**
+     * Marks the scripts as ready and notifies the subscribed listeners. Subsequent calls are ignored.
+     */
+    public void complete() {
+        List<Subscription> completed;
+        synchronized (this) {
+            if (isReady()) {
+                return;
+            }
+            latch.countDown();
+            completed = new ArrayList<>(subscriptions);
+            subscriptions.clear();
+        }
+        for (Subscription subscription : completed) {
+            handler.removeCallbacks(subscription);
+            handler.post(() -> subscription.listener.onReady(true));
+        }
+    }
+
+    private class Subscription implements Runnable {
+
+        private final Listener listener;
+
+        private Subscription(Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            // Timeout
+            synchronized (JsScriptsReadiness.this) {
+                if (!subscriptions.remove(this)) {
+                    return;
+                }
+            }
+            listener.onReady(false);
+        }
+
+    }
+
+}
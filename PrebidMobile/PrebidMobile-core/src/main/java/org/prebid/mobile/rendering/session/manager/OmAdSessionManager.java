@@ -47,6 +47,7 @@ import org.prebid.mobile.rendering.models.TrackingEvent;
 import org.prebid.mobile.rendering.models.internal.InternalFriendlyObstruction;
 import org.prebid.mobile.rendering.models.internal.InternalPlayerState;
 import org.prebid.mobile.rendering.sdk.JSLibraryManager;
+import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.video.VideoAdEvent;
 import org.prebid.mobile.rendering.video.vast.AdVerifications;
 import org.prebid.mobile.rendering.video.vast.Verification;
@@ -80,7 +81,8 @@ public class OmAdSessionManager {
     }
 
     /**
-     * First step to begin with when working with this class.
+     * Activates OMSDK, it's called on the main thread by {@link #createNewInstance(JSLibraryManager)}
+     * when the first ad session is created.
      * NOTE: The {@link #OmAdSessionManager} instance won't be created if OMSDK activation fails.
      */
     public static boolean activateOmSdk(Context applicationContext) {
@@ -95,11 +97,13 @@ public class OmAdSessionManager {
     }
 
     /**
-     * @return SessionManager instance or null, if OMSDK is not active.
+     * Activates OMSDK if it isn't active yet.
+     *
+     * @return SessionManager instance or null, if OMSDK can't be activated.
      */
     @Nullable
     public static OmAdSessionManager createNewInstance(JSLibraryManager jsLibraryManager) {
-        if (!isActive()) {
+        if (!isActive() && !activate()) {
             LogUtil.error(TAG, "Failed to initialize OmAdSessionManager. Did you activate OMSDK?");
             return null;
         }
@@ -403,6 +407,11 @@ public class OmAdSessionManager {
         }
     }
 
+    private static boolean activate() {
+        Context context = PrebidContextHolder.getContext();
+        return context != null && activateOmSdk(context);
+    }
+
     private static boolean isActive() {
         try {
             return Omid.isActive();
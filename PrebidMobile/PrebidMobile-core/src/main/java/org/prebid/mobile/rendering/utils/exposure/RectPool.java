@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2018-2021 Prebid.org, Inc.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.prebid.mobile.rendering.utils.exposure;
+
+import android.graphics.Rect;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+
+/**
+ * Rects reused between exposure checks. All obtained rects are released together, so the pool
+ * doesn't track single rects.
+ */
+class RectPool {
+
+    /**
+     * Maximum count of rects kept after {@link #releaseAll()}, a pool that grew on a big hierarchy shrinks back.
+     */
+    private static final int MAX_RETAINED_COUNT = 256;
+
+    private final ArrayList<Rect> rects = new ArrayList<>();
+    private int usedCount;
+
+    @NonNull
+    Rect obtain(
+            int left,
+            int top,
+            int right,
+            int bottom
+    ) {
+        Rect rect;
+        if (usedCount < rects.size()) {
+            rect = rects.get(usedCount);
+        } else {
+            rect = new Rect();
+            rects.add(rect);
+        }
+        usedCount++;
+        rect.set(left, top, right, bottom);
+        return rect;
+    }
+
+    @NonNull
+    Rect obtain(@NonNull Rect source) {
+        return obtain(source.left, source.top, source.right, source.bottom);
+    }
+
+    /**
+     * Makes all obtained rects available again, they must not be used after this call.
+     */
+    void releaseAll() {
+        usedCount = 0;
+        for (int i = rects.size() - 1; i >= MAX_RETAINED_COUNT; i--) {
+            rects.remove(i);
+        }
+    }
+
+}
@@ -22,27 +22,68 @@ import android.os.Build;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.core.R;
 
-import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+/**
+ * Computes the exposed part of a view. Intermediate rects come from pools, only the returned
+ * {@link ViewExposure} is allocated. Must be used on the main thread.
+ * <p>
+ * Obstructions under the children of a parent are collected once per check pass and shared by all checked
+ * views of the pass, see {@link #startCheckPass()}.
+ */
 public class ViewExposureChecker {
 
     private static final String TAG = ViewExposureChecker.class.getSimpleName();
 
-    private WeakReference<View> testedViewWeakReference;
-    private Rect clippedRect;
-    private List<Rect> obstructionList;
+    private static final Comparator<Rect> AREA_COMPARATOR = (rect1, rect2) -> {
+        float area1 = rect1.width() * rect1.height();
+        float area2 = rect2.width() * rect2.height();
+
+        return -Float.compare(area1, area2);
+    };
+
+    // Obstructions in screen coordinates, shared by all checkers
+    private static final RectPool obstructionPool = new RectPool();
+    private static final ArrayList<ParentObstructions> parentObstructionsList = new ArrayList<>();
+    private static int parentObstructionsCount = 0;
+    private static boolean isCheckPassStarted = false;
+
+    private final RectPool rectPool = new RectPool();
+    private final Rect clippedRect = new Rect();
+    private final Rect oldRect = new Rect();
+    private final Rect testRect = new Rect();
+    private final Rect trimmedRect = new Rect();
+    private final int[] testedViewLocation = new int[2];
+    private final int[] location = new int[2];
+
+    private final ArrayList<Rect> obstructionList = new ArrayList<>();
+    private final ArrayList<Rect> siblingObstructionList = new ArrayList<>();
+    private final ArrayList<Rect> pickedObstructionList = new ArrayList<>();
+    private ArrayList<Rect> currentRectList = new ArrayList<>();
+    private ArrayList<Rect> nextRectList = new ArrayList<>();
+
+    public ViewExposureChecker() {}
+
+    /**
+     * Starts a check pass: obstructions collected for one view are reused for the other views checked
+     * before {@link #finishCheckPass()}. Views can't be laid out while the main thread runs one message,
+     * so the pass must start and finish in the same message.
+     */
+    public static void startCheckPass() {
+        clearObstructions();
+        isCheckPassStarted = true;
+    }
 
-    public ViewExposureChecker() {
-        obstructionList = new ArrayList<>();
-        clippedRect = new Rect();
+    public static void finishCheckPass() {
+        isCheckPassStarted = false;
+        clearObstructions();
     }
 
     public ViewExposure exposure(View view) {
@@ -51,22 +92,25 @@ public class ViewExposureChecker {
             return null;
         }
 
-        testedViewWeakReference = new WeakReference<>(view);
-        ViewExposure zeroExposure = new ViewExposure();
-        view.getDrawingRect(clippedRect);
+        if (!isCheckPassStarted) {
+            clearObstructions();
+        }
         obstructionList.clear();
+        rectPool.releaseAll();
+        view.getDrawingRect(clippedRect);
 
         if (!view.isShown() || !view.hasWindowFocus() || isViewTransparent(view)) { // Also checks if view has parent (is attached)
-            return zeroExposure;
+            return new ViewExposure();
         }
 
+        view.getLocationOnScreen(testedViewLocation);
         boolean visitParent = visitParent(((ViewGroup) view.getParent()), view);
         boolean collapseBoundingBox = collapseBoundingBox();
 
         LogUtil.verbose(TAG, "exposure: visitParent " + visitParent + " collapseBox " + collapseBoundingBox);
         boolean potentiallyExposed = visitParent && collapseBoundingBox;
         if (!potentiallyExposed) {
-            return zeroExposure;
+            return new ViewExposure();
         }
 
         final List<Rect> obstructionsList = buildObstructionsRectList();
@@ -79,7 +123,7 @@ public class ViewExposureChecker {
         }
 
         float exposurePercentage = (clipArea - obstructedArea) / fullArea;
-        return new ViewExposure(exposurePercentage, clippedRect, obstructionsList);
+        return new ViewExposure(exposurePercentage, new Rect(clippedRect), obstructionsList);
     }
 
     private List<Rect> buildObstructionsRectList() {
@@ -87,32 +131,28 @@ public class ViewExposureChecker {
             return new ArrayList<>();
         }
 
-        List<Rect> currentObstructionList = new ArrayList<>(obstructionList);
-        List<Rect> remainingObstructionList = new ArrayList<>();
-        List<Rect> pickedObstructionList = new ArrayList<>();
-
-        Comparator<Rect> areaComparator = (rect1, rect2) -> {
-            float area1 = rect1.width() * rect1.height();
-            float area2 = rect2.width() * rect2.height();
-
-            return -Float.compare(area1, area2);
-        };
+        currentRectList.clear();
+        for (int i = 0, n = obstructionList.size(); i < n; i++) {
+            currentRectList.add(obstructionList.get(i));
+        }
+        nextRectList.clear();
+        pickedObstructionList.clear();
 
-        while (currentObstructionList.size() > 0) {
-            Collections.sort(currentObstructionList, areaComparator);
+        while (currentRectList.size() > 0) {
+            sortByArea(currentRectList);
 
-            Rect pickedObstruction = currentObstructionList.get(0);
+            Rect pickedObstruction = currentRectList.get(0);
             pickedObstructionList.add(pickedObstruction);
 
-            removeRect(pickedObstruction, currentObstructionList, remainingObstructionList, 1);
-
-            List<Rect> temp = new ArrayList<>(currentObstructionList);
-            currentObstructionList = remainingObstructionList;
-            remainingObstructionList = temp;
-            remainingObstructionList.clear();
+            removeRect(pickedObstruction, currentRectList, nextRectList, 1);
+            swapRectLists();
         }
 
-        return pickedObstructionList;
+        List<Rect> result = new ArrayList<>(pickedObstructionList.size());
+        for (int i = 0, n = pickedObstructionList.size(); i < n; i++) {
+            result.add(new Rect(pickedObstructionList.get(i)));
+        }
+        return result;
     }
 
     /**
@@ -130,10 +170,10 @@ public class ViewExposureChecker {
         boolean childrenAreClippedToParent = isClippedToBounds(parentView);
 
         if (childrenAreClippedToParent) {
-            Rect bounds = new Rect();
-            parentView.getDrawingRect(bounds);
-            Rect convertRect = convertRect(bounds, parentView, testedViewWeakReference.get());
-            boolean intersect = clippedRect.intersect(convertRect);
+            parentView.getLocationOnScreen(location);
+            testRect.set(location[0], location[1], location[0] + parentView.getWidth(), location[1] + parentView.getHeight());
+            testRect.offset(-testedViewLocation[0], -testedViewLocation[1]);
+            boolean intersect = clippedRect.intersect(testRect);
             if (!intersect) {
                 return false;
             }
@@ -146,17 +186,40 @@ public class ViewExposureChecker {
             }
         }
 
-        for (int i = parentView.indexOfChild(childView) + 1, n = parentView.getChildCount(); i < n; i++) {
-            View child = parentView.getChildAt(i);
-            if (isFriendlyObstruction(child)) {
-                continue;
-            }
-            collectObstructionsFrom(child);
+        int fromIndex = parentView.indexOfChild(childView) + 1;
+        ParentObstructions parentObstructions = collectObstructionsAbove(parentView, fromIndex);
+        for (int i = parentObstructions.countFrom[fromIndex] - 1; i >= 0; i--) {
+            testForObstructing(parentObstructions.rects.get(i));
         }
 
         return true;
     }
 
+    /**
+     * Collects obstructions under the children of the parent starting from the index. The children collected
+     * for previous views of the check pass are reused.
+     */
+    private ParentObstructions collectObstructionsAbove(
+            ViewGroup parentView,
+            int fromIndex
+    ) {
+        ParentObstructions parentObstructions = getParentObstructions(parentView);
+        for (int i = parentObstructions.collectedFromIndex - 1; i >= fromIndex; i--) {
+            View child = parentView.getChildAt(i);
+            if (!isFriendlyObstruction(child)) {
+                siblingObstructionList.clear();
+                collectObstructionsFrom(child);
+                // Stored in reverse order, so children with lower index are appended
+                for (int k = siblingObstructionList.size() - 1; k >= 0; k--) {
+                    parentObstructions.rects.add(siblingObstructionList.get(k));
+                }
+            }
+            parentObstructions.countFrom[i] = parentObstructions.rects.size();
+        }
+        parentObstructions.collectedFromIndex = Math.min(parentObstructions.collectedFromIndex, fromIndex);
+        return parentObstructions;
+    }
+
     // don't test child if it is viewGroup and transparent
     private boolean isFriendlyObstruction(View child) {
         boolean result = (child instanceof ImageView && child.getId() == R.id.iv_close_interstitial)
@@ -173,7 +236,13 @@ public class ViewExposureChecker {
             return;
         }
         if (shouldCollectObstruction(child)) {
-            testForObstructing(child);
+            child.getLocationOnScreen(location);
+            siblingObstructionList.add(obstructionPool.obtain(
+                    location[0],
+                    location[1],
+                    location[0] + child.getWidth(),
+                    location[1] + child.getHeight()
+            ));
         }
 
         if (!(child instanceof ViewGroup)) {
@@ -188,56 +257,45 @@ public class ViewExposureChecker {
     }
 
     private boolean collapseBoundingBox() {
-        final Rect oldRect = new Rect(clippedRect);
+        oldRect.set(clippedRect);
         if (oldRect.isEmpty()) {
             return false;
         }
 
-        List<Rect> currentRectList = new ArrayList<>();
-        List<Rect> nextRectList = new ArrayList<>();
+        currentRectList.clear();
+        nextRectList.clear();
 
         currentRectList.add(clippedRect);
-        for (Rect obstruction : obstructionList) {
-            removeRect(obstruction, currentRectList, nextRectList, 0);
-
-            List<Rect> temp = currentRectList;
-            currentRectList = nextRectList;
-            nextRectList = temp;
-            nextRectList.clear();
+        for (int i = 0, n = obstructionList.size(); i < n; i++) {
+            removeRect(obstructionList.get(i), currentRectList, nextRectList, 0);
+            swapRectLists();
 
             if (currentRectList.isEmpty()) {
-                clippedRect = new Rect();
+                clippedRect.setEmpty();
                 return false;
             }
         }
 
-        Rect result = new Rect();
-        for (int i = 0; i < currentRectList.size(); i++) {
-            Rect nextFragment = currentRectList.get(i);
-
-            if (i == 0) {
-                result = nextFragment;
-            }
-            else {
-                result.union(nextFragment);
-            }
+        Rect result = currentRectList.get(0);
+        for (int i = 1; i < currentRectList.size(); i++) {
+            result.union(currentRectList.get(i));
         }
 
         if (oldRect.equals(result)) {
             return true;
         }
 
-        clippedRect = result;
+        clippedRect.set(result);
 
         int removedCount = 0;
         final int fullCount = obstructionList.size();
 
         for (int i = 0; i < fullCount; i++) {
             Rect nextObstruction = obstructionList.get(i);
-            Rect resultIntersectedRect = new Rect(result);
+            Rect resultIntersectedRect = rectPool.obtain(clippedRect);
 
             if (resultIntersectedRect.intersect(nextObstruction)) {
-                if (!result.contains(nextObstruction)) {
+                if (!clippedRect.contains(nextObstruction)) {
                     obstructionList.set(i - removedCount, resultIntersectedRect);
                 }
                 else if (removedCount > 0) {
@@ -248,14 +306,39 @@ public class ViewExposureChecker {
                 removedCount++;
             }
         }
-        if (removedCount > 0) {
-            int fromIndex = fullCount - removedCount;
-            obstructionList.subList(fromIndex, fromIndex + removedCount).clear();
+        for (int i = 0; i < removedCount; i++) {
+            obstructionList.remove(obstructionList.size() - 1);
         }
 
         return true;
     }
 
+    /**
+     * Stable insertion sort, the lists are short and {@link java.util.Collections#sort(List)} copies them
+     * on old Android versions.
+     */
+    private static void sortByArea(ArrayList<Rect> rects) {
+        for (int i = 1, n = rects.size(); i < n; i++) {
+            Rect rect = rects.get(i);
+            int j = i - 1;
+            while (j >= 0 && AREA_COMPARATOR.compare(rects.get(j), rect) > 0) {
+                rects.set(j + 1, rects.get(j));
+                j--;
+            }
+            rects.set(j + 1, rect);
+        }
+    }
+
+    /**
+     * Moves the fragments to the current list and clears the next list.
+     */
+    private void swapRectLists() {
+        ArrayList<Rect> temp = currentRectList;
+        currentRectList = nextRectList;
+        nextRectList = temp;
+        nextRectList.clear();
+    }
+
     private void removeRect(Rect aroundRect, List<Rect> srcList, List<Rect> destList, int firstIndex) {
         for (int i = firstIndex, n = srcList.size(); i < n; i++) {
             fragmentize(srcList.get(i), aroundRect, destList);
@@ -272,7 +355,7 @@ public class ViewExposureChecker {
             return;
         }
 
-        Rect trimmedRect = new Rect(aroundRect);
+        trimmedRect.set(aroundRect);
         boolean isRectTrimmed = trimmedRect.intersect(valueRect);
 
         if (!isRectTrimmed) {
@@ -280,37 +363,25 @@ public class ViewExposureChecker {
             return;
         }
 
-        Rect[] subRectArray = {
-            // left
-            new Rect(valueRect.left,
-                     valueRect.top,
-                     valueRect.left + (trimmedRect.left - valueRect.left),
-                     valueRect.top + valueRect.height()),
-
-            // mid / top
-            new Rect(trimmedRect.left,
-                     valueRect.top,
-                     trimmedRect.right,
-                     valueRect.top + (trimmedRect.top - valueRect.top)),
-
-            // mid / bottom
-            new Rect(trimmedRect.left,
-                     trimmedRect.bottom,
-                     trimmedRect.right,
-                     valueRect.bottom),
-
-            // right
-            new Rect(trimmedRect.right,
-                     valueRect.top,
-                     valueRect.right,
-                valueRect.top + valueRect.height()
-            )
-        };
-
-        for (Rect rect : subRectArray) {
-            if (!rect.isEmpty()) {
-                destList.add(rect);
-            }
+        // left
+        addFragment(valueRect.left, valueRect.top, trimmedRect.left, valueRect.bottom, destList);
+        // mid / top
+        addFragment(trimmedRect.left, valueRect.top, trimmedRect.right, trimmedRect.top, destList);
+        // mid / bottom
+        addFragment(trimmedRect.left, trimmedRect.bottom, trimmedRect.right, valueRect.bottom, destList);
+        // right
+        addFragment(trimmedRect.right, valueRect.top, valueRect.right, valueRect.bottom, destList);
+    }
+
+    private void addFragment(
+            int left,
+            int top,
+            int right,
+            int bottom,
+            List<Rect> destList
+    ) {
+        if (left < right && top < bottom) {
+            destList.add(rectPool.obtain(left, top, right, bottom));
         }
     }
 
@@ -326,37 +397,14 @@ public class ViewExposureChecker {
         return false;
     }
 
-    private Rect convertRect(
-        Rect fromRect,
-        View fromView,
-        View toView
-    ) {
-        if (fromRect == null || fromView == null || toView == null) {
-            LogUtil.debug(TAG, "convertRect: Failed. One of the provided param is null. Returning empty rect.");
-            return new Rect();
-        }
-
-        int[] fromCoord = new int[2];
-        int[] toCoord = new int[2];
-        fromView.getLocationOnScreen(fromCoord);
-        toView.getLocationOnScreen(toCoord);
-
-        int xShift = fromCoord[0] - toCoord[0] - fromView.getScrollX();
-        int yShift = fromCoord[1] - toCoord[1] - fromView.getScrollY();
-
-        return new Rect(fromRect.left + xShift,
-                        fromRect.top + yShift,
-                        fromRect.right + xShift,
-                        fromRect.bottom + yShift);
-    }
-
-    private void testForObstructing(View view) {
-        Rect viewBounds = new Rect();
-        view.getDrawingRect(viewBounds);
-
-        Rect testRect = convertRect(viewBounds, view, testedViewWeakReference.get());
+    /**
+     * @param screenRect obstruction in screen coordinates
+     */
+    private void testForObstructing(Rect screenRect) {
+        testRect.set(screenRect);
+        testRect.offset(-testedViewLocation[0], -testedViewLocation[1]);
 
-        Rect obstructionRect = new Rect(clippedRect);
+        Rect obstructionRect = rectPool.obtain(clippedRect);
         boolean isObstruction = obstructionRect.intersect(testRect);
         if (isObstruction) {
             obstructionList.add(obstructionRect);
@@ -391,4 +439,70 @@ public class ViewExposureChecker {
 
         return !isBackgroundTransparent || !isForegroundTransparent;
     }
+
+    private static ParentObstructions getParentObstructions(ViewGroup parentView) {
+        for (int i = 0; i < parentObstructionsCount; i++) {
+            ParentObstructions parentObstructions = parentObstructionsList.get(i);
+            if (parentObstructions.parent == parentView) {
+                if (parentObstructions.childCount != parentView.getChildCount()) {
+                    // Children were changed by a listener during the pass
+                    parentObstructions.reset(parentView);
+                }
+                return parentObstructions;
+            }
+        }
+
+        ParentObstructions parentObstructions;
+        if (parentObstructionsCount < parentObstructionsList.size()) {
+            parentObstructions = parentObstructionsList.get(parentObstructionsCount);
+        } else {
+            parentObstructions = new ParentObstructions();
+            parentObstructionsList.add(parentObstructions);
+        }
+        parentObstructionsCount++;
+        parentObstructions.reset(parentView);
+        return parentObstructions;
+    }
+
+    private static void clearObstructions() {
+        for (int i = 0; i < parentObstructionsCount; i++) {
+            parentObstructionsList.get(i).clear();
+        }
+        parentObstructionsCount = 0;
+        obstructionPool.releaseAll();
+    }
+
+    /**
+     * Obstructions under the children of one parent, in screen coordinates. The rects are stored
+     * in reverse drawing order, from the last child to {@link #collectedFromIndex}.
+     */
+    private static class ParentObstructions {
+
+        @Nullable private ViewGroup parent;
+        private int childCount;
+        private int collectedFromIndex;
+        /**
+         * Count of rects collected from the children starting with the index.
+         */
+        private int[] countFrom = new int[1];
+        private final ArrayList<Rect> rects = new ArrayList<>();
+
+        private void reset(ViewGroup parent) {
+            this.parent = parent;
+            childCount = parent.getChildCount();
+            collectedFromIndex = childCount;
+            if (countFrom.length < childCount + 1) {
+                countFrom = new int[childCount + 1];
+            }
+            countFrom[childCount] = 0;
+            rects.clear();
+        }
+
+        private void clear() {
+            parent = null;
+            rects.clear();
+        }
+
+    }
+
 }
@@ -29,6 +29,7 @@ import com.google.android.gms.common.ConnectionResult;
 import com.google.android.gms.common.GoogleApiAvailability;
 
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.networking.parameters.RequestFragmentCache;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.UserConsentManager;
 
@@ -93,6 +94,11 @@ public class AdvertisingIdManager {
         return advertisingId != null && advertisingId.isLimitAdTrackingEnabled();
     }
 
+    private static void setAdvertisingId(@Nullable AdvertisingId id) {
+        advertisingId = id;
+        RequestFragmentCache.invalidateDevice();
+    }
+
     private static boolean didFetchingRecently() {
         long timeSinceLastLaunch = System.currentTimeMillis() - lastStartTime;
         if (timeSinceLastLaunch < RESTART_TIMEOUT_MS) {
@@ -108,7 +114,7 @@ public class AdvertisingIdManager {
             if (fetchTask.getStatus() != AsyncTask.Status.FINISHED) {
                 LogUtil.debug(TAG, "Canceling advertising id fetching due to timeout.");
                 fetchTask.cancel(true);
-                advertisingId = null;
+                setAdvertisingId(null);
             }
         }, FETCH_TIMEOUT_MS);
     }
@@ -145,7 +151,7 @@ public class AdvertisingIdManager {
 
         @Override
         protected void onPostExecute(@Nullable AdvertisingId id) {
-            advertisingId = id;
+            setAdvertisingId(id);
         }
 
         /**
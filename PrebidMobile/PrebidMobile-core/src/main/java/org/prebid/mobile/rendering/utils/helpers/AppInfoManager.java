@@ -23,16 +23,26 @@ import android.content.pm.PackageManager;
 import android.os.Build;
 import android.util.Log;
 
+import androidx.annotation.AnyThread;
+import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 
 import com.google.android.gms.security.ProviderInstaller;
 
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.rendering.networking.parameters.RequestFragmentCache;
+import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+import org.prebid.mobile.rendering.sdk.UserAgentFetcherTask;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class AppInfoManager {
     private static final String TAG = AppInfoManager.class.getSimpleName();
 
-    private static String sUserAgent;
+    private static volatile String sUserAgent;
+    private static final AtomicBoolean userAgentFetchStarted = new AtomicBoolean();
     private static String sPackageName = null;
     private static String sAppName = null;
     private static String sAppVersion = null;
@@ -40,6 +50,7 @@ public class AppInfoManager {
     public static void init(Context context) {
         initPackageInfo(context);
         patchSecurityProviderIfNeeded(context);
+        RequestFragmentCache.invalidateApp();
     }
 
     public static String getAppName() {
@@ -54,22 +65,54 @@ public class AppInfoManager {
         return sPackageName;
     }
 
+    /**
+     * Returns the WebView user agent. Until it's fetched in the background, returns
+     * {@link #getFallbackUserAgent()}, so the caller never waits for the WebView.
+     */
+    @AnyThread
     public static String getUserAgent() {
-        return sUserAgent;
+        prefetchUserAgent();
+        String userAgent = sUserAgent;
+        return userAgent != null ? userAgent : getFallbackUserAgent();
+    }
+
+    /**
+     * Starts fetching the WebView user agent in the background if it isn't fetched yet.
+     * Called when an ad unit is created and when the SDK is initialized.
+     */
+    @AnyThread
+    public static void prefetchUserAgent() {
+        if (sUserAgent != null || PrebidContextHolder.getContext() == null) {
+            return;
+        }
+        if (userAgentFetchStarted.compareAndSet(false, true)) {
+            TasksManager.getInstance().execute(TaskLane.TRACKING, new UserAgentFetcherTask());
+        }
+    }
+
+    /**
+     * Returns the user agent built from the device info without the WebView.
+     */
+    @NonNull
+    public static String getFallbackUserAgent() {
+        return "Mozilla/5.0 (Linux; U; Android " + Build.VERSION.RELEASE + "; " + getDeviceName() + ")";
     }
 
     @VisibleForTesting
     public static void setAppName(String appName) {
         sAppName = appName;
+        RequestFragmentCache.invalidateApp();
     }
 
     @VisibleForTesting
     public static void setPackageName(String packageName) {
         sPackageName = packageName;
+        RequestFragmentCache.invalidateApp();
     }
 
     public static void setUserAgent(String userAgent) {
         sUserAgent = userAgent;
+        RequestFragmentCache.invalidateDevice();
     }
 
     private static void initPackageInfo(Context context) {
@@ -18,15 +18,16 @@ package org.prebid.mobile.rendering.utils.url;
 
 import android.content.Context;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.mraid.methods.network.UrlResolutionTask;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
 import org.prebid.mobile.rendering.networking.tracking.TrackingManager;
 import org.prebid.mobile.rendering.utils.url.action.*;
+import org.prebid.mobile.tasksmanager.TaskLane;
 
 import java.util.HashSet;
 import java.util.List;
@@ -210,7 +211,7 @@ public class UrlHandler {
     @VisibleForTesting
     void performUrlResolutionRequest(String url, UrlResolutionTask.UrlResolutionListener urlResolutionListener) {
         UrlResolutionTask urlResolutionTask = new UrlResolutionTask(urlResolutionListener);
-        urlResolutionTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, url);
+        urlResolutionTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.RENDERING), url);
         taskPending = true;
     }
 
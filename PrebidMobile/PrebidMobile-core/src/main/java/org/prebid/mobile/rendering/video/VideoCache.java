@@ -0,0 +1,269 @@
+package org.prebid.mobile.rendering.video;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Disk cache of downloaded video files.
+ * <p>
+ * Videos are streamed to files in the app files dir and played from there by file uri, so video data is never held
+ * in memory. The total size of the files is bounded by {@link PrebidMobile#getVideoCacheSize()}, the least recently
+ * used files are removed first. Files in use by loaded creatives are not removed.
+ * <p>
+ * Each video may have a partial file of an interrupted download. Videos and partial files may have metadata files
+ * with their HTTP validators, see {@link #getPartialFile(File)} and {@link #getMetadataFile(File)}. Partial files
+ * are counted in the budget, metadata files are removed together with their videos or partial files.
+ * <p>
+ * {@link #getFile(Context, String)}, {@link #acquire(File)} and {@link #release(File)} don't touch the disk, so they
+ * can be called on the main thread. The directory is created, the files of the previous process are counted and the
+ * files over the limit after a release are removed on the {@link TaskLane#DISK_IO} lane.
+ */
+public class VideoCache {
+
+    private static final String TAG = VideoCache.class.getSimpleName();
+
+    public static final long DEFAULT_MAX_BYTES = 50 * 1024 * 1024;
+
+    private static final String DIRECTORY_NAME = "prebid_video_cache";
+    private static final String PARTIAL_EXTENSION = ".part";
+    private static final String METADATA_EXTENSION = ".meta";
+    private static final char EXTENSION_SEPARATOR = '.';
+
+    private static VideoCache instance;
+
+    // File path to file size in access order
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+    private final HashMap<String, Integer> useCounts = new HashMap<>();
+    private long totalBytes = 0;
+    private boolean directoryScanned = false;
+    @Nullable
+    private volatile File directory;
+
+    @VisibleForTesting
+    VideoCache() {
+    }
+
+    public static synchronized VideoCache getInstance() {
+        if (instance == null) {
+            instance = new VideoCache();
+        }
+        return instance;
+    }
+
+    public static String getShortenedPath(String url) {
+        String shortenedPath = url.substring(url.lastIndexOf("/"));
+        StringBuilder builder = new StringBuilder();
+
+        int extensionIndex = shortenedPath.lastIndexOf(EXTENSION_SEPARATOR);
+        if (extensionIndex != -1) {
+            builder.append(shortenedPath.substring(0, extensionIndex));
+        }
+        else {
+            builder.append(shortenedPath);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns the cache file for the shortened path, see {@link #getShortenedPath(String)}.
+     * The file and the directory may not exist yet.
+     */
+    @NonNull
+    public File getFile(
+            @NonNull Context context,
+            @NonNull String shortenedPath
+    ) {
+        File directory = this.directory;
+        if (directory == null) {
+            directory = new File(context.getFilesDir(), DIRECTORY_NAME);
+            this.directory = directory;
+            File scannedDirectory = directory;
+            TasksManager.getInstance().execute(TaskLane.DISK_IO, () -> scan(scannedDirectory));
+        }
+        return new File(directory, shortenedPath);
+    }
+
+    /**
+     * Creates the directory of the cache file if it doesn't exist yet, e.g. before the download.
+     */
+    public static void createDirectory(@NonNull File file) {
+        File directory = file.getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            LogUtil.error(TAG, "Can't create video cache directory.");
+        }
+    }
+
+    @NonNull
+    public static File getPartialFile(@NonNull File file) {
+        return new File(file.getPath() + PARTIAL_EXTENSION);
+    }
+
+    @NonNull
+    public static File getMetadataFile(@NonNull File file) {
+        return new File(file.getPath() + METADATA_EXTENSION);
+    }
+
+    /**
+     * Records the downloaded or reused file as the most recently used one and removes old files over the limit.
+     */
+    public synchronized void put(@NonNull File file) {
+        String key = file.getAbsolutePath();
+        Long previousSize = sizes.remove(key);
+        if (previousSize != null) {
+            totalBytes -= previousSize;
+        }
+
+        long size = file.length();
+        sizes.put(key, size);
+        totalBytes += size;
+        trim(key);
+    }
+
+    /**
+     * Stops counting the file and deletes it if it still exists.
+     * Files in use by creatives are kept, see {@link #acquire(File)}.
+     */
+    public synchronized void remove(@NonNull File file) {
+        String key = file.getAbsolutePath();
+        if (useCounts.containsKey(key)) {
+            LogUtil.debug(TAG, "Cached video is in use and isn't removed: " + file.getName());
+            return;
+        }
+
+        Long size = sizes.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        if (file.exists() && !file.delete()) {
+            LogUtil.warning(TAG, "Can't delete cached video " + file.getName());
+            return;
+        }
+        removeUnusedMetadata(file);
+    }
+
+    /**
+     * Marks the file as used by a creative or a download, it is not removed until {@link #release(File)}.
+     */
+    public synchronized void acquire(@NonNull File file) {
+        String key = file.getAbsolutePath();
+        Integer count = useCounts.get(key);
+        useCounts.put(key, count != null ? count + 1 : 1);
+    }
+
+    /**
+     * Releases the file after {@link #acquire(File)}. Old files over the limit are removed on the disk lane.
+     */
+    public synchronized void release(@NonNull File file) {
+        String key = file.getAbsolutePath();
+        Integer count = useCounts.get(key);
+        if (count == null) {
+            return;
+        }
+        if (count <= 1) {
+            useCounts.remove(key);
+            TasksManager.getInstance().execute(TaskLane.DISK_IO, this::trimReleased);
+        } else {
+            useCounts.put(key, count - 1);
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Creates the directory and counts the files of the previous process as the least recently used ones.
+     * The files are listed without the lock, so the cache can be used meanwhile.
+     */
+    @WorkerThread
+    private void scan(File directory) {
+        synchronized (this) {
+            if (directoryScanned) {
+                return;
+            }
+            directoryScanned = true;
+        }
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            LogUtil.error(TAG, "Can't create video cache directory.");
+        }
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, (first, second) -> Long.compare(first.lastModified(), second.lastModified()));
+        LinkedHashMap<String, Long> scannedSizes = new LinkedHashMap<>();
+        for (File file : files) {
+            String key = file.getAbsolutePath();
+            if (!key.endsWith(METADATA_EXTENSION)) {
+                scannedSizes.put(key, file.length());
+            }
+        }
+
+        synchronized (this) {
+            // Files put after the listing are already counted
+            for (String key : sizes.keySet()) {
+                scannedSizes.remove(key);
+            }
+            for (Long size : scannedSizes.values()) {
+                totalBytes += size;
+            }
+            scannedSizes.putAll(sizes);
+            sizes.clear();
+            sizes.putAll(scannedSizes);
+            trim(null);
+        }
+    }
+
+    @WorkerThread
+    private synchronized void trimReleased() {
+        trim(null);
+    }
+
+    private void trim(String keepKey) {
+        long maxBytes = PrebidMobile.getVideoCacheSize();
+        Iterator<Map.Entry<String, Long>> iterator = sizes.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            String key = eldest.getKey();
+            if (key.equals(keepKey) || useCounts.containsKey(key)) {
+                continue;
+            }
+
+            File file = new File(key);
+            if (file.exists() && !file.delete()) {
+                LogUtil.warning(TAG, "Can't delete cached video " + file.getName());
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            removeUnusedMetadata(file);
+            LogUtil.debug(TAG, "Removed cached video " + file.getName());
+        }
+    }
+
+    private static void removeUnusedMetadata(File removedFile) {
+        File metadata = getMetadataFile(removedFile);
+        if (!removedFile.exists() && metadata.exists() && !metadata.delete()) {
+            LogUtil.warning(TAG, "Can't delete " + metadata.getName());
+        }
+    }
+
+}
@@ -18,7 +18,6 @@ package org.prebid.mobile.rendering.video;
 
 import android.content.Context;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.text.TextUtils;
 import android.view.View;
 import androidx.annotation.NonNull;
@@ -36,9 +35,7 @@ import org.prebid.mobile.rendering.models.TrackingEvent;
 import org.prebid.mobile.rendering.models.internal.InternalPlayerState;
 import org.prebid.mobile.rendering.models.internal.VisibilityTrackerOption;
 import org.prebid.mobile.rendering.models.ntv.NativeEventTracker;
-import org.prebid.mobile.rendering.networking.BaseNetworkTask;
 import org.prebid.mobile.rendering.session.manager.OmAdSessionManager;
-import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
 import org.prebid.mobile.rendering.views.interstitial.InterstitialManager;
 
@@ -53,9 +50,11 @@ public class VideoCreative extends VideoCreativeProtocol
 
     @VisibleForTesting VideoCreativeView videoCreativeView;
 
-    private AsyncTask videoDownloadTask;
+    private String videoDownloadUrl;
+    private FileDownloadListener videoDownloadListener;
 
     private String preloadedVideoFilePath;
+    private boolean videoAcquired = false;
 
     public VideoCreative(Context context,
                          @NonNull
@@ -71,22 +70,13 @@ public class VideoCreative extends VideoCreativeProtocol
 
     @Override
     public void load() {
-        //Use URLConnection to download a video file.
-        BaseNetworkTask.GetUrlParams params = new BaseNetworkTask.GetUrlParams();
-
-        params.url = model.getMediaUrl();
-        params.userAgent = AppInfoManager.getUserAgent();
-        params.requestType = "GET";
-        params.name = BaseNetworkTask.DOWNLOAD_TASK;
-
+        //Use URLConnection to download a video file. The video may be already pre-cached after the auction.
         Context context = contextReference.get();
         if (context != null) {
             AdUnitConfiguration adConfiguration = model.getAdConfiguration();
-            String shortenedPath = LruController.getShortenedPath(params.url);
-            File file = new File(context.getFilesDir(), shortenedPath);
-            VideoDownloadTask videoDownloadTask = new VideoDownloadTask(context, file,
-                                                                        new VideoCreativeVideoPreloadListener(this), adConfiguration);
-            this.videoDownloadTask = videoDownloadTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+            videoDownloadUrl = model.getMediaUrl();
+            videoDownloadListener = new VideoCreativeVideoPreloadListener(this);
+            VideoPreCacheScheduler.getInstance().download(context, videoDownloadUrl, adConfiguration, videoDownloadListener);
         }
     }
 
@@ -252,9 +242,13 @@ public class VideoCreative extends VideoCreativeProtocol
             videoCreativeView.destroy();
         }
 
-        if (videoDownloadTask != null) {
-            videoDownloadTask.cancel(true);
+        Context context = contextReference.get();
+        if (videoDownloadListener != null && context != null) {
+            VideoPreCacheScheduler.getInstance().cancel(context, videoDownloadUrl, videoDownloadListener);
+            videoDownloadListener = null;
         }
+
+        releasePreloadedVideo();
     }
 
     @Override
@@ -268,12 +262,12 @@ public class VideoCreative extends VideoCreativeProtocol
     }
 
     /**
-     * @return true if {@link #preloadedVideoFilePath} is not empty and file exists in filesDir, false otherwise.
+     * @return true if {@link #preloadedVideoFilePath} is not empty and file exists in video cache, false otherwise.
      */
     @Override
     public boolean isResolved() {
         if (contextReference.get() != null && !TextUtils.isEmpty(preloadedVideoFilePath)) {
-            File file = new File(contextReference.get().getFilesDir(), preloadedVideoFilePath);
+            File file = VideoCache.getInstance().getFile(contextReference.get(), preloadedVideoFilePath);
             return file.exists();
         }
         return false;
@@ -309,6 +303,22 @@ public class VideoCreative extends VideoCreativeProtocol
         return model;
     }
 
+    private void acquirePreloadedVideo() {
+        Context context = contextReference.get();
+        if (context != null && !TextUtils.isEmpty(preloadedVideoFilePath)) {
+            VideoCache.getInstance().acquire(VideoCache.getInstance().getFile(context, preloadedVideoFilePath));
+            videoAcquired = true;
+        }
+    }
+
+    private void releasePreloadedVideo() {
+        Context context = contextReference.get();
+        if (videoAcquired && context != null) {
+            VideoCache.getInstance().release(VideoCache.getInstance().getFile(context, preloadedVideoFilePath));
+            videoAcquired = false;
+        }
+    }
+
     private void loadContinued() {
         try {
             createCreativeView();
@@ -332,8 +342,8 @@ public class VideoCreative extends VideoCreativeProtocol
             videoCreativeView = new VideoCreativeView(context, this, adConfiguration);
             videoCreativeView.setBroadcastId(adConfiguration.getBroadcastId());
 
-            // Get the preloaded video from device file storage
-            videoUri = Uri.fromFile(new File(context.getFilesDir() + (model.getMediaUrl())));
+            // Get the preloaded video from video cache
+            videoUri = Uri.fromFile(VideoCache.getInstance().getFile(context, model.getMediaUrl()));
         }
 
         // Show call-to-action overlay right away if click through url is available & end card is not available
@@ -447,6 +457,7 @@ public class VideoCreative extends VideoCreativeProtocol
 
             videoCreative.preloadedVideoFilePath = shortenedPath;
             videoCreative.model.setMediaUrl(shortenedPath);
+            videoCreative.acquirePreloadedVideo();
             videoCreative.loadContinued();
         }
 
@@ -18,26 +18,64 @@ package org.prebid.mobile.rendering.video;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.media.MediaMetadataRetriever;
-import android.net.Uri;
 import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.VideoDownloadListener;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.errors.ServerWrongStatusCode;
 import org.prebid.mobile.rendering.loading.FileDownloadListener;
 import org.prebid.mobile.rendering.loading.FileDownloadTask;
 
 import java.io.*;
+import java.net.HttpURLConnection;
 import java.net.URLConnection;
-import java.util.Calendar;
-import java.util.Date;
+import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Downloads video to {@link VideoCache}.
+ * <p>
+ * The video is streamed to a partial file which is renamed when the download completes. Interrupted downloads
+ * are resumed with <code>Range</code> requests if the server provided <code>ETag</code> or <code>Last-Modified</code>.
+ * The validators of the partial file are kept apart and replace the validators of the video only after renaming.
+ * Cached videos older than {@link #FRESH_PERIOD_MILLIS} are revalidated with conditional requests instead of
+ * downloading them again. Download speed is reported to {@link PrebidMobile#getVideoDownloadListener()}.
+ */
 @SuppressLint("StaticFieldLeak")
 public class VideoDownloadTask extends FileDownloadTask {
 
     private static final String TAG = VideoDownloadTask.class.getSimpleName();
+
+    private static final long FRESH_PERIOD_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final String RANGE_HEADER = "Range";
+    private static final String IF_RANGE_HEADER = "If-Range";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    private static final String CONTENT_RANGE_HEADER = "Content-Range";
+
+    private static final String METADATA_URL = "url";
+    private static final String METADATA_ETAG = "etag";
+    private static final String METADATA_LAST_MODIFIED = "lastModified";
+
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
     private Context applicationContext;
     private AdUnitConfiguration adConfiguration;
 
+    private final File partialFile;
+    private final File metadataFile;
+    private final File partialMetadataFile;
+    private String url;
+    private String requestEtag;
+    private String requestLastModified;
+    private boolean requestRange;
+    private boolean requestConditional;
+    private boolean discardPartialFile;
+
     public VideoDownloadTask(
             Context context,
             File file,
@@ -52,6 +90,14 @@ public class VideoDownloadTask extends FileDownloadTask {
         }
         this.adConfiguration = adConfiguration;
         applicationContext = context.getApplicationContext();
+        partialFile = VideoCache.getPartialFile(file);
+        metadataFile = VideoCache.getMetadataFile(file);
+        partialMetadataFile = VideoCache.getMetadataFile(partialFile);
+
+        // The video is written to the partial file, the empty one created by the parent is not needed
+        if (file.length() == 0) {
+            file.delete();
+        }
     }
 
     @Override
@@ -59,7 +105,18 @@ public class VideoDownloadTask extends FileDownloadTask {
         LogUtil.debug(TAG, "url: " + param.url);
         LogUtil.debug(TAG, "queryParams: " + param.queryParams);
 
-        return createResult(param);
+        // The partial file is appended during the whole download, so the cache must not trim it meanwhile
+        VideoCache.getInstance().acquire(partialFile);
+        try {
+            return createResult(param);
+        }
+        finally {
+            VideoCache.getInstance().release(partialFile);
+            // The partial file doesn't exist after renaming, so it's only untracked
+            if (discardPartialFile || !partialFile.exists()) {
+                VideoCache.getInstance().remove(partialFile);
+            }
+        }
     }
 
     private String getShortenedPath() {
@@ -68,102 +125,271 @@ public class VideoDownloadTask extends FileDownloadTask {
         return beginIndex != -1 ? path.substring(beginIndex) : path;
     }
 
-    @Override
-    protected void processData(URLConnection connection, GetUrlResult result) throws IOException {
+    private GetUrlResult createResult(GetUrlParams param)
+    throws Exception {
+        result = new GetUrlResult();
+        url = param.url;
         String shortenedPath = getShortenedPath();
-        if (file.exists() && !LruController.isAlreadyCached(shortenedPath)) {
-            LogUtil.debug(TAG, "Video saved to cache");
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            readAndWriteData(connection, result, outputStream, false);
-            LruController.putVideoCache(shortenedPath, outputStream.toByteArray());
-        } else {
-            LogUtil.debug(TAG, "Video saved to file: " + shortenedPath);
-            readAndWriteData(connection, result, new FileOutputStream(file), true);
+
+        if (file.exists() && file.length() > 0) {
+            LogUtil.debug(TAG, "File exists: " + shortenedPath);
+            if (!isVideoFileExpired(file)) {
+                LogUtil.debug(TAG, "Video is taken from cache: " + shortenedPath);
+                VideoCache.getInstance().put(file);
+                return result;
+            }
+            if (setValidators(readMetadata(metadataFile))) {
+                LogUtil.debug(TAG, "File " + shortenedPath + " is expired. Revalidating");
+                requestConditional = true;
+                return sendDownloadRequest(param);
+            }
+            LogUtil.debug(TAG, "File " + shortenedPath + " is expired. Downloading a new one");
+            VideoCache.getInstance().remove(file);
+        }
+
+        if (partialFile.exists() && partialFile.length() > 0 && setValidators(readMetadata(partialMetadataFile))) {
+            LogUtil.debug(TAG, "Resuming download from " + partialFile.length() + " bytes: " + shortenedPath);
+            requestRange = true;
+            result = sendDownloadRequest(param);
+            if (result.statusCode != HTTP_RANGE_NOT_SATISFIABLE) {
+                return result;
+            }
+            LogUtil.debug(TAG, "Partial file can't be resumed. Downloading a new one");
+            discardPartialFile = true;
+            requestRange = false;
+            result = new GetUrlResult();
+        }
+        return sendDownloadRequest(param);
+    }
+
+    private GetUrlResult sendDownloadRequest(GetUrlParams param) throws Exception {
+        GetUrlResult requestResult = super.sendRequest(param);
+        requestConditional = false;
+        return requestResult;
+    }
+
+    @Override
+    protected void addRequestHeaders(Map<String, String> headers) {
+        if (requestConditional) {
+            if (requestEtag != null) {
+                headers.put(IF_NONE_MATCH_HEADER, requestEtag);
+            }
+            if (requestLastModified != null) {
+                headers.put(IF_MODIFIED_SINCE_HEADER, requestLastModified);
+            }
+        } else if (requestRange) {
+            headers.put(RANGE_HEADER, "bytes=" + partialFile.length() + "-");
+            headers.put(IF_RANGE_HEADER, requestEtag != null ? requestEtag : requestLastModified);
+        }
+    }
+
+    @Override
+    public GetUrlResult customParser(int code, URLConnection urlConnection) {
+        GetUrlResult result = new GetUrlResult();
+        try {
+            if (code == HttpURLConnection.HTTP_NOT_MODIFIED && file.exists()) {
+                LogUtil.debug(TAG, "Video is not modified: " + getShortenedPath());
+                file.setLastModified(System.currentTimeMillis());
+                VideoCache.getInstance().put(file);
+            } else if (code == HttpURLConnection.HTTP_OK) {
+                download(urlConnection, result, false);
+            } else if (code == HttpURLConnection.HTTP_PARTIAL && requestRange) {
+                download(urlConnection, result, true);
+            } else if (code != HTTP_RANGE_NOT_SATISFIABLE || !requestRange) {
+                result.setException(new ServerWrongStatusCode(code));
+            }
+        }
+        catch (IOException e) {
+            LogUtil.error(TAG, "download of media failed: " + e.getMessage());
+            result.setException(new Exception("download of media failed " + e.getMessage()));
+        }
+        finally {
+            if (urlConnection instanceof HttpURLConnection) {
+                ((HttpURLConnection) urlConnection).disconnect();
+            }
+        }
+        return result;
+    }
+
+    private void download(URLConnection connection, GetUrlResult result, boolean append) throws IOException {
+        long offset = append ? partialFile.length() : 0;
+        if (append && getContentRangeStart(connection) != offset) {
+            discardPartialFile = true;
+            throw new IOException("Unexpected content range " + connection.getHeaderField(CONTENT_RANGE_HEADER));
+        }
+
+        long contentLength = connection.getContentLengthLong();
+        long totalLength = contentLength > 0 ? offset + contentLength : -1;
+        if (totalLength > getMaxFileSize()) {
+            result.setException(new Exception("FileDownloader encountered a file larger than SDK cap of " + getMaxFileSize()));
+            return;
+        }
+        if (contentLength <= 0) {
+            result.setException(new Exception("FileDownloader encountered file with " + contentLength + " content length"));
+            return;
+        }
+
+        if (!append) {
+            writeMetadata(connection, partialMetadataFile);
+            // The previous partial file is replaced by the new one
+            discardPartialFile = false;
         }
+        LogUtil.debug(TAG, "Video saved to file: " + getShortenedPath());
+
+        long start = System.currentTimeMillis();
+        long received = 0;
+        boolean completed = false;
+        try {
+            received = readAndWriteData(connection, new FileOutputStream(partialFile, append), offset, totalLength);
+            completed = !isCancelled() && partialFile.length() == totalLength;
+        }
+        finally {
+            reportMetrics(received, System.currentTimeMillis() - start, append, completed);
+            if (!completed) {
+                // Keep the partial file to resume it next time
+                VideoCache.getInstance().put(partialFile);
+            }
+        }
+
+        if (isCancelled()) {
+            result.setException(null);
+            return;
+        }
+        if (!completed) {
+            throw new IOException("Downloaded " + partialFile.length() + " of " + totalLength + " bytes");
+        }
+
+        VideoCache.getInstance().remove(file);
+        if (!partialFile.renameTo(file)) {
+            throw new IOException("Can't rename partial file");
+        }
+        promoteMetadata();
+        VideoCache.getInstance().put(file);
     }
 
-    private void readAndWriteData(URLConnection in, GetUrlResult result, OutputStream out,
-                                  boolean deleteOnAbort) throws IOException {
-        int length = in.getContentLength();
+    private long readAndWriteData(URLConnection in, OutputStream out, long offset, long totalLength) throws IOException {
         InputStream is = in.getInputStream();
         byte[] data = new byte[16384];
-        long total = 0;
+        long received = 0;
         int count;
         try {
             while ((count = is.read(data)) != -1) {
                 // allow canceling with back button
                 if (isCancelled()) {
-                    if (deleteOnAbort) {
-                        if (file.exists()) {
-                            file.delete();
-                        }
-                    }
-                    result.setException(null);
-                    return;
+                    break;
                 }
-                total += count;
+                out.write(data, 0, count);
+                received += count;
                 // publishing the progress....
-                if (length > 0) // only if total length is known
+                if (totalLength > 0) // only if total length is known
                 {
-                    publishProgress((int) (total * 100 / length));
+                    publishProgress((int) ((offset + received) * 100 / totalLength));
                 }
-                out.write(data, 0, count);
             }
         }
-        catch (IOException e) {
-            throw e;
-        }
         finally {
             try {
-
-                if (is != null) {
-                    is.close();
-                }
-                if (out != null) {
-                    out.close();
-                }
+                is.close();
+                out.close();
             }
             catch (Exception ignored) {
             }
         }
+        return received;
     }
 
-    private GetUrlResult createResult(GetUrlParams param)
-    throws Exception {
-        result = new GetUrlResult();
-        String shortenedPath = getShortenedPath();
-        if (file.exists()) {
-            LogUtil.debug(TAG, "File exists: " + shortenedPath);
-            if (isVideoFileExpired(file) || !isVideoFileValid(applicationContext, file)) {
-                LogUtil.debug(TAG, "File " + shortenedPath + " is expired or broken. Downloading a new one");
-                file.delete();
-                result = super.sendRequest(param);
-            } else if (!LruController.isAlreadyCached(shortenedPath)) {
-                result = super.sendRequest(param);
-            }
+    private void reportMetrics(long bytes, long durationMillis, boolean resumed, boolean completed) {
+        VideoPreCacheScheduler.getInstance().onDownloadMeasured(bytes, durationMillis);
+        VideoDownloadListener listener = PrebidMobile.getVideoDownloadListener();
+        if (listener == null) {
+            return;
         }
-        else {
-            result = super.sendRequest(param);
+        long bytesPerSecond = durationMillis > 0 ? bytes * 1000 / durationMillis : bytes;
+        try {
+            listener.onVideoDownload(url, bytes, durationMillis, bytesPerSecond, resumed, completed);
+        } catch (Throwable throwable) {
+            LogUtil.error(TAG, "Video download listener failed: " + throwable.getMessage());
         }
-        return result;
     }
 
-    private boolean isVideoFileExpired(File file) {
-        Date lastModDate = new Date(file.lastModified());
-        Date currentDate = Calendar.getInstance().getTime();
-        long diff = currentDate.getTime() - lastModDate.getTime();
-        return diff > TimeUnit.HOURS.toMillis(1);
+    private boolean setValidators(Properties metadata) {
+        if (metadata == null || url == null || !url.equals(metadata.getProperty(METADATA_URL))) {
+            return false;
+        }
+        requestEtag = metadata.getProperty(METADATA_ETAG);
+        requestLastModified = metadata.getProperty(METADATA_LAST_MODIFIED);
+        return requestEtag != null || requestLastModified != null;
+    }
+
+    private static Properties readMetadata(File metadataFile) {
+        if (!metadataFile.exists()) {
+            return null;
+        }
+        Properties metadata = new Properties();
+        try (InputStream input = new FileInputStream(metadataFile)) {
+            metadata.load(input);
+            return metadata;
+        }
+        catch (IOException e) {
+            LogUtil.warning(TAG, "Can't read video metadata: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeMetadata(
+            URLConnection connection,
+            File metadataFile
+    ) {
+        Properties metadata = new Properties();
+        metadata.setProperty(METADATA_URL, url);
+        String etag = connection.getHeaderField(ETAG_HEADER);
+        if (etag != null) {
+            metadata.setProperty(METADATA_ETAG, etag);
+        }
+        String lastModified = connection.getHeaderField(LAST_MODIFIED_HEADER);
+        if (lastModified != null) {
+            metadata.setProperty(METADATA_LAST_MODIFIED, lastModified);
+        }
+        try (OutputStream output = new FileOutputStream(metadataFile)) {
+            metadata.store(output, null);
+        }
+        catch (IOException e) {
+            LogUtil.warning(TAG, "Can't write video metadata: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the validators of the previous video with the ones of the downloaded partial file.
+     */
+    private void promoteMetadata() {
+        if (metadataFile.exists() && !metadataFile.delete()) {
+            LogUtil.warning(TAG, "Can't delete video metadata " + metadataFile.getName());
+        }
+        if (partialMetadataFile.exists() && !partialMetadataFile.renameTo(metadataFile)) {
+            LogUtil.warning(TAG, "Can't rename video metadata " + partialMetadataFile.getName());
+        }
     }
 
-    private boolean isVideoFileValid(Context context, File file) {
+    private static long getContentRangeStart(URLConnection connection) {
+        // Content-Range: bytes 100-999/1000
+        String contentRange = connection.getHeaderField(CONTENT_RANGE_HEADER);
+        if (contentRange == null || !contentRange.startsWith("bytes ")) {
+            return -1;
+        }
+        int dashIndex = contentRange.indexOf('-');
+        if (dashIndex == -1) {
+            return -1;
+        }
         try {
-            MediaMetadataRetriever retriever = new MediaMetadataRetriever();
-            retriever.setDataSource(context, Uri.fromFile(file));
-            String hasVideo = retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_HAS_VIDEO);
-            return hasVideo.equals("yes");
+            return Long.parseLong(contentRange.substring("bytes ".length(), dashIndex).trim());
         }
-        catch (Exception e) {
-            return false;
+        catch (NumberFormatException e) {
+            return -1;
         }
     }
-}
\ No newline at end of file
+
+    private boolean isVideoFileExpired(File file) {
+        long diff = System.currentTimeMillis() - file.lastModified();
+        return diff > FRESH_PERIOD_MILLIS;
+    }
+}
@@ -0,0 +1,378 @@
+package org.prebid.mobile.rendering.video;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import org.prebid.mobile.LogUtil;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.bidding.data.bid.Bid;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.loading.FileDownloadListener;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
+import org.prebid.mobile.rendering.networking.parameters.UserParameters;
+import org.prebid.mobile.rendering.parser.AdResponseParserVast;
+import org.prebid.mobile.rendering.sdk.ManagersResolver;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.ConnectionInfoManager;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
+import org.prebid.mobile.rendering.utils.helpers.AppInfoManager;
+import org.prebid.mobile.tasksmanager.TaskLane;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schedules video downloads to {@link VideoCache}.
+ * <p>
+ * Interstitial and rewarded units pre-cache the video of the winning bid right after the auction, so the video is
+ * usually on disk when the creative is loaded. Pre-cache downloads are limited with
+ * {@link #MAX_CONCURRENT_DOWNLOADS} and paused while the connection is metered or the battery is low. Downloads
+ * requested by creatives start immediately and join a pre-cache download of the same file if there is one.
+ * Queued pre-cache downloads are dropped when their bid expires. Downloads without a bid expiration are dropped
+ * after {@link #MAX_PAUSED_RETRIES} retries while paused.
+ * <p>
+ * Download throughput is measured to choose the media file bitrate, see {@link #getMaxBitrate()}.
+ */
+public class VideoPreCacheScheduler {
+
+    private static final String TAG = VideoPreCacheScheduler.class.getSimpleName();
+
+    @VisibleForTesting
+    static final int MAX_CONCURRENT_DOWNLOADS = 2;
+    @VisibleForTesting
+    static final long RETRY_DELAY_MILLIS = 30 * 1000;
+    @VisibleForTesting
+    static final int MAX_PAUSED_RETRIES = 20;
+
+    private static final int CELL_MAX_BITRATE = 1500; // kbps
+    private static final long MIN_MEASURED_BYTES = 64 * 1024;
+    private static final double THROUGHPUT_SMOOTHING = 0.3;
+    private static final double THROUGHPUT_SHARE = 0.75;
+
+    private static VideoPreCacheScheduler instance;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<String, Download> downloads = new HashMap<>();
+    private final ArrayDeque<Download> pending = new ArrayDeque<>();
+    private final Runnable retryTask = this::retryPending;
+    private int runningCount = 0;
+    private boolean retryScheduled = false;
+    private double throughput = 0; // bytes per second
+
+    @VisibleForTesting
+    VideoPreCacheScheduler() {
+    }
+
+    public static synchronized VideoPreCacheScheduler getInstance() {
+        if (instance == null) {
+            instance = new VideoPreCacheScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Parses the VAST of the winning bid and pre-caches its media file. Wrapper VASTs are skipped, they are
+     * resolved with network requests when the creative is loaded. The chosen media file is kept in the bid,
+     * so the creative plays the pre-cached file, see {@link Bid#getPreCachedMediaUrl()}.
+     * Can be called on a background thread.
+     */
+    public void preCacheVast(
+            @Nullable Context context,
+            @Nullable BidResponse bidResponse
+    ) {
+        Bid bid = bidResponse != null ? bidResponse.getWinningBid() : null;
+        if (context == null || bid == null) {
+            return;
+        }
+        String vast = bid.getAdm();
+        if (vast == null || vast.isEmpty()) {
+            return;
+        }
+        String mediaUrl;
+        try {
+            AdResponseParserVast parser = new AdResponseParserVast(vast);
+            if (parser.getVastUrl() != null) {
+                return;
+            }
+            mediaUrl = parser.getMediaFileUrl(parser, 0, getMaxBitrate());
+        } catch (Exception exception) {
+            LogUtil.debug(TAG, "Video isn't pre-cached: " + exception.getMessage());
+            return;
+        }
+        bid.setPreCachedMediaUrl(mediaUrl);
+
+        Integer expirationTimeSeconds = bidResponse.getExpirationTimeSeconds();
+        long creationTime = bidResponse.getCreationTime() > 0 ? bidResponse.getCreationTime() : System.currentTimeMillis();
+        long expirationTime = expirationTimeSeconds != null ? creationTime + expirationTimeSeconds * 1000L : 0;
+        // Download tasks are started on the main thread
+        handler.post(() -> preCache(context, mediaUrl, expirationTime));
+    }
+
+    /**
+     * Adds the media file to the pre-cache queue if it isn't cached yet.
+     */
+    public void preCache(
+            @NonNull Context context,
+            @Nullable String mediaUrl
+    ) {
+        preCache(context, mediaUrl, 0);
+    }
+
+    /**
+     * Adds the media file to the pre-cache queue if it isn't cached yet.
+     *
+     * @param expirationTime time in millis when the bid expires and the queued download is dropped, 0 if never
+     */
+    public synchronized void preCache(
+            @NonNull Context context,
+            @Nullable String mediaUrl,
+            long expirationTime
+    ) {
+        if (mediaUrl == null || mediaUrl.isEmpty()) {
+            return;
+        }
+        File file = getFile(context, mediaUrl);
+        if (downloads.containsKey(file.getPath()) || file.length() > 0) {
+            return;
+        }
+
+        Download download = new Download(context.getApplicationContext(), mediaUrl, file, null, true);
+        download.expirationTime = expirationTime;
+        downloads.put(file.getPath(), download);
+        pending.add(download);
+        LogUtil.debug(TAG, "Video is scheduled for pre-caching: " + file.getName());
+        startPending();
+    }
+
+    /**
+     * Downloads the media file for a creative. It joins the pre-cache download of the same file or starts a new one
+     * regardless of the pre-cache limits.
+     */
+    public synchronized void download(
+            @NonNull Context context,
+            @NonNull String mediaUrl,
+            @Nullable AdUnitConfiguration adConfiguration,
+            @NonNull FileDownloadListener listener
+    ) {
+        File file = getFile(context, mediaUrl);
+        Download download = downloads.get(file.getPath());
+        if (download == null) {
+            download = new Download(context.getApplicationContext(), mediaUrl, file, adConfiguration, false);
+            downloads.put(file.getPath(), download);
+        } else {
+            LogUtil.debug(TAG, "Video is already being pre-cached: " + file.getName());
+        }
+
+        download.listeners.add(listener);
+        if (download.task == null) {
+            pending.remove(download);
+            start(download);
+        }
+    }
+
+    /**
+     * Removes the listener of {@link #download(Context, String, AdUnitConfiguration, FileDownloadListener)}.
+     * The download is cancelled if it has no other listeners and it isn't a pre-cache download.
+     */
+    public synchronized void cancel(
+            @NonNull Context context,
+            @NonNull String mediaUrl,
+            @NonNull FileDownloadListener listener
+    ) {
+        Download download = downloads.get(getFile(context, mediaUrl).getPath());
+        if (download == null || !download.listeners.remove(listener)) {
+            return;
+        }
+        if (download.listeners.isEmpty() && !download.preCache && download.task != null) {
+            download.task.cancel(true);
+            finish(download);
+        }
+    }
+
+    /**
+     * Returns the recommended media file bitrate in kbps for the current network, 0 if it's not limited.
+     */
+    public synchronized int getMaxBitrate() {
+        if (throughput > 0) {
+            return (int) Math.max(1, throughput * THROUGHPUT_SHARE * 8 / 1000);
+        }
+        ConnectionInfoManager connectionManager = ManagersResolver.getInstance().getNetworkManager();
+        if (connectionManager != null && connectionManager.getConnectionType() == UserParameters.ConnectionType.CELL) {
+            return CELL_MAX_BITRATE;
+        }
+        return 0;
+    }
+
+    /**
+     * Updates the throughput estimation with a finished download.
+     */
+    public synchronized void onDownloadMeasured(
+            long bytes,
+            long durationMillis
+    ) {
+        if (bytes < MIN_MEASURED_BYTES || durationMillis <= 0) {
+            return;
+        }
+        double bytesPerSecond = bytes * 1000.0 / durationMillis;
+        throughput = throughput > 0
+                ? throughput + THROUGHPUT_SMOOTHING * (bytesPerSecond - throughput)
+                : bytesPerSecond;
+    }
+
+    @VisibleForTesting
+    synchronized boolean isScheduled(@NonNull File file) {
+        return downloads.containsKey(file.getPath());
+    }
+
+    @VisibleForTesting
+    protected boolean isPaused() {
+        ConnectionInfoManager connectionManager = ManagersResolver.getInstance().getNetworkManager();
+        if (connectionManager != null && connectionManager.isConnectionMetered()) {
+            return true;
+        }
+        DeviceInfoManager deviceManager = ManagersResolver.getInstance().getDeviceManager();
+        return deviceManager != null && deviceManager.isBatteryLow();
+    }
+
+    private synchronized void startPending() {
+        retryScheduled = false;
+        removeExpiredPending();
+        while (runningCount < MAX_CONCURRENT_DOWNLOADS && !pending.isEmpty()) {
+            if (isPaused()) {
+                LogUtil.debug(TAG, "Video pre-caching is paused on metered connection or low battery.");
+                if (!retryScheduled) {
+                    retryScheduled = true;
+                    handler.postDelayed(retryTask, RETRY_DELAY_MILLIS);
+                }
+                return;
+            }
+            start(pending.poll());
+        }
+    }
+
+    private synchronized void retryPending() {
+        for (Download download : pending) {
+            download.pausedRetries++;
+        }
+        startPending();
+    }
+
+    private void removeExpiredPending() {
+        long now = System.currentTimeMillis();
+        Iterator<Download> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Download download = iterator.next();
+            if (download.expirationTime > 0 && now > download.expirationTime) {
+                iterator.remove();
+                downloads.remove(download.file.getPath());
+                LogUtil.debug(TAG, "Bid has expired, video isn't pre-cached: " + download.file.getName());
+            } else if (download.expirationTime == 0 && download.pausedRetries > MAX_PAUSED_RETRIES) {
+                iterator.remove();
+                downloads.remove(download.file.getPath());
+                LogUtil.debug(TAG, "Pre-caching is paused for too long, video isn't pre-cached: " + download.file.getName());
+            }
+        }
+    }
+
+    private void start(Download download) {
+        BaseNetworkTask.GetUrlParams params = new BaseNetworkTask.GetUrlParams();
+        params.url = download.url;
+        params.userAgent = AppInfoManager.getUserAgent();
+        params.requestType = "GET";
+        params.name = BaseNetworkTask.DOWNLOAD_TASK;
+
+        runningCount++;
+        try {
+            // The download task creates its file in the constructor
+            VideoCache.createDirectory(download.file);
+            VideoDownloadTask task = new VideoDownloadTask(download.context, download.file, new DownloadListener(download), download.adConfiguration);
+            download.task = task.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.DOWNLOAD), params);
+        } catch (RuntimeException exception) {
+            // The task has already notified the listener
+            LogUtil.error(TAG, "Can't start video download: " + exception.getMessage());
+        }
+    }
+
+    private synchronized List<FileDownloadListener> finish(Download download) {
+        if (downloads.get(download.file.getPath()) == download) {
+            downloads.remove(download.file.getPath());
+            runningCount--;
+        }
+        handler.post(this::startPending);
+        return new ArrayList<>(download.listeners);
+    }
+
+    private static File getFile(
+            Context context,
+            String mediaUrl
+    ) {
+        return VideoCache.getInstance().getFile(context, VideoCache.getShortenedPath(mediaUrl));
+    }
+
+    private static class Download {
+
+        private final Context context;
+        private final String url;
+        private final File file;
+        private final AdUnitConfiguration adConfiguration;
+        private final boolean preCache;
+        private final List<FileDownloadListener> listeners = new ArrayList<>();
+        private AsyncTask task;
+        private long expirationTime;
+        private int pausedRetries;
+
+        private Download(
+                Context context,
+                String url,
+                File file,
+                AdUnitConfiguration adConfiguration,
+                boolean preCache
+        ) {
+            this.context = context;
+            this.url = url;
+            this.file = file;
+            this.adConfiguration = adConfiguration;
+            this.preCache = preCache;
+        }
+
+    }
+
+    private class DownloadListener implements FileDownloadListener {
+
+        private final Download download;
+
+        private DownloadListener(Download download) {
+            this.download = download;
+        }
+
+        @Override
+        public void onFileDownloaded(String shortenedPath) {
+            for (FileDownloadListener listener : finish(download)) {
+                listener.onFileDownloaded(shortenedPath);
+            }
+        }
+
+        @Override
+        public void onFileDownloadError(String error) {
+            if (download.preCache) {
+                LogUtil.debug(TAG, "Video pre-caching failed: " + error);
+            }
+            for (FileDownloadListener listener : finish(download)) {
+                listener.onFileDownloadError(error);
+            }
+        }
+
+    }
+
+}
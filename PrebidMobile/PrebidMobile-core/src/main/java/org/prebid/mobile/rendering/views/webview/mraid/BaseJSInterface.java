@@ -42,6 +42,7 @@ import org.prebid.mobile.rendering.mraid.methods.MraidScreenMetrics;
 import org.prebid.mobile.rendering.mraid.methods.network.GetOriginalUrlTask;
 import org.prebid.mobile.rendering.mraid.methods.network.RedirectUrlListener;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.networking.NetworkEngine;
 import org.prebid.mobile.rendering.networking.parameters.GeoLocationParameterBuilder;
 import org.prebid.mobile.rendering.sdk.ManagersResolver;
 import org.prebid.mobile.rendering.sdk.deviceData.managers.DeviceInfoManager;
@@ -54,6 +55,7 @@ import org.prebid.mobile.rendering.utils.helpers.MraidUtils;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
 import org.prebid.mobile.rendering.views.webview.PrebidWebViewBase;
 import org.prebid.mobile.rendering.views.webview.WebViewBase;
+import org.prebid.mobile.tasksmanager.TaskLane;
 
 import java.lang.ref.WeakReference;
 import java.util.concurrent.FutureTask;
@@ -429,7 +431,7 @@ public class BaseJSInterface implements JSInterface {
         params.userAgent = AppInfoManager.getUserAgent();
 
         GetOriginalUrlTask redirectTask = new GetOriginalUrlTask(new OriginalUrlResponseCallBack(listener));
-        redirectedUrlAsyncTask = redirectTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, params);
+        redirectedUrlAsyncTask = redirectTask.executeOnExecutor(NetworkEngine.getExecutor(TaskLane.RENDERING), params);
     }
 
     public void setDefaultLayoutParams(LayoutParams originalParentLayoutParams) {
@@ -16,17 +16,21 @@
 
 package org.prebid.mobile.rendering.views.webview.mraid;
 
+import android.content.Context;
 import android.net.Uri;
 import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import androidx.annotation.VisibleForTesting;
 import org.prebid.mobile.LogUtil;
 import org.prebid.mobile.rendering.mraid.MraidEnv;
+import org.prebid.mobile.rendering.sdk.JSLibraryManager;
 import org.prebid.mobile.rendering.utils.helpers.Utils;
 import org.prebid.mobile.rendering.views.webview.AdWebViewClient;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
 /**
@@ -36,18 +40,20 @@ public class MraidWebViewClient extends AdWebViewClient {
     private static String TAG = MraidWebViewClient.class.getSimpleName();
     private static final String MRAID_JS = "mraid.js";
 
-    private String mraidInjectionJavascript;
+    private final String mraidEnvJavascript;
+    private final String mraidScript;
 
     public MraidWebViewClient(AdAssetsLoadedListener adAssetsLoadedListener, String mraidScript) {
         super(adAssetsLoadedListener);
-        mraidInjectionJavascript = "javascript:" + MraidEnv.getWindowMraidEnv() + mraidScript;
+        mraidEnvJavascript = "javascript:" + MraidEnv.getWindowMraidEnv();
+        this.mraidScript = mraidScript != null ? mraidScript : "";
     }
 
     @Override
     public WebResourceResponse shouldInterceptRequest(final WebView view, final String url) {
 
         if (matchesInjectionUrl(url)) {
-            return createMraidInjectionResponse();
+            return createMraidInjectionResponse(view.getContext());
         }
         else {
             return super.shouldInterceptRequest(view, url);
@@ -60,10 +66,15 @@ public class MraidWebViewClient extends AdWebViewClient {
         return MRAID_JS.equals(uri.getLastPathSegment());
     }
 
-    private WebResourceResponse createMraidInjectionResponse() {
-        if (Utils.isNotBlank(mraidInjectionJavascript)) {
+    private WebResourceResponse createMraidInjectionResponse(Context context) {
+        if (Utils.isNotBlank(mraidEnvJavascript) || Utils.isNotBlank(mraidScript)) {
             adAssetsLoadedListener.notifyMraidScriptInjected();
-            InputStream data = new ByteArrayInputStream(mraidInjectionJavascript.getBytes());
+            // The script bytes are shared between web views, only the environment is encoded per request
+            byte[] mraidScriptBytes = JSLibraryManager.getInstance(context).getMRAIDScriptBytes(mraidScript);
+            InputStream data = new SequenceInputStream(
+                    new ByteArrayInputStream(mraidEnvJavascript.getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream(mraidScriptBytes)
+            );
             return new WebResourceResponse("text/javascript", "UTF-8", data);
         } else {
             LogUtil.error(TAG, "Failed to inject mraid.js into twoPart mraid webview");
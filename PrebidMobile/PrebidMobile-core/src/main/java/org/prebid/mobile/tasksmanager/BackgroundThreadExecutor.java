@@ -17,59 +17,55 @@
 package org.prebid.mobile.tasksmanager;
 
 import android.os.Handler;
-import android.os.HandlerThread;
+
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+/**
+ * Former single background thread of the SDK. Tasks run in the {@link TaskLane#RENDERING} lane,
+ * which also runs them one at a time.
+ *
+ * @deprecated use {@link TasksManager#execute(TaskLane, Runnable)} and {@link TasksManager#cancel(TaskLane, Runnable)}.
+ */
+@Deprecated
 public class BackgroundThreadExecutor implements CancellableExecutor {
 
-    private Handler handler;
-    private boolean running = false;
-    private final int HANDLER_COUNT = 3;
-    private int index = 0;
+    private final LaneExecutor lane;
+    private volatile boolean running = true;
 
-    BackgroundThreadExecutor() {
-        HandlerThread backgroundThread = new HandlerThread("BackgroundThread");
-        backgroundThread.start();
-        handler = new Handler(backgroundThread.getLooper());
-        running = true;
+    BackgroundThreadExecutor(LaneExecutor lane) {
+        this.lane = lane;
     }
 
-
     @Override
     public void execute(Runnable runnable) {
         if (running) {
-            handler.post(runnable);
+            lane.execute(runnable);
         }
     }
 
     @Override
     public boolean cancel(Runnable runnable) {
-        if (running) {
-            handler.removeCallbacks(runnable);
-            return true;
-        }
-        return false;
+        return running && lane.cancel(runnable);
     }
 
+    /**
+     * Stops accepting tasks, the lane itself isn't affected.
+     */
     public void shutdown() {
-        if (running) {
-            handler.getLooper().quit();
-            handler = null;
-            running = false;
-        }
+        running = false;
     }
 
     public void startThread() {
-        if (!running) {
-            HandlerThread backgroundThread = new HandlerThread("BackgroundThread");
-            backgroundThread.start();
-            handler = new Handler(backgroundThread.getLooper());
-            running = true;
-        }
+        running = true;
     }
 
+    /**
+     * @return null, tasks don't run on a handler thread anymore
+     */
+    @Nullable
     @VisibleForTesting
     public Handler getBackgroundHandler() {
-        return handler;
+        return null;
     }
 }
@@ -0,0 +1,19 @@
+package org.prebid.mobile.tasksmanager;
+
+/**
+ * Cancels a group of queued tasks at once, e.g. all tasks of a destroyed ad unit.
+ * Tasks that have already started aren't interrupted, but they can check {@link #isCancelled()}.
+ */
+public class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+}
@@ -0,0 +1,399 @@
+package org.prebid.mobile.tasksmanager;
+
+import android.os.Process;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.prebid.mobile.LogUtil;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue of one {@link TaskLane}. Passes at most {@link #getParallelism()} tasks at a time to the backing executor,
+ * the rest wait in the lane queue and can be cancelled there. Tasks never run on the calling thread, which may be
+ * the main thread: a task rejected by the full lane queue or by the app executor runs on the SDK workers outside
+ * the lane limits. A task rejected by the SDK workers is dropped.
+ */
+public class LaneExecutor implements CancellableExecutor {
+
+    private static final String TAG = LaneExecutor.class.getSimpleName();
+
+    /**
+     * Maximum count of queued tasks, new tasks run on the SDK workers outside the lane when the queue is full.
+     */
+    static final int MAX_QUEUE_SIZE = 256;
+
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private final TaskLane lane;
+    private final Executor defaultExecutor;
+    private final ArrayDeque<Task> queue = new ArrayDeque<>();
+
+    @Nullable private Executor customExecutor;
+    private int parallelism;
+    private int threadPriority;
+    private int running;
+
+    private long submitted;
+    private long started;
+    private long completed;
+    private long cancelled;
+    private long rejected;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+    private int maxQueueDepth;
+
+    LaneExecutor(
+            @NonNull TaskLane lane,
+            @NonNull Executor defaultExecutor
+    ) {
+        this.lane = lane;
+        this.defaultExecutor = defaultExecutor;
+        this.parallelism = lane.getDefaultParallelism();
+        this.threadPriority = lane.getDefaultThreadPriority();
+    }
+
+    @NonNull
+    public TaskLane getLane() {
+        return lane;
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        execute(null, runnable);
+    }
+
+    /**
+     * Queues the task, it's skipped if the token is cancelled before the task starts.
+     * If the lane queue is full, the task runs on the SDK workers without waiting for the lane capacity.
+     */
+    public void execute(
+            @Nullable CancellationToken token,
+            @NonNull Runnable runnable
+    ) {
+        if (offer(token, runnable)) {
+            return;
+        }
+
+        Task task = new Task(runnable, token, false);
+        synchronized (this) {
+            task.threadPriority = threadPriority;
+        }
+        if (!executeOnWorkers(task)) {
+            LogUtil.error(TAG, "Task of lane " + lane + " is rejected by the SDK workers and dropped");
+        }
+    }
+
+    /**
+     * Queues the task, returns false if the lane queue is full and the task is rejected.
+     */
+    boolean offer(
+            @Nullable CancellationToken token,
+            @NonNull Runnable runnable
+    ) {
+        synchronized (this) {
+            if (queue.size() >= MAX_QUEUE_SIZE) {
+                LogUtil.warning(TAG, "Queue of lane " + lane + " is full, the task is rejected");
+                rejected++;
+                return false;
+            }
+            queue.add(new Task(runnable, token, true));
+            submitted++;
+            maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+        }
+        dispatch();
+        return true;
+    }
+
+    /**
+     * Removes the task from the lane queue if it hasn't started yet.
+     */
+    @Override
+    public synchronized boolean cancel(Runnable runnable) {
+        boolean removed = false;
+        Iterator<Task> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().runnable == runnable) {
+                iterator.remove();
+                cancelled++;
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum count of lane tasks running at the same time.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            LogUtil.error(TAG, "Parallelism must be positive: " + parallelism);
+            return;
+        }
+        synchronized (this) {
+            this.parallelism = parallelism;
+        }
+        dispatch();
+    }
+
+    /**
+     * Sets Linux thread priority ({@link Process#setThreadPriority(int)}) of the lane tasks.
+     * It's applied only when the tasks run on the SDK workers.
+     */
+    public synchronized void setThreadPriority(int threadPriority) {
+        this.threadPriority = threadPriority;
+    }
+
+    /**
+     * Runs the lane tasks on the app executor instead of the SDK workers, null restores the SDK workers.
+     * The lane still limits parallelism and keeps its queue.
+     */
+    public synchronized void setExecutor(@Nullable Executor executor) {
+        customExecutor = executor;
+    }
+
+    @NonNull
+    public synchronized Stats getStats() {
+        return new Stats(
+                queue.size(),
+                maxQueueDepth,
+                running,
+                submitted,
+                completed,
+                cancelled,
+                rejected,
+                started == 0 ? 0 : totalWaitMillis / started,
+                maxWaitMillis
+        );
+    }
+
+    private void dispatch() {
+        while (true) {
+            Task task;
+            Executor executor;
+            int workerThreadPriority;
+            synchronized (this) {
+                if (running >= parallelism || queue.isEmpty()) {
+                    return;
+                }
+                task = queue.poll();
+                running++;
+                executor = customExecutor != null ? customExecutor : defaultExecutor;
+                workerThreadPriority = threadPriority;
+                task.threadPriority = customExecutor != null ? null : threadPriority;
+            }
+
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException exception) {
+                synchronized (this) {
+                    rejected++;
+                }
+                task.threadPriority = workerThreadPriority;
+                if (executor != defaultExecutor && executeOnWorkers(task)) {
+                    LogUtil.warning(TAG, "Task of lane " + lane + " is rejected by the app executor, it runs on the SDK workers");
+                    continue;
+                }
+
+                LogUtil.error(TAG, "Task of lane " + lane + " is rejected and dropped: " + exception.getMessage());
+                synchronized (this) {
+                    running--;
+                }
+            }
+        }
+    }
+
+    private boolean executeOnWorkers(Task task) {
+        try {
+            defaultExecutor.execute(task);
+            return true;
+        } catch (RejectedExecutionException exception) {
+            return false;
+        }
+    }
+
+    private synchronized boolean onTaskStarted(Task task) {
+        if (!task.inLane) {
+            return task.token == null || !task.token.isCancelled();
+        }
+        long waitMillis = SystemClock.elapsedRealtime() - task.queuedAt;
+        started++;
+        totalWaitMillis += waitMillis;
+        maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+        return task.token == null || !task.token.isCancelled();
+    }
+
+    private void onTaskFinished(boolean skipped) {
+        synchronized (this) {
+            running--;
+            if (skipped) {
+                cancelled++;
+            } else {
+                completed++;
+            }
+        }
+        dispatch();
+    }
+
+    private class Task implements Runnable, Comparable<Task> {
+
+        private final Runnable runnable;
+        @Nullable private final CancellationToken token;
+        // Tasks rejected by the full lane queue run outside the lane and aren't counted in its parallelism
+        private final boolean inLane;
+        private final long queuedAt = SystemClock.elapsedRealtime();
+        private final long order = sequence.incrementAndGet();
+        @Nullable private Integer threadPriority;
+
+        private Task(
+                Runnable runnable,
+                @Nullable CancellationToken token,
+                boolean inLane
+        ) {
+            this.runnable = runnable;
+            this.token = token;
+            this.inLane = inLane;
+        }
+
+        @Override
+        public void run() {
+            boolean skipped = !onTaskStarted(this);
+            try {
+                if (!skipped) {
+                    runWithPriority();
+                }
+            } finally {
+                if (inLane) {
+                    onTaskFinished(skipped);
+                }
+            }
+        }
+
+        private void runWithPriority() {
+            if (threadPriority == null) {
+                runnable.run();
+                return;
+            }
+
+            Process.setThreadPriority(threadPriority);
+            try {
+                runnable.run();
+            } finally {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            }
+        }
+
+        /**
+         * Orders tasks in the shared worker queue by lane priority, then by submission.
+         */
+        @Override
+        public int compareTo(Task other) {
+            int result = Integer.compare(lane.ordinal(), other.getLane().ordinal());
+            return result != 0 ? result : Long.compare(order, other.order);
+        }
+
+        private TaskLane getLane() {
+            return lane;
+        }
+
+    }
+
+    /**
+     * Snapshot of lane counters since the SDK start.
+     */
+    public static class Stats {
+
+        private final int queueDepth;
+        private final int maxQueueDepth;
+        private final int running;
+        private final long submitted;
+        private final long completed;
+        private final long cancelled;
+        private final long rejected;
+        private final long averageWaitMillis;
+        private final long maxWaitMillis;
+
+        private Stats(
+                int queueDepth,
+                int maxQueueDepth,
+                int running,
+                long submitted,
+                long completed,
+                long cancelled,
+                long rejected,
+                long averageWaitMillis,
+                long maxWaitMillis
+        ) {
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.running = running;
+            this.submitted = submitted;
+            this.completed = completed;
+            this.cancelled = cancelled;
+            this.rejected = rejected;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        /**
+         * Returns count of tasks waiting in the lane queue.
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        public int getRunning() {
+            return running;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * Returns count of tasks removed from the queue or skipped because their token was cancelled.
+         */
+        public long getCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Returns count of tasks rejected because the lane queue or the backing executor was full.
+         * These tasks ran on the SDK workers outside the lane limits or were dropped if the workers rejected them.
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * Returns average time between queuing and start of a task.
+         */
+        public long getAverageWaitMillis() {
+            return averageWaitMillis;
+        }
+
+        public long getMaxWaitMillis() {
+            return maxWaitMillis;
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package org.prebid.mobile.tasksmanager;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service view of a lane for code that waits for a group of tasks. It doesn't own threads:
+ * shutting it down only stops accepting tasks, the lane keeps working.
+ */
+class LaneExecutorService extends AbstractExecutorService {
+
+    private final LaneExecutor lane;
+    private final List<Runnable> pending = new ArrayList<>();
+    private int unfinished;
+    private boolean shutdown;
+
+    LaneExecutorService(@NonNull LaneExecutor lane) {
+        this.lane = lane;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                synchronized (LaneExecutorService.this) {
+                    pending.remove(this);
+                }
+                try {
+                    command.run();
+                } finally {
+                    onTaskFinished();
+                }
+            }
+        };
+
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor service is shut down");
+            }
+            pending.add(task);
+            unfinished++;
+        }
+        if (!lane.offer(null, task)) {
+            synchronized (this) {
+                pending.remove(task);
+            }
+            onTaskFinished();
+            throw new RejectedExecutionException("Queue of lane " + lane.getLane() + " is full");
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * Removes the tasks that haven't started from the lane, running tasks aren't interrupted.
+     */
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> removed = new ArrayList<>();
+        List<Runnable> tasks;
+        synchronized (this) {
+            shutdown = true;
+            tasks = new ArrayList<>(pending);
+        }
+        for (Runnable task : tasks) {
+            if (lane.cancel(task)) {
+                removed.add(task);
+                synchronized (this) {
+                    pending.remove(task);
+                }
+                onTaskFinished();
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && unfinished == 0;
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(
+            long timeout,
+            @NonNull TimeUnit unit
+    ) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    private synchronized void onTaskFinished() {
+        unfinished--;
+        if (unfinished == 0) {
+            notifyAll();
+        }
+    }
+
+}
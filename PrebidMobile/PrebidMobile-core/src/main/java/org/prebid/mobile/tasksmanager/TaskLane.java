@@ -0,0 +1,64 @@
+package org.prebid.mobile.tasksmanager;
+
+import android.os.Process;
+
+/**
+ * Kinds of SDK background work. Each lane has its own queue and parallelism, so slow work of one kind
+ * doesn't delay the others. Lanes are declared in the order of priority: when the SDK workers are busy,
+ * queued tasks of an earlier lane run first.
+ */
+public enum TaskLane {
+
+    /**
+     * SDK initialization stages. Slow stages like the status request don't hold the slots of the other lanes.
+     */
+    INIT(2, Process.THREAD_PRIORITY_DEFAULT),
+
+    /**
+     * Bid request processing, the auction result is waited by the app.
+     */
+    AUCTION(2, Process.THREAD_PRIORITY_DEFAULT),
+
+    /**
+     * Preparation of creatives for rendering: parsing, pre-caching.
+     */
+    RENDERING(1, Process.THREAD_PRIORITY_BACKGROUND + Process.THREAD_PRIORITY_MORE_FAVORABLE),
+
+    /**
+     * Tracking requests and beacons.
+     */
+    TRACKING(2, Process.THREAD_PRIORITY_BACKGROUND),
+
+    /**
+     * Reading and writing of files and preferences.
+     */
+    DISK_IO(1, Process.THREAD_PRIORITY_BACKGROUND),
+
+    /**
+     * Long downloads that nobody waits for: video pre-cache, JS libraries.
+     */
+    DOWNLOAD(2, Process.THREAD_PRIORITY_BACKGROUND);
+
+    private final int defaultParallelism;
+    private final int defaultThreadPriority;
+
+    TaskLane(
+            int defaultParallelism,
+            int defaultThreadPriority
+    ) {
+        this.defaultParallelism = defaultParallelism;
+        this.defaultThreadPriority = defaultThreadPriority;
+    }
+
+    public int getDefaultParallelism() {
+        return defaultParallelism;
+    }
+
+    /**
+     * Returns Linux thread priority ({@link Process#setThreadPriority(int)}) of the lane tasks.
+     */
+    public int getDefaultThreadPriority() {
+        return defaultThreadPriority;
+    }
+
+}
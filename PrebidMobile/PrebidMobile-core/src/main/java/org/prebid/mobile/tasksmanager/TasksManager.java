@@ -16,17 +16,35 @@
 
 package org.prebid.mobile.tasksmanager;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 public class TasksManager {
 
     private static TasksManager instance = null;
     public Executor mainThreadExecutor;
+    /**
+     * @deprecated use {@link #execute(TaskLane, Runnable)}.
+     */
+    @Deprecated
     public Executor backgroundThreadExecutor;
+    private final WorkerPool workers = new WorkerPool("PrebidWorker", WorkerPool.MAX_THREAD_COUNT);
+    // Auctions are waited by the app, so their threads aren't taken by blocking tasks of the other lanes
+    private final WorkerPool auctionWorkers = new WorkerPool("PrebidAuction", TaskLane.AUCTION.getDefaultParallelism());
+    private final Map<TaskLane, LaneExecutor> lanes = new EnumMap<>(TaskLane.class);
 
     private TasksManager() {
         mainThreadExecutor = new MainThreadExecutor();
-        backgroundThreadExecutor = new BackgroundThreadExecutor();
+
+        for (TaskLane lane : TaskLane.values()) {
+            lanes.put(lane, new LaneExecutor(lane, lane == TaskLane.AUCTION ? auctionWorkers : workers));
+        }
+        backgroundThreadExecutor = new BackgroundThreadExecutor(getLane(TaskLane.RENDERING));
     }
 
     /**
@@ -61,7 +79,9 @@ public class TasksManager {
     /**
      * This API can be used to execute code block on the background thread.
      * @param task takes in task (to be executed on background thread) as a runnable
+     * @deprecated use {@link #execute(TaskLane, Runnable)}, this method runs the task in {@link TaskLane#RENDERING}.
      * */
+    @Deprecated
     public void executeOnBackgroundThread(Runnable task) {
         backgroundThreadExecutor.execute(task);
     }
@@ -69,9 +89,73 @@ public class TasksManager {
     /**
      * Utility method to cancel an ongoing background thread task
      * @param task takes in task to be cancelled
+     * @deprecated use {@link #cancel(TaskLane, Runnable)}.
      * */
+    @Deprecated
     public void cancelTaksOnBackgroundThread(Runnable task) {
         ((CancellableExecutor) backgroundThreadExecutor).cancel(task);
+    }
+
+    /**
+     * Executes the task in the lane queue on the SDK workers or on the lane executor set by the app.
+     */
+    public void execute(
+            @NonNull TaskLane lane,
+            @NonNull Runnable task
+    ) {
+        getLane(lane).execute(task);
+    }
+
+    /**
+     * Executes the task in the lane queue, the task is skipped if the token is cancelled before it starts.
+     */
+    public void execute(
+            @NonNull TaskLane lane,
+            @Nullable CancellationToken token,
+            @NonNull Runnable task
+    ) {
+        getLane(lane).execute(token, task);
+    }
+
+    /**
+     * Removes the task from the lane queue if it hasn't started yet.
+     */
+    public boolean cancel(
+            @NonNull TaskLane lane,
+            @NonNull Runnable task
+    ) {
+        return getLane(lane).cancel(task);
+    }
+
+    /**
+     * Creates an executor service that runs its tasks in the lane. Shutting it down doesn't affect the lane.
+     */
+    @NonNull
+    public ExecutorService createExecutorService(@NonNull TaskLane lane) {
+        return new LaneExecutorService(getLane(lane));
+    }
+
+    /**
+     * Returns statistics of the worker threads shared by all lanes except {@link TaskLane#AUCTION}.
+     */
+    @NonNull
+    public WorkerPool.Stats getWorkerStats() {
+        return workers.getStats();
+    }
+
+    /**
+     * Returns statistics of the worker threads reserved for {@link TaskLane#AUCTION}.
+     */
+    @NonNull
+    public WorkerPool.Stats getAuctionWorkerStats() {
+        return auctionWorkers.getStats();
+    }
 
+    /**
+     * Returns the lane queue to configure it or to read its statistics.
+     */
+    @NonNull
+    public LaneExecutor getLane(@NonNull TaskLane lane) {
+        return lanes.get(lane);
     }
 }
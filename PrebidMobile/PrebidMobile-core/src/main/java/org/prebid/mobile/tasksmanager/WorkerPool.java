@@ -0,0 +1,148 @@
+package org.prebid.mobile.tasksmanager;
+
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker threads of SDK lanes. The threads are created on the first task and stop after
+ * {@link #KEEP_ALIVE_SECONDS} without work, so an idle SDK doesn't hold threads.
+ * <p>
+ * Lane tasks are passed here when their lane has capacity. The queue orders tasks by lane priority.
+ * Tasks rejected by a full lane queue or by an app executor are also passed here, so the queue isn't bounded.
+ */
+public class WorkerPool implements Executor {
+
+    /**
+     * Maximum count of threads shared by the lanes. Network tasks block their threads, so the pool is larger than
+     * the CPU work needs.
+     */
+    static final int MAX_THREAD_COUNT = 6;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final String threadName;
+    private final int threadCount;
+    private final AtomicInteger createdThreads = new AtomicInteger();
+    @Nullable private volatile ThreadPoolExecutor executor;
+
+    WorkerPool(
+            @NonNull String threadName,
+            int threadCount
+    ) {
+        this.threadName = threadName;
+        this.threadCount = threadCount;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable runnable) {
+        getExecutor().execute(runnable);
+    }
+
+    @NonNull
+    public Stats getStats() {
+        ThreadPoolExecutor executor = this.executor;
+        if (executor == null) {
+            return new Stats(createdThreads.get(), 0, 0, 0);
+        }
+        return new Stats(
+                createdThreads.get(),
+                executor.getPoolSize(),
+                executor.getLargestPoolSize(),
+                executor.getQueue().size()
+        );
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    result = new ThreadPoolExecutor(
+                            threadCount,
+                            threadCount,
+                            KEEP_ALIVE_SECONDS,
+                            TimeUnit.SECONDS,
+                            new PriorityBlockingQueue<>(),
+                            new WorkerThreadFactory()
+                    );
+                    result.allowCoreThreadTimeOut(true);
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private class WorkerThreadFactory implements ThreadFactory {
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(() -> {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                runnable.run();
+            }, threadName + "-" + createdThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+    /**
+     * Snapshot of pool counters since the SDK start.
+     */
+    public static class Stats {
+
+        private final int createdThreads;
+        private final int threads;
+        private final int maxThreads;
+        private final int queueDepth;
+
+        private Stats(
+                int createdThreads,
+                int threads,
+                int maxThreads,
+                int queueDepth
+        ) {
+            this.createdThreads = createdThreads;
+            this.threads = threads;
+            this.maxThreads = maxThreads;
+            this.queueDepth = queueDepth;
+        }
+
+        /**
+         * Returns count of threads created since the SDK start, including the stopped idle threads.
+         */
+        public int getCreatedThreads() {
+            return createdThreads;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * Returns the largest count of threads alive at the same time.
+         */
+        public int getMaxThreads() {
+            return maxThreads;
+        }
+
+        /**
+         * Returns count of lane tasks waiting for a free thread.
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.prebid.mobile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.testutils.BaseSetup;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.time.Duration;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = BaseSetup.testSDK)
+public class CacheManagerTest {
+
+    @Before
+    public void setUp() {
+        CacheManager.clear();
+    }
+
+    @After
+    public void tearDown() {
+        CacheManager.clear();
+    }
+
+    @Test
+    public void get_removeEntryAndCountHitsAndMisses() {
+        String cacheId = CacheManager.save("content");
+
+        assertTrue(CacheManager.isValid(cacheId));
+        assertEquals("content", CacheManager.get(cacheId));
+        assertNull(CacheManager.get(cacheId));
+        assertFalse(CacheManager.isValid(cacheId));
+
+        CacheManager.Stats stats = CacheManager.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0, stats.getEntries());
+        assertEquals(0, stats.getBytes());
+    }
+
+    @Test
+    public void saveOverEntryLimit_evictLeastRecentlyUsed() {
+        CacheManager.setLimits(2, Long.MAX_VALUE);
+        String first = CacheManager.save("first");
+        String second = CacheManager.save("second");
+        CacheManager.isValid(first);
+
+        String third = CacheManager.save("third");
+
+        assertTrue(CacheManager.isValid(first));
+        assertFalse(CacheManager.isValid(second));
+        assertTrue(CacheManager.isValid(third));
+        assertEquals(1, CacheManager.getStats().getEvictions());
+    }
+
+    @Test
+    public void saveOverByteLimit_evictEldest() {
+        CacheManager.setLimits(Integer.MAX_VALUE, 20);
+        String first = CacheManager.save("12345");
+        String second = CacheManager.save("12345");
+        String third = CacheManager.save("12345");
+
+        assertFalse(CacheManager.isValid(first));
+        assertTrue(CacheManager.isValid(second));
+        assertTrue(CacheManager.isValid(third));
+        assertEquals(20, CacheManager.getStats().getBytes());
+    }
+
+    @Test
+    public void expiry_removeEntriesWithOneTaskAndNotifyListener() {
+        String first = CacheManager.save("first");
+        String second = CacheManager.save("second");
+        CacheManager.setExpiry(second, 60);
+        CacheManager.CacheExpiryListener listener = mock(CacheManager.CacheExpiryListener.class);
+        CacheManager.get(second);
+        CacheManager.registerCacheExpiryListener(second, listener);
+
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(61));
+        verify(listener).onCacheExpired();
+        assertTrue(CacheManager.isValid(first));
+
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMinutes(5));
+        assertFalse(CacheManager.isValid(first));
+        assertEquals(1, CacheManager.getStats().getExpirations());
+    }
+
+    @Test
+    public void evictedEntry_doNotNotifyListenerOfOtherEntries() {
+        CacheManager.setLimits(1, Long.MAX_VALUE);
+        String first = CacheManager.save("first");
+        CacheManager.CacheExpiryListener listener = mock(CacheManager.CacheExpiryListener.class);
+        CacheManager.save("second");
+        CacheManager.registerCacheExpiryListener(first, listener);
+
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMinutes(6));
+
+        verify(listener, never()).onCacheExpired();
+    }
+
+}
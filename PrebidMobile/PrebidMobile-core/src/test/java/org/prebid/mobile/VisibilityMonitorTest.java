@@ -0,0 +1,83 @@
+package org.prebid.mobile;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.webkit.WebView;
+import android.widget.FrameLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.prebid.mobile.test.utils.WhiteBox;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(LEGACY)
+public class VisibilityMonitorTest {
+
+    private Activity activity;
+    private VisibilityMonitor.WebViewWatcher subject;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.buildActivity(Activity.class).create().get();
+        subject = new VisibilityMonitor.WebViewWatcher();
+    }
+
+    @Test
+    public void start_registerOneLayoutListenerAndRemoveOnDestroy() {
+        View mockContainer = mock(View.class);
+        ViewTreeObserver mockViewTreeObserver = mock(ViewTreeObserver.class);
+        when(mockContainer.getViewTreeObserver()).thenReturn(mockViewTreeObserver);
+        when(mockViewTreeObserver.isAlive()).thenReturn(true);
+        ArgumentCaptor<ViewTreeObserver.OnGlobalLayoutListener> layoutListener = ArgumentCaptor.forClass(
+                ViewTreeObserver.OnGlobalLayoutListener.class);
+
+        subject.start(mockContainer, "burl", "cacheId", false);
+        verify(mockViewTreeObserver).addOnGlobalLayoutListener(layoutListener.capture());
+
+        subject.destroy();
+        verify(mockViewTreeObserver).removeOnGlobalLayoutListener(layoutListener.getValue());
+    }
+
+    @Test
+    public void checkContainer_findAddedWebView() {
+        FrameLayout container = new FrameLayout(activity);
+        subject.start(container, "burl", "cacheId", false);
+        assertEquals(0, getLastWebViewHash());
+
+        WebView webView = new WebView(activity);
+        container.addView(webView);
+        subject.checkContainer();
+
+        assertEquals(webView.hashCode(), getLastWebViewHash());
+    }
+
+    @Test
+    public void destroy_stopChecks() {
+        FrameLayout container = new FrameLayout(activity);
+        subject.start(container, "burl", "cacheId", false);
+        subject.destroy();
+
+        container.addView(new WebView(activity));
+        subject.checkContainer();
+
+        assertEquals(0, getLastWebViewHash());
+    }
+
+    private int getLastWebViewHash() {
+        Integer hash = WhiteBox.getInternalState(subject, "lastWebViewHash");
+        return hash;
+    }
+
+}
@@ -78,6 +78,14 @@ public class AdViewUtilsTest {
         assertEquals("hb_size\":[\"728x90", result);
     }
 
+    @Test
+    public void testParseCacheIdScriptResult() {
+        assertEquals("a1b2-c3", AdViewUtils.parseCacheIdScriptResult("\"a1b2-c3\""));
+        assertNull(AdViewUtils.parseCacheIdScriptResult("null"));
+        assertNull(AdViewUtils.parseCacheIdScriptResult(null));
+        assertNull(AdViewUtils.parseCacheIdScriptResult(""));
+    }
+
     @Test
     public void testStringToCGSize() {
         Pair<Integer, Integer> result = AdViewUtils.stringToSize("300x250");
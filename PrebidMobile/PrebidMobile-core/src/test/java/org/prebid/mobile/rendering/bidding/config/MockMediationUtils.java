@@ -4,12 +4,12 @@ import androidx.annotation.Nullable;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.bidding.display.PrebidMediationDelegate;
 
-import java.util.HashMap;
+import java.util.Map;
 
 public class MockMediationUtils implements PrebidMediationDelegate {
 
     @Override
-    public void handleKeywordsUpdate(@Nullable @org.jetbrains.annotations.Nullable HashMap<String, String> keywords) {
+    public void handleKeywordsUpdate(@Nullable @org.jetbrains.annotations.Nullable Map<String, String> keywords) {
 
     }
 
@@ -20,8 +20,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
 import org.junit.After;
 import org.junit.Test;
 import org.prebid.mobile.PrebidMobile;
@@ -32,6 +37,9 @@ import org.prebid.mobile.rendering.models.openrtb.bidRequests.MobileSdkPassThrou
 import org.prebid.mobile.test.utils.ResourceUtils;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class BidResponseTest {
 
@@ -58,6 +66,15 @@ public class BidResponseTest {
         assertNull(bidResponse.getMobileSdkPassThrough());
     }
 
+    @Test
+    public void whenInstantiatedWithExtNumbers_IntegersAsInJSONObject() throws IOException {
+        String responseString = ResourceUtils.convertResourceToString("PrebidServerNoBidTmaxTooLarge.json");
+
+        BidResponse bidResponse = new BidResponse(responseString, new AdUnitConfiguration());
+
+        assertEquals(2000, bidResponse.getExt().getMap().get("tmaxrequest"));
+    }
+
     @Test
     public void whenInstantiatedWithInvalidJson_ParseError() throws IOException {
         String responseString = ResourceUtils.convertResourceToString("bidding_response_obj.json").replaceFirst(",", "");
@@ -232,4 +249,127 @@ public class BidResponseTest {
         assertTrue(subject.isVideo());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWinningBid_memoizedAfterParsing() throws IOException, JSONException {
+        String responseString = ResourceUtils.convertResourceToString("bidding_response_obj.json");
+        BidResponse subject = new BidResponse(responseString, new AdUnitConfiguration());
+
+        Bid winningBid = subject.getWinningBid();
+        assertNotNull(winningBid);
+        assertSame(winningBid, subject.getWinningBid());
+        assertSame(winningBid, subject.getWinningBid("impId"));
+        assertNull(subject.getWinningBid("otherImpId"));
+        assertEquals(winningBid.getJsonString(), subject.getWinningBidJson());
+        assertEquals("impId", new JSONObject(winningBid.getJsonString()).getString("impid"));
+    }
+
+    @Test
+    public void forImp_keepOnlyBidsOfImp() throws Exception {
+        JSONObject response = new JSONObject()
+                .put("id", "response-id")
+                .put("ext", new JSONObject().put("tmaxrequest", 500))
+                .put("seatbid", new JSONArray()
+                        .put(new JSONObject()
+                                .put("seat", "first-bidder")
+                                .put("bid", new JSONArray()
+                                        .put(createWinningBid("bid-1", "imp-1"))
+                                        .put(createWinningBid("bid-2", "imp-2"))))
+                        .put(new JSONObject()
+                                .put("seat", "second-bidder")
+                                .put("bid", new JSONArray()
+                                        .put(createWinningBid("bid-3", "imp-2")))));
+        BidResponse batchResponse = new BidResponse(response.toString(), new AdUnitConfiguration());
+
+        BidResponse first = batchResponse.forImp("imp-1", new AdUnitConfiguration());
+        BidResponse second = batchResponse.forImp("imp-2", new AdUnitConfiguration());
+
+        assertEquals("response-id", first.getId());
+        assertEquals(1, first.getSeatbids().size());
+        assertEquals("first-bidder", first.getSeatbids().get(0).getSeat());
+        assertEquals("bid-1", first.getWinningBid().getId());
+        assertEquals(2, second.getSeatbids().size());
+        assertEquals("bid-2", second.getWinningBid().getId());
+        assertSame(batchResponse.getSeatbids().get(1), second.getSeatbids().get(1));
+
+        JSONObject firstJson = first.getResponseJson();
+        assertEquals(500, firstJson.getJSONObject("ext").getInt("tmaxrequest"));
+        JSONArray firstSeatBids = firstJson.getJSONArray("seatbid");
+        assertEquals(1, firstSeatBids.length());
+        assertEquals(1, firstSeatBids.getJSONObject(0).getJSONArray("bid").length());
+        assertEquals("bid-1", firstSeatBids.getJSONObject(0).getJSONArray("bid").getJSONObject(0).getString("id"));
+    }
+
+    @Test
+    public void forImp_noBidsForImp_emptySeatBids() throws Exception {
+        JSONObject response = new JSONObject()
+                .put("id", "response-id")
+                .put("seatbid", new JSONArray()
+                        .put(new JSONObject()
+                                .put("bid", new JSONArray().put(createWinningBid("bid-1", "imp-1")))));
+        BidResponse batchResponse = new BidResponse(response.toString(), new AdUnitConfiguration());
+
+        BidResponse result = batchResponse.forImp("imp-2", new AdUnitConfiguration());
+
+        assertTrue(result.getSeatbids().isEmpty());
+        assertNull(result.getWinningBid());
+        assertEquals(0, result.getResponseJson().getJSONArray("seatbid").length());
+    }
+
+    @Test
+    public void testBidsOfBidder() throws IOException {
+        String responseString = ResourceUtils.convertResourceToString("bidding_response_obj.json");
+        BidResponse subject = new BidResponse(responseString, new AdUnitConfiguration());
+
+        List<Bid> bids = subject.getBidsOfBidder("prebid");
+        assertEquals(1, bids.size());
+        assertEquals("bidId", bids.get(0).getId());
+        assertTrue(subject.getBidsOfBidder("other").isEmpty());
+    }
+
+    @Test
+    public void testTargeting_readOnlyViewAndCopy() throws IOException {
+        String responseString = ResourceUtils.convertResourceToString("bidding_response_obj.json");
+        BidResponse subject = new BidResponse(responseString, new AdUnitConfiguration());
+
+        Map<String, String> readOnlyTargeting = subject.getReadOnlyTargeting();
+        assertEquals("value3", readOnlyTargeting.get("hb_cache_id"));
+        assertEquals("value3", subject.getTargetingValue("hb_cache_id"));
+        assertSame(readOnlyTargeting, subject.getReadOnlyTargeting());
+        try {
+            readOnlyTargeting.put("key", "value");
+            fail("Read-only targeting must not be modifiable");
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        HashMap<String, String> targeting = subject.getTargeting();
+        assertEquals(readOnlyTargeting, targeting);
+        targeting.put("key", "value");
+        assertNull(subject.getTargetingValue("key"));
+    }
+
+    @Test
+    public void testWinningBid_noBids_emptyLookups() throws IOException {
+        String responseString = ResourceUtils.convertResourceToString("bidding_response_no_bids_obj.json");
+        BidResponse subject = new BidResponse(responseString, new AdUnitConfiguration());
+
+        assertNull(subject.getWinningBid());
+        assertTrue(subject.getReadOnlyTargeting().isEmpty());
+        assertEquals(responseString, subject.getWinningBidJson());
+    }
+
+    private static JSONObject createWinningBid(
+            String id,
+            String impId
+    ) throws Exception {
+        JSONObject targeting = new JSONObject()
+                .put("hb_pb", "0.10")
+                .put("hb_bidder", "bidder")
+                .put("hb_cache_id", "cache-" + id);
+        return new JSONObject()
+                .put("id", id)
+                .put("impid", impId)
+                .put("price", 1.0)
+                .put("ext", new JSONObject().put("prebid", new JSONObject().put("targeting", targeting)));
+    }
+
+}
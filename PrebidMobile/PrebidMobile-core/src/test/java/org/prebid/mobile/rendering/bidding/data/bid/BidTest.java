@@ -21,6 +21,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import android.util.JsonReader;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Test;
@@ -30,6 +32,7 @@ import org.prebid.mobile.test.utils.ResourceUtils;
 import org.robolectric.RobolectricTestRunner;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.Map;
 
 @RunWith(RobolectricTestRunner.class)
@@ -79,6 +82,35 @@ public class BidTest {
         assertNotNull(Bid.fromJSONObject(null));
     }
 
+    @Test
+    public void whenFromJsonReader_ReturnParsedBid() throws Exception {
+        String json = ResourceUtils.convertResourceToString("bidding_bid_obj.json");
+        Bid bid = Bid.fromJsonReader(new JsonReader(new StringReader(json)));
+
+        assertEquals("adm", bid.getAdm());
+        assertEquals("nurl", bid.getNurl());
+        assertNull(bid.getEvents());
+        verifyBid(bid);
+    }
+
+    @Test
+    public void whenFromJsonReaderAndMacrosPassed_ReturnParsedBidWithReplacedMacros() throws Exception {
+        String json = ResourceUtils.convertResourceToString("bidding_bid_obj_macros.json");
+        Bid bid = Bid.fromJsonReader(new JsonReader(new StringReader(json)));
+
+        assertEquals("exampleadm?price=0.15&with_base64=MC4xNQ==", bid.getAdm());
+        assertEquals("http://textlink.com?price=0.15", bid.getNurl());
+        verifyBid(bid);
+    }
+
+    @Test
+    public void whenFromJsonReaderAndNotObjectPassed_ReturnEmptyBid() throws Exception {
+        JsonReader reader = new JsonReader(new StringReader("[null]"));
+        reader.beginArray();
+
+        assertNotNull(Bid.fromJsonReader(reader));
+    }
+
     private void verifyBid(Bid bid) {
         assertNotNull(bid);
         assertEquals("bidId", bid.getId());
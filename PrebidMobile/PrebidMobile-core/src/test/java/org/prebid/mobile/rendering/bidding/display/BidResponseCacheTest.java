@@ -26,6 +26,8 @@ import org.robolectric.annotation.Config;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -50,40 +52,62 @@ public class BidResponseCacheTest {
     }
 
     @Test
-    public void whenPutBidResponse_WithMaxSizeReached_ShouldIgnoreStoreRequest() {
+    public void whenPutBidResponse_WithMaxSizeReached_EvictLeastRecentlyUsed() {
         for (int i = 0; i < BidResponseCache.MAX_SIZE; i++) {
             BidResponse mockResponse = mock(BidResponse.class);
-            when(mockResponse.getId()).thenReturn("id" + Math.random());
+            when(mockResponse.getId()).thenReturn("id" + i);
             when(mockResponse.getCreationTime()).thenReturn(System.currentTimeMillis());
             BidResponseCache.getInstance().putBidResponse(mockResponse);
         }
-        final Map<String, BidResponse> cachedTransactions = BidResponseCache.getCachedBidResponses();
-        assertEquals(BidResponseCache.MAX_SIZE, cachedTransactions.size());
+        assertEquals(BidResponseCache.MAX_SIZE, BidResponseCache.getCachedBidResponses().size());
+        BidResponseCache.getInstance().getKeywords("id0");
 
         BidResponse mockResponse = mock(BidResponse.class);
-        when(mockResponse.getId()).thenReturn("id" + System.currentTimeMillis());
+        when(mockResponse.getId()).thenReturn("newId");
         BidResponseCache.getInstance().putBidResponse(mockResponse);
 
+        final Map<String, BidResponse> cachedTransactions = BidResponseCache.getCachedBidResponses();
         assertEquals(BidResponseCache.MAX_SIZE, cachedTransactions.size());
+        assertTrue(cachedTransactions.containsKey("newId"));
+        assertTrue(cachedTransactions.containsKey("id0"));
+        assertFalse(cachedTransactions.containsKey("id1"));
+        assertEquals(1, BidResponseCache.getInstance().getStats().getEvictions());
     }
 
     @Test
     public void whenPutBidResponse_WithStaleResponsePresent_RemoveStaleResponse() {
-        final Map<String, BidResponse> cachedTransactions = BidResponseCache.getCachedBidResponses();
         for (int i = 0; i < 5; i++) {
             BidResponse mockResponse = mock(BidResponse.class);
             when(mockResponse.getId()).thenReturn("id" + Math.random());
             when(mockResponse.getCreationTime()).thenReturn(System.currentTimeMillis() - 61 * 1000);
-            cachedTransactions.put("id" + Math.random(), mockResponse);
+            BidResponseCache.getInstance().putBidResponse(mockResponse);
         }
 
-        assertEquals(5, cachedTransactions.size());
-
         BidResponse mockResponse = mock(BidResponse.class);
         when(mockResponse.getId()).thenReturn("id" + System.currentTimeMillis());
         when(mockResponse.getCreationTime()).thenReturn(System.currentTimeMillis());
         BidResponseCache.getInstance().putBidResponse(mockResponse);
-        assertEquals(1, cachedTransactions.size());
+        assertEquals(1, BidResponseCache.getCachedBidResponses().size());
+        assertEquals(5, BidResponseCache.getInstance().getStats().getExpirations());
+    }
+
+    @Test
+    public void whenPutBidResponse_WithBidExpiration_LiveUntilBidExpires() {
+        BidResponse mockResponse = mock(BidResponse.class);
+        when(mockResponse.getId()).thenReturn("id");
+        when(mockResponse.getCreationTime()).thenReturn(System.currentTimeMillis() - 120 * 1000);
+        when(mockResponse.getExpirationTimeSeconds()).thenReturn(300);
+        BidResponseCache.getInstance().putBidResponse(mockResponse);
+
+        BidResponse expiredResponse = mock(BidResponse.class);
+        when(expiredResponse.getId()).thenReturn("expiredId");
+        when(expiredResponse.getCreationTime()).thenReturn(System.currentTimeMillis() - 31 * 1000);
+        when(expiredResponse.getExpirationTimeSeconds()).thenReturn(30);
+        BidResponseCache.getInstance().putBidResponse(expiredResponse);
+
+        assertNull(BidResponseCache.getInstance().getKeywords("expiredId"));
+        assertNull(BidResponseCache.getInstance().popBidResponse("expiredId"));
+        assertEquals(mockResponse, BidResponseCache.getInstance().popBidResponse("id"));
     }
 
     @Test
@@ -0,0 +1,173 @@
+package org.prebid.mobile.rendering.bidding.display;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+
+@RunWith(RobolectricTestRunner.class)
+public class PersistentBidCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File directory;
+    private PersistentBidCache subject;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = temporaryFolder.newFolder();
+        subject = new PersistentBidCache(directory);
+    }
+
+    @Test
+    public void saveAndTake_returnResponseOnlyOnce() {
+        subject.save("config", "{\"id\":\"response\"}", createResponse(System.currentTimeMillis(), 300));
+
+        // New instance reads records of the previous process
+        PersistentBidCache restarted = new PersistentBidCache(directory);
+        assertEquals("{\"id\":\"response\"}", restarted.take("config").getResponseString());
+        assertNull(restarted.take("config"));
+    }
+
+    @Test
+    public void saveWithoutExpiration_notStored() {
+        subject.save("config", "response", createResponse(System.currentTimeMillis(), null));
+
+        assertEquals(0, countRecords());
+        assertNull(subject.take("config"));
+    }
+
+    @Test
+    public void expiredResponse_notReturned() {
+        subject.save("config", "response", createResponse(System.currentTimeMillis() - 61 * 1000, 60));
+
+        assertNull(subject.take("config"));
+    }
+
+    @Test
+    public void lifeTime_cappedWithMaxLifeTime() {
+        long creationTime = System.currentTimeMillis() - (PersistentBidCache.MAX_LIFE_TIME_SECONDS + 1) * 1000;
+        subject.save("config", "response", createResponse(creationTime, 3600));
+
+        assertNull(subject.take("config"));
+    }
+
+    @Test
+    public void remove_deleteRecord() {
+        subject.save("config", "response", createResponse(System.currentTimeMillis(), 300));
+
+        subject.remove("config");
+
+        assertNull(subject.take("config"));
+    }
+
+    @Test
+    public void markConsumed_shownResponseNotTakenBeforeRemove() {
+        BidResponse response = createResponse(System.currentTimeMillis(), 300);
+        when(response.getResponseString()).thenReturn("response");
+        subject.save("config", "response", response);
+
+        subject.markConsumed("config", response);
+
+        assertNull(subject.take("config"));
+        assertEquals(0, countRecords());
+    }
+
+    @Test
+    public void markConsumed_shownResponseNotStored() {
+        BidResponse response = createResponse(System.currentTimeMillis(), 300);
+        subject.markConsumed("config", response);
+
+        subject.save("config", "response", response);
+
+        assertEquals(0, countRecords());
+    }
+
+    @Test
+    public void markConsumed_nextResponseStoredAndTaken() {
+        BidResponse shownResponse = createResponse(System.currentTimeMillis(), 300);
+        when(shownResponse.getResponseString()).thenReturn("shown");
+        subject.markConsumed("config", shownResponse);
+
+        subject.save("config", "next", createResponse(System.currentTimeMillis(), 300));
+
+        assertEquals("next", subject.take("config").getResponseString());
+    }
+
+    @Test
+    public void saveOverEntryLimit_removeOldestRecords() {
+        for (int i = 0; i <= PersistentBidCache.MAX_ENTRIES; i++) {
+            subject.save("config" + i, "response" + i, createResponse(System.currentTimeMillis(), 300));
+            new File(directory, "bid_" + Integer.toHexString(("config" + i).hashCode()) + ".bin")
+                    .setLastModified(System.currentTimeMillis() - (PersistentBidCache.MAX_ENTRIES - i) * 1000L);
+        }
+        subject.save("config" + PersistentBidCache.MAX_ENTRIES, "response", createResponse(System.currentTimeMillis(), 300));
+
+        assertEquals(PersistentBidCache.MAX_ENTRIES, countRecords());
+        assertNull(subject.take("config0"));
+        assertEquals("response1", subject.take("config1").getResponseString());
+    }
+
+    @Test
+    public void take_returnCreationTimeOfAuction() {
+        long creationTime = System.currentTimeMillis() - 25 * 60 * 1000;
+        subject.save("config", "response", createResponse(creationTime, 1800));
+
+        PersistentBidCache.StoredResponse storedResponse = subject.take("config");
+
+        assertEquals(creationTime, storedResponse.getCreationTime());
+    }
+
+    @Test
+    public void corruptedRecord_ignored() throws Exception {
+        File file = new File(directory, "bid_" + Integer.toHexString("config".hashCode()) + ".bin");
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write("corrupted".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertNull(subject.take("config"));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void clear_deleteAllRecords() {
+        subject.save("first", "response", createResponse(System.currentTimeMillis(), 300));
+        subject.save("second", "response", createResponse(System.currentTimeMillis(), 300));
+        assertTrue(countRecords() > 0);
+
+        subject.clear();
+
+        assertEquals(0, countRecords());
+    }
+
+    private int countRecords() {
+        File[] files = directory.listFiles();
+        return files != null ? files.length : 0;
+    }
+
+    private static BidResponse createResponse(
+            long creationTime,
+            Integer exp
+    ) {
+        BidResponse response = mock(BidResponse.class);
+        when(response.getCreationTime()).thenReturn(creationTime);
+        when(response.getExpirationTimeSeconds()).thenReturn(exp);
+        return response;
+    }
+
+}
@@ -17,11 +17,18 @@
 package org.prebid.mobile.rendering.bidding.loader;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -35,18 +42,24 @@ import org.mockito.MockitoAnnotations;
 import org.prebid.mobile.PrebidEventDelegate;
 import org.prebid.mobile.PrebidMobile;
 import org.prebid.mobile.api.data.AdFormat;
+import org.prebid.mobile.api.exceptions.AdException;
 import org.prebid.mobile.configuration.AdUnitConfiguration;
 import org.prebid.mobile.reflection.Reflection;
 import org.prebid.mobile.reflection.sdk.PrebidMobileReflection;
+import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
+import org.prebid.mobile.rendering.bidding.display.PersistentBidCache;
 import org.prebid.mobile.rendering.bidding.listeners.BidRequesterListener;
 import org.prebid.mobile.rendering.networking.BaseNetworkTask;
 import org.prebid.mobile.rendering.networking.ResponseHandler;
 import org.prebid.mobile.rendering.networking.modelcontrollers.BidRequester;
 import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
 import org.prebid.mobile.rendering.utils.helpers.RefreshTimerTask;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
 import org.prebid.mobile.test.utils.ResourceUtils;
 import org.prebid.mobile.test.utils.WhiteBox;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
 import org.robolectric.annotation.Config;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -72,11 +85,14 @@ public class BidLoaderTest {
         when(mockAdConfiguration.isAdType(any(AdFormat.class))).thenReturn(true);
         when(mockAdConfiguration.getAutoRefreshDelay()).thenReturn(60000);
         bidLoader = createBidLoader(mockAdConfiguration, bidRequesterListener);
+        TasksManager.getInstance().getLane(TaskLane.AUCTION).setExecutor(Runnable::run);
+        TasksManager.getInstance().getLane(TaskLane.DISK_IO).setExecutor(Runnable::run);
     }
 
     @After
     public void clean() {
-
+        TasksManager.getInstance().getLane(TaskLane.AUCTION).setExecutor(null);
+        TasksManager.getInstance().getLane(TaskLane.DISK_IO).setExecutor(null);
     }
 
     @Test
@@ -151,7 +167,7 @@ public class BidLoaderTest {
         String responseString = ResourceUtils.convertResourceToString("PrebidServerOneBidFromRubiconResponse.json");
         JSONObject testRequest = new JSONObject("{\"test\":\"test\"}");
         JSONObject testResponse = new JSONObject(responseString);
-        when(mockRequester.getBuiltRequest()).thenReturn(testRequest);
+        when(mockRequester.getBuiltRequestString()).thenReturn(testRequest.toString());
 
         PrebidEventDelegate mockEventDelegate = mock(PrebidEventDelegate.class);
         PrebidMobile.setEventDelegate(mockEventDelegate);
@@ -159,10 +175,11 @@ public class BidLoaderTest {
         BaseNetworkTask.GetUrlResult responseResult = new BaseNetworkTask.GetUrlResult();
         responseResult.responseString = responseString;
         responseHandler.onResponse(responseResult);
+        runBackgroundAndMainTasks();
 
         ArgumentCaptor<JSONObject> requestCaptor = ArgumentCaptor.forClass(JSONObject.class);
         ArgumentCaptor<JSONObject> responseCaptor = ArgumentCaptor.forClass(JSONObject.class);
-        verify(mockEventDelegate).onBidResponse(requestCaptor.capture(), responseCaptor.capture());
+        verify(mockEventDelegate, timeout(1000)).onBidResponse(requestCaptor.capture(), responseCaptor.capture());
 
         String request = requestCaptor.getValue().toString();
         assertEquals(testRequest.toString(), request);
@@ -170,6 +187,136 @@ public class BidLoaderTest {
         assertEquals(testResponse.toString(), response);
     }
 
+    @Test
+    public void responseHandler_parseOnBackgroundAndNotifyOnMainThread() throws Exception {
+        PrebidMobile.setEventDelegate(null);
+        AdUnitConfiguration config = new AdUnitConfiguration();
+        bidLoader = createBidLoader(config, bidRequesterListener);
+        ResponseHandler responseHandler = Reflection.getFieldOf(bidLoader, "responseHandler");
+
+        BaseNetworkTask.GetUrlResult responseResult = new BaseNetworkTask.GetUrlResult();
+        responseResult.responseString = ResourceUtils.convertResourceToString("PrebidServerOneBidFromRubiconResponse.json");
+        responseHandler.onResponse(responseResult);
+
+        verify(bidRequesterListener, never()).onFetchCompleted(any(BidResponse.class));
+
+        runBackgroundAndMainTasks();
+
+        ArgumentCaptor<BidResponse> responseCaptor = ArgumentCaptor.forClass(BidResponse.class);
+        verify(bidRequesterListener).onFetchCompleted(responseCaptor.capture());
+        assertNotNull(responseCaptor.getValue().getWinningBid());
+        assertNotNull(responseCaptor.getValue().getMobileSdkPassThrough());
+    }
+
+    @Test
+    public void responseHandler_invalidResponse_notifyErrorOnMainThread() throws Exception {
+        bidLoader = createBidLoader(new AdUnitConfiguration(), bidRequesterListener);
+        ResponseHandler responseHandler = Reflection.getFieldOf(bidLoader, "responseHandler");
+
+        BaseNetworkTask.GetUrlResult responseResult = new BaseNetworkTask.GetUrlResult();
+        responseResult.responseString = "invalid";
+        responseHandler.onResponse(responseResult);
+        runBackgroundAndMainTasks();
+
+        verify(bidRequesterListener).onError(any(AdException.class));
+        verify(bidRequesterListener, never()).onFetchCompleted(any(BidResponse.class));
+    }
+
+    @Test
+    public void responseWithTmaxRequest_updateTimeout() throws Exception {
+        Reflection.setStaticVariableTo(BidLoader.class, "sTimeoutHasChanged", false);
+        PrebidMobile.setTimeoutMillis(500);
+        bidLoader = createBidLoader(new AdUnitConfiguration(), bidRequesterListener);
+        ResponseHandler responseHandler = Reflection.getFieldOf(bidLoader, "responseHandler");
+
+        BaseNetworkTask.GetUrlResult responseResult = new BaseNetworkTask.GetUrlResult();
+        responseResult.responseString = ResourceUtils.convertResourceToString("PrebidServerNoBidTmaxTooLarge.json");
+        responseResult.responseTime = 100;
+        try {
+            responseHandler.onResponse(responseResult);
+            runBackgroundAndMainTasks();
+
+            assertEquals(BaseNetworkTask.TIMEOUT_DEFAULT, PrebidMobile.getTimeoutMillis());
+        } finally {
+            Reflection.setStaticVariableTo(BidLoader.class, "sTimeoutHasChanged", false);
+            PrebidMobile.setTimeoutMillis(BaseNetworkTask.TIMEOUT_DEFAULT);
+        }
+    }
+
+    @Test
+    public void persistentBidCache_deliverStoredResponseWithoutAuction() throws Exception {
+        PrebidMobile.setEventDelegate(null);
+        PrebidMobileReflection.setFlagsThatSdkIsInitialized();
+        PrebidContextHolder.setContext(RuntimeEnvironment.getApplication());
+        PersistentBidCache.getInstance().clear();
+        AdUnitConfiguration config = new AdUnitConfiguration();
+        config.setConfigId("config");
+        config.setUsePersistentBidCache(true);
+
+        bidLoader = createBidLoader(config, bidRequesterListener);
+        bidLoader.load();
+        runBackgroundAndMainTasks();
+        verify(mockRequester).startAdRequest();
+
+        ResponseHandler responseHandler = Reflection.getFieldOf(bidLoader, "responseHandler");
+        BaseNetworkTask.GetUrlResult responseResult = new BaseNetworkTask.GetUrlResult();
+        responseResult.responseString = ResourceUtils.convertResourceToString("bidding_response_obj.json");
+        responseHandler.onResponse(responseResult);
+        runBackgroundAndMainTasks();
+
+        BidLoader nextBidLoader = createBidLoader(config, bidRequesterListener);
+        nextBidLoader.load();
+        runBackgroundAndMainTasks();
+
+        verify(mockRequester, times(1)).startAdRequest();
+        ArgumentCaptor<BidResponse> responseCaptor = ArgumentCaptor.forClass(BidResponse.class);
+        verify(bidRequesterListener, times(2)).onFetchCompleted(responseCaptor.capture());
+        assertEquals("bidId", responseCaptor.getValue().getWinningBid().getId());
+        assertNull(PersistentBidCache.getInstance().take("config"));
+    }
+
+    @Test
+    public void persistentBidCache_storedResponseExpiresOnOriginalSchedule() throws Exception {
+        PrebidMobile.setEventDelegate(null);
+        PrebidMobileReflection.setFlagsThatSdkIsInitialized();
+        PrebidContextHolder.setContext(RuntimeEnvironment.getApplication());
+        PersistentBidCache.getInstance().clear();
+        AdUnitConfiguration config = new AdUnitConfiguration();
+        config.setConfigId("config");
+        config.setUsePersistentBidCache(true);
+        String responseString = ResourceUtils.convertResourceToString("bidding_response_obj.json");
+
+        // Bid exp is 300 seconds, the auction happened 4 minutes before the restart.
+        long creationTime = System.currentTimeMillis() - 4 * 60 * 1000;
+        BidResponse storedResponse = new BidResponse(responseString, config);
+        storedResponse.restoreCreationTime(creationTime);
+        PersistentBidCache.getInstance().save("config", responseString, storedResponse);
+
+        bidLoader = createBidLoader(config, bidRequesterListener);
+        bidLoader.load();
+        runBackgroundAndMainTasks();
+
+        verify(mockRequester, never()).startAdRequest();
+        ArgumentCaptor<BidResponse> responseCaptor = ArgumentCaptor.forClass(BidResponse.class);
+        verify(bidRequesterListener).onFetchCompleted(responseCaptor.capture());
+        assertEquals(creationTime, responseCaptor.getValue().getCreationTime());
+
+        // The same bid 6 minutes after the auction has expired and is not restored.
+        storedResponse.restoreCreationTime(System.currentTimeMillis() - 6 * 60 * 1000);
+        PersistentBidCache.getInstance().save("config", responseString, storedResponse);
+
+        BidLoader nextBidLoader = createBidLoader(config, bidRequesterListener);
+        nextBidLoader.load();
+        runBackgroundAndMainTasks();
+
+        verify(mockRequester).startAdRequest();
+        verify(bidRequesterListener, times(1)).onFetchCompleted(any(BidResponse.class));
+    }
+
+    private static void runBackgroundAndMainTasks() {
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+
     private BidLoader createBidLoader(AdUnitConfiguration adConfiguration, BidRequesterListener requestListener) {
         BidLoader bidLoader = new BidLoader(adConfiguration, requestListener);
         WhiteBox.setInternalState(bidLoader, "bidRequester", mockRequester);
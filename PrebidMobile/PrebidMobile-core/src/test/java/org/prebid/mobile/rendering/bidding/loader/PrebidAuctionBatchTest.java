@@ -0,0 +1,80 @@
+package org.prebid.mobile.rendering.bidding.loader;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.api.exceptions.AdException;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PrebidAuctionBatchTest {
+
+    @Before
+    public void setUp() {
+        PrebidContextHolder.clearContext();
+    }
+
+    @After
+    public void tearDown() {
+        PrebidContextHolder.clearContext();
+    }
+
+    @Test
+    public void addAfterSend_returnFalse() {
+        PrebidAuctionBatch batch = new PrebidAuctionBatch();
+        assertTrue(batch.add(createConfiguration("first"), mock(PrebidAuctionBatch.AdUnitResponseHandler.class)));
+
+        batch.send();
+
+        assertTrue(batch.isSent());
+        assertFalse(batch.add(createConfiguration("second"), mock(PrebidAuctionBatch.AdUnitResponseHandler.class)));
+    }
+
+    @Test
+    public void sendWithoutConfigId_errorOnlyForThisAdUnit() {
+        PrebidAuctionBatch.AdUnitResponseHandler valid = mock(PrebidAuctionBatch.AdUnitResponseHandler.class);
+        PrebidAuctionBatch.AdUnitResponseHandler invalid = mock(PrebidAuctionBatch.AdUnitResponseHandler.class);
+        PrebidAuctionBatch batch = new PrebidAuctionBatch();
+        batch.add(createConfiguration("config"), valid);
+        batch.add(createConfiguration(null), invalid);
+
+        batch.send();
+
+        verify(invalid).onError(anyString(), anyLong());
+        verify(valid, never()).onError(anyString(), anyLong());
+    }
+
+    @Test
+    public void requestFailed_errorForEachAdUnit() {
+        PrebidAuctionBatch.AdUnitResponseHandler first = mock(PrebidAuctionBatch.AdUnitResponseHandler.class);
+        PrebidAuctionBatch.AdUnitResponseHandler second = mock(PrebidAuctionBatch.AdUnitResponseHandler.class);
+        PrebidAuctionBatch batch = new PrebidAuctionBatch();
+        batch.add(createConfiguration("first"), first);
+        batch.add(createConfiguration("second"), second);
+
+        // No context, the request fails before sending
+        batch.send();
+
+        verify(first).onErrorWithException(any(AdException.class), anyLong());
+        verify(second).onErrorWithException(any(AdException.class), anyLong());
+    }
+
+    private static AdUnitConfiguration createConfiguration(String configId) {
+        AdUnitConfiguration configuration = new AdUnitConfiguration();
+        configuration.setConfigId(configId);
+        return configuration;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.prebid.mobile.rendering.loading;
 
 import android.app.Activity;
 import android.content.Context;
+import android.os.Looper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,12 +36,14 @@ import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
+import static org.robolectric.Shadows.shadowOf;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(sdk = 19)
@@ -174,6 +177,8 @@ public class TransactionManagerTest {
         when(mockBidResponse.getWinningBid()).thenReturn(mock(Bid.class));
         when(mockBidResponse.getWinningBid().getAdm()).thenReturn("adm");
         transactionManager.fetchBidTransaction(mock(AdUnitConfiguration.class), mockBidResponse);
+        // Fails when JS scripts aren't ready within the timeout
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(3));
         verify(mockListener).onFetchingFailed(any(AdException.class));
     }
 }
\ No newline at end of file
@@ -22,8 +22,12 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
 
 import org.junit.After;
 import org.junit.Before;
@@ -41,12 +45,14 @@ import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.loading.AdLoadListener;
 import org.prebid.mobile.rendering.loading.VastParserExtractor;
 import org.prebid.mobile.rendering.sdk.JSLibraryManager;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptsReadiness;
 import org.prebid.mobile.test.utils.ResourceUtils;
 import org.prebid.mobile.test.utils.WhiteBox;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(sdk = 19)
@@ -104,12 +110,35 @@ public class CreativeModelMakerBidsTest {
         BidResponse bidResponse = new BidResponse(responseString, new AdUnitConfiguration());
 
         when(mockJsManager.checkIfScriptsDownloadedAndStartDownloadingIfNot()).thenReturn(false);
+        when(mockJsManager.getReadiness()).thenReturn(new JsScriptsReadiness());
 
         modelMakerBids.makeModels(configuration, bidResponse);
+        verify(mockLoadListener, never()).onFailedToLoadAd(any(AdException.class), any());
 
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(3));
         verify(mockLoadListener).onFailedToLoadAd(any(AdException.class), any());
     }
 
+    @Test
+    public void whenScriptsAreReadAfterMakeModels_CreateModel() throws IOException {
+        AdUnitConfiguration configuration = new AdUnitConfiguration();
+        configuration.setAdFormat(AdFormat.BANNER);
+
+        String responseString = ResourceUtils.convertResourceToString("bidding_response_obj.json");
+        BidResponse bidResponse = new BidResponse(responseString, new AdUnitConfiguration());
+
+        JsScriptsReadiness readiness = new JsScriptsReadiness();
+        when(mockJsManager.checkIfScriptsDownloadedAndStartDownloadingIfNot()).thenReturn(false);
+        when(mockJsManager.getReadiness()).thenReturn(readiness);
+
+        modelMakerBids.makeModels(configuration, bidResponse);
+        readiness.complete();
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(mockLoadListener).onCreativeModelReady(any(CreativeModelsMaker.Result.class));
+        verify(mockLoadListener, never()).onFailedToLoadAd(any(AdException.class), any());
+    }
+
     @Test
     public void whenMakeModelsAndBidRequestContainsAcjAd_CreateAcjModel() throws IOException {
         AdUnitConfiguration configuration = new AdUnitConfiguration();
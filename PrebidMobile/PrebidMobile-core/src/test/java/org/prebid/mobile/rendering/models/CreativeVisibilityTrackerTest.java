@@ -101,10 +101,8 @@ public class CreativeVisibilityTrackerTest {
 
         creativeVisibilityTracker = new CreativeVisibilityTracker(mockView, visibilityTrackerOption);
         creativeVisibilityTracker.startVisibilityCheck(spyActivity);
-        ViewTreeObserver.OnPreDrawListener expectedListener = (ViewTreeObserver.OnPreDrawListener) getFieldValue(
-                "onPreDrawListener");
-        assertNotNull(expectedListener);
-        verify(mockViewTreeObserver).addOnPreDrawListener(eq(expectedListener));
+        assertNotNull(getFieldValue("visibilityScheduler"));
+        verify(mockViewTreeObserver).addOnPreDrawListener(any(ViewTreeObserver.OnPreDrawListener.class));
         assertEquals(
                 mockViewTreeObserver,
                 ((WeakReference<ViewTreeObserver>) getFieldValue("weakViewTreeObserver")).get()
@@ -0,0 +1,124 @@
+package org.prebid.mobile.rendering.models;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.prebid.mobile.rendering.models.internal.VisibilityTrackerOption;
+import org.prebid.mobile.rendering.models.ntv.NativeEventTracker;
+import org.prebid.mobile.rendering.utils.helpers.VisibilityChecker;
+import org.prebid.mobile.test.utils.WhiteBox;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+
+import java.util.Collections;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(LEGACY)
+public class VisibilitySchedulerTest {
+
+    private ViewTreeObserver mockViewTreeObserver;
+    private VisibilityScheduler subject;
+
+    @Before
+    public void setUp() {
+        mockViewTreeObserver = mock(ViewTreeObserver.class);
+        when(mockViewTreeObserver.isAlive()).thenReturn(true);
+        subject = VisibilityScheduler.forViewTreeObserver(mockViewTreeObserver);
+    }
+
+    @Test
+    public void forViewTreeObserver_returnSameSchedulerForWindow() {
+        assertSame(subject, VisibilityScheduler.forViewTreeObserver(mockViewTreeObserver));
+    }
+
+    @Test
+    public void severalTrackers_registerListenersOnce() {
+        CreativeVisibilityTracker first = createTracker();
+        CreativeVisibilityTracker second = createTracker();
+
+        subject.add(first);
+        subject.add(second);
+        verify(mockViewTreeObserver, times(1)).addOnPreDrawListener(any(ViewTreeObserver.OnPreDrawListener.class));
+
+        subject.remove(first);
+        verify(mockViewTreeObserver, never()).removeOnPreDrawListener(any(ViewTreeObserver.OnPreDrawListener.class));
+
+        subject.remove(second);
+        verify(mockViewTreeObserver).removeOnPreDrawListener(any(ViewTreeObserver.OnPreDrawListener.class));
+    }
+
+    @Test
+    public void preDraw_checkAllTrackersInOnePass() {
+        CreativeVisibilityTracker first = createTracker();
+        CreativeVisibilityTracker second = createTracker();
+        first.visibilityRunnable = mock(Runnable.class);
+        second.visibilityRunnable = mock(Runnable.class);
+        subject.add(first);
+        subject.add(second);
+
+        subject.onPreDraw();
+        subject.checkTrackers();
+
+        verify(first.visibilityRunnable).run();
+        verify(second.visibilityRunnable).run();
+    }
+
+    @Test
+    public void unchangedLayout_reuseExposure() {
+        ArgumentCaptor<ViewTreeObserver.OnGlobalLayoutListener> layoutListener = ArgumentCaptor.forClass(
+                ViewTreeObserver.OnGlobalLayoutListener.class);
+        VisibilityTrackerOption option = new VisibilityTrackerOption(NativeEventTracker.EventType.VIEWABLE_MRC50);
+        VisibilityChecker spyVisibilityChecker = spy(new VisibilityChecker(option));
+        CreativeVisibilityTracker tracker = new CreativeVisibilityTracker(mock(View.class), option, true);
+        WhiteBox.setInternalState(tracker, "visibilityCheckerList", Collections.singletonList(spyVisibilityChecker));
+        WhiteBox.setInternalState(tracker, "visibilityScheduler", subject);
+        subject.add(tracker);
+        verify(mockViewTreeObserver).addOnGlobalLayoutListener(layoutListener.capture());
+
+        tracker.visibilityRunnable.run();
+        tracker.visibilityRunnable.run();
+        verify(spyVisibilityChecker, times(1)).checkViewExposure(any(View.class));
+
+        layoutListener.getValue().onGlobalLayout();
+        tracker.visibilityRunnable.run();
+        verify(spyVisibilityChecker, times(2)).checkViewExposure(any(View.class));
+    }
+
+    @Test
+    public void preDraw_checkExposureAgain() {
+        VisibilityTrackerOption option = new VisibilityTrackerOption(NativeEventTracker.EventType.VIEWABLE_MRC50);
+        VisibilityChecker spyVisibilityChecker = spy(new VisibilityChecker(option));
+        CreativeVisibilityTracker tracker = new CreativeVisibilityTracker(mock(View.class), option, true);
+        WhiteBox.setInternalState(tracker, "visibilityCheckerList", Collections.singletonList(spyVisibilityChecker));
+        WhiteBox.setInternalState(tracker, "visibilityScheduler", subject);
+        subject.add(tracker);
+
+        tracker.visibilityRunnable.run();
+        subject.onPreDraw();
+        tracker.visibilityRunnable.run();
+
+        verify(spyVisibilityChecker, times(2)).checkViewExposure(any(View.class));
+    }
+
+    private CreativeVisibilityTracker createTracker() {
+        return new CreativeVisibilityTracker(
+                mock(View.class),
+                new VisibilityTrackerOption(NativeEventTracker.EventType.IMPRESSION)
+        );
+    }
+
+}
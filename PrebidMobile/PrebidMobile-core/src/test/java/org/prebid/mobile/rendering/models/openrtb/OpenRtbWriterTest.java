@@ -0,0 +1,98 @@
+package org.prebid.mobile.rendering.models.openrtb;
+
+import static org.junit.Assert.assertEquals;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.TargetingParams;
+import org.prebid.mobile.configuration.NativeAdUnitConfiguration;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Imp;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.Pmp;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.imps.pmps.Deals;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+
+@RunWith(RobolectricTestRunner.class)
+public class OpenRtbWriterTest {
+
+    @After
+    public void tearDown() {
+        TargetingParams.setGlobalOrtbConfig(null);
+        PrebidMobile.setPbsDebug(false);
+    }
+
+    @Test
+    public void emptyRequest_returnEmptyString() throws Exception {
+        assertEquals("", OpenRtbWriter.toJsonString(new BidRequest()));
+    }
+
+    @Test
+    public void filledRequest_sameAsJsonObject() throws Exception {
+        PrebidMobile.setPbsDebug(true);
+        BidRequest bidRequest = createFilledRequest();
+
+        String expected = bidRequest.getJsonObject().toString();
+        String actual = OpenRtbWriter.toJsonString(bidRequest);
+
+        assertEquals(expected, new JSONObject(actual).toString());
+    }
+
+    @Test
+    public void globalOrtbConfig_mergeIntoRequest() throws Exception {
+        TargetingParams.setGlobalOrtbConfig("{\"bcat\":[\"IAB1\"]}");
+        BidRequest bidRequest = createFilledRequest();
+
+        JSONObject actual = new JSONObject(OpenRtbWriter.toJsonString(bidRequest));
+
+        assertEquals("IAB1", actual.getJSONArray("bcat").getString(0));
+        assertEquals("request-id", actual.getString("id"));
+    }
+
+    private static BidRequest createFilledRequest() throws Exception {
+        BidRequest bidRequest = new BidRequest();
+        bidRequest.setId("request-id");
+        bidRequest.getApp().name = "App \"quoted\"";
+        bidRequest.getApp().cat = new String[]{"IAB1", "IAB2"};
+        bidRequest.getApp().getPublisher().id = "publisher-id";
+        bidRequest.getApp().getExt().put("prebid", new JSONObject().put("source", "prebid-mobile"));
+        bidRequest.getDevice().ua = "Mozilla/5.0 (Linux; Android 12)";
+        bidRequest.getDevice().pxratio = 2.5f;
+        bidRequest.getDevice().getGeo().lat = 1.5f;
+        bidRequest.getDevice().getGeo().city = "Tōkyō";
+        bidRequest.getRegs().coppa = 1;
+        bidRequest.getRegs().setGppSid("2_6");
+        bidRequest.getUser().keywords = "keywords";
+        bidRequest.getUser().getExt().put(new JSONObject().put("data", new JSONObject().put("key", "value")));
+        bidRequest.getSource().setTid("tid");
+        bidRequest.getExt().put("prebid", new JSONObject().put("targeting", new JSONObject()));
+
+        ArrayList<Imp> imps = new ArrayList<>();
+        Imp imp = new Imp();
+        imp.id = "imp-id";
+        imp.secure = 1;
+        imp.getBanner().addFormat(320, 50);
+        imp.getBanner().api = new int[]{3, 5};
+        imp.getVideo().mimes = new String[]{"video/mp4"};
+        imp.getVideo().protocols = new int[]{2, 5};
+        imp.getExt().put("data", new JSONArray().put("first").put(2));
+
+        imp.getNative().setRequestFrom(new NativeAdUnitConfiguration());
+
+        Pmp pmp = new Pmp();
+        Deals deal = new Deals();
+        deal.id = "deal-id";
+        deal.bidfloor = 0.5f;
+        pmp.deals = new ArrayList<>();
+        pmp.deals.add(deal);
+        imp.pmp = pmp;
+        imps.add(imp);
+        bidRequest.setImp(imps);
+        return bidRequest;
+    }
+
+}
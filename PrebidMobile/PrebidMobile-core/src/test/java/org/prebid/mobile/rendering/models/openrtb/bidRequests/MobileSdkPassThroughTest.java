@@ -95,6 +95,23 @@ public class MobileSdkPassThroughTest {
         assertEquals(Position.TOP_LEFT, adUnitConfiguration.getCloseButtonPosition());
     }
 
+    @Test
+    public void fromConfiguration_keepValuesOfCopyTime() throws JSONException {
+        JSONObject jsonObject = new JSONObject(
+            "{\"prebid\":{\"passthrough\":[{\"type\":\"prebidmobilesdk\",\"adconfiguration\":{\n\"closebuttonarea\": 0.1}}]}}");
+        AdUnitConfiguration adUnitConfiguration = new AdUnitConfiguration();
+        adUnitConfiguration.setMaxVideoDuration(20);
+        adUnitConfiguration.setCloseButtonArea(0.2);
+
+        MobileSdkPassThrough renderingControls = MobileSdkPassThrough.fromConfiguration(adUnitConfiguration);
+        adUnitConfiguration.setMaxVideoDuration(30);
+        MobileSdkPassThrough result = MobileSdkPassThrough.combine(MobileSdkPassThrough.create(jsonObject), renderingControls);
+
+        assertNotNull(result);
+        assertEquals((Integer) 20, result.maxVideoDuration);
+        assertEquals((Double) 0.1, result.closeButtonArea);
+    }
+
     @Test
     public void combine_checkFromBidPriority() throws JSONException {
         JSONObject fromBidJsonObject = new JSONObject(
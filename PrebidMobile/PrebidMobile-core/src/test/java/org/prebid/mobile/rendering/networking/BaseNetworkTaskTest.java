@@ -37,7 +37,9 @@ import org.robolectric.annotation.LooperMode;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.zip.GZIPInputStream;
 
 import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
@@ -90,6 +92,8 @@ public class BaseNetworkTaskTest {
     @After
     public void tearDown() throws Exception {
         server.shutdown();
+        NetworkEngine.setTransport(null);
+        PrebidMobile.setUseRequestCompression(false);
     }
 
     @Suppress
@@ -307,13 +311,84 @@ public class BaseNetworkTaskTest {
         Assert.assertEquals(true, success);
     }
 
+    @Test
+    public void testCustomTransport() {
+        final NetworkRequest[] capturedRequest = new NetworkRequest[1];
+        NetworkEngine.setTransport(request -> {
+            capturedRequest[0] = request;
+            return new NetworkResponse(200, "Custom transport", null);
+        });
+
+        BaseNetworkTask baseNetworkTask = new BaseNetworkTask(baseResponseHandler);
+        params.queryParams = "a=b";
+        baseNetworkTask.execute(params);
+
+        Assert.assertTrue(success);
+        Assert.assertEquals("Custom transport", response.responseString);
+        Assert.assertEquals(params.url + "?a=b", capturedRequest[0].getUrl());
+        Assert.assertEquals("user-agent", capturedRequest[0].getHeaders().get("User-Agent"));
+        Assert.assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void testCustomTransportErrorCode() {
+        NetworkEngine.setTransport(request -> new NetworkResponse(500, "Internal error", null));
+
+        BaseNetworkTask baseNetworkTask = new BaseNetworkTask(baseResponseHandler);
+        baseNetworkTask.execute(params);
+
+        Assert.assertFalse(success);
+        MatcherAssert.assertThat(exception.getMessage(), containsString("Code 500"));
+    }
+
     @Test
     public void testSpecialSymbols() throws IOException {
         ByteArrayOutputStream request = new ByteArrayOutputStream();
 
         BaseNetworkTask.sendRequest("{\"app\":\"天気\"}", request);
 
-        Assert.assertEquals("{\"app\":\"天気\"}", request.toString());
+        Assert.assertEquals("{\"app\":\"天気\"}", request.toString("UTF-8"));
+    }
+
+    @Test
+    public void testGzipRequestBody() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+        PrebidMobile.setUseRequestCompression(true);
+        params.requestType = "POST";
+        params.queryParams = "{\"app\":\"天気\"}";
+
+        BaseNetworkTask baseNetworkTask = new BaseNetworkTask(baseResponseHandler);
+        baseNetworkTask.execute(params);
+
+        RecordedRequest request = server.takeRequest();
+        Assert.assertTrue(success);
+        Assert.assertEquals("gzip", request.getHeader("Content-Encoding"));
+        GZIPInputStream body = new GZIPInputStream(request.getBody().inputStream());
+        Assert.assertEquals(params.queryParams, new String(readAll(body), "UTF-8"));
+    }
+
+    @Test
+    public void testGzipDisabled_plainRequestBody() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+        params.requestType = "POST";
+        params.queryParams = "{\"app\":\"天気\"}";
+
+        BaseNetworkTask baseNetworkTask = new BaseNetworkTask(baseResponseHandler);
+        baseNetworkTask.execute(params);
+
+        RecordedRequest request = server.takeRequest();
+        Assert.assertNull(request.getHeader("Content-Encoding"));
+        Assert.assertEquals(params.queryParams, request.getBody().readUtf8());
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            result.write(buffer, 0, read);
+        }
+        return result.toByteArray();
     }
 
 }
@@ -0,0 +1,127 @@
+package org.prebid.mobile.rendering.networking;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowSystemClock;
+
+import java.net.URL;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+@RunWith(RobolectricTestRunner.class)
+public class ConnectionManagerTest {
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        ConnectionManager.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+        ConnectionManager.reset();
+        NetworkEngine.setExecutor(null);
+        NetworkEngine.setTransport(null);
+    }
+
+    @Test
+    public void fullyReadResponses_connectionIsReused() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("first"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("second"));
+
+        DefaultHttpTransport transport = new DefaultHttpTransport();
+        transport.execute(createRequest());
+        transport.execute(createRequest());
+
+        assertEquals(0, server.takeRequest().getSequenceNumber());
+        assertEquals(1, server.takeRequest().getSequenceNumber());
+        assertEquals(1, ConnectionManager.getEstimatedPoolMissCount());
+        assertEquals(1, ConnectionManager.getEstimatedPoolHitCount());
+    }
+
+    @Test
+    public void concurrentRequestsToOneHost_countEachReleasedConnectionOnce() throws Exception {
+        URL url = server.url("/openrtb2/auction").url();
+        URLConnection first = url.openConnection();
+        URLConnection second = url.openConnection();
+
+        ConnectionManager.onConnectionOpened(first);
+        ConnectionManager.onConnectionOpened(second);
+        ConnectionManager.release(first, true);
+        ConnectionManager.release(second, true);
+        ConnectionManager.onConnectionOpened(url.openConnection());
+        ConnectionManager.onConnectionOpened(url.openConnection());
+        ConnectionManager.onConnectionOpened(url.openConnection());
+
+        assertEquals(3, ConnectionManager.getEstimatedPoolMissCount());
+        assertEquals(2, ConnectionManager.getEstimatedPoolHitCount());
+    }
+
+    @Test
+    public void takeIdleConnection_purgeExpiredConnections() throws Exception {
+        URL url = server.url("/openrtb2/auction").url();
+        ConnectionManager.release(url.openConnection(), true);
+        ConnectionManager.release(url.openConnection(), true);
+        ShadowSystemClock.advanceBy(Duration.ofMillis(ConnectionManager.KEEP_ALIVE_MILLIS - 1000));
+        ConnectionManager.release(url.openConnection(), true);
+        ShadowSystemClock.advanceBy(Duration.ofMillis(2000));
+
+        ConnectionManager.onConnectionOpened(url.openConnection());
+
+        assertEquals(1, ConnectionManager.getEstimatedPoolHitCount());
+        assertEquals(0, ConnectionManager.getIdleConnectionCount());
+    }
+
+    @Test
+    public void prewarm_nextRequestIsPoolHit() throws Exception {
+        NetworkEngine.setExecutor(Runnable::run);
+        server.enqueue(new MockResponse().setResponseCode(405));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("auction"));
+
+        ConnectionManager.prewarm(server.url("/openrtb2/auction").toString());
+        new DefaultHttpTransport().execute(createRequest());
+
+        assertEquals("HEAD", server.takeRequest().getMethod());
+        assertEquals(1, server.takeRequest().getSequenceNumber());
+        assertEquals(1, ConnectionManager.getEstimatedPoolHitCount());
+    }
+
+    @Test
+    public void prewarmWithCustomTransport_doNothing() {
+        Executor executor = runnable -> {
+            throw new IllegalStateException("Must not be called");
+        };
+        NetworkEngine.setExecutor(executor);
+        NetworkEngine.setTransport(request -> new NetworkResponse(200, "", null));
+
+        ConnectionManager.prewarm(server.url("/openrtb2/auction").toString());
+
+        assertEquals(0, server.getRequestCount());
+        assertEquals(0, ConnectionManager.getEstimatedPoolMissCount());
+    }
+
+    private NetworkRequest createRequest() {
+        return new NetworkRequest(
+                server.url("/openrtb2/auction").toString(),
+                NetworkRequest.METHOD_POST,
+                "{}",
+                null,
+                2000,
+                2000
+        );
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.prebid.mobile.rendering.networking;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+@RunWith(RobolectricTestRunner.class)
+public class ResponseReaderTest {
+
+    private static final String BODY = "{\"seatbid\":[\n{\"bid\":\"天気\"}\n]}";
+
+    @Test
+    public void readPlainString_keepNewLinesAndUtf8() throws IOException {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+
+        String result = ResponseReader.readString(new ByteArrayInputStream(bytes), null, bytes.length);
+
+        assertEquals(BODY, result);
+    }
+
+    @Test
+    public void readGzipString_decompress() throws IOException {
+        byte[] bytes = gzip(BODY);
+
+        String result = ResponseReader.readString(new ByteArrayInputStream(bytes), "gzip", bytes.length);
+
+        assertEquals(BODY, result);
+    }
+
+    @Test
+    public void getInitialCapacity_presizeFromContentLength() {
+        assertEquals(100, ResponseReader.getInitialCapacity(null, 100));
+        assertEquals(400, ResponseReader.getInitialCapacity("gzip", 100));
+        assertEquals(8 * 1024, ResponseReader.getInitialCapacity(null, -1));
+        assertEquals(1024 * 1024, ResponseReader.getInitialCapacity("gzip", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void failedRead_keepPartialResponse() {
+        byte[] bytes = "partial".getBytes(StandardCharsets.UTF_8);
+        InputStream inputStream = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                int result = super.read(buffer, offset, length);
+                if (result == -1) {
+                    throw new IllegalStateException("Connection reset");
+                }
+                return result;
+            }
+        };
+
+        assertEquals("partial", DefaultHttpTransport.readResponse(inputStream));
+    }
+
+    @Test
+    public void defaultTransport_acceptAndDecompressGzip() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Encoding", "gzip")
+                .setBody(new Buffer().write(gzip(BODY))));
+        server.start();
+
+        try {
+            NetworkResponse response = new DefaultHttpTransport().execute(new NetworkRequest(
+                    server.url("/openrtb2/auction").toString(),
+                    NetworkRequest.METHOD_GET,
+                    null,
+                    null,
+                    2000,
+                    2000
+            ));
+
+            RecordedRequest request = server.takeRequest();
+            assertEquals("gzip", request.getHeader("Accept-Encoding"));
+            assertEquals(BODY, response.getBody());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(result)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return result.toByteArray();
+    }
+
+}
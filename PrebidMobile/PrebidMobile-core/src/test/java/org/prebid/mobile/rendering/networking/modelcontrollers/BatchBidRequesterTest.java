@@ -0,0 +1,81 @@
+package org.prebid.mobile.rendering.networking.modelcontrollers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import android.app.Activity;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.api.data.AdFormat;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.networking.ResponseHandler;
+import org.prebid.mobile.rendering.networking.urlBuilder.URLComponents;
+import org.prebid.mobile.rendering.sdk.ManagersResolver;
+import org.prebid.mobile.rendering.sdk.PrebidContextHolder;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+public class BatchBidRequesterTest {
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        PrebidContextHolder.setContext(activity);
+        ManagersResolver.getInstance().prepare(activity);
+    }
+
+    @After
+    public void tearDown() {
+        PrebidContextHolder.clearContext();
+    }
+
+    @Test
+    public void buildUrlComponent_oneImpForEachAdUnit() throws Exception {
+        AdUnitConfiguration banner = createConfiguration("banner", AdFormat.BANNER);
+        banner.setImpOrtbConfig("{\"tagid\":\"banner-tag\"}");
+        AdUnitConfiguration video = createConfiguration("video", AdFormat.VAST);
+
+        List<AdUnitConfiguration> configurations = new ArrayList<>();
+        configurations.add(banner);
+        configurations.add(video);
+        BatchBidRequester requester = new BatchBidRequester(configurations, mock(ResponseHandler.class));
+
+        URLComponents components = requester.buildUrlComponent();
+        JSONObject request = new JSONObject(components.getQueryArgString());
+
+        JSONArray imps = request.getJSONArray("imp");
+        assertEquals(2, imps.length());
+        assertEquals(requester.getImpIds().get(0), imps.getJSONObject(0).getString("id"));
+        assertEquals(requester.getImpIds().get(1), imps.getJSONObject(1).getString("id"));
+        assertNotEquals(requester.getImpIds().get(0), requester.getImpIds().get(1));
+
+        assertEquals("banner", imps.getJSONObject(0).getJSONObject("ext").getJSONObject("prebid").getJSONObject("storedrequest").getString("id"));
+        assertEquals("video", imps.getJSONObject(1).getJSONObject("ext").getJSONObject("prebid").getJSONObject("storedrequest").getString("id"));
+        assertEquals("banner-tag", imps.getJSONObject(0).getString("tagid"));
+        assertTrue(imps.getJSONObject(1).has("video"));
+
+        // Video ad unit requires cached VAST, it's merged into the request of the first ad unit
+        assertTrue(request.getJSONObject("ext").getJSONObject("prebid").getJSONObject("cache").has("vastxml"));
+    }
+
+    private static AdUnitConfiguration createConfiguration(String configId, AdFormat adFormat) {
+        AdUnitConfiguration configuration = new AdUnitConfiguration();
+        configuration.setConfigId(configId);
+        configuration.setAdFormats(EnumSet.of(adFormat));
+        configuration.setIsOriginalAdUnit(true);
+        return configuration;
+    }
+
+}
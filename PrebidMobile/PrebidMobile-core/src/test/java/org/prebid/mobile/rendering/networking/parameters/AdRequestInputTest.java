@@ -19,11 +19,25 @@ package org.prebid.mobile.rendering.networking.parameters;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assume.assumeTrue;
 
+import org.json.JSONObject;
 import org.junit.Test;
+import org.prebid.mobile.ContentObject;
+import org.prebid.mobile.DataObject;
+import org.prebid.mobile.rendering.models.openrtb.BidRequest;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Imp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 
 public class AdRequestInputTest {
 
+    private static final String BENCHMARKS_PROPERTY = "prebid.benchmarks";
+
     @Test
     public void testDeepCopy() throws Exception {
         AdRequestInput inputOriginal = new AdRequestInput();
@@ -38,4 +52,154 @@ public class AdRequestInputTest {
         assertEquals(inputOriginal.getBidRequest().getJsonObject().toString(),
                      inputCopy.getBidRequest().getJsonObject().toString());
     }
+
+    @Test
+    public void testDeepCopyOfFilledRequest() throws Exception {
+        AdRequestInput inputOriginal = new AdRequestInput();
+        fillBidRequest(inputOriginal.getBidRequest());
+        JSONObject userExt = new JSONObject().put("data", new JSONObject().put("key", "value"));
+        inputOriginal.getBidRequest().getUser().getExt().put(userExt);
+        inputOriginal.getBidRequest().getRegs().setGppSid("2_6");
+        String originalJson = inputOriginal.getBidRequest().getJsonObject().toString();
+
+        AdRequestInput inputCopy = inputOriginal.getDeepCopy();
+        assertEquals(originalJson, inputCopy.getBidRequest().getJsonObject().toString());
+
+        BidRequest copy = inputCopy.getBidRequest();
+        copy.getApp().name = "Changed";
+        copy.getApp().getPublisher().id = "Changed";
+        copy.getDevice().getGeo().city = "Changed";
+        copy.getImp().get(0).getBanner().addFormat(1, 1);
+        copy.getImp().get(0).getVideo().mimes[0] = "Changed";
+        ((JSONObject) copy.getUser().getExt().getMap().get("data")).put("key", "Changed");
+        copy.getImp().add(new Imp());
+
+        assertEquals(originalJson, inputOriginal.getBidRequest().getJsonObject().toString());
+    }
+
+    @Test
+    public void testDeepCopyNotChangedByPublisherObjects() throws Exception {
+        AdRequestInput inputOriginal = new AdRequestInput();
+        ContentObject content = new ContentObject();
+        content.setTitle("Title");
+        content.addCategory("IAB1");
+        ContentObject.ProducerObject producer = new ContentObject.ProducerObject();
+        producer.setName("Producer");
+        content.setProducer(producer);
+        DataObject contentData = createDataObject("content-data");
+        content.addData(contentData);
+        DataObject userData = createDataObject("user-data");
+        inputOriginal.getBidRequest().getApp().contentObject = content;
+        inputOriginal.getBidRequest().getUser().dataObjects.add(userData);
+
+        AdRequestInput inputCopy = inputOriginal.getDeepCopy();
+        String copyJson = inputCopy.getBidRequest().getJsonObject().toString();
+
+        content.setTitle("Changed");
+        content.addCategory("IAB2");
+        producer.setName("Changed");
+        contentData.setName("Changed");
+        contentData.getSegments().get(0).setValue("Changed");
+        userData.setName("Changed");
+        userData.addSegment(new DataObject.SegmentObject());
+
+        assertEquals(copyJson, inputCopy.getBidRequest().getJsonObject().toString());
+    }
+
+    @Test
+    public void testDeepCopyEqualToSerializationCopy() throws Exception {
+        AdRequestInput input = new AdRequestInput();
+        fillBidRequest(input.getBidRequest());
+
+        assertEquals(
+                copyWithSerialization(input.getBidRequest()).getJsonObject().toString(),
+                input.getDeepCopy().getBidRequest().getJsonObject().toString()
+        );
+    }
+
+    /**
+     * Compares the copy constructors with the previous implementation based on Java serialization.
+     * Opt-in, run with <code>-PprebidBenchmarks=true</code>.
+     */
+    @Test
+    public void benchmarkDeepCopyAgainstSerialization() throws Exception {
+        assumeTrue(Boolean.getBoolean(BENCHMARKS_PROPERTY));
+
+        AdRequestInput input = new AdRequestInput();
+        fillBidRequest(input.getBidRequest());
+        int iterations = 2000;
+
+        // Warm up
+        for (int i = 0; i < 200; i++) {
+            input.getDeepCopy();
+            copyWithSerialization(input.getBidRequest());
+        }
+
+        long copyStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            input.getDeepCopy();
+        }
+        long copyTime = System.nanoTime() - copyStart;
+
+        long serializationStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            copyWithSerialization(input.getBidRequest());
+        }
+        long serializationTime = System.nanoTime() - serializationStart;
+
+        System.out.println("Deep copy: " + copyTime / iterations + " ns, serialization: " + serializationTime / iterations + " ns");
+    }
+
+    private static void fillBidRequest(BidRequest bidRequest) {
+        bidRequest.setId("request-id");
+        bidRequest.getApp().name = "App";
+        bidRequest.getApp().bundle = "org.prebid.app";
+        bidRequest.getApp().cat = new String[]{"IAB1", "IAB2"};
+        bidRequest.getApp().getPublisher().id = "publisher-id";
+        bidRequest.getApp().getExt().put("prebid", "ext");
+        bidRequest.getDevice().ua = "user-agent";
+        bidRequest.getDevice().make = "Google";
+        bidRequest.getDevice().getGeo().city = "City";
+        bidRequest.getDevice().getGeo().lat = 1.5f;
+        bidRequest.getRegs().coppa = 1;
+        bidRequest.getRegs().setGppString("gpp");
+        bidRequest.getUser().keywords = "keywords";
+        bidRequest.getUser().getGeo().country = "Country";
+        bidRequest.getSource().setTid("tid");
+
+        ArrayList<Imp> imps = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Imp imp = new Imp();
+            imp.id = "imp-" + i;
+            imp.tagid = "config-" + i;
+            imp.getBanner().addFormat(320, 50);
+            imp.getBanner().addFormat(300, 250);
+            imp.getBanner().api = new int[]{3, 5};
+            imp.getVideo().mimes = new String[]{"video/mp4"};
+            imp.getVideo().protocols = new int[]{2, 5};
+            imp.getExt().put("gpid", "/1234/slot-" + i);
+            imps.add(imp);
+        }
+        bidRequest.setImp(imps);
+    }
+
+    private static DataObject createDataObject(String name) {
+        DataObject dataObject = new DataObject();
+        dataObject.setId("id");
+        dataObject.setName(name);
+        DataObject.SegmentObject segment = new DataObject.SegmentObject();
+        segment.setId("segment");
+        segment.setValue("value");
+        dataObject.addSegment(segment);
+        return dataObject;
+    }
+
+    private static BidRequest copyWithSerialization(BidRequest bidRequest) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(bidRequest);
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        return (BidRequest) ois.readObject();
+    }
+
 }
@@ -56,6 +56,7 @@ public class DeviceInfoParameterBuilderTest {
         final Device expectedBidRequestDevice = expectedBidRequest.getDevice();
         final String ipAddress = "192.168.0.1";
         final String carrier = "carrier";
+        AppInfoManager.setUserAgent("user-agent");
 
         AdUnitConfiguration adConfiguration = new AdUnitConfiguration();
 
@@ -73,7 +74,7 @@ public class DeviceInfoParameterBuilderTest {
         expectedBidRequestDevice.model = "robolectric";
         expectedBidRequestDevice.make = "unknown";
         expectedBidRequestDevice.pxratio = 1f;
-        expectedBidRequestDevice.ua = AppInfoManager.getUserAgent();
+        expectedBidRequestDevice.ua = "user-agent";
         expectedBidRequestDevice.ifa = AdvertisingIdManager.getAdvertisingId(ManagersResolver.getInstance().getUserConsentManager());
         expectedBidRequestDevice.lmt = AdvertisingIdManager.isLimitedAdTrackingEnabled() ? 1 : 0;
 
@@ -0,0 +1,137 @@
+package org.prebid.mobile.rendering.networking.parameters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Intent;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+import android.net.ConnectivityManager;
+import android.os.Looper;
+import android.preference.PreferenceManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.TargetingParams;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.reflection.sdk.ManagersResolverReflection;
+import org.prebid.mobile.reflection.sdk.UserConsentManagerReflection;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.App;
+import org.prebid.mobile.rendering.models.openrtb.bidRequests.Device;
+import org.prebid.mobile.rendering.sdk.ManagersResolver;
+import org.prebid.mobile.rendering.sdk.deviceData.managers.UserConsentManager;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class RequestFragmentCacheTest {
+
+    private Activity activity;
+
+    @Before
+    public void setUp() throws Exception {
+        activity = Robolectric.buildActivity(Activity.class).create().get();
+        ManagersResolver resolver = ManagersResolver.getInstance();
+        ManagersResolverReflection.resetManagers(resolver);
+        resolver.prepare(activity);
+        UserConsentManagerReflection.resetAllFields(resolver.getUserConsentManager());
+        RequestFragmentCache.invalidateAll();
+    }
+
+    @After
+    public void tearDown() {
+        TargetingParams.setStoreUrl("");
+        RequestFragmentCache.invalidateAll();
+    }
+
+    @Test
+    public void appFragment_copiedIntoEachRequest() {
+        AdRequestInput first = buildApp();
+        App cachedApp = RequestFragmentCache.getApp();
+        AdRequestInput second = buildApp();
+
+        assertSame(cachedApp, RequestFragmentCache.getApp());
+        assertNotSame(first.getBidRequest().getApp(), second.getBidRequest().getApp());
+
+        first.getBidRequest().getApp().storeurl = "changed";
+        assertNotEquals("changed", cachedApp.storeurl);
+    }
+
+    @Test
+    public void targetingChanged_rebuildAppFragment() {
+        TargetingParams.setStoreUrl("https://store.com/first");
+        buildApp();
+
+        TargetingParams.setStoreUrl("https://store.com/second");
+        assertNull(RequestFragmentCache.getApp());
+
+        assertEquals("https://store.com/second", buildApp().getBidRequest().getApp().storeurl);
+    }
+
+    @Test
+    public void consentPreferenceChanged_rebuildRegsFragment() throws Exception {
+        UserConsentParameterBuilder builder = new UserConsentParameterBuilder();
+        AdRequestInput adRequestInput = new AdRequestInput();
+        builder.appendBuilderParameters(adRequestInput);
+        assertEquals("{}", adRequestInput.getBidRequest().getJsonObject().toString());
+        assertSame(RequestFragmentCache.NO_REGS, RequestFragmentCache.getRegs());
+
+        SharedPreferences preferences = PreferenceManager.getDefaultSharedPreferences(activity);
+        preferences.edit().putString(UserConsentManager.US_PRIVACY_KEY, "1YN-").commit();
+        assertNull(RequestFragmentCache.getRegs());
+
+        adRequestInput = new AdRequestInput();
+        builder.appendBuilderParameters(adRequestInput);
+        assertEquals(
+                "{\"regs\":{\"ext\":{\"us_privacy\":\"1YN-\"}}}",
+                adRequestInput.getBidRequest().getJsonObject().toString()
+        );
+    }
+
+    @Test
+    public void configurationChanged_dropDeviceFragment() {
+        RequestFragmentCache.putDeviceInfo(new Device(), RequestFragmentCache.getGeneration());
+        assertNotNull(RequestFragmentCache.getDeviceInfo());
+
+        ((Application) activity.getApplicationContext()).onConfigurationChanged(new Configuration());
+
+        assertNull(RequestFragmentCache.getDeviceInfo());
+    }
+
+    @Test
+    public void connectivityChanged_dropConnectionFragment() {
+        new NetworkParameterBuilder().appendBuilderParameters(new AdRequestInput());
+        assertNotNull(RequestFragmentCache.getConnectionInfo());
+
+        activity.getApplicationContext().sendBroadcast(new Intent(ConnectivityManager.CONNECTIVITY_ACTION));
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertNull(RequestFragmentCache.getConnectionInfo());
+    }
+
+    @Test
+    public void invalidatedWhileBuilding_doNotStoreFragment() {
+        int generation = RequestFragmentCache.getGeneration();
+        RequestFragmentCache.invalidateApp();
+
+        RequestFragmentCache.putApp(new App(), generation);
+
+        assertNull(RequestFragmentCache.getApp());
+    }
+
+    private AdRequestInput buildApp() {
+        AdRequestInput adRequestInput = new AdRequestInput();
+        new AppInfoParameterBuilder(new AdUnitConfiguration()).appendBuilderParameters(adRequestInput);
+        return adRequestInput;
+    }
+
+}
@@ -26,8 +26,6 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import static org.junit.Assert.assertEquals;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(sdk = 19)
@@ -36,14 +34,19 @@ public class BidUrlComponentsTest {
     @Test
     public void whenGetQueryArgString_ReturnBidRequestJson() throws JSONException {
         AdRequestInput adRequestInput = new AdRequestInput();
-        BidRequest mockBidRequest = mock(BidRequest.class);
-        JSONObject jsonObject = new JSONObject();
-        jsonObject.put("test", "test");
-
-        when(mockBidRequest.getJsonObject()).thenReturn(jsonObject);
-        adRequestInput.setBidRequest(mockBidRequest);
+        BidRequest bidRequest = new BidRequest();
+        bidRequest.setId("test");
+        bidRequest.getApp().name = "app";
+        adRequestInput.setBidRequest(bidRequest);
 
         BidUrlComponents bidUrlComponents = new BidUrlComponents("", adRequestInput);
-        assertEquals(jsonObject.toString(), bidUrlComponents.getQueryArgString());
+        JSONObject actual = new JSONObject(bidUrlComponents.getQueryArgString());
+        assertEquals(bidRequest.getJsonObject().toString(), actual.toString());
+    }
+
+    @Test
+    public void whenGetQueryArgStringForEmptyRequest_ReturnEmptyString() {
+        BidUrlComponents bidUrlComponents = new BidUrlComponents("", new AdRequestInput());
+        assertEquals("", bidUrlComponents.getQueryArgString());
     }
 }
\ No newline at end of file
@@ -158,6 +158,21 @@ public class AdResponseParserVastTest {
                      "/be2cf3b2cf0648e0aa46c7c09afaf3f4.mp4", tempVast.getMediaFileUrl(vast, 0));
     }
 
+    @Test
+    public void getMediaFileUrlWithMaxBitrate_chooseHighestResolutionThatFits() throws Exception {
+        String vastXML = "<VAST version=\"3.0\"><Ad id=\"1\"><InLine><Creatives><Creative><Linear>"
+                         + "<Duration>00:00:10</Duration><MediaFiles>"
+                         + "<MediaFile type=\"video/mp4\" width=\"1920\" height=\"1080\" bitrate=\"4000\"><![CDATA[http://video/high.mp4]]></MediaFile>"
+                         + "<MediaFile type=\"video/mp4\" width=\"1280\" height=\"720\" bitrate=\"2000\"><![CDATA[http://video/medium.mp4]]></MediaFile>"
+                         + "<MediaFile type=\"video/mp4\" width=\"640\" height=\"360\" bitrate=\"800\"><![CDATA[http://video/low.mp4]]></MediaFile>"
+                         + "</MediaFiles></Linear></Creative></Creatives></InLine></Ad></VAST>";
+        AdResponseParserVast vast = new AdResponseParserVast(vastXML);
+
+        assertEquals("http://video/high.mp4", vast.getMediaFileUrl(vast, 0));
+        assertEquals("http://video/medium.mp4", vast.getMediaFileUrl(vast, 0, 3000));
+        assertEquals("http://video/low.mp4", vast.getMediaFileUrl(vast, 0, 100));
+    }
+
     @Test
     public void testInlineGetImpressions() throws Exception {
         String vastXML = ResourceUtils.convertResourceToString(SAMPLE_GOOD_VAST);
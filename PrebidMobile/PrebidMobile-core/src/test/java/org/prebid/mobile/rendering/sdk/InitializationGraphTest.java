@@ -0,0 +1,156 @@
+package org.prebid.mobile.rendering.sdk;
+
+import static android.os.Looper.getMainLooper;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.api.data.InitializationStage;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+public class InitializationGraphTest {
+
+    private final List<InitializationStage> completed = Collections.synchronizedList(new ArrayList<>());
+    private final InitializationGraph subject = new InitializationGraph((stage, durationMillis) -> completed.add(stage));
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final List<Boolean> finished = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch finishedLatch = new CountDownLatch(1);
+
+    @Test
+    public void run_startDependentAfterDependency() throws InterruptedException {
+        subject.add(InitializationStage.MANAGERS, () -> {});
+        subject.add(InitializationStage.USER_CONSENT, () -> {}, InitializationStage.MANAGERS);
+
+        runAndWait();
+
+        assertEquals(Collections.singletonList(true), finished);
+        assertEquals(2, completed.size());
+        assertEquals(InitializationStage.MANAGERS, completed.get(0));
+        assertEquals(InitializationStage.USER_CONSENT, completed.get(1));
+        assertNull(subject.getError());
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void run_independentStagesRunConcurrently() throws InterruptedException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                bothStarted.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {}
+        };
+        subject.add(InitializationStage.APP_INFO, task);
+        subject.add(InitializationStage.ADVERTISING_ID, task);
+
+        runAndWait();
+
+        assertEquals(Collections.singletonList(true), finished);
+        assertEquals(0, bothStarted.getCount());
+    }
+
+    @Test
+    public void failedStage_skipDependentsAndReportError() throws InterruptedException {
+        RuntimeException exception = new RuntimeException("Failed");
+        subject.add(InitializationStage.MANAGERS, () -> {
+            throw exception;
+        });
+        subject.add(InitializationStage.USER_CONSENT, () -> {}, InitializationStage.MANAGERS);
+        subject.add(InitializationStage.JS_SCRIPTS, () -> {});
+
+        runAndWait();
+
+        assertEquals(Collections.singletonList(true), finished);
+        assertEquals(Collections.singletonList(InitializationStage.JS_SCRIPTS), completed);
+        assertSame(exception, subject.getError());
+    }
+
+    @Test
+    public void oneOfTwoDependenciesFailed_skipDependent() throws InterruptedException {
+        RuntimeException exception = new RuntimeException("Failed");
+        CountDownLatch failed = new CountDownLatch(1);
+        subject.add(InitializationStage.MANAGERS, () -> {
+            failed.countDown();
+            throw exception;
+        });
+        subject.add(InitializationStage.APP_INFO, () -> {
+            try {
+                failed.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {}
+        });
+        subject.add(InitializationStage.USER_CONSENT, () -> {}, InitializationStage.MANAGERS, InitializationStage.APP_INFO);
+
+        runAndWait();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        assertEquals(Collections.singletonList(true), finished);
+        assertEquals(Collections.singletonList(InitializationStage.APP_INFO), completed);
+        assertSame(exception, subject.getError());
+    }
+
+    @Test
+    public void slowStage_finishedByTimeoutOnce() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch stageFinished = new CountDownLatch(1);
+        subject.add(InitializationStage.STATUS_REQUEST, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {}
+            stageFinished.countDown();
+        });
+
+        subject.run(executor, 10, TimeUnit.MILLISECONDS, finished::add);
+        shadowOf(getMainLooper()).idleFor(Duration.ofMillis(10));
+
+        assertEquals(Collections.singletonList(false), finished);
+        assertTrue(executor.isShutdown());
+
+        release.countDown();
+        assertTrue(stageFinished.await(1, TimeUnit.SECONDS));
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+        assertEquals(Collections.singletonList(false), finished);
+    }
+
+    @Test
+    public void run_notBlockCaller() {
+        CountDownLatch release = new CountDownLatch(1);
+        subject.add(InitializationStage.STATUS_REQUEST, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {}
+        });
+
+        subject.run(executor, 1, TimeUnit.SECONDS, finished::add);
+
+        assertTrue(finished.isEmpty());
+        release.countDown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_missingDependency_throwException() {
+        subject.add(InitializationStage.USER_CONSENT, () -> {}, InitializationStage.MANAGERS);
+    }
+
+    private void runAndWait() throws InterruptedException {
+        subject.run(executor, 1, TimeUnit.SECONDS, completed -> {
+            finished.add(completed);
+            finishedLatch.countDown();
+        });
+        assertTrue(finishedLatch.await(1, TimeUnit.SECONDS));
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.junit.After;
@@ -15,10 +16,14 @@ import org.mockito.MockitoAnnotations;
 import org.prebid.mobile.rendering.loading.FileDownloadListener;
 import org.prebid.mobile.rendering.sdk.scripts.DownloadListenerCreator;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptData;
+import org.prebid.mobile.rendering.sdk.scripts.JsScriptMetadata;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptRequester;
 import org.prebid.mobile.rendering.sdk.scripts.JsScriptStorage;
 
+import org.prebid.mobile.test.utils.WhiteBox;
+
 import java.io.File;
+import java.util.Set;
 
 public class JsScriptsDownloaderTest {
 
@@ -50,6 +55,7 @@ public class JsScriptsDownloaderTest {
     @After
     public void cleanUp() throws Exception {
         mockManager.close();
+        ((Set<?>) WhiteBox.field(JsScriptsDownloader.class, "inProgressKeys").get(null)).clear();
     }
 
     @Test
@@ -61,6 +67,9 @@ public class JsScriptsDownloaderTest {
         when(
                 mockStorage.isFileAlreadyDownloaded(any(), any())
         ).thenReturn(true);
+        when(
+                mockStorage.getMetadata(any())
+        ).thenReturn(createMetadata(1, System.currentTimeMillis()));
 
 
         downloader.downloadScripts(mockDownloadListenerCreator);
@@ -117,9 +126,7 @@ public class JsScriptsDownloaderTest {
         JsScriptsDownloader.ScriptDownloadListener downloadListener = new JsScriptsDownloader.ScriptDownloadListener(testPath, mockStorage);
         downloadListener.onFileDownloaded(testPath);
 
-        verify(mockStorage, only()).markFileAsDownloadedCompletely(testPath);
-
-        verify(mockStorage, never()).fileDownloadingFailed(any());
+        verifyNoInteractions(mockStorage);
     }
 
     @Test
@@ -129,8 +136,51 @@ public class JsScriptsDownloaderTest {
         downloadListener.onFileDownloadError("Error");
 
         verify(mockStorage, only()).fileDownloadingFailed(testPath);
+    }
+
+    @Test
+    public void checkDownloadingWhenStoredVersionIsOutdated() {
+        when(
+                mockStorage.getInnerFile(any())
+        ).thenReturn(mockFile);
+        when(
+                mockStorage.isFileAlreadyDownloaded(any(), any())
+        ).thenReturn(true);
+        when(
+                mockStorage.getMetadata(any())
+        ).thenReturn(createMetadata(0, System.currentTimeMillis()));
+
+
+        downloader.downloadScripts(mockDownloadListenerCreator);
+
+
+        verify(mockRequester).download(mockFile, JsScriptData.openMeasurementData, mockDownloadListenerCreator);
+        verify(mockRequester).download(mockFile, JsScriptData.mraidData, mockDownloadListenerCreator);
+    }
+
+    @Test
+    public void checkRevalidationOfStaleScripts() {
+        long checkedAt = System.currentTimeMillis() - JsScriptsDownloader.REVALIDATION_INTERVAL_MILLIS - 1;
+        when(
+                mockStorage.getInnerFile(any())
+        ).thenReturn(mockFile);
+        when(
+                mockStorage.getMetadata(JsScriptData.mraidData.getPath())
+        ).thenReturn(createMetadata(1, checkedAt));
+        when(
+                mockStorage.getMetadata(JsScriptData.openMeasurementData.getPath())
+        ).thenReturn(createMetadata(1, System.currentTimeMillis()));
+
+
+        downloader.revalidateScripts(mockDownloadListenerCreator);
+
+
+        verify(mockRequester).download(mockFile, JsScriptData.mraidData, mockDownloadListenerCreator);
+        verify(mockRequester, never()).download(mockFile, JsScriptData.openMeasurementData, mockDownloadListenerCreator);
+    }
 
-        verify(mockStorage, never()).markFileAsDownloadedCompletely(any());
+    private static JsScriptMetadata createMetadata(int version, long checkedAt) {
+        return new JsScriptMetadata(version, "hash", "\"etag\"", null, checkedAt);
     }
 
 }
\ No newline at end of file
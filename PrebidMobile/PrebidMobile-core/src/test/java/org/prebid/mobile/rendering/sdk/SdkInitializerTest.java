@@ -1,18 +1,18 @@
 package org.prebid.mobile.rendering.sdk;
 
-import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.CoreMatchers.startsWith;
-import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.mobile.api.rendering.pluginrenderer.PrebidMobilePluginRegister.PREBID_MOBILE_RENDERER_NAME;
 import static org.robolectric.Shadows.shadowOf;
 import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
@@ -22,13 +22,12 @@ import static android.os.Looper.getMainLooper;
 import android.app.Activity;
 import android.content.Context;
 
-import org.hamcrest.MatcherAssert;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
 import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.api.data.InitializationStage;
 import org.prebid.mobile.api.data.InitializationStatus;
 import org.prebid.mobile.api.rendering.pluginrenderer.PrebidMobilePluginRegister;
 import org.prebid.mobile.reflection.Reflection;
@@ -39,11 +38,8 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.LooperMode;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import okhttp3.HttpUrl;
@@ -54,8 +50,6 @@ import okhttp3.mockwebserver.MockWebServer;
 @LooperMode(LEGACY)
 public class SdkInitializerTest {
 
-    private static final int TERMINATION_TIMEOUT = 10;
-
     private boolean calledAlready = false;
     private Boolean isSuccessful;
     private Boolean serverWarning;
@@ -202,94 +196,60 @@ public class SdkInitializerTest {
 
 
     @Test
-    public void runBackgroundTasks_checkStartedTasks() throws InterruptedException {
-        ExecutorService executorMock = mock(ExecutorService.class);
-        SdkInitializer.runBackgroundTasks(mock(InitializationNotifier.class), executorMock);
-
-        ArgumentCaptor<Callable> requesterCaptor = ArgumentCaptor.forClass(Callable.class);
-        verify(executorMock, times(1)).submit(requesterCaptor.capture());
-        String requesterClassName = requesterCaptor.getValue().getClass().toString();
-        MatcherAssert.assertThat(requesterClassName, is(startsWith("class org.prebid.mobile.rendering.sdk.StatusRequester")));
-
-        ArgumentCaptor<Runnable> tasksCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(executorMock, times(3)).execute(tasksCaptor.capture());
-
-        List<Runnable> allTasks = tasksCaptor.getAllValues();
-        String firstTaskName = allTasks.get(0).getClass().toString();
-        MatcherAssert.assertThat(firstTaskName, is(startsWith("class org.prebid.mobile.rendering.sdk.SdkInitializer$UserConsentFetcherTask")));
-
-        String secondTaskName = allTasks.get(1).getClass().toString();
-        MatcherAssert.assertThat(secondTaskName, is(startsWith("class org.prebid.mobile.rendering.sdk.UserAgentFetcherTask")));
-
-        verify(executorMock, times(1)).shutdown();
-        verify(executorMock, times(1)).awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS);
-    }
-
-    @Test
-    public void runBackgroundTasks_testTermination() throws InterruptedException {
-        InitializationNotifier listenerMock = mock(InitializationNotifier.class);
-        ExecutorService executorMock = mock(ExecutorService.class);
-
-        when(executorMock.awaitTermination(10, TimeUnit.SECONDS)).thenReturn(false);
-
-        SdkInitializer.runBackgroundTasks(listenerMock, executorMock);
-
-        verify(listenerMock, times(1)).initializationFailed("Terminated by timeout.");
+    public void runBackgroundTasks_completeAllStages() {
+        PrebidMobileReflection.setDisableStatusCheckToTrue();
+        PrebidContextHolder.setContext(context);
+        InitializationNotifier notifierMock = mock(InitializationNotifier.class);
+
+        SdkInitializer.runBackgroundTasks(notifierMock, Executors.newFixedThreadPool(2));
+
+        verify(notifierMock, timeout(1000)).initializationCompleted(null);
+        verify(notifierMock).stageCompleted(eq(InitializationStage.APP_INFO), anyLong());
+        verify(notifierMock).stageCompleted(eq(InitializationStage.MANAGERS), anyLong());
+        verify(notifierMock).stageCompleted(eq(InitializationStage.JS_SCRIPTS), anyLong());
+        verify(notifierMock).stageCompleted(eq(InitializationStage.USER_CONSENT), anyLong());
+        verify(notifierMock).stageCompleted(eq(InitializationStage.ADVERTISING_ID), anyLong());
+        verify(notifierMock, never()).stageCompleted(eq(InitializationStage.STATUS_REQUEST), anyLong());
     }
 
     @Test
-    public void runBackgroundTasks_testSuccess_successStatusRequest() throws InterruptedException {
-        InitializationNotifier listenerMock = mock(InitializationNotifier.class);
-        ExecutorService executorMock = mock(ExecutorService.class);
-        Future statusRequesterMock = mock(Future.class);
+    public void runBackgroundTasks_failedStatusRequest_completeWithError() throws InterruptedException {
+        setCustomStatusResponse(404, "");
+        PrebidContextHolder.setContext(context);
+        InitializationNotifier notifierMock = mock(InitializationNotifier.class);
 
-        when(executorMock.submit(any(Callable.class))).thenReturn(statusRequesterMock);
-        when(executorMock.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS)).thenReturn(true);
+        SdkInitializer.runBackgroundTasks(notifierMock, Executors.newFixedThreadPool(2));
 
-        SdkInitializer.runBackgroundTasks(listenerMock, executorMock);
+        advanceBackgroundTasks();
 
-        verify(listenerMock, times(1)).initializationCompleted(null);
+        verify(notifierMock, timeout(1000)).initializationCompleted("Server status is not ok! Status code: 404");
+        verify(notifierMock).stageCompleted(eq(InitializationStage.USER_CONSENT), anyLong());
+        verify(notifierMock, never()).initializationFailed(anyString());
     }
 
     @Test
-    public void runBackgroundTasks_testSuccess_failedStatusRequest() throws InterruptedException, ExecutionException {
-        InitializationNotifier listenerMock = mock(InitializationNotifier.class);
+    public void runBackgroundTasks_noContext_initializationFailed() {
+        InitializationNotifier notifierMock = mock(InitializationNotifier.class);
         ExecutorService executorMock = mock(ExecutorService.class);
-        Future statusRequesterMock = mock(Future.class);
-        when(statusRequesterMock.get()).thenReturn("Error");
-
-        when(executorMock.submit(any(Callable.class))).thenReturn(statusRequesterMock);
-        when(executorMock.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS)).thenReturn(true);
 
-        SdkInitializer.runBackgroundTasks(listenerMock, executorMock);
+        SdkInitializer.runBackgroundTasks(notifierMock, executorMock);
 
-        verify(listenerMock, times(1)).initializationCompleted("Error");
+        verify(notifierMock).initializationFailed("Context must be not null!");
+        verifyNoInteractions(executorMock);
     }
 
     @Test
-    public void runBackgroundTasks_checkStartedTasks_disableStatusCheck() throws InterruptedException, ExecutionException {
-        PrebidMobileReflection.setDisableStatusCheckToTrue();
-
-        ExecutorService executorMock = mock(ExecutorService.class);
-        SdkInitializer.runBackgroundTasks(mock(InitializationNotifier.class), executorMock);
-
-        ArgumentCaptor<Callable> requesterCaptor = ArgumentCaptor.forClass(Callable.class);
-        verify(executorMock, times(0)).submit(requesterCaptor.capture());
-        List<Callable> capturedCallables = requesterCaptor.getAllValues();
-        MatcherAssert.assertThat(capturedCallables, is(empty()));
-
-        ArgumentCaptor<Runnable> tasksCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(executorMock, times(3)).execute(tasksCaptor.capture());
+    public void init_reportStagesToListener() throws InterruptedException {
+        setStatusResponse(200, "Good");
+        SdkInitializationListener listener = mock(SdkInitializationListener.class);
 
-        List<Runnable> allTasks = tasksCaptor.getAllValues();
-        String firstTaskName = allTasks.get(0).getClass().toString();
-        MatcherAssert.assertThat(firstTaskName, is(startsWith("class org.prebid.mobile.rendering.sdk.SdkInitializer$UserConsentFetcherTask")));
+        SdkInitializer.init(context, listener);
 
-        String secondTaskName = allTasks.get(1).getClass().toString();
-        MatcherAssert.assertThat(secondTaskName, is(startsWith("class org.prebid.mobile.rendering.sdk.UserAgentFetcherTask")));
+        advanceBackgroundTasks();
 
-        verify(executorMock, times(1)).shutdown();
-        verify(executorMock, times(1)).awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS);
+        verify(listener).onInitializationStageCompleted(eq(InitializationStage.STATUS_REQUEST), anyLong());
+        verify(listener).onInitializationStageCompleted(eq(InitializationStage.USER_CONSENT), anyLong());
+        verify(listener).onInitializationComplete(InitializationStatus.SUCCEEDED);
     }
 
 
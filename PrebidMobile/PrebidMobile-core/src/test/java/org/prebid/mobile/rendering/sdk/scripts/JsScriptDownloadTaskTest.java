@@ -0,0 +1,130 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.rendering.loading.FileDownloadListener;
+import org.prebid.mobile.rendering.networking.BaseNetworkTask;
+import org.prebid.mobile.rendering.sdk.JsScriptsDownloader;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.LooperMode;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(LEGACY)
+public class JsScriptDownloadTaskTest {
+
+    private MockWebServer server;
+    private JsScriptStorage storage;
+    private File file;
+    private BaseNetworkTask.GetUrlParams params;
+
+    @Before
+    public void setUp() {
+        server = new MockWebServer();
+        storage = new JsScriptStorageImpl(RuntimeEnvironment.getApplication());
+        file = storage.getInnerFile(JsScriptData.mraidData.getPath());
+        storage.createParentFolders(file);
+
+        params = new BaseNetworkTask.GetUrlParams();
+        params.url = server.url("/mraid.js").toString();
+        params.name = BaseNetworkTask.DOWNLOAD_TASK;
+        params.requestType = "GET";
+        params.userAgent = "user-agent";
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+        storage.removeFile(JsScriptData.mraidData.getPath());
+    }
+
+    @Test
+    public void download_replaceScriptAndSaveMetadata() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setHeader("ETag", "\"v1\"").setBody("script"));
+
+        FileDownloadListener listener = mock(FileDownloadListener.class);
+        createTask(listener).execute(params);
+
+        verify(listener).onFileDownloaded(anyString());
+        assertEquals("script", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertFalse(storage.getTempFile(JsScriptData.mraidData.getPath()).exists());
+        JsScriptMetadata metadata = storage.getMetadata(JsScriptData.mraidData.getPath());
+        assertNotNull(metadata);
+        assertEquals("\"v1\"", metadata.getEtag());
+        assertEquals(JsScriptData.mraidData.getVersion(), metadata.getVersion());
+    }
+
+    @Test
+    public void notModified_keepScriptAndUpdateCheckTime() throws Exception {
+        writeFile("script");
+        storage.saveMetadata(JsScriptData.mraidData.getPath(), new JsScriptMetadata(JsScriptData.mraidData.getVersion(), "hash", "\"v1\"", null, 0));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        FileDownloadListener listener = mock(FileDownloadListener.class);
+        createTask(listener).execute(params);
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("\"v1\"", request.getHeader("If-None-Match"));
+        verify(listener).onFileDownloaded(anyString());
+        assertEquals("script", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertFalse(storage.getMetadata(JsScriptData.mraidData.getPath()).getCheckedAt() == 0);
+    }
+
+    @Test
+    public void failedRevalidation_keepStoredScript() throws Exception {
+        writeFile("script");
+        storage.saveMetadata(JsScriptData.mraidData.getPath(), new JsScriptMetadata(JsScriptData.mraidData.getVersion(), "hash", "\"v1\"", null, 0));
+        server.enqueue(new MockResponse().setResponseCode(500));
+
+        JsScriptsDownloader.ScriptDownloadListener listener = new JsScriptsDownloader.ScriptDownloadListener(JsScriptData.mraidData.getPath(), storage);
+        createTask(listener).execute(params);
+
+        assertEquals("script", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertNotNull(storage.getMetadata(JsScriptData.mraidData.getPath()));
+    }
+
+    @Test
+    public void readCorruptedScript_removeIt() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("script"));
+        createTask(mock(FileDownloadListener.class)).execute(params);
+        writeFile("corrupted");
+
+        JsScriptsDownloader downloader = new JsScriptsDownloader(storage, mock(JsScriptRequester.class));
+
+        assertNull(downloader.readFile(JsScriptData.mraidData));
+        assertFalse(file.exists());
+        assertNull(storage.getMetadata(JsScriptData.mraidData.getPath()));
+    }
+
+    private JsScriptDownloadTask createTask(FileDownloadListener listener) {
+        return new JsScriptDownloadTask(listener, file, JsScriptData.mraidData, storage);
+    }
+
+    private void writeFile(String content) throws IOException {
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.prebid.mobile.rendering.sdk.scripts;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+public class JsScriptsReadinessTest {
+
+    private final JsScriptsReadiness subject = new JsScriptsReadiness();
+
+    @Test
+    public void complete_notifyListenerOnce() {
+        JsScriptsReadiness.Listener listener = mock(JsScriptsReadiness.Listener.class);
+        subject.whenReady(1000, listener);
+
+        subject.complete();
+        subject.complete();
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(2));
+
+        verify(listener).onReady(true);
+        verify(listener, never()).onReady(false);
+    }
+
+    @Test
+    public void timeout_notifyListenerNotReady() {
+        JsScriptsReadiness.Listener listener = mock(JsScriptsReadiness.Listener.class);
+        subject.whenReady(1000, listener);
+
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(1));
+        subject.complete();
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(listener).onReady(false);
+        verify(listener, never()).onReady(true);
+    }
+
+    @Test
+    public void whenReadyAfterComplete_notifyImmediately() {
+        subject.complete();
+        JsScriptsReadiness.Listener listener = mock(JsScriptsReadiness.Listener.class);
+
+        subject.whenReady(1000, listener);
+
+        verify(listener).onReady(true);
+    }
+
+    @Test
+    public void await_returnReadiness() throws InterruptedException {
+        assertFalse(subject.await(10, TimeUnit.MILLISECONDS));
+
+        subject.complete();
+
+        assertTrue(subject.isReady());
+        assertTrue(subject.await(10, TimeUnit.MILLISECONDS));
+    }
+
+}
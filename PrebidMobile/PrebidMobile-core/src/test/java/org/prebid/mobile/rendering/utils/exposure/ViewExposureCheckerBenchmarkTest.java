@@ -0,0 +1,172 @@
+package org.prebid.mobile.rendering.utils.exposure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.app.Activity;
+import android.graphics.drawable.ColorDrawable;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.test.filters.LargeTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares {@link ViewExposureChecker} with {@link LegacyViewExposureChecker} on a feed of ads covered by
+ * random obstructions: the results must be equal, the timings are printed by the opt-in benchmark.
+ */
+@RunWith(RobolectricTestRunner.class)
+@LargeTest
+@Config(sdk = 23, qualifiers = "w800dp-h800dp-xhdpi")
+@LooperMode(LEGACY)
+public class ViewExposureCheckerBenchmarkTest {
+
+    private static final String BENCHMARKS_PROPERTY = "prebid.benchmarks";
+    private static final int AD_COUNT = 10;
+    private static final int OBSTRUCTION_COUNT = 12;
+    private static final int WARM_UP_ITERATIONS = 50;
+    private static final int ITERATIONS = 300;
+
+    private final Random random = new Random(42);
+    private final List<View> adViews = new ArrayList<>();
+
+    private Activity activity;
+    private FrameLayout feed;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.buildActivity(Activity.class)
+                              .setup()
+                              .create()
+                              .visible()
+                              .resume()
+                              .windowFocusChanged(true)
+                              .get();
+        FrameLayout container = new FrameLayout(activity);
+        container.setLayoutParams(new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.MATCH_PARENT
+        ));
+        activity.setContentView(container);
+
+        feed = new FrameLayout(activity);
+        container.addView(feed);
+        feed.layout(0, 0, 1600, 1600);
+        for (int i = 0; i < AD_COUNT; i++) {
+            View adView = new View(activity);
+            feed.addView(adView);
+            adView.layout(20, i * 150, 1580, i * 150 + 140);
+            adViews.add(adView);
+        }
+
+        ColorDrawable background = new ColorDrawable(0xFF000000);
+        for (int i = 0; i < OBSTRUCTION_COUNT; i++) {
+            FrameLayout obstruction = new FrameLayout(activity);
+            obstruction.setBackground(background);
+            View child = new View(activity);
+            obstruction.addView(child);
+            feed.addView(obstruction);
+
+            int left = random.nextInt(1400);
+            int top = random.nextInt(1400);
+            obstruction.layout(left, top, left + 50 + random.nextInt(300), top + 50 + random.nextInt(300));
+            child.layout(0, 0, 40, 40);
+        }
+    }
+
+    @Test
+    public void exposure_equalToLegacyImplementation() {
+        LegacyViewExposureChecker legacyChecker = new LegacyViewExposureChecker();
+        ViewExposureChecker checker = new ViewExposureChecker();
+
+        for (View adView : adViews) {
+            assertEquals(legacyChecker.exposure(adView), checker.exposure(adView));
+        }
+
+        ViewExposureChecker.startCheckPass();
+        try {
+            for (View adView : adViews) {
+                assertEquals(legacyChecker.exposure(adView), checker.exposure(adView));
+            }
+        } finally {
+            ViewExposureChecker.finishCheckPass();
+        }
+    }
+
+    /**
+     * Opt-in, run with <code>-PprebidBenchmarks=true</code>.
+     */
+    @Test
+    public void exposure_printTimings() {
+        assumeTrue(Boolean.getBoolean(BENCHMARKS_PROPERTY));
+
+        LegacyViewExposureChecker legacyChecker = new LegacyViewExposureChecker();
+        ViewExposureChecker checker = new ViewExposureChecker();
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            runLegacy(legacyChecker);
+            runPooled(checker, false);
+            runPooled(checker, true);
+        }
+
+        long legacyNanos = 0;
+        long pooledNanos = 0;
+        long passNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            runLegacy(legacyChecker);
+            legacyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            runPooled(checker, false);
+            pooledNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            runPooled(checker, true);
+            passNanos += System.nanoTime() - start;
+        }
+
+        System.out.println("ViewExposureChecker, " + AD_COUNT + " ads per pass, us per pass:"
+                + " legacy " + legacyNanos / ITERATIONS / 1000
+                + ", pooled " + pooledNanos / ITERATIONS / 1000
+                + ", pooled with shared pass " + passNanos / ITERATIONS / 1000);
+    }
+
+    private void runLegacy(LegacyViewExposureChecker checker) {
+        for (View adView : adViews) {
+            checker.exposure(adView);
+        }
+    }
+
+    private void runPooled(
+            ViewExposureChecker checker,
+            boolean sharedPass
+    ) {
+        if (sharedPass) {
+            ViewExposureChecker.startCheckPass();
+        }
+        try {
+            for (View adView : adViews) {
+                checker.exposure(adView);
+            }
+        } finally {
+            if (sharedPass) {
+                ViewExposureChecker.finishCheckPass();
+            }
+        }
+    }
+
+}
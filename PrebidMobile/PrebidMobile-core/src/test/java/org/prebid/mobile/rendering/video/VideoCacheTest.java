@@ -0,0 +1,159 @@
+package org.prebid.mobile.rendering.video;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.PrebidMobile;
+import org.prebid.mobile.tasksmanager.TaskLane;
+import org.prebid.mobile.tasksmanager.TasksManager;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 19)
+public class VideoCacheTest {
+
+    private String url = "http://path/to/video/Vast_Video.mp4";
+
+    private Context context;
+    private VideoCache subject;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        subject = new VideoCache();
+        PrebidMobile.setVideoCacheSize(100);
+        TasksManager.getInstance().getLane(TaskLane.DISK_IO).setExecutor(Runnable::run);
+    }
+
+    @After
+    public void tearDown() {
+        PrebidMobile.setVideoCacheSize(VideoCache.DEFAULT_MAX_BYTES);
+        TasksManager.getInstance().getLane(TaskLane.DISK_IO).setExecutor(null);
+    }
+
+    @Test
+    public void whenNoAdUnits_UseVideoNameOnly() {
+        assertEquals("/Vast_Video", VideoCache.getShortenedPath(url));
+    }
+
+    @Test
+    public void getFile_inCacheDirectory() {
+        File file = subject.getFile(context, "/Vast_Video");
+
+        assertEquals("Vast_Video", file.getName());
+        assertEquals("prebid_video_cache", file.getParentFile().getName());
+        // The directory is created on the disk lane
+        assertTrue(file.getParentFile().exists());
+    }
+
+    @Test
+    public void getFile_directoryScannedOnDiskLane() throws IOException {
+        writeVideo("/first", 70);
+        TasksManager.getInstance().getLane(TaskLane.DISK_IO).setExecutor(command -> {});
+
+        VideoCache restarted = new VideoCache();
+        restarted.getFile(context, "/second");
+
+        assertEquals(0, restarted.getTotalBytes());
+    }
+
+    @Test
+    public void putOverBudget_removeLeastRecentlyUsed() throws IOException {
+        File first = writeVideo("/first", 40);
+        File second = writeVideo("/second", 40);
+        subject.put(first);
+        subject.put(second);
+        subject.put(first);
+
+        File third = writeVideo("/third", 40);
+        subject.put(third);
+
+        assertTrue(first.exists());
+        assertFalse(second.exists());
+        assertTrue(third.exists());
+        assertEquals(80, subject.getTotalBytes());
+    }
+
+    @Test
+    public void acquiredFile_notRemovedUntilReleased() throws IOException {
+        File first = writeVideo("/first", 60);
+        subject.put(first);
+        subject.acquire(first);
+
+        File second = writeVideo("/second", 60);
+        subject.put(second);
+        assertTrue(first.exists());
+
+        subject.release(first);
+        assertFalse(first.exists());
+        assertTrue(second.exists());
+    }
+
+    @Test
+    public void release_removeFilesOnDiskLane() throws IOException {
+        File first = writeVideo("/first", 60);
+        subject.put(first);
+        subject.acquire(first);
+        File second = writeVideo("/second", 60);
+        subject.put(second);
+        List<Runnable> diskTasks = new ArrayList<>();
+        TasksManager.getInstance().getLane(TaskLane.DISK_IO).setExecutor(diskTasks::add);
+
+        subject.release(first);
+        assertTrue(first.exists());
+
+        diskTasks.get(0).run();
+        assertFalse(first.exists());
+    }
+
+    @Test
+    public void remove_acquiredFileKept() throws IOException {
+        File file = writeVideo("/first", 10);
+        subject.put(file);
+        subject.acquire(file);
+
+        subject.remove(file);
+        assertTrue(file.exists());
+
+        subject.release(file);
+        subject.remove(file);
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void newInstance_countFilesOfPreviousProcess() throws IOException {
+        writeVideo("/first", 70);
+
+        VideoCache restarted = new VideoCache();
+        restarted.getFile(context, "/second");
+
+        assertEquals(70, restarted.getTotalBytes());
+    }
+
+    private File writeVideo(
+            String path,
+            int size
+    ) throws IOException {
+        File file = subject.getFile(context, path);
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(new byte[size]);
+        }
+        return file;
+    }
+
+}
@@ -38,8 +38,12 @@ import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
+import java.io.File;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.*;
 
@@ -155,13 +159,17 @@ public class VideoCreativeTest {
 
     @Test
     public void destroyTest() throws Exception {
-        VideoDownloadTask mockVideoDownloadTask = mock(VideoDownloadTask.class);
-        WhiteBox.field(VideoCreative.class, "videoDownloadTask").set(videoCreative, mockVideoDownloadTask);
+        VideoCreativeModel mockModel = mock(VideoCreativeModel.class);
+        when(mockModel.getMediaUrl()).thenReturn("/video.mp4");
+        WhiteBox.field(VideoCreative.class, "model").set(videoCreative, mockModel);
+        videoCreative.load();
 
         videoCreative.destroy();
 
         verify(mockVideoCreativeView).destroy();
-        verify(mockVideoDownloadTask).cancel(true);
+        assertNull(WhiteBox.getInternalState(videoCreative, "videoDownloadListener"));
+        File file = VideoCache.getInstance().getFile(context, "/video");
+        assertFalse(VideoPreCacheScheduler.getInstance().isScheduled(file));
     }
 
     @Test
@@ -173,7 +181,7 @@ public class VideoCreativeTest {
         WhiteBox.field(VideoCreative.class, "model").set(videoCreative, mockModel);
 
         videoCreative.load();
-        assertNotNull(WhiteBox.getInternalState(videoCreative, "videoDownloadTask"));
+        assertNotNull(WhiteBox.getInternalState(videoCreative, "videoDownloadListener"));
     }
 
     @Test
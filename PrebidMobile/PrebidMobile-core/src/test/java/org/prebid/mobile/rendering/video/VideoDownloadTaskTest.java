@@ -21,6 +21,8 @@ import android.content.Context;
 import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -35,9 +37,18 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.LooperMode;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
 
 @RunWith(RobolectricTestRunner.class)
@@ -81,6 +92,9 @@ public class VideoDownloadTaskTest {
     public void tearDown() throws IOException {
         server.shutdown();
         file.delete();
+        VideoCache.getPartialFile(file).delete();
+        VideoCache.getMetadataFile(file).delete();
+        VideoCache.getMetadataFile(VideoCache.getPartialFile(file)).delete();
     }
 
     @Test
@@ -110,4 +124,80 @@ public class VideoDownloadTaskTest {
         task.execute(params);
         assertNotNull(error);
     }
+
+    @Test
+    public void partialFileWithValidator_resumeWithRangeRequest() throws Exception {
+        writeFile(VideoCache.getPartialFile(file), "01234");
+        writeMetadata(VideoCache.getPartialFile(file), "\"etag\"");
+        server.enqueue(new MockResponse().setResponseCode(206)
+                                         .setHeader("Content-Range", "bytes 5-9/10")
+                                         .setBody("56789"));
+
+        new VideoDownloadTask(context.getApplicationContext(), file, listener, Mockito.mock(AdUnitConfiguration.class)).execute(params);
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("bytes=5-", request.getHeader("Range"));
+        assertEquals("\"etag\"", request.getHeader("If-Range"));
+        assertNotNull(path);
+        assertEquals("0123456789", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        assertFalse(VideoCache.getPartialFile(file).exists());
+        assertFalse(VideoCache.getMetadataFile(VideoCache.getPartialFile(file)).exists());
+        assertTrue(VideoCache.getMetadataFile(file).exists());
+    }
+
+    @Test
+    public void interruptedDownload_keepValidatorsOfPreviousVideo() throws Exception {
+        writeFile(file, "video");
+        file.setLastModified(System.currentTimeMillis() - 2 * 60 * 60 * 1000);
+        writeMetadata(file, "\"old\"");
+        server.enqueue(new MockResponse().setResponseCode(200)
+                                         .setHeader("ETag", "\"new\"")
+                                         .setBody("01234")
+                                         .setHeader("Content-Length", "10")
+                                         .setSocketPolicy(SocketPolicy.DISCONNECT_AT_END));
+
+        new VideoDownloadTask(context.getApplicationContext(), file, listener, Mockito.mock(AdUnitConfiguration.class)).execute(params);
+
+        assertEquals("\"old\"", readEtag(VideoCache.getMetadataFile(file)));
+        assertEquals("\"new\"", readEtag(VideoCache.getMetadataFile(VideoCache.getPartialFile(file))));
+    }
+
+    @Test
+    public void expiredFileWithValidator_notModified_keepFile() throws Exception {
+        writeFile(file, "video");
+        file.setLastModified(System.currentTimeMillis() - 2 * 60 * 60 * 1000);
+        writeMetadata(file, "\"etag\"");
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        new VideoDownloadTask(context.getApplicationContext(), file, listener, Mockito.mock(AdUnitConfiguration.class)).execute(params);
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("\"etag\"", request.getHeader("If-None-Match"));
+        assertNull(error);
+        assertNotNull(path);
+        assertEquals("video", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    private void writeFile(File file, String content) throws IOException {
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeMetadata(File file, String etag) throws IOException {
+        Properties metadata = new Properties();
+        metadata.setProperty("url", params.url);
+        metadata.setProperty("etag", etag);
+        try (FileOutputStream output = new FileOutputStream(VideoCache.getMetadataFile(file))) {
+            metadata.store(output, null);
+        }
+    }
+
+    private static String readEtag(File metadataFile) throws IOException {
+        Properties metadata = new Properties();
+        try (FileInputStream input = new FileInputStream(metadataFile)) {
+            metadata.load(input);
+        }
+        return metadata.getProperty("etag");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package org.prebid.mobile.rendering.video;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.annotation.LooperMode.Mode.LEGACY;
+
+import android.content.Context;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.mobile.configuration.AdUnitConfiguration;
+import org.prebid.mobile.rendering.loading.FileDownloadListener;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.LooperMode;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(LEGACY)
+public class VideoPreCacheSchedulerTest {
+
+    private MockWebServer server;
+    private Context context;
+    private String url;
+    private File file;
+    private boolean paused;
+    private VideoPreCacheScheduler subject;
+
+    @Before
+    public void setUp() {
+        server = new MockWebServer();
+        context = RuntimeEnvironment.getApplication();
+        url = server.url("/pre_cached_video.mp4").toString();
+        file = VideoCache.getInstance().getFile(context, VideoCache.getShortenedPath(url));
+        VideoCache.createDirectory(file);
+        paused = false;
+        subject = new VideoPreCacheScheduler() {
+            @Override
+            protected boolean isPaused() {
+                return paused;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+        VideoCache.getInstance().remove(file);
+        VideoCache.getInstance().remove(VideoCache.getPartialFile(file));
+        VideoCache.getMetadataFile(file).delete();
+    }
+
+    @Test
+    public void pausedPreCache_startedAfterRetryDelay() {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("video"));
+        paused = true;
+
+        subject.preCache(context, url);
+
+        assertTrue(subject.isScheduled(file));
+        assertEquals(0, server.getRequestCount());
+
+        paused = false;
+        ShadowLooper.idleMainLooper(VideoPreCacheScheduler.RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        waitForDownload();
+
+        assertEquals(1, server.getRequestCount());
+        assertFalse(subject.isScheduled(file));
+        assertEquals(5, file.length());
+    }
+
+    @Test
+    public void download_startPausedPreCacheAndNotifyListener() {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("video"));
+        paused = true;
+        subject.preCache(context, url);
+
+        FileDownloadListener listener = mock(FileDownloadListener.class);
+        subject.download(context, url, mock(AdUnitConfiguration.class), listener);
+        waitForDownload();
+
+        verify(listener).onFileDownloaded(anyString());
+        assertEquals(1, server.getRequestCount());
+        assertFalse(subject.isScheduled(file));
+    }
+
+    @Test
+    public void pausedPreCacheOfExpiredBid_dropped() {
+        long expirationTime = System.currentTimeMillis() + 200;
+        paused = true;
+        subject.preCache(context, url, expirationTime);
+        assertTrue(subject.isScheduled(file));
+
+        while (System.currentTimeMillis() <= expirationTime) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ignored) {
+            }
+        }
+        paused = false;
+        ShadowLooper.idleMainLooper(VideoPreCacheScheduler.RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+        assertFalse(subject.isScheduled(file));
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void pausedPreCacheWithoutExpiration_droppedAfterMaxRetries() {
+        paused = true;
+        subject.preCache(context, url);
+
+        for (int i = 0; i < VideoPreCacheScheduler.MAX_PAUSED_RETRIES; i++) {
+            ShadowLooper.idleMainLooper(VideoPreCacheScheduler.RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(subject.isScheduled(file));
+
+        ShadowLooper.idleMainLooper(VideoPreCacheScheduler.RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+        assertFalse(subject.isScheduled(file));
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void preCacheOfCachedFile_skipped() throws IOException {
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(new byte[10]);
+        }
+
+        subject.preCache(context, url);
+
+        assertFalse(subject.isScheduled(file));
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void measuredThroughput_limitBitrate() {
+        assertEquals(0, subject.getMaxBitrate());
+
+        // Small downloads aren't measured
+        subject.onDownloadMeasured(1000, 1000);
+        assertEquals(0, subject.getMaxBitrate());
+
+        subject.onDownloadMeasured(1000 * 1000, 1000);
+        assertEquals(6000, subject.getMaxBitrate());
+    }
+
+    private void waitForDownload() {
+        // Download tasks run on the network executor and deliver results to the main looper
+        long deadline = System.currentTimeMillis() + 5000;
+        while (subject.isScheduled(file) && System.currentTimeMillis() < deadline) {
+            ShadowLooper.idleMainLooper();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+}
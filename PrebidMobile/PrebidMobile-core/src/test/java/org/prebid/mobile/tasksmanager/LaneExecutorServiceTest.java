@@ -0,0 +1,66 @@
+package org.prebid.mobile.tasksmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+public class LaneExecutorServiceTest {
+
+    private final List<Runnable> workerQueue = new ArrayList<>();
+    private final LaneExecutor lane = new LaneExecutor(TaskLane.AUCTION, workerQueue::add);
+    private final LaneExecutorService subject = new LaneExecutorService(lane);
+
+    @Test
+    public void awaitTermination_waitForSubmittedTasks() throws InterruptedException {
+        subject.execute(() -> {});
+        subject.shutdown();
+
+        assertFalse(subject.awaitTermination(10, TimeUnit.MILLISECONDS));
+
+        workerQueue.remove(0).run();
+
+        assertTrue(subject.awaitTermination(10, TimeUnit.MILLISECONDS));
+        assertTrue(subject.isTerminated());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void shutdown_rejectNewTasks() {
+        subject.shutdown();
+
+        subject.execute(() -> {});
+    }
+
+    @Test
+    public void shutdownNow_removeQueuedTasksFromLane() {
+        subject.execute(() -> {});
+        subject.execute(() -> {});
+        subject.execute(() -> {});
+
+        assertEquals(1, subject.shutdownNow().size());
+        workerQueue.remove(0).run();
+        workerQueue.remove(0).run();
+
+        assertTrue(subject.isTerminated());
+        assertEquals(0, lane.getStats().getQueueDepth());
+    }
+
+    @Test
+    public void shutdown_keepLaneWorking() {
+        subject.shutdown();
+
+        lane.execute(() -> {});
+
+        assertEquals(1, workerQueue.size());
+    }
+
+}
@@ -0,0 +1,165 @@
+package org.prebid.mobile.tasksmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+@RunWith(RobolectricTestRunner.class)
+public class LaneExecutorTest {
+
+    private final List<Runnable> workerQueue = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+    private final LaneExecutor subject = new LaneExecutor(TaskLane.DISK_IO, workerQueue::add);
+
+    @Test
+    public void execute_limitParallelism() {
+        subject.execute(() -> executed.add("first"));
+        subject.execute(() -> executed.add("second"));
+
+        assertEquals(1, workerQueue.size());
+        assertEquals(1, subject.getStats().getQueueDepth());
+
+        runWorkerTask();
+
+        assertEquals(1, workerQueue.size());
+        runWorkerTask();
+
+        assertEquals(2, executed.size());
+        assertEquals("second", executed.get(1));
+        LaneExecutor.Stats stats = subject.getStats();
+        assertEquals(2, stats.getSubmitted());
+        assertEquals(2, stats.getCompleted());
+        assertEquals(1, stats.getMaxQueueDepth());
+        assertEquals(0, stats.getRunning());
+    }
+
+    @Test
+    public void setParallelism_dispatchQueuedTasks() {
+        subject.execute(() -> executed.add("first"));
+        subject.execute(() -> executed.add("second"));
+
+        subject.setParallelism(2);
+
+        assertEquals(2, workerQueue.size());
+    }
+
+    @Test
+    public void cancel_removeQueuedTask() {
+        Runnable task = () -> executed.add("cancelled");
+        subject.execute(() -> executed.add("first"));
+        subject.execute(task);
+
+        assertTrue(subject.cancel(task));
+        assertFalse(subject.cancel(task));
+        runWorkerTask();
+
+        assertEquals(1, executed.size());
+        assertTrue(workerQueue.isEmpty());
+        assertEquals(1, subject.getStats().getCancelled());
+    }
+
+    @Test
+    public void cancelledToken_skipTask() {
+        CancellationToken token = new CancellationToken();
+        subject.execute(token, () -> executed.add("skipped"));
+        subject.execute(() -> executed.add("next"));
+
+        token.cancel();
+        runWorkerTask();
+        runWorkerTask();
+
+        assertEquals(1, executed.size());
+        assertEquals("next", executed.get(0));
+        assertEquals(1, subject.getStats().getCancelled());
+    }
+
+    @Test
+    public void fullQueue_runRejectedTaskOnWorkers() {
+        for (int i = 0; i <= LaneExecutor.MAX_QUEUE_SIZE; i++) {
+            subject.execute(() -> {});
+        }
+        subject.execute(() -> executed.add("rejected"));
+
+        LaneExecutor.Stats stats = subject.getStats();
+        assertEquals(LaneExecutor.MAX_QUEUE_SIZE, stats.getQueueDepth());
+        assertEquals(1, stats.getRejected());
+        assertTrue(executed.isEmpty());
+        assertEquals(2, workerQueue.size());
+
+        workerQueue.remove(1).run();
+
+        assertEquals(1, executed.size());
+        assertEquals(1, subject.getStats().getRunning());
+    }
+
+    @Test
+    public void rejectedByAppExecutor_runTaskOnWorkers() {
+        subject.setExecutor(command -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        subject.execute(() -> executed.add("first"));
+        subject.execute(() -> executed.add("second"));
+
+        assertTrue(executed.isEmpty());
+        runWorkerTask();
+        runWorkerTask();
+
+        assertEquals(2, executed.size());
+        LaneExecutor.Stats stats = subject.getStats();
+        assertEquals(2, stats.getRejected());
+        assertEquals(2, stats.getCompleted());
+        assertEquals(0, stats.getRunning());
+    }
+
+    @Test
+    public void rejectedByWorkers_dropTask() {
+        LaneExecutor rejectingLane = new LaneExecutor(TaskLane.DISK_IO, command -> {
+            throw new RejectedExecutionException("shutdown");
+        });
+
+        rejectingLane.execute(() -> executed.add("dropped"));
+
+        assertTrue(executed.isEmpty());
+        LaneExecutor.Stats stats = rejectingLane.getStats();
+        assertEquals(1, stats.getRejected());
+        assertEquals(0, stats.getRunning());
+        assertEquals(0, stats.getQueueDepth());
+    }
+
+    @Test
+    public void customExecutor_runTasksOnIt() {
+        subject.setExecutor(Runnable::run);
+
+        subject.execute(() -> executed.add("first"));
+        subject.execute(() -> executed.add("second"));
+
+        assertEquals(2, executed.size());
+        assertTrue(workerQueue.isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void compare_orderTasksByLanePriority() {
+        LaneExecutor auctionLane = new LaneExecutor(TaskLane.AUCTION, workerQueue::add);
+
+        subject.execute(() -> {});
+        auctionLane.execute(() -> {});
+
+        Comparable<Object> diskTask = (Comparable<Object>) workerQueue.get(0);
+        assertTrue(diskTask.compareTo(workerQueue.get(1)) > 0);
+    }
+
+    private void runWorkerTask() {
+        workerQueue.remove(0).run();
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.prebid.mobile.tasksmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+public class TasksManagerTest {
+
+    @Test
+    public void blockingLanesSaturated_auctionTaskStarts() throws InterruptedException {
+        TasksManager subject = TasksManager.getInstance();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(WorkerPool.MAX_THREAD_COUNT);
+        TaskLane[] blockingLanes = {TaskLane.INIT, TaskLane.RENDERING, TaskLane.TRACKING, TaskLane.DISK_IO, TaskLane.DOWNLOAD};
+        try {
+            for (TaskLane lane : blockingLanes) {
+                subject.getLane(lane).setParallelism(WorkerPool.MAX_THREAD_COUNT);
+                for (int i = 0; i < WorkerPool.MAX_THREAD_COUNT; i++) {
+                    subject.execute(lane, () -> {
+                        blocked.countDown();
+                        awaitQuietly(release);
+                    });
+                }
+            }
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+            CountDownLatch auctionStarted = new CountDownLatch(1);
+            subject.execute(TaskLane.AUCTION, auctionStarted::countDown);
+
+            assertTrue(auctionStarted.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            for (TaskLane lane : blockingLanes) {
+                subject.getLane(lane).setParallelism(lane.getDefaultParallelism());
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void executeOnBackgroundThread_runInRenderingLane() {
+        TasksManager subject = TasksManager.getInstance();
+        List<Runnable> renderingTasks = new ArrayList<>();
+        subject.getLane(TaskLane.RENDERING).setExecutor(renderingTasks::add);
+        try {
+            subject.executeOnBackgroundThread(() -> {});
+
+            assertEquals(1, renderingTasks.size());
+        } finally {
+            renderingTasks.get(0).run();
+            subject.getLane(TaskLane.RENDERING).setExecutor(null);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+}
@@ -30,7 +30,7 @@ public class ParametersChecker {
         }
 
         Bundle serverParameters = parameters.getCustomParameters();
-        HashMap<String, String> prebidParameters = BidResponseCache.getInstance().getKeywords(responseId);
+        Map<String, String> prebidParameters = BidResponseCache.getInstance().getKeywords(responseId);
         if (!ParametersMatcher.doParametersMatch(serverParameters, prebidParameters)) {
             onErrorListener.onError(1003, "Parameters don't match");
             return null;
@@ -12,7 +12,7 @@ import org.prebid.mobile.rendering.models.ntv.NativeEventTracker;
 import org.prebid.mobile.rendering.utils.helpers.VisibilityChecker;
 
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
+import java.util.Map;
 
 public class MaxMediationBannerUtils implements PrebidMediationDelegate {
 
@@ -56,6 +56,6 @@ public class MaxMediationBannerUtils implements PrebidMediationDelegate {
     }
 
     @Override
-    public void handleKeywordsUpdate(@Nullable HashMap<String, String> keywords) {}
+    public void handleKeywordsUpdate(@Nullable Map<String, String> keywords) {}
 
 }
@@ -6,7 +6,7 @@ import com.applovin.mediation.ads.MaxRewardedAd;
 import org.prebid.mobile.rendering.bidding.data.bid.BidResponse;
 import org.prebid.mobile.rendering.bidding.display.PrebidMediationDelegate;
 
-import java.util.HashMap;
+import java.util.Map;
 
 public class MaxMediationRewardedUtils implements PrebidMediationDelegate {
 
@@ -33,6 +33,6 @@ public class MaxMediationRewardedUtils implements PrebidMediationDelegate {
     }
 
     @Override
-    public void handleKeywordsUpdate(@Nullable HashMap<String, String> keywords) {}
+    public void handleKeywordsUpdate(@Nullable Map<String, String> keywords) {}
 
 }